@@ -128,7 +128,45 @@ public abstract class JsonGenerator
          * 
          * @since 1.8
          */
-        ESCAPE_NON_ASCII(false)
+        ESCAPE_NON_ASCII(false),
+
+        /**
+         * Feature that specifies whether generator should keep a small
+         * cache of encoded representations of short String values it has
+         * written, so that values that are repeated (such as enumerated
+         * "status" values) need not be re-encoded every time.
+         * Enabling this is beneficial when many values are repeated; but
+         * it adds overhead for content where most values are distinct,
+         * which is why it is disabled by default.
+         *<p>
+         * Note that not all generators make use of this feature: currently
+         * only used by UTF-8 JSON generator.
+         *<p>
+         * Feature is disabled by default.
+         *
+         * @since 1.9.14
+         */
+        CACHE_STRING_VALUES(false),
+
+        /**
+         * Feature that determines whether {@link JsonGenerator#copyCurrentStructure}
+         * may copy JSON Objects and Arrays as is (without tokenizing them),
+         * when parser and generator use same encoding and no transformations
+         * (such as pretty printing or escaping of non-ASCII characters)
+         * are needed. This is much faster than copying content event by event,
+         * but content is only validated to the degree needed to find the end
+         * of the value (matching of nesting), so that malformed input
+         * can produce malformed output. As such, feature should only be
+         * enabled for input that is known to be valid.
+         *<p>
+         * Note that not all generators make use of this feature: currently
+         * only used by UTF-8 JSON generator, with UTF-8 JSON parser.
+         *<p>
+         * Feature is disabled by default.
+         *
+         * @since 1.9.14
+         */
+        COPY_STRUCTURES_AS_IS(false)
         
             ;
 
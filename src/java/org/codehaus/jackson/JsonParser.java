@@ -691,6 +691,10 @@ public abstract class JsonParser
      * The idea is that after calling this method, application
      * will call {@link #nextToken} to point to the next
      * available token, if any.
+     *<p>
+     * Note: since 1.9.14, standard parsers skip content without tokenizing
+     * it, so that skipped content is only validated to the degree needed
+     * to find the matching end marker.
      */
     public abstract JsonParser skipChildren()
         throws IOException, JsonParseException;
@@ -442,6 +442,11 @@ public abstract class JsonGeneratorBase
             t = jp.nextToken();
             // fall-through to copy the associated value
         }
+        // [1.9.14]: Objects and Arrays may be copied as is, if enabled
+        if ((t == JsonToken.START_ARRAY || t == JsonToken.START_OBJECT)
+                && isEnabled(Feature.COPY_STRUCTURES_AS_IS) && _copyRawStructure(jp)) {
+            return;
+        }
 
         switch (t) {
         case START_ARRAY:
@@ -471,6 +476,25 @@ public abstract class JsonGeneratorBase
 
     protected abstract void _releaseBuffers();
 
+    /**
+     * Method called by {@link #copyCurrentStructure} to try to copy
+     * the current Object or Array value of given parser without tokenizing it,
+     * if {@link Feature#COPY_STRUCTURES_AS_IS} is enabled, parser and generator
+     * use same encoding and generator does not transform content (such as by
+     * pretty-printing it).
+     * Default implementation does nothing.
+     *
+     * @return True if the value was copied; false if caller needs
+     *   to copy it event by event
+     *
+     * @since 1.9.14
+     */
+    protected boolean _copyRawStructure(JsonParser jp)
+        throws IOException, JsonProcessingException
+    {
+        return false;
+    }
+
     protected abstract void _verifyValueWrite(String typeMsg)
         throws IOException, JsonGenerationException;
 
@@ -474,6 +474,36 @@ public abstract class JsonParserBase
         }
     }
 
+    /**
+     * Helper method called by sub-classes that skip contents of Objects
+     * and Arrays without tokenizing them (from {@link #skipChildren}),
+     * once the matching close marker has been found: verifies that the
+     * marker is of expected type, and updates parsing state as if
+     * marker had been returned by {@link #nextToken}.
+     *
+     * @param endChar Close marker found, either ']' or '}'
+     *
+     * @since 1.9.14
+     */
+    protected final void _skippedChildren(int endChar)
+        throws JsonParseException
+    {
+        _binaryValue = null;
+        if (endChar == INT_RBRACKET) {
+            if (!_parsingContext.inArray()) {
+                _reportMismatchedEndMarker(endChar, '}');
+            }
+            _parsingContext = _parsingContext.getParent();
+            _currToken = JsonToken.END_ARRAY;
+        } else {
+            if (!_parsingContext.inObject()) {
+                _reportMismatchedEndMarker(endChar, ']');
+            }
+            _parsingContext = _parsingContext.getParent();
+            _currToken = JsonToken.END_OBJECT;
+        }
+    }
+
     /*
     /**********************************************************
     /* Internal/package methods: Error reporting
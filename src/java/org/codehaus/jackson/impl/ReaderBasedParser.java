@@ -508,6 +508,68 @@ public final class ReaderBasedParser
         return (_currToken = t);
     }
 
+    /**
+     * Overridden to skip contents of the current Object or Array without
+     * tokenizing them: only nesting, String values (and names) and comments
+     * need to be recognized. This means that names are not added to the
+     * symbol table, numbers are not parsed, and skipped content is only
+     * validated to the degree needed to find the matching close marker.
+     *
+     * @since 1.9.14
+     */
+    @Override
+    public JsonParser skipChildren() throws IOException, JsonParseException
+    {
+        if (_currToken != JsonToken.START_OBJECT
+            && _currToken != JsonToken.START_ARRAY) {
+            return this;
+        }
+        int open = 1;
+        while (true) {
+            if (_inputPtr >= _inputEnd && !loadMore()) {
+                _handleEOF();
+            }
+            int i = (int) _inputBuffer[_inputPtr++];
+            // quick check for common content chars first
+            if (i > INT_RCURLY) {
+                continue;
+            }
+            switch (i) {
+            case INT_QUOTE:
+                _skipRawString(INT_QUOTE);
+                break;
+            case INT_APOSTROPHE:
+                if (isEnabled(Feature.ALLOW_SINGLE_QUOTES)) {
+                    _skipRawString(INT_APOSTROPHE);
+                }
+                break;
+            case INT_SLASH:
+                _skipComment();
+                break;
+            case INT_LBRACKET:
+            case INT_LCURLY:
+                ++open;
+                break;
+            case INT_RBRACKET:
+            case INT_RCURLY:
+                if (--open == 0) {
+                    _tokenInputTotal = _currInputProcessed + _inputPtr - 1;
+                    _tokenInputRow = _currInputRow;
+                    _tokenInputCol = _inputPtr - _currInputRowStart - 1;
+                    _skippedChildren(i);
+                    return this;
+                }
+                break;
+            case INT_LF:
+                _skipLF();
+                break;
+            case INT_CR:
+                _skipCR();
+                break;
+            }
+        }
+    }
+
     /*
     @Override
     public boolean nextFieldName(SerializableString str)
@@ -1420,6 +1482,47 @@ public final class ReaderBasedParser
         }
     }
 
+    /**
+     * Method called by {@link #skipChildren} to skip a String value or
+     * name, without decoding escapes.
+     *
+     * @param quoteChar Quote character String started with
+     */
+    private final void _skipRawString(int quoteChar)
+        throws IOException, JsonParseException
+    {
+        int inputPtr = _inputPtr;
+        int inputLen = _inputEnd;
+        char[] inputBuffer = _inputBuffer;
+
+        while (true) {
+            if (inputPtr >= inputLen) {
+                _inputPtr = inputPtr;
+                if (!loadMore()) {
+                    _reportInvalidEOF(": was expecting closing quote for a string value");
+                }
+                inputPtr = _inputPtr;
+                inputLen = _inputEnd;
+            }
+            int i = (int) inputBuffer[inputPtr++];
+            if (i == quoteChar) {
+                _inputPtr = inputPtr;
+                return;
+            }
+            if (i == INT_BACKSLASH) { // escaped char can not end String, whatever it is
+                if (inputPtr >= inputLen) {
+                    _inputPtr = inputPtr;
+                    if (!loadMore()) {
+                        _reportInvalidEOF(": was expecting closing quote for a string value");
+                    }
+                    inputPtr = _inputPtr;
+                    inputLen = _inputEnd;
+                }
+                ++inputPtr;
+            }
+        }
+    }
+
     /*
     /**********************************************************
     /* Internal methods, other parsing
@@ -62,6 +62,16 @@ public class Utf8Generator
      */
     final protected OutputStream _outputStream;
 
+    /**
+     * Number of entries in String value cache; must be power of two.
+     */
+    private final static int CACHED_STRINGS = 64;
+
+    /**
+     * Maximum length of String values to cache
+     */
+    private final static int MAX_CACHED_STRING_LENGTH = 24;
+
     /*
     /**********************************************************
     /* Configuration, output escaping
@@ -131,6 +141,24 @@ public class Utf8Generator
      * before being encoded.
      */
     protected char[] _charBuffer;
+
+    /**
+     * Short String values written recently, if caching of String
+     * values is enabled (see {@link Feature#CACHE_STRING_VALUES}):
+     * direct-mapped by hash code.
+     *
+     * @since 1.9.14
+     */
+    protected String[] _cachedStrings;
+
+    /**
+     * Encoded (and escaped) representations of values in
+     * {@link #_cachedStrings}, if they have been written more than
+     * once; null for values seen just once.
+     *
+     * @since 1.9.14
+     */
+    protected byte[][] _cachedStringBytes;
     
     /**
      * Length of <code>_charBuffer</code>
@@ -148,6 +176,14 @@ public class Utf8Generator
      * needs to be returned to recycler once we are done) or not.
      */
     protected boolean _bufferRecyclable;
+
+    /**
+     * Stream that appends content to the output buffer, used for
+     * copying raw content from parsers; constructed when first needed
+     *
+     * @since 1.9.14
+     */
+    protected OutputStream _rawOutput;
     
     /*
     /**********************************************************
@@ -209,6 +245,7 @@ public class Utf8Generator
     @Override
     public JsonGenerator setHighestNonEscapedChar(int charCode) {
         _maximumNonEscapedChar = (charCode < 0) ? 0 : charCode;
+        _cachedStrings = null; // cached encodings may no longer be valid
         return this;
     }
 
@@ -226,6 +263,7 @@ public class Utf8Generator
         } else {
             _outputEscapes = esc.getEscapeCodesForAscii();
         }
+        _cachedStrings = null;
         return this;
     }
 
@@ -550,10 +588,9 @@ public class Utf8Generator
             _writeLongString(text);
             return;
         }
-        // yes: good.
-        text.getChars(0, len, _charBuffer, 0);
         // Output: if we can't guarantee it fits in output buffer, off-line as well:
         if (len > _outputMaxContiguous) {
+            text.getChars(0, len, _charBuffer, 0);
             _writeLongString(_charBuffer, 0, len);
             return;
         }
@@ -561,7 +598,12 @@ public class Utf8Generator
             _flushBuffer();
         }
         _outputBuffer[_outputTail++] = BYTE_QUOTE;
-        _writeStringSegment(_charBuffer, 0, len); // we checked space already above
+        if (len <= MAX_CACHED_STRING_LENGTH && _characterEscapes == null
+                && isEnabled(Feature.CACHE_STRING_VALUES)) {
+            _writeCachedString(text, len);
+        } else {
+            _writeStringContents(text, len); // we checked space already above
+        }
         /* [JACKSON-462] But that method may have had to expand multi-byte Unicode
          *   chars, so we must check again
          */
@@ -1012,6 +1054,34 @@ public class Utf8Generator
     /**********************************************************
      */
 
+    /**
+     * Overridden to copy Objects and Arrays from {@link Utf8StreamParser}
+     * as is (if {@link Feature#COPY_STRUCTURES_AS_IS} is enabled), when
+     * neither parser nor generator is configured to use non-standard content
+     * or escaping, and no pretty printer is used.
+     */
+    @Override
+    protected boolean _copyRawStructure(JsonParser jp)
+        throws IOException, JsonProcessingException
+    {
+        if (!(jp instanceof Utf8StreamParser)
+                || _cfgPrettyPrinter != null || _cfgNumbersAsStrings
+                || _characterEscapes != null || _maximumNonEscapedChar != 0
+                || !isEnabled(Feature.QUOTE_FIELD_NAMES)) {
+            return false;
+        }
+        Utf8StreamParser p = (Utf8StreamParser) jp;
+        if (!p.canCopyRawValue()) {
+            return false;
+        }
+        _verifyValueWrite("write raw value");
+        OutputStream out = _rawOutput;
+        if (out == null) {
+            _rawOutput = out = new RawOutput();
+        }
+        return p.copyRawValue(out);
+    }
+
     @Override
     protected final void _verifyValueWrite(String typeMsg)
         throws IOException, JsonGenerationException
@@ -1244,6 +1314,96 @@ public class Utf8Generator
     /**********************************************************
      */
 
+    /**
+     * Helper method for writing contents of given String, when it is
+     * short enough to fit in output buffer.
+     * Caller must ensure there is room for all characters in output buffer,
+     * assuming they are ASCII.
+     *
+     * @since 1.9.14
+     */
+    private final void _writeStringContents(String text, int len)
+        throws IOException, JsonGenerationException
+    {
+        // Fast path: ASCII without escapes can be written without copying chars first
+        int offset = _writeAsciiPrefix(text, len);
+        if (offset < len) {
+            text.getChars(offset, len, _charBuffer, 0);
+            _writeStringSegment(_charBuffer, 0, len - offset);
+        }
+    }
+
+    /**
+     * Helper method for writing contents of a short String using
+     * String value cache: values are encoded normally the first time,
+     * and the encoded form is cached when the value is seen the second
+     * time; after which it is just copied.
+     *
+     * @since 1.9.14
+     */
+    private final void _writeCachedString(String text, int len)
+        throws IOException, JsonGenerationException
+    {
+        String[] keys = _cachedStrings;
+        if (keys == null) {
+            _cachedStrings = keys = new String[CACHED_STRINGS];
+            _cachedStringBytes = new byte[CACHED_STRINGS][];
+        }
+        // Need room for maximum escaped length, to avoid flushing in between
+        if ((_outputTail + 6 * len) >= _outputEnd) {
+            _flushBuffer();
+        }
+        final int ix = text.hashCode() & (CACHED_STRINGS - 1);
+        if (!text.equals(keys[ix])) { // first time: just remember we have seen it
+            keys[ix] = text;
+            _cachedStringBytes[ix] = null;
+            _writeStringContents(text, len);
+            return;
+        }
+        byte[] encoded = _cachedStringBytes[ix];
+        if (encoded != null) {
+            System.arraycopy(encoded, 0, _outputBuffer, _outputTail, encoded.length);
+            _outputTail += encoded.length;
+            return;
+        }
+        final int start = _outputTail;
+        _writeStringContents(text, len);
+        encoded = new byte[_outputTail - start];
+        System.arraycopy(_outputBuffer, start, encoded, 0, encoded.length);
+        _cachedStringBytes[ix] = encoded;
+    }
+
+    /**
+     * Helper method for writing the leading part of given String that
+     * consists of ASCII characters that need not be escaped: this is
+     * typically all of it, in which case contents need not be copied
+     * to {@link #_charBuffer} at all.
+     * Caller must ensure there is room for all characters in output buffer.
+     *
+     * @return Number of characters written
+     *
+     * @since 1.9.14
+     */
+    private final int _writeAsciiPrefix(String text, int len)
+    {
+        int outputPtr = _outputTail;
+        final byte[] outputBuffer = _outputBuffer;
+        final int[] escCodes = _outputEscapes;
+        int offset = 0;
+
+        while (offset < len) {
+            int ch = text.charAt(offset);
+            // note: here we know that (ch > 0x7F) will cover case of escaping non-ASCII too:
+            if (ch > 0x7F || escCodes[ch] != 0) {
+                break;
+            }
+            outputBuffer[outputPtr++] = (byte) ch;
+            ++offset;
+        }
+        _outputTail = outputPtr;
+        return offset;
+    }
+
     /**
      * This method called when the string content is already in
      * a char buffer, and its maximum total encoded and escaped length
@@ -1754,4 +1914,24 @@ public class Utf8Generator
             _outputStream.write(_outputBuffer, 0, len);
         }
     }
+
+    /**
+     * Adapter for writing raw content to the output buffer
+     */
+    private final class RawOutput extends OutputStream
+    {
+        @Override
+        public void write(int b) throws IOException
+        {
+            if (_outputTail >= _outputEnd) {
+                _flushBuffer();
+            }
+            _outputBuffer[_outputTail++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int offset, int len) throws IOException {
+            _writeBytes(b, offset, len);
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package org.codehaus.jackson.util;
+
+/**
+ * Listener that can be registered to get notified when one of aggregating
+ * buffers ({@link TextBuffer}, {@link ByteArrayBuilder}) grows beyond
+ * {@link #LARGE_BUFFER_THRESHOLD}. This is mostly useful for diagnostics
+ * and monitoring, to find out when unexpectedly large content is processed.
+ *<p>
+ * Since buffers are not associated with any configuration object, registration
+ * is JVM-wide, using {@link #setInstance}. Buffers only check for registered
+ * listener once they have grown past the threshold, so there is no overhead
+ * for processing of content that fits in regular-sized buffers.
+ *
+ * @since 1.9.14
+ */
+public abstract class BufferGrowthListener
+{
+    /**
+     * Total buffer size (in bytes for byte buffers, chars for char
+     * buffers) after which listener is notified of further growth.
+     */
+    public final static int LARGE_BUFFER_THRESHOLD = 0x10000;
+
+    private static volatile BufferGrowthListener _instance;
+
+    /**
+     * Method for registering JVM-wide listener; or, if null passed,
+     * removing currently registered listener.
+     */
+    public static void setInstance(BufferGrowthListener l) {
+        _instance = l;
+    }
+
+    /**
+     * @return Currently registered listener, if any; null if none
+     */
+    public static BufferGrowthListener getInstance() {
+        return _instance;
+    }
+
+    /**
+     * Method called when a large {@link TextBuffer} has allocated
+     * a new or expanded segment.
+     *
+     * @param previousSize Total size (in chars) of content buffer could hold before growing
+     * @param newSize Total size (in chars) of content buffer can hold after growing
+     */
+    public abstract void textBufferGrown(int previousSize, int newSize);
+
+    /**
+     * Method called when a large {@link ByteArrayBuilder} has allocated
+     * a new block.
+     *
+     * @param previousSize Total size (in bytes) of content builder could hold before growing
+     * @param newSize Total size (in bytes) of content builder can hold after growing
+     */
+    public abstract void byteArrayBuilderGrown(int previousSize, int newSize);
+}
@@ -288,6 +288,13 @@ public final class ByteArrayBuilder
         _pastBlocks.add(_currBlock);
         _currBlock = new byte[newSize];
         _currBlockPtr = 0;
+        // let diagnostics know about large buffers, if anyone is listening
+        if (_pastLen >= BufferGrowthListener.LARGE_BUFFER_THRESHOLD) {
+            BufferGrowthListener l = BufferGrowthListener.getInstance();
+            if (l != null) {
+                l.byteArrayBuilderGrown(_pastLen, _pastLen + newSize);
+            }
+        }
     }
 
 }
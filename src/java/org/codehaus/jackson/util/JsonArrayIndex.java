@@ -0,0 +1,340 @@
+package org.codehaus.jackson.util;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+
+import org.codehaus.jackson.*;
+import org.codehaus.jackson.impl.Utf8StreamParser;
+
+/**
+ * Index of byte offsets of elements of a top-level JSON Array, used
+ * for random access to individual elements (or ranges of elements) of
+ * large documents, without having to parse preceding content.
+ * Index is built with a single pass over content, during which
+ * contents of elements are skipped without tokenizing them (see
+ * {@link JsonParser#skipChildren}), and offsets are stored in a
+ * <code>long[]</code>. Index can be written next to the
+ * indexed document (see {@link #writeTo} and {@link #readFrom}), so that
+ * it need not be rebuilt as long as document does not change.
+ *<p>
+ * Elements are usually bound using
+ * {@link org.codehaus.jackson.map.ObjectReader#readElement} and
+ * {@link org.codehaus.jackson.map.ObjectReader#readElements};
+ * stream positioned at an element can also be opened directly with
+ * {@link #openElement}.
+ *<p>
+ * Only UTF-8 encoded JSON content is supported, since offsets
+ * are byte offsets from the beginning of content (note that
+ * content may not be modified by an {@link org.codehaus.jackson.io.InputDecorator}).
+ *
+ * @since 1.9.14
+ */
+public final class JsonArrayIndex
+{
+    /**
+     * Marker at the beginning of persisted indexes ("JAIX")
+     */
+    private final static int MAGIC = 0x4A414958;
+
+    private final static int FORMAT_VERSION = 1;
+
+    private final static int INITIAL_CAPACITY = 256;
+
+    /**
+     * Byte offsets of elements, from the beginning of content; may
+     * point to white space preceding the element
+     */
+    private final long[] _offsets;
+
+    /**
+     * Byte offset just past the closing bracket of the indexed array;
+     * used for verifying that content has not been truncated
+     */
+    private final long _endOffset;
+
+    private JsonArrayIndex(long[] offsets, long endOffset)
+    {
+        _offsets = offsets;
+        _endOffset = endOffset;
+    }
+
+    /*
+    /**********************************************************
+    /* Factory methods
+    /**********************************************************
+     */
+
+    public static JsonArrayIndex build(JsonFactory f, File src)
+        throws IOException, JsonParseException
+    {
+        return build(f.createJsonParser(src));
+    }
+
+    public static JsonArrayIndex build(JsonFactory f, InputStream in)
+        throws IOException, JsonParseException
+    {
+        return build(f.createJsonParser(in));
+    }
+
+    public static JsonArrayIndex build(JsonFactory f, byte[] data)
+        throws IOException, JsonParseException
+    {
+        return build(f.createJsonParser(data));
+    }
+
+    /**
+     * Method for building index for the JSON Array that given parser
+     * points to (or, if parser has no current token, which starts at
+     * its next token). Parser is closed when done.
+     *
+     * @param jp Parser to use; must be a byte-based UTF-8 parser that reads
+     *    content from its beginning.
+     */
+    public static JsonArrayIndex build(JsonParser jp)
+        throws IOException, JsonParseException
+    {
+        if (!(jp instanceof Utf8StreamParser)) {
+            jp.close();
+            throw new IllegalArgumentException("Can only index UTF-8 encoded JSON content (parser of type "
+                    +jp.getClass().getName()+")");
+        }
+        // note: Utf8StreamParser reports "character" offsets as byte offsets
+        Utf8StreamParser p = (Utf8StreamParser) jp;
+        try {
+            JsonToken t = p.getCurrentToken();
+            if (t == null) {
+                t = p.nextToken();
+            }
+            if (t != JsonToken.START_ARRAY) {
+                throw new JsonParseException("Can only index JSON Arrays; current token "+t,
+                        p.getCurrentLocation());
+            }
+            long[] offsets = new long[INITIAL_CAPACITY];
+            int count = 0;
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (t == null) {
+                    throw new JsonParseException("Unexpected end-of-input within JSON Array",
+                            p.getCurrentLocation());
+                }
+                if (count == offsets.length) {
+                    offsets = _copy(offsets, count, count + count);
+                }
+                /* note: for elements other than the first one, token location
+                 * points to the preceding comma; offset right after it is
+                 * used (leading white space is fine)
+                 */
+                long offset = p.getTokenCharacterOffset();
+                offsets[count] = (count == 0) ? offset : (offset + 1);
+                ++count;
+                p.skipChildren();
+            }
+            return new JsonArrayIndex(_copy(offsets, count, count),
+                    p.getTokenCharacterOffset() + 1);
+        } finally {
+            p.close();
+        }
+    }
+
+    /**
+     * Method for reading an index persisted using {@link #writeTo}.
+     * Stream is not closed.
+     */
+    public static JsonArrayIndex readFrom(InputStream in)
+        throws IOException
+    {
+        DataInputStream din = new DataInputStream(new BufferedInputStream(in));
+        if (din.readInt() != MAGIC) {
+            throw new IOException("Invalid content: not a persisted JSON Array index");
+        }
+        int version = din.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported JSON Array index version "+version);
+        }
+        long endOffset = din.readLong();
+        int count = din.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid JSON Array index: negative element count ("+count+")");
+        }
+        long[] offsets = new long[count];
+        for (int i = 0; i < count; ++i) {
+            offsets[i] = din.readLong();
+        }
+        return new JsonArrayIndex(offsets, endOffset);
+    }
+
+    /*
+    /**********************************************************
+    /* Accessors
+    /**********************************************************
+     */
+
+    /**
+     * @return Number of elements in the indexed JSON Array
+     */
+    public int size() { return _offsets.length; }
+
+    /**
+     * @return Byte offset of the element with given index, from the
+     *    beginning of content (possibly that of white space preceding
+     *    the element)
+     */
+    public long getOffset(int index)
+    {
+        _checkIndex(index);
+        return _offsets[index];
+    }
+
+    /**
+     * @return Byte offset just past the end of the indexed JSON Array
+     */
+    public long getEndOffset() { return _endOffset; }
+
+    /*
+    /**********************************************************
+    /* Access to content
+    /**********************************************************
+     */
+
+    /**
+     * Method for opening a stream to read given (indexed) file from
+     * the beginning of the element with given index. Stream reads
+     * content until the end of file; caller is responsible for closing it.
+     */
+    public InputStream openElement(File src, int index)
+        throws IOException
+    {
+        _checkIndex(index);
+        long length = src.length();
+        if (length < _endOffset) {
+            throw new IOException("File '"+src+"' ("+length+" bytes) is shorter than content index was built for ("
+                    +_endOffset+" bytes)");
+        }
+        FileInputStream in = new FileInputStream(src);
+        try {
+            in.getChannel().position(_offsets[index]);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return in;
+    }
+
+    /**
+     * Method for opening a stream to read given (indexed) buffer,
+     * such as a {@link java.nio.MappedByteBuffer}, from the beginning
+     * of the element with given index. Offsets are relative to the position
+     * of the buffer; neither position nor limit of buffer are changed.
+     */
+    public InputStream openElement(ByteBuffer src, int index)
+        throws IOException
+    {
+        _checkIndex(index);
+        if (src.remaining() < _endOffset) {
+            throw new IOException("Buffer ("+src.remaining()+" bytes) is shorter than content index was built for ("
+                    +_endOffset+" bytes)");
+        }
+        ByteBuffer buf = src.slice();
+        buf.position((int) _offsets[index]);
+        return new ByteBufferInputStream(buf);
+    }
+
+    /*
+    /**********************************************************
+    /* Persisting
+    /**********************************************************
+     */
+
+    /**
+     * Method for writing this index in a compact binary format that
+     * {@link #readFrom} can read. Stream is flushed but not closed.
+     */
+    public void writeTo(OutputStream out)
+        throws IOException
+    {
+        DataOutputStream dout = new DataOutputStream(new BufferedOutputStream(out));
+        dout.writeInt(MAGIC);
+        dout.writeInt(FORMAT_VERSION);
+        dout.writeLong(_endOffset);
+        dout.writeInt(_offsets.length);
+        for (long offset : _offsets) {
+            dout.writeLong(offset);
+        }
+        dout.flush();
+    }
+
+    /*
+    /**********************************************************
+    /* Standard methods
+    /**********************************************************
+     */
+
+    @Override
+    public String toString() {
+        return "[JsonArrayIndex: "+_offsets.length+" elements, "+_endOffset+" bytes]";
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods
+    /**********************************************************
+     */
+
+    private void _checkIndex(int index)
+    {
+        if (index < 0 || index >= _offsets.length) {
+            throw new IndexOutOfBoundsException("Invalid element index "+index+"; index has "
+                    +_offsets.length+" elements");
+        }
+    }
+
+    // note: can not use Arrays.copyOf(), added in JDK 1.6
+    private static long[] _copy(long[] offsets, int count, int newLength)
+    {
+        long[] result = new long[newLength];
+        System.arraycopy(offsets, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Simple adapter for reading contents of a {@link ByteBuffer}
+     */
+    private final static class ByteBufferInputStream extends InputStream
+    {
+        private final ByteBuffer _buffer;
+
+        ByteBufferInputStream(ByteBuffer buf) { _buffer = buf; }
+
+        @Override
+        public int available() { return _buffer.remaining(); }
+
+        @Override
+        public int read() {
+            return _buffer.hasRemaining() ? (_buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len)
+        {
+            int left = _buffer.remaining();
+            if (left <= 0) {
+                return (len == 0) ? 0 : -1;
+            }
+            if (len > left) {
+                len = left;
+            }
+            _buffer.get(b, off, len);
+            return len;
+        }
+
+        @Override
+        public long skip(long n)
+        {
+            if (n <= 0L) {
+                return 0L;
+            }
+            int count = (int) Math.min(n, _buffer.remaining());
+            _buffer.position(_buffer.position() + count);
+            return count;
+        }
+    }
+}
@@ -586,6 +586,9 @@ public final class TextBuffer
         char[] curr = _charArray(newLen);
         _currentSize = 0;
         _currentSegment = curr;
+        if (_segmentSize >= BufferGrowthListener.LARGE_BUFFER_THRESHOLD) {
+            _reportGrowth(_segmentSize, _segmentSize + newLen);
+        }
         return curr;
     }
 
@@ -604,6 +607,9 @@ public final class TextBuffer
             (MAX_SEGMENT_LEN + 1) : Math.min(MAX_SEGMENT_LEN, len + (len >> 1));
         _currentSegment = _charArray(newLen);
         System.arraycopy(curr, 0, _currentSegment, 0, len);
+        if (newLen >= BufferGrowthListener.LARGE_BUFFER_THRESHOLD) {
+            _reportGrowth(_segmentSize + len, _segmentSize + newLen);
+        }
         return _currentSegment;
     }
 
@@ -677,6 +683,23 @@ public final class TextBuffer
         curr = _charArray(Math.min(MAX_SEGMENT_LEN, oldLen + sizeAddition));
         _currentSize = 0;
         _currentSegment = curr;
+        if (_segmentSize >= BufferGrowthListener.LARGE_BUFFER_THRESHOLD) {
+            _reportGrowth(_segmentSize, _segmentSize + curr.length);
+        }
+    }
+
+    /**
+     * Helper method called when buffer has grown past size at which
+     * registered {@link BufferGrowthListener} (if any) is to be notified.
+     * 
+     * @since 1.9.14
+     */
+    private void _reportGrowth(int oldSize, int newSize)
+    {
+        BufferGrowthListener l = BufferGrowthListener.getInstance();
+        if (l != null) {
+            l.textBufferGrown(oldSize, newSize);
+        }
     }
 
     private char[] buildResultArray()
@@ -0,0 +1,153 @@
+package org.codehaus.jackson.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Container for JDK Flight Recorder event types Jackson emits.
+ *<p>
+ * Since durations are measured by the data binding code itself (and
+ * reported after the fact), they are stored as separate "elapsed" fields
+ * instead of using the built-in event duration. Amount of content read
+ * or written is only known for some operations, and is reported using
+ * separate events committed right after the root-level event.
+ *
+ * @since 1.9.14
+ */
+public final class Events
+{
+    private Events() { }
+
+    private final static String CATEGORY = "Jackson";
+
+    /*
+    /**********************************************************
+    /* Root-level operations
+    /**********************************************************
+     */
+
+    @Name("org.codehaus.jackson.RootRead")
+    @Label("Root Value Read")
+    @Category({ CATEGORY, "Data Binding" })
+    @StackTrace(false)
+    public static class RootRead extends Event
+    {
+        @Label("Value Type")
+        public String valueType;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        public long elapsed;
+    }
+
+    @Name("org.codehaus.jackson.RootWrite")
+    @Label("Root Value Write")
+    @Category({ CATEGORY, "Data Binding" })
+    @StackTrace(false)
+    public static class RootWrite extends Event
+    {
+        @Label("Value Type")
+        public String valueType;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        public long elapsed;
+    }
+
+    @Name("org.codehaus.jackson.ContentRead")
+    @Label("Content Read")
+    @Description("Amount of content (bytes or chars) consumed by a root-level read")
+    @Category({ CATEGORY, "Data Binding" })
+    @StackTrace(false)
+    public static class ContentRead extends Event
+    {
+        @Label("Amount")
+        @DataAmount
+        public long amount;
+    }
+
+    @Name("org.codehaus.jackson.ContentWritten")
+    @Label("Content Written")
+    @Description("Amount of content (bytes or chars) produced by a root-level write")
+    @Category({ CATEGORY, "Data Binding" })
+    @StackTrace(false)
+    public static class ContentWritten extends Event
+    {
+        @Label("Amount")
+        @DataAmount
+        public long amount;
+    }
+
+    /*
+    /**********************************************************
+    /* Serializer, deserializer construction
+    /**********************************************************
+     */
+
+    @Name("org.codehaus.jackson.SerializerConstructed")
+    @Label("Serializer Constructed")
+    @Category({ CATEGORY, "Construction" })
+    public static class SerializerConstructed extends Event
+    {
+        @Label("Value Type")
+        public String valueType;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        public long elapsed;
+    }
+
+    @Name("org.codehaus.jackson.DeserializerConstructed")
+    @Label("Deserializer Constructed")
+    @Category({ CATEGORY, "Construction" })
+    public static class DeserializerConstructed extends Event
+    {
+        @Label("Value Type")
+        public String valueType;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        public long elapsed;
+    }
+
+    @Name("org.codehaus.jackson.TypeIntrospected")
+    @Label("Type Introspected")
+    @Description("Resolution of annotated class and collection of its properties")
+    @Category({ CATEGORY, "Construction" })
+    public static class TypeIntrospected extends Event
+    {
+        @Label("Value Type")
+        public String valueType;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        public long elapsed;
+    }
+
+    /*
+    /**********************************************************
+    /* Buffers
+    /**********************************************************
+     */
+
+    @Name("org.codehaus.jackson.BufferGrowth")
+    @Label("Large Buffer Growth")
+    @Category({ CATEGORY, "Buffers" })
+    public static class BufferGrowth extends Event
+    {
+        @Label("Buffer Type")
+        public String bufferType;
+
+        @Label("Previous Size")
+        public int previousSize;
+
+        @Label("New Size")
+        public int newSize;
+    }
+}
@@ -0,0 +1,37 @@
+package org.codehaus.jackson.jfr;
+
+import org.codehaus.jackson.util.BufferGrowthListener;
+
+/**
+ * {@link BufferGrowthListener} that emits a JDK Flight Recorder event
+ * whenever a large text or byte buffer grows.
+ *
+ * @since 1.9.14
+ */
+public class JfrBufferGrowthListener extends BufferGrowthListener
+{
+    public final static JfrBufferGrowthListener instance = new JfrBufferGrowthListener();
+
+    protected JfrBufferGrowthListener() { }
+
+    @Override
+    public void textBufferGrown(int previousSize, int newSize) {
+        _report("TextBuffer", previousSize, newSize);
+    }
+
+    @Override
+    public void byteArrayBuilderGrown(int previousSize, int newSize) {
+        _report("ByteArrayBuilder", previousSize, newSize);
+    }
+
+    protected void _report(String bufferType, int previousSize, int newSize)
+    {
+        Events.BufferGrowth e = new Events.BufferGrowth();
+        if (e.isEnabled()) {
+            e.bufferType = bufferType;
+            e.previousSize = previousSize;
+            e.newSize = newSize;
+            e.commit();
+        }
+    }
+}
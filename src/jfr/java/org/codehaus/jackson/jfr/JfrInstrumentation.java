@@ -0,0 +1,123 @@
+package org.codehaus.jackson.jfr;
+
+import jdk.jfr.EventType;
+
+import org.codehaus.jackson.map.MapperInstrumentation;
+import org.codehaus.jackson.type.JavaType;
+
+/**
+ * {@link MapperInstrumentation} implementation that emits JDK Flight
+ * Recorder events. Instance is stateless and can be shared by any number
+ * of mappers; usually it is registered using {@link JfrModule}.
+ *
+ * @since 1.9.14
+ */
+public class JfrInstrumentation extends MapperInstrumentation
+{
+    public final static JfrInstrumentation instance = new JfrInstrumentation();
+
+    private final static EventType ROOT_READ = EventType.getEventType(Events.RootRead.class);
+    private final static EventType ROOT_WRITE = EventType.getEventType(Events.RootWrite.class);
+    private final static EventType SER_CONSTRUCTED = EventType.getEventType(Events.SerializerConstructed.class);
+    private final static EventType DESER_CONSTRUCTED = EventType.getEventType(Events.DeserializerConstructed.class);
+    private final static EventType INTROSPECTED = EventType.getEventType(Events.TypeIntrospected.class);
+    private final static EventType CONTENT_READ = EventType.getEventType(Events.ContentRead.class);
+    private final static EventType CONTENT_WRITTEN = EventType.getEventType(Events.ContentWritten.class);
+
+    protected JfrInstrumentation() { }
+
+    /**
+     * Timing (and content amount) information is only needed if at least
+     * one of events that report it is enabled in a recording; callbacks
+     * check whether their own event is enabled.
+     */
+    @Override
+    public boolean isEnabled()
+    {
+        return ROOT_READ.isEnabled() || ROOT_WRITE.isEnabled()
+            || SER_CONSTRUCTED.isEnabled() || DESER_CONSTRUCTED.isEnabled()
+            || INTROSPECTED.isEnabled()
+            || CONTENT_READ.isEnabled() || CONTENT_WRITTEN.isEnabled();
+    }
+
+    /*
+    /**********************************************************
+    /* MapperInstrumentation impl
+    /**********************************************************
+     */
+
+    @Override
+    public void serializerConstructed(JavaType type, long nanos)
+    {
+        Events.SerializerConstructed e = new Events.SerializerConstructed();
+        if (e.isEnabled()) {
+            e.valueType = type.toString();
+            e.elapsed = nanos;
+            e.commit();
+        }
+    }
+
+    @Override
+    public void deserializerConstructed(JavaType type, long nanos)
+    {
+        Events.DeserializerConstructed e = new Events.DeserializerConstructed();
+        if (e.isEnabled()) {
+            e.valueType = type.toString();
+            e.elapsed = nanos;
+            e.commit();
+        }
+    }
+
+    @Override
+    public void typeIntrospected(JavaType type, long nanos)
+    {
+        Events.TypeIntrospected e = new Events.TypeIntrospected();
+        if (e.isEnabled()) {
+            e.valueType = type.toString();
+            e.elapsed = nanos;
+            e.commit();
+        }
+    }
+
+    @Override
+    public void rootValueWritten(Class<?> rootType, long nanos)
+    {
+        Events.RootWrite e = new Events.RootWrite();
+        if (e.isEnabled()) {
+            e.valueType = (rootType == null) ? null : rootType.getName();
+            e.elapsed = nanos;
+            e.commit();
+        }
+    }
+
+    @Override
+    public void rootValueRead(JavaType rootType, long nanos)
+    {
+        Events.RootRead e = new Events.RootRead();
+        if (e.isEnabled()) {
+            e.valueType = (rootType == null) ? null : rootType.toString();
+            e.elapsed = nanos;
+            e.commit();
+        }
+    }
+
+    @Override
+    public void contentWritten(long count)
+    {
+        Events.ContentWritten e = new Events.ContentWritten();
+        if (e.isEnabled()) {
+            e.amount = count;
+            e.commit();
+        }
+    }
+
+    @Override
+    public void contentRead(long count)
+    {
+        Events.ContentRead e = new Events.ContentRead();
+        if (e.isEnabled()) {
+            e.amount = count;
+            e.commit();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.codehaus.jackson.jfr;
+
+import org.codehaus.jackson.Version;
+import org.codehaus.jackson.map.MapperInstrumentation;
+import org.codehaus.jackson.map.Module;
+import org.codehaus.jackson.util.BufferGrowthListener;
+
+/**
+ * Module that registers {@link JfrInstrumentation} with the mapper, so that
+ * data binding activity gets reported as JDK Flight Recorder events.
+ * Instrumentation registered earlier (such as
+ * {@link org.codehaus.jackson.map.util.StdMapperInstrumentation} used for JMX)
+ * is retained, and notified as well.
+ * Since buffer growth notifications are JVM-wide, module will also
+ * register {@link JfrBufferGrowthListener}, unless explicitly asked not to.
+ *<p>
+ * Note that events are only created and committed if enabled in the
+ * active recording, so registering the module has (close to) no overhead
+ * when no recording is in progress.
+ *
+ * @since 1.9.14
+ */
+public class JfrModule extends Module
+{
+    private final static String NAME = "JfrModule";
+
+    private final static Version VERSION = new Version(1, 9, 14, null);
+
+    protected final boolean _reportBufferGrowth;
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    public JfrModule() {
+        this(true);
+    }
+
+    /**
+     * @param reportBufferGrowth Whether to also register JVM-wide
+     *   {@link BufferGrowthListener} that reports growth of large buffers
+     */
+    public JfrModule(boolean reportBufferGrowth) {
+        _reportBufferGrowth = reportBufferGrowth;
+    }
+
+    @Override public String getModuleName() { return NAME; }
+    @Override public Version version() { return VERSION; }
+
+    @Override
+    public void setupModule(SetupContext context)
+    {
+        if (context instanceof InstrumentationContext) {
+            // retain existing instrumentation (such as StdMapperInstrumentation), if any
+            MapperInstrumentation instr = context.getSerializationConfig().getInstrumentation();
+            ((InstrumentationContext) context).setInstrumentation(MapperInstrumentation.Pair.create(instr,
+                    JfrInstrumentation.instance));
+        }
+        if (_reportBufferGrowth) {
+            BufferGrowthListener.setInstance(JfrBufferGrowthListener.instance);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Optional module that reports data binding activity (root-level reads and
+ * writes, serializer and deserializer construction, type introspection,
+ * growth of large buffers) as JDK Flight Recorder events.
+ *<p>
+ * Unlike other Jackson packages, this package requires JDK 11 or above,
+ * and is built separately (see <code>compile.jfr</code> Ant target).
+ * Events are registered using {@link org.codehaus.jackson.jfr.JfrModule}.
+ *
+ * @since 1.9.14
+ */
+package org.codehaus.jackson.jfr;
@@ -0,0 +1,135 @@
+package org.codehaus.jackson.jfr;
+
+import java.io.File;
+import java.util.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.util.StdMapperInstrumentation;
+
+/**
+ * Unit tests for verifying that {@link JfrModule} emits expected
+ * JDK Flight Recorder events, and works with other instrumentation.
+ */
+public class TestJfrModule extends BaseMapTest
+{
+    final static String[] ALL_EVENTS = new String[] {
+        "org.codehaus.jackson.RootRead", "org.codehaus.jackson.RootWrite",
+        "org.codehaus.jackson.ContentRead", "org.codehaus.jackson.ContentWritten",
+        "org.codehaus.jackson.SerializerConstructed", "org.codehaus.jackson.DeserializerConstructed",
+        "org.codehaus.jackson.TypeIntrospected", "org.codehaus.jackson.BufferGrowth"
+    };
+
+    static class Point {
+        public int x, y;
+
+        public Point() { }
+        public Point(int x, int y) { this.x = x; this.y = y; }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testRegistration() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JfrModule(false));
+        assertSame(JfrInstrumentation.instance, mapper.getInstrumentation());
+    }
+
+    // instrumentation registered earlier (like JMX one) must be retained
+    public void testWithOtherInstrumentation() throws Exception
+    {
+        StdMapperInstrumentation std = new StdMapperInstrumentation();
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setInstrumentation(std);
+        mapper.registerModule(new JfrModule(false));
+        assertTrue(mapper.getInstrumentation() instanceof MapperInstrumentation.Pair);
+        assertTrue(mapper.getInstrumentation().isEnabled());
+
+        String json = mapper.writeValueAsString(new Point(1, 2));
+        mapper.readValue(json, Point.class);
+        assertEquals(1L, std.getRootValuesWritten());
+        assertEquals(1L, std.getRootValuesRead());
+        assertEquals((long) json.length(), std.getContentWritten());
+    }
+
+    public void testEvents() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JfrModule(false));
+        List<RecordedEvent> events = _record(mapper, "org.codehaus.jackson.RootWrite",
+                "org.codehaus.jackson.RootRead");
+        assertEquals(1, _count(events, "org.codehaus.jackson.RootWrite"));
+        assertEquals(1, _count(events, "org.codehaus.jackson.RootRead"));
+        assertEquals(0, _count(events, "org.codehaus.jackson.ContentWritten"));
+    }
+
+    // content events must be emitted even if no timed events are enabled
+    public void testContentEventsOnly() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JfrModule(false));
+        List<RecordedEvent> events = _record(mapper, "org.codehaus.jackson.ContentWritten",
+                "org.codehaus.jackson.ContentRead");
+        assertEquals(0, _count(events, "org.codehaus.jackson.RootWrite"));
+        assertEquals(1, _count(events, "org.codehaus.jackson.ContentWritten"));
+        assertEquals(1, _count(events, "org.codehaus.jackson.ContentRead"));
+        for (RecordedEvent e : events) {
+            if (e.getEventType().getName().equals("org.codehaus.jackson.ContentWritten")) {
+                assertEquals(13L, e.getLong("amount"));
+            }
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private List<RecordedEvent> _record(ObjectMapper mapper, String... eventNames) throws Exception
+    {
+        File f = File.createTempFile("jackson-jfr", ".jfr");
+        try {
+            // note: events are enabled by default, so others need to be disabled
+            Recording r = new Recording();
+            List<String> enabled = Arrays.asList(eventNames);
+            for (String name : ALL_EVENTS) {
+                if (enabled.contains(name)) {
+                    r.enable(name);
+                } else {
+                    r.disable(name);
+                }
+            }
+            r.start();
+            // {"x":1,"y":2} is 13 chars
+            String json = mapper.writeValueAsString(new Point(1, 2));
+            Point p = mapper.readValue(json, Point.class);
+            assertEquals(2, p.y);
+            r.stop();
+            r.dump(f.toPath());
+            r.close();
+            return RecordingFile.readAllEvents(f.toPath());
+        } finally {
+            f.delete();
+        }
+    }
+
+    private int _count(List<RecordedEvent> events, String name)
+    {
+        int count = 0;
+        for (RecordedEvent e : events) {
+            if (e.getEventType().getName().equals(name)) {
+                ++count;
+            }
+        }
+        return count;
+    }
+}
@@ -916,6 +916,26 @@ public abstract class AnnotationIntrospector
             return new Pair(primary, secondary);
         }
 
+        /**
+         * Pairs are considered equal if both introspectors they contain
+         * are equal.
+         * 
+         * @since 1.9.14
+         */
+        @Override
+        public boolean equals(Object o)
+        {
+            if (o == this) return true;
+            if (o == null || o.getClass() != getClass()) return false;
+            Pair other = (Pair) o;
+            return _primary.equals(other._primary) && _secondary.equals(other._secondary);
+        }
+
+        @Override
+        public int hashCode() {
+            return (_primary.hashCode() * 31) + _secondary.hashCode();
+        }
+
         @Override
         public Collection<AnnotationIntrospector> allIntrospectors() {
             return allIntrospectors(new ArrayList<AnnotationIntrospector>());
@@ -18,6 +18,8 @@ import org.codehaus.jackson.map.type.ClassKey;
 import org.codehaus.jackson.map.type.TypeFactory;
 import org.codehaus.jackson.map.util.ClassUtil;
 import org.codehaus.jackson.map.util.LinkedNode;
+import org.codehaus.jackson.map.util.StringValueCanonicalizer;
+import org.codehaus.jackson.map.util.UntypedContainerFactory;
 import org.codehaus.jackson.node.JsonNodeFactory;
 import org.codehaus.jackson.type.JavaType;
 
@@ -338,7 +340,28 @@ public class DeserializationConfig
          * 
          * @since 1.8
          */
-        ACCEPT_EMPTY_STRING_AS_NULL_OBJECT(false)
+        ACCEPT_EMPTY_STRING_AS_NULL_OBJECT(false),
+
+        /**
+         * Feature that determines whether short String values that occur
+         * repeatedly in content are to be shared when binding JSON Strings
+         * as Strings, within a single deserialization call: if enabled,
+         * {@link org.codehaus.jackson.map.util.StringValueCanonicalizer} is used
+         * by standard deserializers of Trees ({@link org.codehaus.jackson.node.TextNode}s
+         * are shared as well), untyped values ({@link java.lang.Object}) and Strings.
+         * Field names of JSON Objects bound as Maps or Trees are shared as well.
+         * This can reduce size of retained results considerably, if values
+         * are repetitive (such as status codes or country codes), at the
+         * cost of some processing overhead.
+         *<p>
+         * Limits for values to share can be changed using
+         * {@link DeserializationConfig#withStringCanonicalizerLimits}.
+         *<p>
+         * Feature is disabled by default.
+         * 
+         * @since 1.9.14
+         */
+        CANONICALIZE_STRING_VALUES(false)
         
         ;
 
@@ -375,6 +398,14 @@ public class DeserializationConfig
      */
     protected final JsonNodeFactory _nodeFactory;
 
+    /**
+     * Factory used for constructing Maps and Lists that "untyped" values
+     * are bound to.
+     *
+     * @since 1.9.14
+     */
+    protected final UntypedContainerFactory _untypedContainerFactory;
+
     /**
      * Feature flag from {@link SerializationConfig} which is needed to
      * know if serializer will by default sort properties in
@@ -388,6 +419,22 @@ public class DeserializationConfig
      * @since 1.9
      */
     protected boolean _sortPropertiesAlphabetically;
+
+    /**
+     * Maximum length of String values to share, if
+     * {@link Feature#CANONICALIZE_STRING_VALUES} is enabled.
+     *
+     * @since 1.9.14
+     */
+    protected final int _canonicalizedMaxLength;
+
+    /**
+     * Maximum number of distinct String values to retain per deserialization
+     * call, if {@link Feature#CANONICALIZE_STRING_VALUES} is enabled.
+     *
+     * @since 1.9.14
+     */
+    protected final int _canonicalizedMaxEntries;
     
     /*
     /**********************************************************
@@ -406,6 +453,9 @@ public class DeserializationConfig
         super(intr, annIntr, vc, subtypeResolver, propertyNamingStrategy, typeFactory, handlerInstantiator,
                 collectFeatureDefaults(DeserializationConfig.Feature.class));
         _nodeFactory = JsonNodeFactory.instance;
+        _untypedContainerFactory = UntypedContainerFactory.instance;
+        _canonicalizedMaxLength = StringValueCanonicalizer.DEFAULT_MAX_LENGTH;
+        _canonicalizedMaxEntries = StringValueCanonicalizer.DEFAULT_MAX_ENTRIES;
     }
     
     /**
@@ -437,7 +487,10 @@ public class DeserializationConfig
         super(src, base, src._subtypeResolver);
         _problemHandlers = src._problemHandlers;
         _nodeFactory = src._nodeFactory;
+        _untypedContainerFactory = src._untypedContainerFactory;
         _sortPropertiesAlphabetically = src._sortPropertiesAlphabetically;
+        _canonicalizedMaxLength = src._canonicalizedMaxLength;
+        _canonicalizedMaxEntries = src._canonicalizedMaxEntries;
     }
     
     /**
@@ -448,7 +501,10 @@ public class DeserializationConfig
         super(src);
         _problemHandlers = src._problemHandlers;
         _nodeFactory = f;
+        _untypedContainerFactory = src._untypedContainerFactory;
         _sortPropertiesAlphabetically = src._sortPropertiesAlphabetically;
+        _canonicalizedMaxLength = src._canonicalizedMaxLength;
+        _canonicalizedMaxEntries = src._canonicalizedMaxEntries;
     }
 
     /**
@@ -459,7 +515,38 @@ public class DeserializationConfig
         super(src, featureFlags);
         _problemHandlers = src._problemHandlers;
         _nodeFactory = src._nodeFactory;
+        _untypedContainerFactory = src._untypedContainerFactory;
+        _sortPropertiesAlphabetically = src._sortPropertiesAlphabetically;
+        _canonicalizedMaxLength = src._canonicalizedMaxLength;
+        _canonicalizedMaxEntries = src._canonicalizedMaxEntries;
+    }
+    
+    /**
+     * @since 1.9.14
+     */
+    protected DeserializationConfig(DeserializationConfig src, UntypedContainerFactory f)
+    {
+        super(src);
+        _problemHandlers = src._problemHandlers;
+        _nodeFactory = src._nodeFactory;
+        _untypedContainerFactory = f;
+        _sortPropertiesAlphabetically = src._sortPropertiesAlphabetically;
+        _canonicalizedMaxLength = src._canonicalizedMaxLength;
+        _canonicalizedMaxEntries = src._canonicalizedMaxEntries;
+    }
+
+    /**
+     * @since 1.9.14
+     */
+    protected DeserializationConfig(DeserializationConfig src, int maxLength, int maxEntries)
+    {
+        super(src);
+        _problemHandlers = src._problemHandlers;
+        _nodeFactory = src._nodeFactory;
+        _untypedContainerFactory = src._untypedContainerFactory;
         _sortPropertiesAlphabetically = src._sortPropertiesAlphabetically;
+        _canonicalizedMaxLength = maxLength;
+        _canonicalizedMaxEntries = maxEntries;
     }
     
     /**
@@ -535,6 +622,11 @@ public class DeserializationConfig
         return (hi == _base.getHandlerInstantiator()) ? this : new DeserializationConfig(this, _base.withHandlerInstantiator(hi));
     }
 
+    @Override
+    public DeserializationConfig withInstrumentation(MapperInstrumentation instr) {
+        return (instr == _base.getInstrumentation()) ? this : new DeserializationConfig(this, _base.withInstrumentation(instr));
+    }
+
     @Override
     public DeserializationConfig withInsertedAnnotationIntrospector(AnnotationIntrospector ai) {
         return new DeserializationConfig(this, _base.withInsertedAnnotationIntrospector(ai));
@@ -561,6 +653,34 @@ public class DeserializationConfig
         return new DeserializationConfig(this, f);
     }
 
+    /**
+     * Fluent factory method that will construct a new instance with
+     * specified {@link UntypedContainerFactory}, used for constructing
+     * Maps and Lists that "untyped" values (ones declared as {@link java.lang.Object})
+     * are bound to. Note that it is not used for values with declared Map
+     * or Collection types.
+     * 
+     * @since 1.9.14
+     */
+    public DeserializationConfig withUntypedContainerFactory(UntypedContainerFactory f) {
+        return new DeserializationConfig(this, f);
+    }
+
+    /**
+     * Fluent factory method that will construct a new instance with
+     * specified limits for String values shared when
+     * {@link Feature#CANONICALIZE_STRING_VALUES} is enabled.
+     * 
+     * @param maxLength Maximum length of values to share
+     * @param maxEntries Maximum number of distinct values to retain
+     *   during a single deserialization call
+     * 
+     * @since 1.9.14
+     */
+    public DeserializationConfig withStringCanonicalizerLimits(int maxLength, int maxEntries) {
+        return new DeserializationConfig(this, maxLength, maxEntries);
+    }
+
     /**
      * Fluent factory method that will construct and return a new configuration
      * object instance with specified features enabled.
@@ -639,6 +759,7 @@ public class DeserializationConfig
         // visibility checks handled via separate checker object...
         VisibilityChecker<?> prevVc = getDefaultVisibilityChecker();
         _base = _base.withVisibilityChecker(ai.findAutoDetectVisibility(ac, prevVc));
+        ++_modCount;
     }
 
     /**
@@ -814,6 +935,7 @@ public class DeserializationConfig
          */
         if (!LinkedNode.contains(_problemHandlers, h)) {
             _problemHandlers = new LinkedNode<DeserializationProblemHandler>(h, _problemHandlers);
+            ++_modCount;
         }
     }
 
@@ -826,6 +948,7 @@ public class DeserializationConfig
     public void clearHandlers()
     {
         _problemHandlers = null;
+        ++_modCount;
     }
 
     /*
@@ -850,6 +973,24 @@ public class DeserializationConfig
     public final JsonNodeFactory getNodeFactory() {
         return _nodeFactory;
     }
+
+    /**
+     * @since 1.9.14
+     */
+    public final UntypedContainerFactory getUntypedContainerFactory() {
+        return _untypedContainerFactory;
+    }
+
+    /**
+     * Factory method for constructing canonicalizer to use for sharing String
+     * values during a deserialization call, if
+     * {@link Feature#CANONICALIZE_STRING_VALUES} is enabled.
+     * 
+     * @since 1.9.14
+     */
+    public StringValueCanonicalizer constructStringCanonicalizer() {
+        return new StringValueCanonicalizer(_canonicalizedMaxLength, _canonicalizedMaxEntries);
+    }
     
     /*
     /**********************************************************
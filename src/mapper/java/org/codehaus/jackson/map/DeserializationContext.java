@@ -4,9 +4,11 @@ import java.io.IOException;
 import java.util.*;
 
 import org.codehaus.jackson.*;
+import org.codehaus.jackson.map.deser.impl.PropertyValueBuffer;
 import org.codehaus.jackson.map.type.TypeFactory;
 import org.codehaus.jackson.map.util.ArrayBuilders;
 import org.codehaus.jackson.map.util.ObjectBuffer;
+import org.codehaus.jackson.map.util.StringValueCanonicalizer;
 import org.codehaus.jackson.node.JsonNodeFactory;
 import org.codehaus.jackson.type.JavaType;
 
@@ -139,6 +141,44 @@ public abstract class DeserializationContext
      */
     public abstract ArrayBuilders getArrayBuilders();
 
+    /**
+     * Method that can be used to get access to a (possibly recycled)
+     * buffer for collecting values for property-based Creators.
+     * Leased buffers should be returned using
+     * {@link #returnPropertyValueBuffer} once instance has been built;
+     * buffers that are not returned (for example due to an exception)
+     * will simply be garbage collected.
+     *<p>
+     * Default implementation just constructs a new buffer.
+     *
+     * @since 1.9.14
+     */
+    public PropertyValueBuffer leasePropertyValueBuffer(JsonParser jp, int paramCount) {
+        return new PropertyValueBuffer(jp, this, paramCount);
+    }
+
+    /**
+     * Method to call to return buffer previously leased with
+     * {@link #leasePropertyValueBuffer}.
+     *<p>
+     * Default implementation does nothing.
+     *
+     * @since 1.9.14
+     */
+    public void returnPropertyValueBuffer(PropertyValueBuffer buf) { }
+
+    /**
+     * Method for accessing helper object used for sharing String values
+     * (and field names) during this deserialization call; will return
+     * null if {@link DeserializationConfig.Feature#CANONICALIZE_STRING_VALUES}
+     * is not enabled.
+     *<p>
+     * Default implementation always returns null.
+     *
+     * @since 1.9.14
+     */
+    public StringValueCanonicalizer getStringCanonicalizer() { return null; }
+
     /*
     /**********************************************************
     /* Parsing methods that may use reusable/-cyclable objects
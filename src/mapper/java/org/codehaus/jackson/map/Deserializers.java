@@ -239,6 +239,29 @@ public interface Deserializers
     /**********************************************************
      */
 
+    /**
+     * Optional extension that {@link Deserializers} implementations can implement
+     * if they register bean deserializers for exact classes, and do not need
+     * information about bean properties to locate one. If so, deserializer factories
+     * will call {@link #findDirectDeserializer} before introspecting the type, to avoid
+     * the cost of introspection for types which do not need it.
+     *<p>
+     * Note that this also means that deserializers returned have precedence over
+     * class annotations (like <code>@JsonDeserialize(using=...)</code>).
+     *
+     * @since 1.9.14
+     */
+    public interface Direct extends Deserializers
+    {
+        /**
+         * @param type Class of values to deserialize
+         * 
+         * @return Deserializer to use for values of exactly given class, if any;
+         *    null if none
+         */
+        public JsonDeserializer<?> findDirectDeserializer(DeserializationConfig config, Class<?> type);
+    }
+
     /**
      * Basic {@link Deserializers} implementation that implements all methods but provides
      * no deserializers. Its main purpose is to serve as a base class so that
@@ -116,6 +116,15 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
      * @since 1.6
      */
     protected SubtypeResolver _subtypeResolver;
+
+    /**
+     * Counter incremented by (deprecated) methods that modify state of
+     * this instance in place; used by {@link ObjectMapper} to detect
+     * whether unshared copies it has made earlier are still up to date.
+     * 
+     * @since 1.9.14
+     */
+    protected int _modCount;
     
     /*
     /**********************************************************
@@ -303,6 +312,18 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
      */
     public abstract T withHandlerInstantiator(HandlerInstantiator hi);
 
+    /**
+     * Method for constructing and returning a new instance with different
+     * {@link MapperInstrumentation}
+     * to use.
+     *<p>
+     * NOTE: make sure to register new instance with <code>ObjectMapper</code>
+     * if directly calling this method.
+     * 
+     * @since 1.9.14
+     */
+    public abstract T withInstrumentation(MapperInstrumentation instr);
+
     /**
      * Method for constructing and returning a new instance with additional
      * {@link AnnotationIntrospector} inserted (as the highest priority one)
@@ -399,6 +420,7 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
     public final void insertAnnotationIntrospector(AnnotationIntrospector introspector) {
         _base = _base.withAnnotationIntrospector(AnnotationIntrospector.Pair.create(introspector,
                 getAnnotationIntrospector()));
+        ++_modCount;
     }
 
     /**
@@ -417,6 +439,7 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
     public final void appendAnnotationIntrospector(AnnotationIntrospector introspector) {
         _base = _base.withAnnotationIntrospector(AnnotationIntrospector.Pair.create(getAnnotationIntrospector(),
                 introspector));
+        ++_modCount;
     }
 
     /**
@@ -447,6 +470,16 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
     public final HandlerInstantiator getHandlerInstantiator() {
         return _base.getHandlerInstantiator();
     }
+
+    /**
+     * Accessor for instrumentation listener to notify about data binding
+     * activity; never null (defaults to {@link MapperInstrumentation.Nop}).
+     * 
+     * @since 1.9.14
+     */
+    public final MapperInstrumentation getInstrumentation() {
+        return _base.getInstrumentation();
+    }
     
     /*
     /**********************************************************
@@ -479,6 +512,7 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
         }
         _mixInAnnotationsShared = false;
         _mixInAnnotations = mixins;
+        ++_modCount;
     }
 
     /**
@@ -503,6 +537,7 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
             _mixInAnnotations = new HashMap<ClassKey,Class<?>>(_mixInAnnotations);
         }
         _mixInAnnotations.put(new ClassKey(target), mixinSource);
+        ++_modCount;
     }
 
     // ClassIntrospector.MixInResolver impl:
@@ -723,6 +758,7 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
     @Deprecated
     public final void setAnnotationIntrospector(AnnotationIntrospector ai) {
         _base = _base.withAnnotationIntrospector(ai);
+        ++_modCount;
     }
     
     /**
@@ -745,6 +781,7 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
             df = DEFAULT_DATE_FORMAT;
         }
         _base = _base.withDateFormat(df);
+        ++_modCount;
     }
 
     /*
@@ -869,6 +906,14 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
          * beyond simply construction of instances; or to use alternative constructors.
          */
         protected final HandlerInstantiator _handlerInstantiator;
+
+        /**
+         * Listener notified of serializer/deserializer construction, cache
+         * lookups and root-level read/write operations.
+         * 
+         * @since 1.9.14
+         */
+        protected final MapperInstrumentation _instrumentation;
         
         /*
         /**********************************************************
@@ -879,6 +924,17 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
         public Base(ClassIntrospector<? extends BeanDescription> ci, AnnotationIntrospector ai,
                 VisibilityChecker<?> vc, PropertyNamingStrategy pns, TypeFactory tf,
                 TypeResolverBuilder<?> typer, DateFormat dateFormat, HandlerInstantiator hi)
+        {
+            this(ci, ai, vc, pns, tf, typer, dateFormat, hi, MapperInstrumentation.Nop.instance);
+        }
+
+        /**
+         * @since 1.9.14
+         */
+        public Base(ClassIntrospector<? extends BeanDescription> ci, AnnotationIntrospector ai,
+                VisibilityChecker<?> vc, PropertyNamingStrategy pns, TypeFactory tf,
+                TypeResolverBuilder<?> typer, DateFormat dateFormat, HandlerInstantiator hi,
+                MapperInstrumentation instr)
         {
             _classIntrospector = ci;
             _annotationIntrospector = ai;
@@ -888,6 +944,7 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
             _typeResolverBuilder = typer;
             _dateFormat = dateFormat;
             _handlerInstantiator = hi;
+            _instrumentation = (instr == null) ? MapperInstrumentation.Nop.instance : instr;
         }
 
         /*
@@ -898,12 +955,12 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
 
         public Base withClassIntrospector(ClassIntrospector<? extends BeanDescription> ci) {
             return new Base(ci, _annotationIntrospector, _visibilityChecker, _propertyNamingStrategy, _typeFactory,
-                    _typeResolverBuilder, _dateFormat, _handlerInstantiator);
+                    _typeResolverBuilder, _dateFormat, _handlerInstantiator, _instrumentation);
         }
         
         public Base withAnnotationIntrospector(AnnotationIntrospector ai) {
             return new Base(_classIntrospector, ai, _visibilityChecker, _propertyNamingStrategy, _typeFactory,
-                    _typeResolverBuilder, _dateFormat, _handlerInstantiator);
+                    _typeResolverBuilder, _dateFormat, _handlerInstantiator, _instrumentation);
         }
 
         public Base withInsertedAnnotationIntrospector(AnnotationIntrospector ai) {
@@ -916,39 +973,47 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
         
         public Base withVisibilityChecker(VisibilityChecker<?> vc) {
             return new Base(_classIntrospector, _annotationIntrospector, vc, _propertyNamingStrategy, _typeFactory,
-                    _typeResolverBuilder, _dateFormat, _handlerInstantiator);
+                    _typeResolverBuilder, _dateFormat, _handlerInstantiator, _instrumentation);
         }
 
         public Base withVisibility(JsonMethod forMethod, JsonAutoDetect.Visibility visibility) {
             return new Base(_classIntrospector, _annotationIntrospector,
                     _visibilityChecker.withVisibility(forMethod, visibility),
                     _propertyNamingStrategy, _typeFactory,
-                    _typeResolverBuilder, _dateFormat, _handlerInstantiator);
+                    _typeResolverBuilder, _dateFormat, _handlerInstantiator, _instrumentation);
         }
         
         public Base withPropertyNamingStrategy(PropertyNamingStrategy pns) {
             return new Base(_classIntrospector, _annotationIntrospector, _visibilityChecker, pns, _typeFactory,
-                    _typeResolverBuilder, _dateFormat, _handlerInstantiator);
+                    _typeResolverBuilder, _dateFormat, _handlerInstantiator, _instrumentation);
         }
 
         public Base withTypeFactory(TypeFactory tf) {
             return new Base(_classIntrospector, _annotationIntrospector, _visibilityChecker, _propertyNamingStrategy, tf,
-                    _typeResolverBuilder, _dateFormat, _handlerInstantiator);
+                    _typeResolverBuilder, _dateFormat, _handlerInstantiator, _instrumentation);
         }
 
         public Base withTypeResolverBuilder(TypeResolverBuilder<?> typer) {
             return new Base(_classIntrospector, _annotationIntrospector, _visibilityChecker, _propertyNamingStrategy, _typeFactory,
-                    typer, _dateFormat, _handlerInstantiator);
+                    typer, _dateFormat, _handlerInstantiator, _instrumentation);
         }
         
         public Base withDateFormat(DateFormat df) {
             return new Base(_classIntrospector, _annotationIntrospector, _visibilityChecker, _propertyNamingStrategy, _typeFactory,
-                    _typeResolverBuilder, df, _handlerInstantiator);
+                    _typeResolverBuilder, df, _handlerInstantiator, _instrumentation);
         }
 
         public Base withHandlerInstantiator(HandlerInstantiator hi) {
             return new Base(_classIntrospector, _annotationIntrospector, _visibilityChecker, _propertyNamingStrategy, _typeFactory,
-                    _typeResolverBuilder, _dateFormat, hi);
+                    _typeResolverBuilder, _dateFormat, hi, _instrumentation);
+        }
+        
+        /**
+         * @since 1.9.14
+         */
+        public Base withInstrumentation(MapperInstrumentation instr) {
+            return new Base(_classIntrospector, _annotationIntrospector, _visibilityChecker, _propertyNamingStrategy, _typeFactory,
+                    _typeResolverBuilder, _dateFormat, _handlerInstantiator, instr);
         }
         
         /*
@@ -989,6 +1054,13 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
         public HandlerInstantiator getHandlerInstantiator() {
             return _handlerInstantiator;
         }
+
+        /**
+         * @since 1.9.14
+         */
+        public MapperInstrumentation getInstrumentation() {
+            return _instrumentation;
+        }
     }
 
     /*
@@ -1118,6 +1190,7 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
         @Deprecated
         public void enable(CFG f) {
             _featureFlags |= f.getMask();
+            ++_modCount;
         }
 
         /**
@@ -1130,6 +1203,7 @@ public abstract class MapperConfig<T extends MapperConfig<T>>
         @Deprecated
         public void disable(CFG f) {
             _featureFlags &= ~f.getMask();
+            ++_modCount;
         }
 
         /**
@@ -0,0 +1,324 @@
+package org.codehaus.jackson.map;
+
+import org.codehaus.jackson.type.JavaType;
+
+/**
+ * Listener interface (implemented as abstract class, to allow adding
+ * new callbacks without breaking existing implementations) that can be
+ * registered with {@link ObjectMapper} (directly, or via
+ * {@link Module.InstrumentationContext}) to get notified of things like
+ * serializer and deserializer construction, cache lookups and
+ * root-level read and write operations.
+ *<p>
+ * All callback methods have empty default implementations, so sub-classes
+ * only need to override ones they are interested in. Callbacks are made
+ * from threads doing actual data binding, without synchronization, so
+ * implementations must be thread-safe; and since many of the calls are
+ * made on performance-critical code paths, they should be kept as light-weight
+ * as possible (simple counter increments and such).
+ *<p>
+ * The default instance used by mappers is {@link Nop#instance}, which
+ * also indicates (via {@link #isEnabled}) that no timing information
+ * is needed, so that callers can avoid calling {@link System#nanoTime}
+ * altogether.
+ *
+ * @since 1.9.14
+ */
+public abstract class MapperInstrumentation
+{
+    /*
+    /**********************************************************
+    /* Configuration
+    /**********************************************************
+     */
+
+    /**
+     * Method called by callers to check whether they should collect
+     * timing information for operations; if false, none of the
+     * callbacks that take duration argument (nor ones that report
+     * amount of content read or written) will be called.
+     * Default implementation returns true; {@link Nop} returns false.
+     */
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /*
+    /**********************************************************
+    /* Callbacks, serializer/deserializer construction
+    /**********************************************************
+     */
+
+    /**
+     * Method called when a value serializer was found from one of caches
+     * {@link SerializerProvider} maintains.
+     */
+    public void serializerCacheHit() { }
+
+    /**
+     * Method called when no cached value serializer was found, and one
+     * has to be constructed.
+     */
+    public void serializerCacheMiss() { }
+
+    /**
+     * Method called after a value serializer has been constructed
+     * (but not necessarily resolved yet) by {@link SerializerFactory}.
+     *
+     * @param type Type of value serializer was constructed for
+     * @param nanos Time (in nanoseconds) it took to construct serializer
+     */
+    public void serializerConstructed(JavaType type, long nanos) { }
+
+    /**
+     * Method called when value of a dynamically typed property (one
+     * whose serializer is only known once actual value type is known)
+     * is of a type that can not be added to per-property serializer
+     * lookup, since that has reached its maximum size; and serializer
+     * will have to be located from {@link SerializerProvider} caches.
+     * Frequent calls indicate "megamorphic" properties that have
+     * hundreds of distinct value types.
+     *
+     * @param type Type of value for which serializer was not cached
+     *
+     * @since 1.9.14
+     */
+    public void dynamicSerializerFallback(Class<?> type) { }
+
+    /**
+     * Method called when a value deserializer was found from the cache
+     * {@link DeserializerProvider} maintains.
+     */
+    public void deserializerCacheHit() { }
+
+    /**
+     * Method called when no cached value deserializer was found, and one
+     * has to be constructed (or non-cachable one located).
+     */
+    public void deserializerCacheMiss() { }
+
+    /**
+     * Method called after a value deserializer has been constructed and
+     * resolved.
+     *
+     * @param type Type of value deserializer was constructed for
+     * @param nanos Time (in nanoseconds) it took to construct and resolve deserializer
+     */
+    public void deserializerConstructed(JavaType type, long nanos) { }
+
+    /**
+     * Method called after properties of a POJO type have been introspected
+     * (which includes resolution of {@link org.codehaus.jackson.map.introspect.AnnotatedClass}
+     * and collection of properties), for purpose of constructing
+     * a serializer or deserializer.
+     *
+     * @param type Type that was introspected
+     * @param nanos Time (in nanoseconds) introspection took
+     */
+    public void typeIntrospected(JavaType type, long nanos) { }
+
+    /*
+    /**********************************************************
+    /* Callbacks, root-level operations
+    /**********************************************************
+     */
+
+    /**
+     * Method called after a root-level value has been serialized.
+     *
+     * @param rootType Type of value serialized (runtime type, unless
+     *   root type was explicitly specified)
+     * @param nanos Time (in nanoseconds) serialization took
+     */
+    public void rootValueWritten(Class<?> rootType, long nanos) { }
+
+    /**
+     * Method called after a root-level value has been deserialized.
+     *
+     * @param rootType Type of value deserialized
+     * @param nanos Time (in nanoseconds) deserialization took
+     */
+    public void rootValueRead(JavaType rootType, long nanos) { }
+
+    /**
+     * Method called when the amount of encoded content produced by a root-level
+     * write is known; this is only the case when mapper (or writer) controls
+     * the output target.
+     *
+     * @param count Number of bytes (for byte-based output) or characters
+     *   (for textual output) written
+     */
+    public void contentWritten(long count) { }
+
+    /**
+     * Method called when the amount of content consumed by a root-level
+     * read is known; this is only the case when mapper (or reader) constructs
+     * and closes the parser.
+     *
+     * @param count Number of bytes (for byte-based input) or characters
+     *   (for textual input) read
+     */
+    public void contentRead(long count) { }
+
+    /*
+    /**********************************************************
+    /* Standard implementations
+    /**********************************************************
+     */
+
+    /**
+     * Default "no-operation" implementation, used unless custom
+     * instrumentation is registered.
+     */
+    public final static class Nop
+        extends MapperInstrumentation
+    {
+        public final static Nop instance = new Nop();
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    }
+
+    /**
+     * Helper class that allows using two instrumentation objects (such
+     * as {@link org.codehaus.jackson.map.util.StdMapperInstrumentation} and
+     * one from a module) with a single mapper. Callbacks are made to both,
+     * primary first; except that callbacks that depend on
+     * {@link #isEnabled} are only made to enabled instances.
+     */
+    public static class Pair
+        extends MapperInstrumentation
+    {
+        protected final MapperInstrumentation _primary, _secondary;
+
+        public Pair(MapperInstrumentation p, MapperInstrumentation s)
+        {
+            _primary = p;
+            _secondary = s;
+        }
+
+        /**
+         * Helper method for constructing a Pair from two given instrumentation
+         * objects, if neither is null or {@link Nop}; or returning the other
+         * one if one is.
+         */
+        public static MapperInstrumentation create(MapperInstrumentation primary,
+                MapperInstrumentation secondary)
+        {
+            if (primary == null || primary instanceof Nop) {
+                return secondary;
+            }
+            if (secondary == null || secondary instanceof Nop) {
+                return primary;
+            }
+            return new Pair(primary, secondary);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return _primary.isEnabled() || _secondary.isEnabled();
+        }
+
+        @Override
+        public void serializerCacheHit() {
+            _primary.serializerCacheHit();
+            _secondary.serializerCacheHit();
+        }
+
+        @Override
+        public void serializerCacheMiss() {
+            _primary.serializerCacheMiss();
+            _secondary.serializerCacheMiss();
+        }
+
+        @Override
+        public void serializerConstructed(JavaType type, long nanos) {
+            if (_primary.isEnabled()) {
+                _primary.serializerConstructed(type, nanos);
+            }
+            if (_secondary.isEnabled()) {
+                _secondary.serializerConstructed(type, nanos);
+            }
+        }
+
+        @Override
+        public void dynamicSerializerFallback(Class<?> type) {
+            _primary.dynamicSerializerFallback(type);
+            _secondary.dynamicSerializerFallback(type);
+        }
+
+        @Override
+        public void deserializerCacheHit() {
+            _primary.deserializerCacheHit();
+            _secondary.deserializerCacheHit();
+        }
+
+        @Override
+        public void deserializerCacheMiss() {
+            _primary.deserializerCacheMiss();
+            _secondary.deserializerCacheMiss();
+        }
+
+        @Override
+        public void deserializerConstructed(JavaType type, long nanos) {
+            if (_primary.isEnabled()) {
+                _primary.deserializerConstructed(type, nanos);
+            }
+            if (_secondary.isEnabled()) {
+                _secondary.deserializerConstructed(type, nanos);
+            }
+        }
+
+        @Override
+        public void typeIntrospected(JavaType type, long nanos) {
+            if (_primary.isEnabled()) {
+                _primary.typeIntrospected(type, nanos);
+            }
+            if (_secondary.isEnabled()) {
+                _secondary.typeIntrospected(type, nanos);
+            }
+        }
+
+        @Override
+        public void rootValueWritten(Class<?> rootType, long nanos) {
+            if (_primary.isEnabled()) {
+                _primary.rootValueWritten(rootType, nanos);
+            }
+            if (_secondary.isEnabled()) {
+                _secondary.rootValueWritten(rootType, nanos);
+            }
+        }
+
+        @Override
+        public void rootValueRead(JavaType rootType, long nanos) {
+            if (_primary.isEnabled()) {
+                _primary.rootValueRead(rootType, nanos);
+            }
+            if (_secondary.isEnabled()) {
+                _secondary.rootValueRead(rootType, nanos);
+            }
+        }
+
+        @Override
+        public void contentWritten(long count) {
+            if (_primary.isEnabled()) {
+                _primary.contentWritten(count);
+            }
+            if (_secondary.isEnabled()) {
+                _secondary.contentWritten(count);
+            }
+        }
+
+        @Override
+        public void contentRead(long count) {
+            if (_primary.isEnabled()) {
+                _primary.contentRead(count);
+            }
+            if (_secondary.isEnabled()) {
+                _secondary.contentRead(count);
+            }
+        }
+    }
+}
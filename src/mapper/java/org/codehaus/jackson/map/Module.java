@@ -252,4 +252,30 @@ public abstract class Module
          */
         public void setMixInAnnotations(Class<?> target, Class<?> mixinSource);
     }
+
+    /**
+     * Optional extension of {@link SetupContext} that allows modules to register
+     * {@link MapperInstrumentation}. It is a separate interface to retain
+     * compatibility with existing {@link SetupContext} implementations, so
+     * modules need to check whether context implements it; contexts
+     * {@link ObjectMapper} passes always do.
+     * 
+     * @since 1.9.14
+     */
+    public interface InstrumentationContext
+        extends SetupContext
+    {
+        /**
+         * Method that module can use to register {@link MapperInstrumentation}
+         * to be notified of data binding activity (serializer and deserializer
+         * construction, cache lookups, root-level reads and writes).
+         * Only one instrumentation object is used by a mapper, so this replaces
+         * any instrumentation registered earlier (which is accessible using
+         * {@link MapperConfig#getInstrumentation}); modules can use
+         * {@link MapperInstrumentation.Pair} to retain it.
+         * 
+         * @param instr Instrumentation to use; null to revert to default no-op instance
+         */
+        public void setInstrumentation(MapperInstrumentation instr);
+    }
 }
@@ -1,11 +1,17 @@
 package org.codehaus.jackson.map;
 
 import java.io.*;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.net.URL;
 import java.text.DateFormat;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 
 import org.codehaus.jackson.*;
 import org.codehaus.jackson.annotate.JsonAutoDetect;
@@ -15,7 +21,11 @@ import org.codehaus.jackson.io.SegmentedStringWriter;
 import org.codehaus.jackson.io.SerializedString;
 import org.codehaus.jackson.map.annotate.JsonSerialize;
 import org.codehaus.jackson.map.deser.*;
+import org.codehaus.jackson.map.introspect.AnnotatedMember;
+import org.codehaus.jackson.map.introspect.AnnotatedMethod;
+import org.codehaus.jackson.map.introspect.BasicBeanDescription;
 import org.codehaus.jackson.map.introspect.BasicClassIntrospector;
+import org.codehaus.jackson.map.introspect.IntrospectionCache;
 import org.codehaus.jackson.map.introspect.JacksonAnnotationIntrospector;
 import org.codehaus.jackson.map.introspect.VisibilityChecker;
 import org.codehaus.jackson.map.ser.*;
@@ -173,6 +183,43 @@ public class ObjectMapper
         }
     }
 
+    /**
+     * Container for an unshared copy of a configuration object, along with
+     * information needed to determine whether it is still up to date.
+     * 
+     * @since 1.9.14
+     */
+    protected final static class ConfigSnapshot<T extends MapperConfig<T>>
+    {
+        protected final T _source;
+        protected final int _sourceModCount;
+        protected final SubtypeResolver _subtypeResolver;
+        protected final int _extraFlags;
+
+        /**
+         * Unshared copy of the source configuration
+         */
+        public final T config;
+        protected final int _configModCount;
+
+        public ConfigSnapshot(T source, SubtypeResolver str, int extraFlags, T cfg)
+        {
+            _source = source;
+            _sourceModCount = source._modCount;
+            _subtypeResolver = str;
+            _extraFlags = extraFlags;
+            config = cfg;
+            _configModCount = cfg._modCount;
+        }
+
+        public boolean isValidFor(T source, SubtypeResolver str, int extraFlags)
+        {
+            return (source == _source) && (source._modCount == _sourceModCount)
+                && (str == _subtypeResolver) && (extraFlags == _extraFlags)
+                && (config._modCount == _configModCount);
+        }
+    }
+
     /*
     /**********************************************************
     /* Internal constants, singletons
@@ -305,6 +352,41 @@ public class ObjectMapper
     final protected ConcurrentHashMap<JavaType, JsonDeserializer<Object>> _rootDeserializers
         = new ConcurrentHashMap<JavaType, JsonDeserializer<Object>>(64, 0.6f, 2);
 
+    /**
+     * Unshared copy of {@link #_serializationConfig} most recently made
+     * for serialization calls; reused for as long as neither the shared
+     * configuration nor the copy has been modified, to avoid making
+     * a copy for each call.
+     * 
+     * @since 1.9.14
+     */
+    protected volatile ConfigSnapshot<SerializationConfig> _serializationSnapshot;
+
+    /**
+     * Unshared copy of {@link #_deserializationConfig} most recently made
+     * for deserialization calls; reused similar to {@link #_serializationSnapshot}.
+     * 
+     * @since 1.9.14
+     */
+    protected volatile ConfigSnapshot<DeserializationConfig> _deserializationSnapshot;
+
+    /**
+     * Most recently used recyclable deserialization context, per thread;
+     * shared with {@link ObjectReader}s constructed by this mapper.
+     * 
+     * @since 1.9.14
+     */
+    final protected ThreadLocal<SoftReference<StdDeserializationContext>> _recycledContexts
+        = new ThreadLocal<SoftReference<StdDeserializationContext>>();
+
+    /**
+     * Helper object used by {@link #convertValue} for converting beans
+     * directly, without intermediate {@link TokenBuffer}, when possible.
+     * 
+     * @since 1.9.14
+     */
+    final protected BeanConverter _beanConverter = new BeanConverter();
+
     /*
     /**********************************************************
     /* Life-cycle: constructing instance
@@ -451,7 +533,7 @@ public class ObjectMapper
         final ObjectMapper mapper = this;
         
         // And then call registration
-        module.setupModule(new Module.SetupContext()
+        module.setupModule(new Module.InstrumentationContext()
         {
             // // // Accessors
 
@@ -558,6 +640,11 @@ public class ObjectMapper
                 mapper._deserializationConfig.addMixInAnnotations(target, mixinSource);
                 mapper._serializationConfig.addMixInAnnotations(target, mixinSource);
             }
+
+            //@Override
+            public void setInstrumentation(MapperInstrumentation instr) {
+                mapper.setInstrumentation(instr);
+            }
         });
     }
 
@@ -615,6 +702,28 @@ public class ObjectMapper
         return _serializationConfig.createUnshared(_subtypeResolver);
     }
 
+    /**
+     * Method for accessing an unshared copy of the shared default
+     * {@link SerializationConfig} to use for serialization calls.
+     * Unlike {@link #copySerializationConfig}, may return the same
+     * instance for multiple calls, as long as neither shared configuration
+     * nor the copy has been modified (which should not be done).
+     * 
+     * @since 1.9.14
+     */
+    protected SerializationConfig _serializationConfigSnapshot()
+    {
+        final SerializationConfig src = _serializationConfig;
+        final SubtypeResolver str = _subtypeResolver;
+        ConfigSnapshot<SerializationConfig> snapshot = _serializationSnapshot;
+        if (snapshot != null && snapshot.isValidFor(src, str, 0)) {
+            return snapshot.config;
+        }
+        SerializationConfig cfg = copySerializationConfig();
+        _serializationSnapshot = new ConfigSnapshot<SerializationConfig>(src, str, 0, cfg);
+        return cfg;
+    }
+
     /**
      * Method for replacing the shared default serialization configuration
      * object.
@@ -655,6 +764,28 @@ public class ObjectMapper
                 .passSerializationFeatures(_serializationConfig._featureFlags);
     }
 
+    /**
+     * Method for accessing an unshared copy of the shared default
+     * {@link DeserializationConfig} to use for deserialization calls;
+     * reused similar to {@link #_serializationConfigSnapshot}.
+     * 
+     * @since 1.9.14
+     */
+    protected DeserializationConfig _deserializationConfigSnapshot()
+    {
+        final DeserializationConfig src = _deserializationConfig;
+        final SubtypeResolver str = _subtypeResolver;
+        // serialization features are passed too, so need to be considered
+        final int serFeatures = _serializationConfig._featureFlags;
+        ConfigSnapshot<DeserializationConfig> snapshot = _deserializationSnapshot;
+        if (snapshot != null && snapshot.isValidFor(src, str, serFeatures)) {
+            return snapshot.config;
+        }
+        DeserializationConfig cfg = copyDeserializationConfig();
+        _deserializationSnapshot = new ConfigSnapshot<DeserializationConfig>(src, str, serFeatures, cfg);
+        return cfg;
+    }
+
     /**
      * Method for replacing the shared default deserialization configuration
      * object.
@@ -679,6 +810,13 @@ public class ObjectMapper
         return this;
     }
 
+    /**
+     * @since 1.9.14
+     */
+    public SerializerFactory getSerializerFactory() {
+        return _serializerFactory;
+    }
+
     /**
      * Method for setting specific {@link SerializerProvider} to use
      * for handling caching of {@link JsonSerializer} instances.
@@ -808,6 +946,25 @@ public class ObjectMapper
         return this;
     }
     
+    /**
+     * Method for configuring mapper to use given cache for class introspection
+     * results. Cache may be shared by multiple mappers (even ones with
+     * differing configurations), to avoid repeated introspection of the same
+     * types. Note that this replaces {@link ClassIntrospector} mapper uses
+     * with a {@link BasicClassIntrospector} that uses the cache.
+     * 
+     * @param cache Cache to use; null to not cache introspection results
+     * 
+     * @since 1.9.14
+     */
+    public ObjectMapper setIntrospectionCache(IntrospectionCache cache) {
+        ClassIntrospector<? extends BeanDescription> ci = (cache == null) ?
+                DEFAULT_INTROSPECTOR : new BasicClassIntrospector(cache);
+        _serializationConfig = _serializationConfig.withClassIntrospector(ci);
+        _deserializationConfig = _deserializationConfig.withClassIntrospector(ci);
+        return this;
+    }
+
     /**
      * Method for setting custom property naming strategy to use.
      * 
@@ -1075,6 +1232,29 @@ public class ObjectMapper
         _deserializationConfig = _deserializationConfig.withHandlerInstantiator(hi);
         _serializationConfig = _serializationConfig.withHandlerInstantiator(hi);
     }
+
+    /**
+     * Method for configuring {@link MapperInstrumentation} to notify about
+     * data binding activity: construction of serializers and deserializers,
+     * cache lookups, root-level reads and writes.
+     *
+     * @param instr Instrumentation to use; if null, use the default no-op implementation
+     * 
+     * @since 1.9.14
+     */
+    public ObjectMapper setInstrumentation(MapperInstrumentation instr)
+    {
+        _deserializationConfig = _deserializationConfig.withInstrumentation(instr);
+        _serializationConfig = _serializationConfig.withInstrumentation(instr);
+        return this;
+    }
+
+    /**
+     * @since 1.9.14
+     */
+    public MapperInstrumentation getInstrumentation() {
+        return _serializationConfig.getInstrumentation();
+    }
     
     /**
      * @since 1.9
@@ -1283,7 +1463,7 @@ public class ObjectMapper
     {
 // !!! TODO
 //    	_setupClassLoaderForDeserialization(valueType);
-        return (T) _readValue(copyDeserializationConfig(), jp, _typeFactory.constructType(valueType));
+        return (T) _readValue(_deserializationConfigSnapshot(), jp, _typeFactory.constructType(valueType));
     } 
 
     /**
@@ -1298,7 +1478,7 @@ public class ObjectMapper
     public <T> T readValue(JsonParser jp, TypeReference<?> valueTypeRef)
         throws IOException, JsonParseException, JsonMappingException
     {
-        return (T) _readValue(copyDeserializationConfig(), jp, _typeFactory.constructType(valueTypeRef));
+        return (T) _readValue(_deserializationConfigSnapshot(), jp, _typeFactory.constructType(valueTypeRef));
     }
 
     /**
@@ -1312,7 +1492,7 @@ public class ObjectMapper
     public <T> T readValue(JsonParser jp, JavaType valueType)
         throws IOException, JsonParseException, JsonMappingException
     {
-        return (T) _readValue(copyDeserializationConfig(), jp, valueType);
+        return (T) _readValue(_deserializationConfigSnapshot(), jp, valueType);
     } 
 
     /**
@@ -1333,7 +1513,7 @@ public class ObjectMapper
         /* 05-Aug-2011, tatu: Also, must check for EOF here before
          *   calling readValue(), since that'll choke on it otherwise
          */
-        DeserializationConfig cfg = copyDeserializationConfig();
+        DeserializationConfig cfg = _deserializationConfigSnapshot();
         JsonToken t = jp.getCurrentToken();
         if (t == null) {
             t = jp.nextToken();
@@ -1356,7 +1536,7 @@ public class ObjectMapper
     public <T> MappingIterator<T> readValues(JsonParser jp, JavaType valueType)
         throws IOException, JsonProcessingException
     {
-        DeserializationConfig config = copyDeserializationConfig();
+        DeserializationConfig config = _deserializationConfigSnapshot();
         DeserializationContext ctxt = _createDeserializationContext(jp, config);
         JsonDeserializer<?> deser = _findRootDeserializer(config, valueType);
         // false -> do NOT close JsonParser (since caller passed it)
@@ -1606,7 +1786,7 @@ public class ObjectMapper
     public void writeValue(JsonGenerator jgen, Object value)
         throws IOException, JsonGenerationException, JsonMappingException
     {
-        SerializationConfig config = copySerializationConfig();
+        SerializationConfig config = _serializationConfigSnapshot();
         if (config.isEnabled(SerializationConfig.Feature.CLOSE_CLOSEABLE) && (value instanceof Closeable)) {
             _writeCloseableValue(jgen, value, config);
         } else {
@@ -1646,7 +1826,7 @@ public class ObjectMapper
     public void writeTree(JsonGenerator jgen, JsonNode rootNode)
         throws IOException, JsonProcessingException
     {
-        SerializationConfig config = copySerializationConfig();
+        SerializationConfig config = _serializationConfigSnapshot();
         _serializerProvider.serializeValue(config, jgen, rootNode, _serializerFactory);
         if (config.isEnabled(SerializationConfig.Feature.FLUSH_AFTER_WRITE_VALUE)) {
             jgen.flush();
@@ -1782,7 +1962,7 @@ public class ObjectMapper
      */
     public boolean canSerialize(Class<?> type)
     {
-        return _serializerProvider.hasSerializerFor(copySerializationConfig(),
+        return _serializerProvider.hasSerializerFor(_serializationConfigSnapshot(),
                 type, _serializerFactory);
     }
 
@@ -1798,7 +1978,185 @@ public class ObjectMapper
      */
     public boolean canDeserialize(JavaType type)
     {
-        return _deserializerProvider.hasValueDeserializerFor(copyDeserializationConfig(), type);
+        return _deserializerProvider.hasValueDeserializerFor(_deserializationConfigSnapshot(), type);
+    }
+
+    /*
+    /**********************************************************
+    /* Extended Public API, preloading
+    /**********************************************************
+     */
+
+    /**
+     * Method that can be called to construct and cache serializers and
+     * deserializers for given root types ahead of time, to avoid the cost
+     * of introspection and (de)serializer construction on first actual use.
+     * Types of bean properties are also preloaded, transitively.
+     * All work is done using the calling thread.
+     *
+     * @return Result object that indicates which types were successfully
+     *   preloaded, which failed, and which referenced types will only be
+     *   resolved dynamically
+     *
+     * @since 1.9.14
+     */
+    public PreloadResult preload(Collection<JavaType> types)
+    {
+        return preload(types, null);
+    }
+
+    /**
+     * Method that can be called to construct and cache serializers and
+     * deserializers for given root types ahead of time, using given
+     * executor to do the work in parallel. Types of bean properties
+     * are also preloaded, transitively: this is done in rounds, so
+     * that types found while preloading one round are preloaded in the
+     * next one. Method blocks until all rounds are complete (or calling
+     * thread is interrupted).
+     *
+     * @param executor Executor to use for preloading; if null, calling
+     *    thread is used
+     *
+     * @since 1.9.14
+     */
+    public PreloadResult preload(Collection<JavaType> types, ExecutorService executor)
+    {
+        final SerializationConfig sconfig = _serializationConfigSnapshot();
+        final DeserializationConfig dconfig = _deserializationConfigSnapshot();
+        final PreloadResult result = new PreloadResult();
+        // to avoid duplicate work, as well as infinite recursion for cyclic types:
+        final ConcurrentHashMap<JavaType,Boolean> seen = new ConcurrentHashMap<JavaType,Boolean>();
+        Collection<JavaType> pending = new ArrayList<JavaType>(types.size());
+        for (JavaType type : types) {
+            if (seen.putIfAbsent(type, Boolean.TRUE) == null) {
+                pending.add(type);
+            }
+        }
+        while (!pending.isEmpty()) {
+            final Collection<JavaType> found = new ConcurrentLinkedQueue<JavaType>();
+            if (executor == null) {
+                for (JavaType type : pending) {
+                    _preload(sconfig, dconfig, type, result, seen, found);
+                }
+            } else {
+                ArrayList<Callable<Object>> tasks = new ArrayList<Callable<Object>>(pending.size());
+                for (final JavaType type : pending) {
+                    tasks.add(new Callable<Object>() {
+                        //@Override
+                        public Object call() {
+                            _preload(sconfig, dconfig, type, result, seen, found);
+                            return null;
+                        }
+                    });
+                }
+                try {
+                    executor.invokeAll(tasks);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            pending = found;
+        }
+        return result;
+    }
+
+    /**
+     * Helper method that preloads root-level serializer and deserializer for
+     * given type, and then finds types of its properties to be preloaded next.
+     *
+     * @since 1.9.14
+     */
+    protected void _preload(SerializationConfig sconfig, DeserializationConfig dconfig,
+            JavaType type, PreloadResult result, ConcurrentHashMap<JavaType,Boolean> seen,
+            Collection<JavaType> found)
+    {
+        boolean ok = true;
+        try {
+            if (_serializerProvider.preloadSerializer(sconfig, type, _serializerFactory) == null) {
+                throw new JsonMappingException("Serializer provider ("+_serializerProvider.getClass().getName()
+                        +") does not support preloading");
+            }
+        } catch (Exception e) {
+            result.addSerializationFailure(type, e);
+            ok = false;
+        }
+        try {
+            _findRootDeserializer(dconfig, type);
+        } catch (Exception e) {
+            result.addDeserializationFailure(type, e);
+            ok = false;
+        }
+        if (ok) {
+            result.addPreloaded(type);
+        }
+        Class<?> raw = type.getRawClass();
+        ArrayList<JavaType> refs = new ArrayList<JavaType>();
+        if (type.isContainerType()) {
+            // no properties to follow, but content (and key) types are
+            _addReferencedType(type, refs);
+        } else if (raw.isEnum() || _isJdkType(raw)) {
+            // JDK types use standard (de)serializers; enums have no properties to follow
+            return;
+        } else {
+            try {
+                BasicBeanDescription desc = sconfig.introspect(type);
+                for (BeanPropertyDefinition prop : desc.findProperties()) {
+                    AnnotatedMember acc = prop.getAccessor();
+                    if (acc != null) {
+                        _addReferencedType(desc.resolveType(acc.getGenericType()), refs);
+                    }
+                    AnnotatedMember mut = prop.getMutator();
+                    if (mut instanceof AnnotatedMethod) {
+                        _addReferencedType(desc.resolveType(((AnnotatedMethod) mut).getParameterType(0)), refs);
+                    } else if (mut != null) {
+                        _addReferencedType(desc.resolveType(mut.getGenericType()), refs);
+                    }
+                }
+            } catch (Exception e) {
+                // should have been reported already, when constructing (de)serializer
+                return;
+            }
+        }
+        for (JavaType ref : refs) {
+            Class<?> cls = ref.getRawClass();
+            if (cls == Object.class || Modifier.isAbstract(cls.getModifiers())) {
+                result.addDynamic(ref);
+            } else if (seen.putIfAbsent(ref, Boolean.TRUE) == null) {
+                found.add(ref);
+            }
+        }
+    }
+
+    /**
+     * Helper method for adding given property type (or, for container types,
+     * content types) as a type to preload; primitive and JDK types
+     * are skipped.
+     */
+    private final void _addReferencedType(JavaType type, Collection<JavaType> refs)
+    {
+        if (type == null) {
+            return;
+        }
+        if (type.isContainerType()) {
+            if (type.getKeyType() != null) {
+                _addReferencedType(type.getKeyType(), refs);
+            }
+            _addReferencedType(type.getContentType(), refs);
+            return;
+        }
+        Class<?> cls = type.getRawClass();
+        if (cls.isPrimitive() || (_isJdkType(cls) && cls != Object.class
+                && !Modifier.isAbstract(cls.getModifiers()))) {
+            return;
+        }
+        refs.add(type);
+    }
+
+    private final static boolean _isJdkType(Class<?> cls)
+    {
+        String name = cls.getName();
+        return name.startsWith("java.") || name.startsWith("javax.");
     }
 
     /*
@@ -1996,7 +2354,7 @@ public class ObjectMapper
     {
      // !!! TODO
 //    	_setupClassLoaderForDeserialization(valueType);
-        return (T) _readValue(copyDeserializationConfig(), treeAsTokens(root), _typeFactory.constructType(valueType));
+        return (T) _readValue(_deserializationConfigSnapshot(), treeAsTokens(root), _typeFactory.constructType(valueType));
     } 
 
     /**
@@ -2012,7 +2370,7 @@ public class ObjectMapper
     public <T> T readValue(JsonNode root, TypeReference valueTypeRef)
         throws IOException, JsonParseException, JsonMappingException
     {
-        return (T) _readValue(copyDeserializationConfig(), treeAsTokens(root), _typeFactory.constructType(valueTypeRef));
+        return (T) _readValue(_deserializationConfigSnapshot(), treeAsTokens(root), _typeFactory.constructType(valueTypeRef));
     } 
     
     /**
@@ -2028,7 +2386,7 @@ public class ObjectMapper
     public <T> T readValue(JsonNode root, JavaType valueType)
         throws IOException, JsonParseException, JsonMappingException
     {
-        return (T) _readValue(copyDeserializationConfig(), treeAsTokens(root), valueType);
+        return (T) _readValue(_deserializationConfigSnapshot(), treeAsTokens(root), valueType);
     } 
     
     /*
@@ -2095,7 +2453,12 @@ public class ObjectMapper
         // alas, we have to pull the recycler directly here...
         SegmentedStringWriter sw = new SegmentedStringWriter(_jsonFactory._getBufferRecycler());
         _configAndWriteValue(_jsonFactory.createJsonGenerator(sw), value);
-        return sw.getAndClear();
+        String result = sw.getAndClear();
+        MapperInstrumentation instr = _serializationConfig.getInstrumentation();
+        if (instr.isEnabled()) {
+            instr.contentWritten(result.length());
+        }
+        return result;
     }
     
     /**
@@ -2114,6 +2477,10 @@ public class ObjectMapper
         _configAndWriteValue(_jsonFactory.createJsonGenerator(bb, JsonEncoding.UTF8), value);
         byte[] result = bb.toByteArray();
         bb.release();
+        MapperInstrumentation instr = _serializationConfig.getInstrumentation();
+        if (instr.isEnabled()) {
+            instr.contentWritten(result.length);
+        }
         return result;
     }
 
@@ -2131,7 +2498,7 @@ public class ObjectMapper
      * @since 1.6
      */
     public ObjectWriter writer() {
-        return new ObjectWriter(this, copySerializationConfig());
+        return new ObjectWriter(this, _serializationConfigSnapshot());
     }
 
     /**
@@ -2143,7 +2510,7 @@ public class ObjectMapper
      */
     public ObjectWriter writer(DateFormat df) {
         return new ObjectWriter(this,
-                copySerializationConfig().withDateFormat(df));
+                _serializationConfigSnapshot().withDateFormat(df));
     }
     
     /**
@@ -2153,7 +2520,7 @@ public class ObjectMapper
      * @since 1.9
      */
     public ObjectWriter writerWithView(Class<?> serializationView) {
-        return new ObjectWriter(this, copySerializationConfig().withView(serializationView));
+        return new ObjectWriter(this, _serializationConfigSnapshot().withView(serializationView));
     }
     
     /**
@@ -2166,7 +2533,7 @@ public class ObjectMapper
      */
     public ObjectWriter writerWithType(Class<?> rootType) {
         JavaType t = (rootType == null) ? null : _typeFactory.constructType(rootType);
-        return new ObjectWriter(this, copySerializationConfig(), t, /*PrettyPrinter*/null);
+        return new ObjectWriter(this, _serializationConfigSnapshot(), t, /*PrettyPrinter*/null);
     }
 
     /**
@@ -2177,7 +2544,7 @@ public class ObjectMapper
      * @since 1.9
      */
     public ObjectWriter writerWithType(JavaType rootType) {
-        return new ObjectWriter(this, copySerializationConfig(), rootType, /*PrettyPrinter*/null);
+        return new ObjectWriter(this, _serializationConfigSnapshot(), rootType, /*PrettyPrinter*/null);
     }
 
     /**
@@ -2189,7 +2556,7 @@ public class ObjectMapper
      */
     public ObjectWriter writerWithType(TypeReference<?> rootType) {
         JavaType t = (rootType == null) ? null : _typeFactory.constructType(rootType);
-        return new ObjectWriter(this, copySerializationConfig(), t, /*PrettyPrinter*/null);
+        return new ObjectWriter(this, _serializationConfigSnapshot(), t, /*PrettyPrinter*/null);
     }
     
     /**
@@ -2203,7 +2570,7 @@ public class ObjectMapper
         if (pp == null) { // need to use a marker to indicate explicit disabling of pp
             pp = ObjectWriter.NULL_PRETTY_PRINTER;
         }
-        return new ObjectWriter(this, copySerializationConfig(), /*root type*/ null, pp);
+        return new ObjectWriter(this, _serializationConfigSnapshot(), /*root type*/ null, pp);
     }
     
     /**
@@ -2213,7 +2580,7 @@ public class ObjectMapper
      * @since 1.9
      */
     public ObjectWriter writerWithDefaultPrettyPrinter() {
-        return new ObjectWriter(this, copySerializationConfig(),
+        return new ObjectWriter(this, _serializationConfigSnapshot(),
                 /*root type*/ null, _defaultPrettyPrinter());
     }
     
@@ -2225,7 +2592,7 @@ public class ObjectMapper
      */
     public ObjectWriter writer(FilterProvider filterProvider) {
         return new ObjectWriter(this,
-                copySerializationConfig().withFilters(filterProvider));
+                _serializationConfigSnapshot().withFilters(filterProvider));
     }
     
     /**
@@ -2238,7 +2605,7 @@ public class ObjectMapper
      * @since 1.9
      */
     public ObjectWriter writer(FormatSchema schema) {
-        return new ObjectWriter(this, copySerializationConfig(), schema);
+        return new ObjectWriter(this, _serializationConfigSnapshot(), schema);
     }
     
     /*
@@ -2326,7 +2693,7 @@ public class ObjectMapper
      * @since 1.6
      */
     public ObjectReader reader() {
-        return new ObjectReader(this, copyDeserializationConfig())
+        return new ObjectReader(this, _deserializationConfigSnapshot())
             .withInjectableValues(_injectableValues);
     }
     
@@ -2345,7 +2712,7 @@ public class ObjectMapper
     public ObjectReader readerForUpdating(Object valueToUpdate)
     {
         JavaType t = _typeFactory.constructType(valueToUpdate.getClass());
-        return new ObjectReader(this, copyDeserializationConfig(), t, valueToUpdate,
+        return new ObjectReader(this, _deserializationConfigSnapshot(), t, valueToUpdate,
                 null, _injectableValues);
     }
 
@@ -2357,7 +2724,7 @@ public class ObjectMapper
      */
     public ObjectReader reader(JavaType type)
     {
-        return new ObjectReader(this, copyDeserializationConfig(), type, null,
+        return new ObjectReader(this, _deserializationConfigSnapshot(), type, null,
                 null, _injectableValues);
     }
 
@@ -2391,7 +2758,7 @@ public class ObjectMapper
      */
     public ObjectReader reader(JsonNodeFactory f)
     {
-        return new ObjectReader(this, copyDeserializationConfig()).withNodeFactory(f);
+        return new ObjectReader(this, _deserializationConfigSnapshot()).withNodeFactory(f);
     }
 
     /**
@@ -2404,7 +2771,7 @@ public class ObjectMapper
      * @since 1.8
      */
     public ObjectReader reader(FormatSchema schema) {
-        return new ObjectReader(this, copyDeserializationConfig(), null, null,
+        return new ObjectReader(this, _deserializationConfigSnapshot(), null, null,
                 schema, _injectableValues);
     }
 
@@ -2417,7 +2784,7 @@ public class ObjectMapper
      * @since 1.9
      */
     public ObjectReader reader(InjectableValues injectableValues) {
-        return new ObjectReader(this, copyDeserializationConfig(), null, null,
+        return new ObjectReader(this, _deserializationConfigSnapshot(), null, null,
                 null, injectableValues);
     }
     
@@ -2487,6 +2854,11 @@ public class ObjectMapper
     {
         // sanity check for null first:
         if (fromValue == null) return null;
+        // [1.9.14]: beans can often be converted directly
+        Object result = _convertDirectly(fromValue, toValueType);
+        if (result != null) {
+            return result;
+        }
         /* Then use TokenBuffer, which is a JsonGenerator:
          * (see [JACKSON-175])
          */
@@ -2495,13 +2867,51 @@ public class ObjectMapper
             writeValue(buf, fromValue);
             // and provide as with a JsonParser for contents as well!
             JsonParser jp = buf.asParser();
-            Object result = readValue(jp, toValueType);
+            result = readValue(jp, toValueType);
             jp.close();
             return result;
         } catch (IOException e) { // should not occur, no real i/o...
             throw new IllegalArgumentException(e.getMessage(), e);
         }
     }
+
+    /**
+     * Helper method that tries to convert given bean value directly, by
+     * copying values from its properties to properties of the target type
+     * (see {@link BeanConverter}), without serializing it into a
+     * {@link TokenBuffer} first.
+     * 
+     * @return Converted value, if direct conversion was possible; null if not
+     * 
+     * @since 1.9.14
+     */
+    protected Object _convertDirectly(Object fromValue, JavaType toValueType)
+        throws IllegalArgumentException
+    {
+        final SerializationConfig sconfig = _serializationConfigSnapshot();
+        final DeserializationConfig dconfig = _deserializationConfigSnapshot();
+        if (sconfig.isEnabled(SerializationConfig.Feature.WRAP_ROOT_VALUE)
+                || dconfig.isEnabled(DeserializationConfig.Feature.UNWRAP_ROOT_VALUE)) {
+            return null;
+        }
+        SerializerProvider prov = _serializerProvider.instanceForConversion(sconfig, _serializerFactory);
+        if (prov == null) {
+            return null;
+        }
+        try {
+            // same lookups as serialization and deserialization would do
+            JsonSerializer<Object> ser = prov.findTypedValueSerializer(fromValue.getClass(), true, null);
+            JsonDeserializer<Object> deser = _findRootDeserializer(dconfig, toValueType);
+            DeserializationContext ctxt = _createDeserializationContext(null, dconfig);
+            try {
+                return _beanConverter.convert(this, fromValue, ser, prov, deser, ctxt);
+            } finally {
+                _releaseDeserializationContext(ctxt);
+            }
+        } catch (IOException e) { // should not occur, no real i/o...
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
     
     /*
     /**********************************************************
@@ -2519,7 +2929,7 @@ public class ObjectMapper
     public JsonSchema generateJsonSchema(Class<?> t)
             throws JsonMappingException
     {
-        return generateJsonSchema(t, copySerializationConfig());
+        return generateJsonSchema(t, _serializationConfigSnapshot());
     }
 
     /**
@@ -2560,7 +2970,7 @@ public class ObjectMapper
     protected final void _configAndWriteValue(JsonGenerator jgen, Object value)
         throws IOException, JsonGenerationException, JsonMappingException
     {
-        SerializationConfig cfg = copySerializationConfig();
+        SerializationConfig cfg = _serializationConfigSnapshot();
         // [JACKSON-96]: allow enabling pretty printing for ObjectMapper directly
         if (cfg.isEnabled(SerializationConfig.Feature.INDENT_OUTPUT)) {
             jgen.useDefaultPrettyPrinter();
@@ -2590,7 +3000,7 @@ public class ObjectMapper
     protected final void _configAndWriteValue(JsonGenerator jgen, Object value, Class<?> viewClass)
         throws IOException, JsonGenerationException, JsonMappingException
     {
-        SerializationConfig cfg = copySerializationConfig().withView(viewClass);
+        SerializationConfig cfg = _serializationConfigSnapshot().withView(viewClass);
         if (cfg.isEnabled(SerializationConfig.Feature.INDENT_OUTPUT)) {
             jgen.useDefaultPrettyPrinter();
         }
@@ -2687,6 +3097,9 @@ public class ObjectMapper
          * state (either before first read from parser, or after
          * previous token has been cleared)
          */
+        final MapperInstrumentation instr = cfg.getInstrumentation();
+        final boolean timed = instr.isEnabled();
+        final long start = timed ? System.nanoTime() : 0L;
         Object result;
         JsonToken t = _initForReading(jp);
         if (t == JsonToken.VALUE_NULL) {
@@ -2696,16 +3109,23 @@ public class ObjectMapper
             result = null;
         } else { // pointing to event other than null
             DeserializationContext ctxt = _createDeserializationContext(jp, cfg);
-            JsonDeserializer<Object> deser = _findRootDeserializer(cfg, valueType);
-            // ok, let's get the value
-            if (cfg.isEnabled(DeserializationConfig.Feature.UNWRAP_ROOT_VALUE)) {
-                result = _unwrapAndDeserialize(jp, valueType, ctxt, deser);
-            } else {
-                result = deser.deserialize(jp, ctxt);
+            try {
+                JsonDeserializer<Object> deser = _findRootDeserializer(cfg, valueType);
+                // ok, let's get the value
+                if (cfg.isEnabled(DeserializationConfig.Feature.UNWRAP_ROOT_VALUE)) {
+                    result = _unwrapAndDeserialize(jp, valueType, ctxt, deser);
+                } else {
+                    result = deser.deserialize(jp, ctxt);
+                }
+            } finally {
+                _releaseDeserializationContext(ctxt);
             }
         }
         // Need to consume the token too
         jp.clearCurrentToken();
+        if (timed) {
+            instr.rootValueRead(valueType, System.nanoTime() - start);
+        }
         return result;
     }
 
@@ -2713,6 +3133,9 @@ public class ObjectMapper
     protected Object _readMapAndClose(JsonParser jp, JavaType valueType)
         throws IOException, JsonParseException, JsonMappingException
     {
+        final MapperInstrumentation instr = _deserializationConfig.getInstrumentation();
+        final boolean timed = instr.isEnabled();
+        final long start = timed ? System.nanoTime() : 0L;
         try {
             Object result;
             JsonToken t = _initForReading(jp);
@@ -2723,17 +3146,25 @@ public class ObjectMapper
             } else if (t == JsonToken.END_ARRAY || t == JsonToken.END_OBJECT) {
                 result = null;
             } else {
-                DeserializationConfig cfg = copyDeserializationConfig();
+                DeserializationConfig cfg = _deserializationConfigSnapshot();
                 DeserializationContext ctxt = _createDeserializationContext(jp, cfg);
-                JsonDeserializer<Object> deser = _findRootDeserializer(cfg, valueType);
-                if (cfg.isEnabled(DeserializationConfig.Feature.UNWRAP_ROOT_VALUE)) {
-                    result = _unwrapAndDeserialize(jp, valueType, ctxt, deser);
-                } else {
-                    result = deser.deserialize(jp, ctxt);
+                try {
+                    JsonDeserializer<Object> deser = _findRootDeserializer(cfg, valueType);
+                    if (cfg.isEnabled(DeserializationConfig.Feature.UNWRAP_ROOT_VALUE)) {
+                        result = _unwrapAndDeserialize(jp, valueType, ctxt, deser);
+                    } else {
+                        result = deser.deserialize(jp, ctxt);
+                    }
+                } finally {
+                    _releaseDeserializationContext(ctxt);
                 }
             }
             // Need to consume the token too
             jp.clearCurrentToken();
+            if (timed) {
+                instr.rootValueRead(valueType, System.nanoTime() - start);
+                _reportContentRead(instr, jp);
+            }
             return result;
         } finally {
             try {
@@ -2814,6 +3245,26 @@ public class ObjectMapper
     /**********************************************************
      */
 
+    /**
+     * Helper method called to report amount of content parser has consumed,
+     * if parser knows it.
+     * 
+     * @since 1.9.14
+     */
+    protected static void _reportContentRead(MapperInstrumentation instr, JsonParser jp)
+    {
+        JsonLocation loc = jp.getCurrentLocation();
+        if (loc != null) {
+            long count = loc.getByteOffset();
+            if (count < 0L) {
+                count = loc.getCharOffset();
+            }
+            if (count >= 0L) {
+                instr.contentRead(count);
+            }
+        }
+    }
+
     /**
      * Method called to locate deserializer for the passed root-level value.
      */
@@ -2834,11 +3285,31 @@ public class ObjectMapper
         return deser;
     }
     
+    /**
+     * Method called to construct the context to use for deserializing value(s)
+     * from given parser. Since 1.9.14, default implementation reuses
+     * contexts (see {@link StdDeserializationContext#leaseInstance}), which
+     * are released using {@link #_releaseDeserializationContext} once a
+     * single root-level value has been deserialized.
+     */
     protected DeserializationContext _createDeserializationContext(JsonParser jp, DeserializationConfig cfg)
     {
-        return new StdDeserializationContext(cfg, jp, _deserializerProvider,
+        return StdDeserializationContext.leaseInstance(_recycledContexts, cfg, jp, _deserializerProvider,
                 _injectableValues);
     }
+
+    /**
+     * Method called once given context is no longer used, to allow
+     * it to be reused.
+     * 
+     * @since 1.9.14
+     */
+    protected void _releaseDeserializationContext(DeserializationContext ctxt)
+    {
+        if (ctxt instanceof StdDeserializationContext) {
+            ((StdDeserializationContext) ctxt).release();
+        }
+    }
     
     //Allows use of the correct classloader (primarily for OSGi), separating framework from application
     //should be safe to use in all contexts
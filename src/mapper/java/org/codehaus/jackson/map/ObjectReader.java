@@ -1,8 +1,12 @@
 package org.codehaus.jackson.map;
 
 import java.io.*;
+import java.lang.ref.SoftReference;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.codehaus.jackson.*;
@@ -14,6 +18,7 @@ import org.codehaus.jackson.node.NullNode;
 import org.codehaus.jackson.node.TreeTraversingParser;
 import org.codehaus.jackson.type.JavaType;
 import org.codehaus.jackson.type.TypeReference;
+import org.codehaus.jackson.util.JsonArrayIndex;
 import org.codehaus.jackson.util.VersionUtil;
 
 /**
@@ -107,6 +112,14 @@ public class ObjectReader
      * @since 1.9
      */
     protected final InjectableValues _injectableValues;
+
+    /**
+     * Per-thread holder of recyclable deserialization context, shared
+     * with the mapper that constructed this reader.
+     * 
+     * @since 1.9.14
+     */
+    protected final ThreadLocal<SoftReference<StdDeserializationContext>> _recycledContexts;
     
     /*
     /**********************************************************
@@ -132,6 +145,7 @@ public class ObjectReader
         _rootDeserializers = mapper._rootDeserializers;
         _provider = mapper._deserializerProvider;
         _jsonFactory = mapper._jsonFactory;
+        _recycledContexts = mapper._recycledContexts;
         _valueType = valueType;
         _valueToUpdate = valueToUpdate;
         if (valueToUpdate != null && valueType.isArrayType()) {
@@ -154,6 +168,7 @@ public class ObjectReader
         _rootDeserializers = base._rootDeserializers;
         _provider = base._provider;
         _jsonFactory = base._jsonFactory;
+        _recycledContexts = base._recycledContexts;
 
         _valueType = valueType;
         _valueToUpdate = valueToUpdate;
@@ -697,6 +712,95 @@ public class ObjectReader
                 _findRootDeserializer(_config, _valueType), true, _valueToUpdate);
     }
     
+    /*
+    /**********************************************************
+    /* Deserialization methods; indexed access to elements
+    /**********************************************************
+     */
+
+    /**
+     * Method for binding a single element of the top-level JSON Array
+     * contained in given file, using given index to locate the element,
+     * so that preceding content need not be read.
+     * 
+     * @param index Index built for the file, using {@link JsonArrayIndex#build}
+     * @param elementIndex Index of element to bind
+     * 
+     * @since 1.9.14
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readElement(File src, JsonArrayIndex index, int elementIndex)
+        throws IOException, JsonProcessingException
+    {
+        InputStream in = index.openElement(src, elementIndex);
+        try {
+            return (T) _bindAndClose(_jsonFactory.createJsonParser(in));
+        } finally { // parser only closes stream if AUTO_CLOSE_SOURCE enabled
+            in.close();
+        }
+    }
+
+    /**
+     * Method for binding a single element of the top-level JSON Array
+     * contained in given buffer (such as {@link java.nio.MappedByteBuffer}),
+     * using given index to locate the element.
+     * Position and limit of the buffer are not modified.
+     * 
+     * @since 1.9.14
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readElement(ByteBuffer src, JsonArrayIndex index, int elementIndex)
+        throws IOException, JsonProcessingException
+    {
+        InputStream in = index.openElement(src, elementIndex);
+        try {
+            return (T) _bindAndClose(_jsonFactory.createJsonParser(in));
+        } finally { // parser only closes stream if AUTO_CLOSE_SOURCE enabled
+            in.close();
+        }
+    }
+
+    /**
+     * Method for binding a range of elements of the top-level JSON Array
+     * contained in given file, using given index to locate the first
+     * element. Note that value to update (if any) is ignored, since
+     * a new value is bound for each element.
+     * 
+     * @param fromIndex Index of the first element to bind (inclusive)
+     * @param toIndex Index after the last element to bind (exclusive)
+     * 
+     * @since 1.9.14
+     */
+    public <T> List<T> readElements(File src, JsonArrayIndex index, int fromIndex, int toIndex)
+        throws IOException, JsonProcessingException
+    {
+        _checkElementRange(index, fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            return new ArrayList<T>();
+        }
+        return _bindElementsAndClose(index.openElement(src, fromIndex), toIndex - fromIndex);
+    }
+
+    /**
+     * Method for binding a range of elements of the top-level JSON Array
+     * contained in given buffer, using given index to locate the first
+     * element.
+     * 
+     * @param fromIndex Index of the first element to bind (inclusive)
+     * @param toIndex Index after the last element to bind (exclusive)
+     * 
+     * @since 1.9.14
+     */
+    public <T> List<T> readElements(ByteBuffer src, JsonArrayIndex index, int fromIndex, int toIndex)
+        throws IOException, JsonProcessingException
+    {
+        _checkElementRange(index, fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            return new ArrayList<T>();
+        }
+        return _bindElementsAndClose(index.openElement(src, fromIndex), toIndex - fromIndex);
+    }
+    
     /*
     /**********************************************************
     /* Helper methods
@@ -712,6 +816,9 @@ public class ObjectReader
         /* First: may need to read the next token, to initialize state (either
          * before first read from parser, or after previous token has been cleared)
          */
+        final MapperInstrumentation instr = _config.getInstrumentation();
+        final boolean timed = instr.isEnabled();
+        final long start = timed ? System.nanoTime() : 0L;
         Object result;
         JsonToken t = _initForReading(jp);
         if (t == JsonToken.VALUE_NULL) {
@@ -724,20 +831,27 @@ public class ObjectReader
             result = _valueToUpdate;
         } else { // pointing to event other than null
             DeserializationContext ctxt = _createDeserializationContext(jp, _config);
-            JsonDeserializer<Object> deser = _findRootDeserializer(_config, _valueType);
-            if (_unwrapRoot) {
-                result = _unwrapAndDeserialize(jp, ctxt, _valueType, deser);
-            } else {
-                if (_valueToUpdate == null) {
-                    result = deser.deserialize(jp, ctxt);
+            try {
+                JsonDeserializer<Object> deser = _findRootDeserializer(_config, _valueType);
+                if (_unwrapRoot) {
+                    result = _unwrapAndDeserialize(jp, ctxt, _valueType, deser);
                 } else {
-                    deser.deserialize(jp, ctxt, _valueToUpdate);
-                    result = _valueToUpdate;
+                    if (_valueToUpdate == null) {
+                        result = deser.deserialize(jp, ctxt);
+                    } else {
+                        deser.deserialize(jp, ctxt, _valueToUpdate);
+                        result = _valueToUpdate;
+                    }
                 }
+            } finally {
+                _releaseDeserializationContext(ctxt);
             }
         }
         // Need to consume the token too
         jp.clearCurrentToken();
+        if (timed) {
+            instr.rootValueRead(_valueType, System.nanoTime() - start);
+        }
         return result;
     }
     
@@ -747,6 +861,9 @@ public class ObjectReader
         if (_schema != null) {
             jp.setSchema(_schema);
         }
+        final MapperInstrumentation instr = _config.getInstrumentation();
+        final boolean timed = instr.isEnabled();
+        final long start = timed ? System.nanoTime() : 0L;
         try {
             Object result;
             JsonToken t = _initForReading(jp);
@@ -760,23 +877,91 @@ public class ObjectReader
                 result = _valueToUpdate;
             } else {
                 DeserializationContext ctxt = _createDeserializationContext(jp, _config);
+                try {
+                    JsonDeserializer<Object> deser = _findRootDeserializer(_config, _valueType);
+                    if (_unwrapRoot) {
+                        result = _unwrapAndDeserialize(jp, ctxt, _valueType, deser);
+                    } else {
+                        if (_valueToUpdate == null) {
+                            result = deser.deserialize(jp, ctxt);
+                        } else {
+                            deser.deserialize(jp, ctxt, _valueToUpdate);
+                            result = _valueToUpdate;                    
+                        }
+                    }
+                } finally {
+                    _releaseDeserializationContext(ctxt);
+                }
+            }
+            if (timed) {
+                instr.rootValueRead(_valueType, System.nanoTime() - start);
+                ObjectMapper._reportContentRead(instr, jp);
+            }
+            return result;
+        } finally {
+            try {
+                jp.close();
+            } catch (IOException ioe) { }
+        }
+    }
+
+    /**
+     * Helper method for binding given number of consecutive elements of
+     * a JSON Array, starting from the element given stream is positioned at.
+     * Elements are read as contents of a JSON Array (by prepending an
+     * opening bracket), so that separating commas are handled by parser.
+     * 
+     * @since 1.9.14
+     */
+    protected <T> List<T> _bindElementsAndClose(InputStream in, int count)
+        throws IOException, JsonParseException, JsonMappingException
+    {
+        InputStream arrayIn = new SequenceInputStream(new ByteArrayInputStream(new byte[] { '[' }), in);
+        JsonParser jp = _jsonFactory.createJsonParser(arrayIn);
+        if (_schema != null) {
+            jp.setSchema(_schema);
+        }
+        try {
+            jp.nextToken(); // START_ARRAY we added
+            ArrayList<T> result = new ArrayList<T>(count);
+            DeserializationContext ctxt = _createDeserializationContext(jp, _config);
+            try {
                 JsonDeserializer<Object> deser = _findRootDeserializer(_config, _valueType);
-                if (_unwrapRoot) {
-                    result = _unwrapAndDeserialize(jp, ctxt, _valueType, deser);
-                } else {
-                    if (_valueToUpdate == null) {
-                        result = deser.deserialize(jp, ctxt);
+                for (int i = 0; i < count; ++i) {
+                    JsonToken t = jp.nextToken();
+                    if (t == null || t == JsonToken.END_ARRAY) {
+                        throw JsonMappingException.from(jp, "Unexpected end of JSON Array: expected "
+                                +count+" elements, found "+i);
+                    }
+                    Object value;
+                    if (t == JsonToken.VALUE_NULL) {
+                        value = deser.getNullValue();
+                    } else if (_unwrapRoot) {
+                        value = _unwrapAndDeserialize(jp, ctxt, _valueType, deser);
                     } else {
-                        deser.deserialize(jp, ctxt, _valueToUpdate);
-                        result = _valueToUpdate;                    
+                        value = deser.deserialize(jp, ctxt);
                     }
+                    @SuppressWarnings("unchecked")
+                    T typed = (T) value;
+                    result.add(typed);
                 }
+            } finally {
+                _releaseDeserializationContext(ctxt);
             }
             return result;
         } finally {
             try {
                 jp.close();
             } catch (IOException ioe) { }
+            in.close();
+        }
+    }
+
+    protected static void _checkElementRange(JsonArrayIndex index, int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > index.size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid element range ["+fromIndex+", "+toIndex
+                    +"); index has "+index.size()+" elements");
         }
     }
 
@@ -789,11 +974,15 @@ public class ObjectReader
             result = NullNode.instance;
         } else {
             DeserializationContext ctxt = _createDeserializationContext(jp, _config);
-            JsonDeserializer<Object> deser = _findRootDeserializer(_config, JSON_NODE_TYPE);
-            if (_unwrapRoot) {
-                result = (JsonNode) _unwrapAndDeserialize(jp, ctxt, JSON_NODE_TYPE, deser);
-            } else {
-                result = (JsonNode) deser.deserialize(jp, ctxt);
+            try {
+                JsonDeserializer<Object> deser = _findRootDeserializer(_config, JSON_NODE_TYPE);
+                if (_unwrapRoot) {
+                    result = (JsonNode) _unwrapAndDeserialize(jp, ctxt, JSON_NODE_TYPE, deser);
+                } else {
+                    result = (JsonNode) deser.deserialize(jp, ctxt);
+                }
+            } finally {
+                _releaseDeserializationContext(ctxt);
             }
         }
         // Need to consume the token too
@@ -861,7 +1050,21 @@ public class ObjectReader
     
     protected DeserializationContext _createDeserializationContext(JsonParser jp, DeserializationConfig cfg) {
         // 04-Jan-2010, tatu: we do actually need the provider too... (for polymorphic deser)
-        return new StdDeserializationContext(cfg, jp, _provider, _injectableValues);
+        // [1.9.14]: contexts are recycled, for single-value reads
+        return StdDeserializationContext.leaseInstance(_recycledContexts, cfg, jp, _provider, _injectableValues);
+    }
+
+    /**
+     * Method called once given context is no longer used, to allow
+     * it to be reused.
+     * 
+     * @since 1.9.14
+     */
+    protected void _releaseDeserializationContext(DeserializationContext ctxt)
+    {
+        if (ctxt instanceof StdDeserializationContext) {
+            ((StdDeserializationContext) ctxt).release();
+        }
     }
 
     protected Object _unwrapAndDeserialize(JsonParser jp, DeserializationContext ctxt,
@@ -391,7 +391,12 @@ public class ObjectWriter
         // alas, we have to pull the recycler directly here...
         SegmentedStringWriter sw = new SegmentedStringWriter(_jsonFactory._getBufferRecycler());
         _configAndWriteValue(_jsonFactory.createJsonGenerator(sw), value);
-        return sw.getAndClear();
+        String result = sw.getAndClear();
+        MapperInstrumentation instr = _config.getInstrumentation();
+        if (instr.isEnabled()) {
+            instr.contentWritten(result.length());
+        }
+        return result;
     }
     
     /**
@@ -408,6 +413,10 @@ public class ObjectWriter
         _configAndWriteValue(_jsonFactory.createJsonGenerator(bb, JsonEncoding.UTF8), value);
         byte[] result = bb.toByteArray();
         bb.release();
+        MapperInstrumentation instr = _config.getInstrumentation();
+        if (instr.isEnabled()) {
+            instr.contentWritten(result.length);
+        }
         return result;
     }
 
@@ -0,0 +1,109 @@
+package org.codehaus.jackson.map;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.codehaus.jackson.type.JavaType;
+
+/**
+ * Result object returned by {@link ObjectMapper#preload}, which indicates
+ * for which types serializers and deserializers were successfully
+ * constructed and cached, which failed, and which referenced types
+ * could not be preloaded since their serializers (or deserializers) will
+ * only be located dynamically, based on actual runtime type.
+ *<p>
+ * Instances are thread-safe, since they are populated concurrently
+ * by preload tasks.
+ *
+ * @since 1.9.14
+ */
+public class PreloadResult
+{
+    protected final Map<JavaType,Boolean> _preloaded = new ConcurrentHashMap<JavaType,Boolean>();
+
+    protected final Map<JavaType,Throwable> _serializationFailures = new ConcurrentHashMap<JavaType,Throwable>();
+
+    protected final Map<JavaType,Throwable> _deserializationFailures = new ConcurrentHashMap<JavaType,Throwable>();
+
+    protected final Map<JavaType,Boolean> _dynamic = new ConcurrentHashMap<JavaType,Boolean>();
+
+    public PreloadResult() { }
+
+    /*
+    /**********************************************************
+    /* Accessors
+    /**********************************************************
+     */
+
+    /**
+     * @return All types (including ones found transitively, via
+     *   bean properties) for which both serializer and deserializer
+     *   were successfully constructed and cached
+     */
+    public Set<JavaType> getPreloaded() {
+        return Collections.unmodifiableSet(_preloaded.keySet());
+    }
+
+    /**
+     * @return Types for which serializer construction failed, along
+     *   with exception thrown
+     */
+    public Map<JavaType,Throwable> getSerializationFailures() {
+        return Collections.unmodifiableMap(_serializationFailures);
+    }
+
+    /**
+     * @return Types for which deserializer construction failed, along
+     *   with exception thrown
+     */
+    public Map<JavaType,Throwable> getDeserializationFailures() {
+        return Collections.unmodifiableMap(_deserializationFailures);
+    }
+
+    /**
+     * @return Declared property types (abstract types, interfaces,
+     *   <code>java.lang.Object</code>) that could not be preloaded, since
+     *   (de)serializers for them will be located dynamically
+     */
+    public Set<JavaType> getDynamic() {
+        return Collections.unmodifiableSet(_dynamic.keySet());
+    }
+
+    /**
+     * @return True if no failures were encountered
+     */
+    public boolean isSuccessful() {
+        return _serializationFailures.isEmpty() && _deserializationFailures.isEmpty();
+    }
+
+    /*
+    /**********************************************************
+    /* Mutators, used by ObjectMapper
+    /**********************************************************
+     */
+
+    protected void addPreloaded(JavaType type) {
+        _preloaded.put(type, Boolean.TRUE);
+    }
+
+    protected void addSerializationFailure(JavaType type, Throwable t) {
+        _serializationFailures.put(type, t);
+    }
+
+    protected void addDeserializationFailure(JavaType type, Throwable t) {
+        _deserializationFailures.put(type, t);
+    }
+
+    protected void addDynamic(JavaType type) {
+        _dynamic.put(type, Boolean.TRUE);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "[PreloadResult: preloaded "+_preloaded.size()
+            +", serialization failures "+_serializationFailures.size()
+            +", deserialization failures "+_deserializationFailures.size()
+            +", dynamic "+_dynamic.size()+"]";
+    }
+}
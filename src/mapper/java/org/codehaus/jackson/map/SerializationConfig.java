@@ -652,6 +652,11 @@ public class SerializationConfig
     public SerializationConfig withHandlerInstantiator(HandlerInstantiator hi) {
         return new SerializationConfig(this, _base.withHandlerInstantiator(hi));
     }
+
+    @Override
+    public SerializationConfig withInstrumentation(MapperInstrumentation instr) {
+        return new SerializationConfig(this, _base.withInstrumentation(instr));
+    }
         
     /*
     /**********************************************************
@@ -755,6 +760,7 @@ public class SerializationConfig
         AnnotatedClass ac = AnnotatedClass.construct(cls, ai, null);
         _base = _base.withVisibilityChecker(ai.findAutoDetectVisibility(ac,
                 getDefaultVisibilityChecker()));
+        ++_modCount;
 
         // How about writing null property values?
         JsonSerialize.Inclusion incl = ai.findSerializationInclusion(ac, null);
@@ -938,6 +944,7 @@ public class SerializationConfig
     public void setSerializationInclusion(JsonSerialize.Inclusion props)
     {
         _serializationInclusion = props;
+        ++_modCount;
         // And for some level of backwards compatibility, also...
         if (props == JsonSerialize.Inclusion.NON_NULL) {
             disable(Feature.WRITE_NULL_PROPERTIES);
@@ -1024,6 +1031,7 @@ public class SerializationConfig
     public void setSerializationView(Class<?> view)
     {
         _serializationView = view;
+        ++_modCount;
     }
     
     /*
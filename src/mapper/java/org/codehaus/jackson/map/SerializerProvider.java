@@ -130,6 +130,43 @@ public abstract class SerializerProvider
     public abstract boolean hasSerializerFor(SerializationConfig cfg,
             Class<?> cls, SerializerFactory jsf);
 
+    /**
+     * Method called by {@link ObjectMapper#preload} to construct (and cache)
+     * serializer that would be used for root values of given type, ahead of
+     * actual serialization.
+     *<p>
+     * Default implementation does nothing, and returns null to indicate
+     * that preloading is not supported; sub-classes should override.
+     *
+     * @return Serializer constructed, if preloading is supported; null if not
+     *
+     * @since 1.9.14
+     */
+    public JsonSerializer<Object> preloadSerializer(SerializationConfig cfg,
+            JavaType type, SerializerFactory jsf)
+        throws JsonMappingException
+    {
+        return null;
+    }
+
+    /**
+     * Method called by {@link ObjectMapper#convertValue} to get a non-blueprint
+     * provider instance for accessing serializers (and their property writers)
+     * directly, without calling {@link #serializeValue}.
+     *<p>
+     * Default implementation returns null to indicate that this is not
+     * supported; sub-classes should override.
+     *
+     * @return Provider instance to use, if supported; null if not
+     *
+     * @since 1.9.14
+     */
+    public SerializerProvider instanceForConversion(SerializationConfig cfg,
+            SerializerFactory jsf)
+    {
+        return null;
+    }
+
     /*
     /**********************************************************
     /* Access to configuration
@@ -66,6 +66,29 @@ public interface Serializers
             JsonSerializer<Object> keySerializer,
             TypeSerializer elementTypeSerializer, JsonSerializer<Object> elementValueSerializer);
 
+    /**
+     * Optional extension that {@link Serializers} implementations can implement
+     * if they register serializers for exact (non-container) classes, and do not need
+     * information about bean properties to locate one. If so, serializer factories
+     * will call {@link #findDirectSerializer} before introspecting the type, to avoid
+     * the cost of introspection for types which do not need it.
+     *<p>
+     * Note that this also means that serializers returned have precedence over
+     * class annotations (like <code>@JsonSerialize(using=...)</code>).
+     *
+     * @since 1.9.14
+     */
+    public interface Direct extends Serializers
+    {
+        /**
+         * @param type Class of values to serialize
+         * 
+         * @return Serializer to use for values of exactly given class, if any;
+         *    null if none
+         */
+        public JsonSerializer<?> findDirectSerializer(SerializationConfig config, Class<?> type);
+    }
+
     /**
      * Basic {@link Serializers} implementation that implements all methods but provides
      * no serializers. Its main purpose is to serve as a base class so that
@@ -0,0 +1,261 @@
+package org.codehaus.jackson.map.codegen;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.codehaus.jackson.Version;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.type.ClassKey;
+import org.codehaus.jackson.map.util.ClassUtil;
+import org.codehaus.jackson.type.JavaType;
+
+/**
+ * Base class for modules generated by {@link SourceGenerator}: registers
+ * serializers and deserializers for exact classes (not sub-classes),
+ * in a way that allows factories to locate them without introspecting
+ * types (see {@link Serializers.Direct}, {@link Deserializers.Direct}).
+ *<p>
+ * Since generated code reflects configuration of the mapper it was
+ * generated with (property inclusion, naming and ordering, annotation
+ * handling, mix-ins), generated (de)serializers record a signature of
+ * that configuration (see {@link #serializationSignature} and
+ * {@link #deserializationSignature}); they are only used if configuration
+ * of the mapper that the module is registered with has the same signature, and
+ * regular bean (de)serializers are used otherwise.
+ *
+ * @since 1.9.14
+ */
+public class CodegenModule extends Module
+{
+    protected final String _name;
+
+    protected final Version _version;
+
+    protected final DirectSerializers _serializers = new DirectSerializers();
+
+    protected final DirectDeserializers _deserializers = new DirectDeserializers();
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    public CodegenModule(String name) {
+        this(name, Version.unknownVersion());
+    }
+
+    public CodegenModule(String name, Version version)
+    {
+        _name = name;
+        _version = version;
+    }
+
+    public <T> CodegenModule addSerializer(Class<T> type, JsonSerializer<T> ser)
+    {
+        _serializers.add(type, ser);
+        return this;
+    }
+
+    public <T> CodegenModule addDeserializer(Class<T> type, JsonDeserializer<? extends T> deser)
+    {
+        _deserializers.add(type, deser);
+        return this;
+    }
+
+    /*
+    /**********************************************************
+    /* Module impl
+    /**********************************************************
+     */
+
+    @Override
+    public String getModuleName() { return _name; }
+
+    @Override
+    public Version version() { return _version; }
+
+    @Override
+    public void setupModule(SetupContext context)
+    {
+        if (!_serializers.isEmpty()) {
+            context.addSerializers(_serializers);
+        }
+        if (!_deserializers.isEmpty()) {
+            context.addDeserializers(_deserializers);
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Configuration signatures
+    /**********************************************************
+     */
+
+    /**
+     * Method for constructing description of all serialization settings
+     * that affect code generated for serializing given type; if two
+     * configurations have the same signature, generated serializer
+     * produces same output as regular bean serializer would.
+     */
+    public static String serializationSignature(SerializationConfig config, Class<?> type)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("inclusion=").append(config.getSerializationInclusion());
+        _appendFeatures(sb, config, new SerializationConfig.Feature[] {
+                SerializationConfig.Feature.USE_ANNOTATIONS,
+                SerializationConfig.Feature.REQUIRE_SETTERS_FOR_GETTERS,
+                SerializationConfig.Feature.USE_STATIC_TYPING,
+                SerializationConfig.Feature.DEFAULT_VIEW_INCLUSION,
+                SerializationConfig.Feature.SORT_PROPERTIES_ALPHABETICALLY
+        });
+        _appendCommon(sb, config, type);
+        return sb.toString();
+    }
+
+    /**
+     * Method for constructing description of all deserialization settings
+     * that affect code generated for deserializing given type.
+     */
+    public static String deserializationSignature(DeserializationConfig config, Class<?> type)
+    {
+        StringBuilder sb = new StringBuilder();
+        _appendFeatures(sb, config, new DeserializationConfig.Feature[] {
+                DeserializationConfig.Feature.USE_ANNOTATIONS,
+                DeserializationConfig.Feature.AUTO_DETECT_CREATORS,
+                DeserializationConfig.Feature.USE_GETTERS_AS_SETTERS
+        });
+        _appendCommon(sb, config, type);
+        return sb.toString();
+    }
+
+    private static void _appendFeatures(StringBuilder sb, MapperConfig<?> config,
+            MapperConfig.ConfigFeature[] features)
+    {
+        if (sb.length() > 0) {
+            sb.append(';');
+        }
+        sb.append("features=");
+        for (MapperConfig.ConfigFeature f : features) {
+            sb.append(config.isEnabled(f) ? '1' : '0');
+        }
+    }
+
+    private static void _appendCommon(StringBuilder sb, MapperConfig<?> config, Class<?> type)
+    {
+        PropertyNamingStrategy naming = config.getPropertyNamingStrategy();
+        sb.append(";naming=").append((naming == null) ? "" : naming.getClass().getName());
+        sb.append(";introspectors=");
+        for (AnnotationIntrospector ai : config.getAnnotationIntrospector().allIntrospectors()) {
+            sb.append(ai.getClass().getName()).append(',');
+        }
+        // visibility checker also reflects "auto-detect" features
+        sb.append(";visibility=").append(config.getDefaultVisibilityChecker());
+        sb.append(";mixins=");
+        if (config.mixInCount() > 0) {
+            List<Class<?>> types = new ArrayList<Class<?>>();
+            types.add(type);
+            ClassUtil.findSuperTypes(type, null, types);
+            types.add(Object.class);
+            for (Class<?> cls : types) {
+                Class<?> mixin = config.findMixInClassFor(cls);
+                if (mixin != null) {
+                    sb.append(cls.getName()).append('=').append(mixin.getName()).append(',');
+                }
+            }
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Helper classes
+    /**********************************************************
+     */
+
+    /**
+     * {@link Serializers} implementation that only matches exact classes,
+     * since generated serializers can not handle properties sub-classes
+     * may add; and only returns generated serializers if configuration
+     * matches the one they were generated for.
+     */
+    public static class DirectSerializers
+        extends Serializers.Base
+        implements Serializers.Direct
+    {
+        protected final HashMap<ClassKey,JsonSerializer<?>> _classMappings = new HashMap<ClassKey,JsonSerializer<?>>();
+
+        public void add(Class<?> type, JsonSerializer<?> ser) {
+            _classMappings.put(new ClassKey(type), ser);
+        }
+
+        public boolean isEmpty() {
+            return _classMappings.isEmpty();
+        }
+
+        //@Override
+        public JsonSerializer<?> findDirectSerializer(SerializationConfig config, Class<?> type) {
+            return _find(config, type);
+        }
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config,
+                JavaType type, BeanDescription beanDesc, BeanProperty property)
+        {
+            return _find(config, type.getRawClass());
+        }
+
+        protected JsonSerializer<?> _find(SerializationConfig config, Class<?> type)
+        {
+            JsonSerializer<?> ser = _classMappings.get(new ClassKey(type));
+            if (ser instanceof GeneratedBeanSerializer<?>
+                    && !((GeneratedBeanSerializer<?>) ser).isCompatibleWith(config)) {
+                return null;
+            }
+            return ser;
+        }
+    }
+
+    /**
+     * {@link Deserializers} implementation that only matches exact classes,
+     * and only returns generated deserializers if configuration matches
+     * the one they were generated for.
+     */
+    public static class DirectDeserializers
+        extends Deserializers.Base
+        implements Deserializers.Direct
+    {
+        protected final HashMap<ClassKey,JsonDeserializer<?>> _classMappings = new HashMap<ClassKey,JsonDeserializer<?>>();
+
+        public void add(Class<?> type, JsonDeserializer<?> deser) {
+            _classMappings.put(new ClassKey(type), deser);
+        }
+
+        public boolean isEmpty() {
+            return _classMappings.isEmpty();
+        }
+
+        //@Override
+        public JsonDeserializer<?> findDirectDeserializer(DeserializationConfig config, Class<?> type) {
+            return _find(config, type);
+        }
+
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config,
+                DeserializerProvider provider, BeanDescription beanDesc, BeanProperty property)
+            throws JsonMappingException
+        {
+            return _find(config, type.getRawClass());
+        }
+
+        protected JsonDeserializer<?> _find(DeserializationConfig config, Class<?> type)
+        {
+            JsonDeserializer<?> deser = _classMappings.get(new ClassKey(type));
+            if (deser instanceof GeneratedBeanDeserializer<?>
+                    && !((GeneratedBeanDeserializer<?>) deser).isCompatibleWith(config)) {
+                return null;
+            }
+            return deser;
+        }
+    }
+}
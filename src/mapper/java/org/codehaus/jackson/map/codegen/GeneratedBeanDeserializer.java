@@ -0,0 +1,258 @@
+package org.codehaus.jackson.map.codegen;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashSet;
+
+import org.codehaus.jackson.*;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.annotate.JsonCachable;
+import org.codehaus.jackson.map.deser.std.StdDeserializer;
+import org.codehaus.jackson.map.util.ArrayBuilders;
+
+/**
+ * Base class for bean deserializers generated by {@link SourceGenerator}.
+ * Sub-classes need to implement {@link #createInstance} and
+ * {@link #deserializeProperty}, using helper methods this class provides
+ * for reading property values.
+ *
+ * @since 1.9.14
+ */
+@JsonCachable
+public abstract class GeneratedBeanDeserializer<T>
+    extends StdDeserializer<T>
+    implements ResolvableDeserializer
+{
+    /**
+     * Names of properties that are to be skipped, if any
+     */
+    protected final HashSet<String> _ignorableProps;
+
+    /**
+     * Whether all unknown properties are to be skipped
+     */
+    protected final boolean _ignoreAllUnknown;
+
+    /**
+     * Signature of deserialization configuration this deserializer was
+     * generated for (see {@link CodegenModule#deserializationSignature})
+     */
+    protected final String _configSignature;
+
+    protected GeneratedBeanDeserializer(Class<T> type, String[] ignorable, boolean ignoreAllUnknown,
+            String configSignature)
+    {
+        super(type);
+        _ignorableProps = (ignorable == null || ignorable.length == 0) ? null
+                : ArrayBuilders.arrayToSet(ignorable);
+        _ignoreAllUnknown = ignoreAllUnknown;
+        _configSignature = configSignature;
+    }
+
+    /**
+     * Method for checking whether this deserializer handles properties
+     * the same way as regular bean deserializer would, with given configuration.
+     */
+    public boolean isCompatibleWith(DeserializationConfig config) {
+        return _configSignature.equals(CodegenModule.deserializationSignature(config, _valueClass));
+    }
+
+    /**
+     * Default implementation does nothing; overridden by sub-classes
+     * that need to locate deserializers for property values.
+     */
+    //@Override
+    public void resolve(DeserializationConfig config, DeserializerProvider provider)
+        throws JsonMappingException
+    { }
+
+    /*
+    /**********************************************************
+    /* Abstract methods for sub-classes
+    /**********************************************************
+     */
+
+    /**
+     * Method implemented by generated sub-classes to construct bean
+     * instance using default constructor.
+     */
+    protected abstract T createInstance();
+
+    /**
+     * Method implemented by generated sub-classes to deserialize
+     * value of given property (parser pointing to the first token of value),
+     * and assign it to bean.
+     *
+     * @return True if property was recognized; false if not
+     */
+    protected abstract boolean deserializeProperty(JsonParser jp, DeserializationContext ctxt,
+            T bean, String propName)
+        throws IOException, JsonProcessingException;
+
+    /*
+    /**********************************************************
+    /* JsonDeserializer impl
+    /**********************************************************
+     */
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final T deserialize(JsonParser jp, DeserializationContext ctxt)
+        throws IOException, JsonProcessingException
+    {
+        JsonToken t = jp.getCurrentToken();
+        if (t == JsonToken.START_OBJECT) {
+            jp.nextToken();
+        } else if (t == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return (T) jp.getEmbeddedObject();
+        } else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {
+            throw ctxt.mappingException(_valueClass);
+        }
+        return deserialize(jp, ctxt, createInstance());
+    }
+
+    @Override
+    public T deserialize(JsonParser jp, DeserializationContext ctxt, T bean)
+        throws IOException, JsonProcessingException
+    {
+        JsonToken t = jp.getCurrentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = jp.nextToken();
+        }
+        for (; t == JsonToken.FIELD_NAME; t = jp.nextToken()) {
+            String propName = jp.getCurrentName();
+            // Skip field name:
+            jp.nextToken();
+            boolean found = false;
+            try {
+                found = deserializeProperty(jp, ctxt, bean, propName);
+            } catch (Exception e) {
+                wrapAndThrow(e, bean, propName, ctxt);
+            }
+            if (!found) {
+                if (_ignoreAllUnknown || (_ignorableProps != null && _ignorableProps.contains(propName))) {
+                    jp.skipChildren();
+                } else {
+                    handleUnknownProperty(jp, ctxt, bean, propName);
+                }
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser jp, DeserializationContext ctxt,
+            TypeDeserializer typeDeserializer)
+        throws IOException, JsonProcessingException
+    {
+        return typeDeserializer.deserializeTypedFromObject(jp, ctxt);
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods for sub-classes
+    /**********************************************************
+     */
+
+    protected final Object _value(JsonParser jp, DeserializationContext ctxt,
+            JsonDeserializer<Object> deser)
+        throws IOException, JsonProcessingException
+    {
+        if (jp.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return deser.getNullValue();
+        }
+        return deser.deserialize(jp, ctxt);
+    }
+
+    /**
+     * Helper method for reading values of primitive-typed properties that
+     * do not use one of specialized accessors ({@link #_intValue} and so on).
+     */
+    protected final Object _primitiveValue(JsonParser jp, DeserializationContext ctxt,
+            JsonDeserializer<Object> deser, Class<?> primitiveType)
+        throws IOException, JsonProcessingException
+    {
+        if (jp.getCurrentToken() == JsonToken.VALUE_NULL) {
+            _checkNullForPrimitive(ctxt, primitiveType);
+            return deser.getNullValue();
+        }
+        return deser.deserialize(jp, ctxt);
+    }
+
+    protected final boolean _booleanValue(JsonParser jp, DeserializationContext ctxt)
+        throws IOException, JsonProcessingException
+    {
+        if (jp.getCurrentToken() == JsonToken.VALUE_NULL) {
+            _checkNullForPrimitive(ctxt, Boolean.TYPE);
+            return false;
+        }
+        return _parseBooleanPrimitive(jp, ctxt);
+    }
+
+    protected final int _intValue(JsonParser jp, DeserializationContext ctxt)
+        throws IOException, JsonProcessingException
+    {
+        if (jp.getCurrentToken() == JsonToken.VALUE_NULL) {
+            _checkNullForPrimitive(ctxt, Integer.TYPE);
+            return 0;
+        }
+        return _parseIntPrimitive(jp, ctxt);
+    }
+
+    protected final long _longValue(JsonParser jp, DeserializationContext ctxt)
+        throws IOException, JsonProcessingException
+    {
+        if (jp.getCurrentToken() == JsonToken.VALUE_NULL) {
+            _checkNullForPrimitive(ctxt, Long.TYPE);
+            return 0L;
+        }
+        return _parseLongPrimitive(jp, ctxt);
+    }
+
+    protected final double _doubleValue(JsonParser jp, DeserializationContext ctxt)
+        throws IOException, JsonProcessingException
+    {
+        if (jp.getCurrentToken() == JsonToken.VALUE_NULL) {
+            _checkNullForPrimitive(ctxt, Double.TYPE);
+            return 0.0;
+        }
+        return _parseDoublePrimitive(jp, ctxt);
+    }
+
+    protected final void _checkNullForPrimitive(DeserializationContext ctxt, Class<?> type)
+        throws JsonMappingException
+    {
+        if (ctxt.isEnabled(DeserializationConfig.Feature.FAIL_ON_NULL_FOR_PRIMITIVES)) {
+            throw ctxt.mappingException("Can not map JSON null into type "+type.getName()
+                    +" (set DeserializationConfig.Feature.FAIL_ON_NULL_FOR_PRIMITIVES to 'false' to allow)");
+        }
+    }
+
+    /**
+     * Method that takes in exception of any type, and casts or wraps it
+     * to an IOException or its subclass; same as what
+     * {@link org.codehaus.jackson.map.deser.BeanDeserializer} does.
+     */
+    protected void wrapAndThrow(Throwable t, Object bean, String fieldName, DeserializationContext ctxt)
+        throws IOException
+    {
+        while (t instanceof InvocationTargetException && t.getCause() != null) {
+            t = t.getCause();
+        }
+        // Errors and "plain" IOExceptions to be passed as is
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        boolean wrap = (ctxt == null) || ctxt.isEnabled(DeserializationConfig.Feature.WRAP_EXCEPTIONS);
+        if (t instanceof IOException) {
+            if (!wrap || !(t instanceof JsonMappingException)) {
+                throw (IOException) t;
+            }
+        } else if (!wrap) {
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+        }
+        throw JsonMappingException.wrapWithPath(t, bean, fieldName);
+    }
+}
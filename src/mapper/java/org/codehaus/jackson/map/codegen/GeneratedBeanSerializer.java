@@ -0,0 +1,137 @@
+package org.codehaus.jackson.map.codegen;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.codehaus.jackson.*;
+import org.codehaus.jackson.io.SerializedString;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.ser.std.SerializerBase;
+import org.codehaus.jackson.type.JavaType;
+
+/**
+ * Base class for bean serializers generated by {@link SourceGenerator}.
+ * Sub-classes only need to implement {@link #serializeFields}, using
+ * helper methods this class provides for writing properties.
+ *
+ * @since 1.9.14
+ */
+public abstract class GeneratedBeanSerializer<T>
+    extends SerializerBase<T>
+    implements ResolvableSerializer
+{
+    /**
+     * Signature of serialization configuration this serializer was
+     * generated for (see {@link CodegenModule#serializationSignature})
+     */
+    protected final String _configSignature;
+
+    protected GeneratedBeanSerializer(Class<T> type, String configSignature) {
+        super(type);
+        _configSignature = configSignature;
+    }
+
+    /**
+     * Method for checking whether this serializer produces the same output
+     * as regular bean serializer would, with given configuration.
+     */
+    public boolean isCompatibleWith(SerializationConfig config) {
+        return _configSignature.equals(CodegenModule.serializationSignature(config, handledType()));
+    }
+
+    /**
+     * Default implementation does nothing; overridden by sub-classes
+     * that need to resolve property types.
+     */
+    //@Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException { }
+
+    /*
+    /**********************************************************
+    /* JsonSerializer impl
+    /**********************************************************
+     */
+
+    @Override
+    public final void serialize(T bean, JsonGenerator jgen, SerializerProvider provider)
+        throws IOException, JsonGenerationException
+    {
+        jgen.writeStartObject();
+        serializeFields(bean, jgen, provider);
+        jgen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(T bean, JsonGenerator jgen, SerializerProvider provider,
+            TypeSerializer typeSer)
+        throws IOException, JsonGenerationException
+    {
+        typeSer.writeTypePrefixForObject(bean, jgen);
+        serializeFields(bean, jgen, provider);
+        typeSer.writeTypeSuffixForObject(bean, jgen);
+    }
+
+    @Override
+    public JsonNode getSchema(SerializerProvider provider, Type typeHint) {
+        return createSchemaNode("object", true);
+    }
+
+    /**
+     * Method implemented by generated sub-classes to write all properties
+     * of given bean, in order.
+     */
+    protected abstract void serializeFields(T bean, JsonGenerator jgen, SerializerProvider provider)
+        throws IOException, JsonGenerationException;
+
+    /*
+    /**********************************************************
+    /* Helper methods for sub-classes
+    /**********************************************************
+     */
+
+    protected final void _writeString(JsonGenerator jgen, SerializerProvider provider,
+            SerializedString name, String value, boolean suppressNulls)
+        throws IOException, JsonGenerationException
+    {
+        if (value == null) {
+            if (!suppressNulls) {
+                jgen.writeFieldName(name);
+                provider.defaultSerializeNull(jgen);
+            }
+            return;
+        }
+        jgen.writeFieldName(name);
+        jgen.writeString(value);
+    }
+
+    /**
+     * Helper method for writing property values for which serializer is
+     * to be located dynamically, based on runtime type of value.
+     *
+     * @param baseType Declared type of property, if it is generic (to allow
+     *    specializing it for runtime type); null if not
+     */
+    protected final void _writeValue(Object bean, JsonGenerator jgen, SerializerProvider provider,
+            SerializedString name, Object value, JavaType baseType, boolean suppressNulls)
+        throws IOException, JsonGenerationException
+    {
+        if (value == null) {
+            if (!suppressNulls) {
+                jgen.writeFieldName(name);
+                provider.defaultSerializeNull(jgen);
+            }
+            return;
+        }
+        if (value == bean) {
+            throw new JsonMappingException("Direct self-reference leading to cycle");
+        }
+        JsonSerializer<Object> ser;
+        if (baseType == null) {
+            ser = provider.findValueSerializer(value.getClass(), null);
+        } else {
+            ser = provider.findValueSerializer(provider.constructSpecializedType(baseType, value.getClass()), null);
+        }
+        jgen.writeFieldName(name);
+        ser.serialize(value, jgen, provider);
+    }
+}
@@ -0,0 +1,876 @@
+package org.codehaus.jackson.map.codegen;
+
+import java.io.*;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.Callable;
+
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.annotate.JsonDeserialize;
+import org.codehaus.jackson.map.annotate.JsonSerialize;
+import org.codehaus.jackson.map.annotate.NoClass;
+import org.codehaus.jackson.map.deser.*;
+import org.codehaus.jackson.map.deser.std.StdValueInstantiator;
+import org.codehaus.jackson.map.introspect.AnnotatedField;
+import org.codehaus.jackson.map.introspect.AnnotatedMember;
+import org.codehaus.jackson.map.introspect.AnnotatedMethod;
+import org.codehaus.jackson.map.introspect.AnnotatedWithParams;
+import org.codehaus.jackson.map.introspect.BasicBeanDescription;
+import org.codehaus.jackson.map.ser.*;
+import org.codehaus.jackson.type.JavaType;
+
+/**
+ * Build-time tool for generating Java source code for serializers and
+ * deserializers of simple bean types, as well as a {@link CodegenModule}
+ * that registers them. Generated (de)serializers are located without
+ * introspecting bean classes, and access properties directly instead of
+ * using reflection, which reduces both start-up and per-call overhead.
+ *<p>
+ * Generator uses the actual serializer and deserializer factories of given
+ * {@link ObjectMapper} to find out properties (and their names, ordering and
+ * inclusion rules), so output is consistent with what mapper would produce;
+ * but only a conservative subset of features is supported. Types (or
+ * directions) that use unsupported features (polymorphic handling,
+ * creators, views, filters, custom property (de)serializers, any-setters,
+ * non-public accessors and so on) are skipped, and reasons for skipping
+ * are available via {@link #getSkipped}: they will simply be handled using
+ * regular bean (de)serializers.
+ *<p>
+ * Generator can be used from build tools with {@link #main}; for example,
+ * from Ant using:
+ *<pre>
+ *  &lt;java classname="org.codehaus.jackson.map.codegen.SourceGenerator"
+ *     classpath="..." fork="true" failonerror="true">
+ *    &lt;arg line="-d build/generated -p com.foo.json -m FooJsonModule com.foo.Bean1 com.foo.Bean2" />
+ *  &lt;/java>
+ *</pre>
+ * after which generated sources are compiled along with other code, and
+ * generated module registered with {@link ObjectMapper#registerModule}.
+ * Note that generated code must be regenerated when bean classes change;
+ * and that generated (de)serializers are only used with mappers that are
+ * configured the same way as the mapper used for generation (see
+ * {@link CodegenModule}; and <code>-c</code> option of {@link #main}).
+ *
+ * @since 1.9.14
+ */
+public class SourceGenerator
+{
+    public final static String DEFAULT_MODULE_NAME = "GeneratedJsonModule";
+
+    protected final static String SERIALIZER_SUFFIX = "_JsonSerializer";
+
+    protected final static String DESERIALIZER_SUFFIX = "_JsonDeserializer";
+
+    protected final ObjectMapper _mapper;
+
+    protected final String _packageName;
+
+    protected final String _moduleName;
+
+    /**
+     * Reasons for skipping generation for types (or one of directions),
+     * from the latest call to {@link #generate}
+     */
+    protected final LinkedHashMap<Class<?>,String> _skipped = new LinkedHashMap<Class<?>,String>();
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    /**
+     * @param mapper Mapper whose configuration (registered modules, annotation
+     *   introspector, features) is used for determining properties
+     * @param packageName Name of the package for generated classes
+     * @param moduleName Simple name of the generated module class; if null,
+     *   {@link #DEFAULT_MODULE_NAME} is used
+     */
+    public SourceGenerator(ObjectMapper mapper, String packageName, String moduleName)
+    {
+        _mapper = mapper;
+        _packageName = (packageName == null) ? "" : packageName;
+        _moduleName = (moduleName == null) ? DEFAULT_MODULE_NAME : moduleName;
+    }
+
+    /*
+    /**********************************************************
+    /* Public API
+    /**********************************************************
+     */
+
+    /**
+     * Accessor for finding out which types could not be (fully) handled
+     * by the latest call to {@link #generate}, and why. Note that types may
+     * be included even if code was generated for one direction (serialization
+     * or deserialization), but not the other.
+     */
+    public Map<Class<?>,String> getSkipped() {
+        return Collections.unmodifiableMap(_skipped);
+    }
+
+    /**
+     * Method for generating sources for given types.
+     *
+     * @return Map from fully-qualified names of generated classes to their
+     *   source code; always includes the module class
+     */
+    public Map<String,String> generate(Collection<Class<?>> types)
+    {
+        _skipped.clear();
+        SerializationConfig sconfig = _mapper.copySerializationConfig();
+        DeserializationConfig dconfig = _mapper.copyDeserializationConfig();
+        LinkedHashMap<String,String> result = new LinkedHashMap<String,String>();
+        HashSet<String> usedNames = new HashSet<String>();
+        usedNames.add(_moduleName);
+        StringBuilder registrations = new StringBuilder();
+
+        for (Class<?> cls : types) {
+            String classProblem = _classProblem(cls);
+            if (classProblem != null) {
+                _skipped.put(cls, classProblem);
+                continue;
+            }
+            String baseName = _baseName(cls, usedNames);
+            String typeName = cls.getCanonicalName();
+            StringBuilder problems = new StringBuilder();
+
+            String serName = baseName + SERIALIZER_SUFFIX;
+            StringBuilder sb = new StringBuilder();
+            String problem = _generateSerializer(sconfig, cls, serName, sb);
+            if (problem == null) {
+                result.put(_qualified(serName), sb.toString());
+                registrations.append("        addSerializer(").append(typeName).append(".class, new ")
+                    .append(serName).append("());\n");
+            } else {
+                problems.append("serializer: ").append(problem);
+            }
+
+            String deserName = baseName + DESERIALIZER_SUFFIX;
+            sb = new StringBuilder();
+            problem = _generateDeserializer(dconfig, cls, deserName, sb);
+            if (problem == null) {
+                result.put(_qualified(deserName), sb.toString());
+                registrations.append("        addDeserializer(").append(typeName).append(".class, new ")
+                    .append(deserName).append("());\n");
+            } else {
+                if (problems.length() > 0) {
+                    problems.append("; ");
+                }
+                problems.append("deserializer: ").append(problem);
+            }
+            if (problems.length() > 0) {
+                _skipped.put(cls, problems.toString());
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        _appendHeader(sb);
+        sb.append("import org.codehaus.jackson.map.codegen.CodegenModule;\n\n");
+        sb.append("/**\n");
+        sb.append(" * Module that registers serializers and deserializers generated by\n");
+        sb.append(" * {@link org.codehaus.jackson.map.codegen.SourceGenerator}.\n");
+        sb.append(" */\n");
+        sb.append("public class ").append(_moduleName).append(" extends CodegenModule\n");
+        sb.append("{\n");
+        sb.append("    public ").append(_moduleName).append("()\n");
+        sb.append("    {\n");
+        sb.append("        super(\"").append(_escape(_moduleName)).append("\");\n");
+        sb.append(registrations);
+        sb.append("    }\n");
+        sb.append("}\n");
+        result.put(_qualified(_moduleName), sb.toString());
+        return result;
+    }
+
+    /**
+     * Method for generating sources for given types, and writing them
+     * under given directory (using regular package directory structure).
+     *
+     * @return Files written
+     */
+    public List<File> writeSources(Collection<Class<?>> types, File outputDir)
+        throws IOException
+    {
+        File dir = outputDir;
+        if (_packageName.length() > 0) {
+            dir = new File(outputDir, _packageName.replace('.', File.separatorChar));
+        }
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Failed to create directory '"+dir+"'");
+        }
+        ArrayList<File> files = new ArrayList<File>();
+        for (Map.Entry<String,String> en : generate(types).entrySet()) {
+            String name = en.getKey();
+            File f = new File(dir, name.substring(name.lastIndexOf('.')+1) + ".java");
+            Writer w = new OutputStreamWriter(new FileOutputStream(f), "UTF-8");
+            try {
+                w.write(en.getValue());
+            } finally {
+                w.close();
+            }
+            files.add(f);
+        }
+        return files;
+    }
+
+    /**
+     * Command-line entry point; usage:
+     *<pre>
+     *  SourceGenerator -d outputDir -p package [-m ModuleName] [-c MapperClass] className1 [className2 ...]
+     *</pre>
+     * where optional <code>MapperClass</code> is name of a class with public
+     * no-argument constructor, that is either an {@link ObjectMapper} (sub-class),
+     * or a {@link Callable} that returns the mapper to use;
+     * this is needed if generated module is to be used with a mapper that is
+     * not configured with defaults (generated (de)serializers are only used
+     * with mappers that have the same configuration as one used for generation).
+     * Reasons for skipping types are printed to standard error.
+     */
+    public static void main(String[] args) throws Exception
+    {
+        String outputDir = null, pkg = null, module = null, mapperClass = null;
+        ArrayList<Class<?>> types = new ArrayList<Class<?>>();
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = SourceGenerator.class.getClassLoader();
+        }
+        for (int i = 0; i < args.length; ++i) {
+            String arg = args[i];
+            if (("-d".equals(arg) || "-p".equals(arg) || "-m".equals(arg) || "-c".equals(arg))
+                    && (i+1) < args.length) {
+                String value = args[++i];
+                if ("-d".equals(arg)) {
+                    outputDir = value;
+                } else if ("-p".equals(arg)) {
+                    pkg = value;
+                } else if ("-m".equals(arg)) {
+                    module = value;
+                } else {
+                    mapperClass = value;
+                }
+            } else {
+                types.add(Class.forName(arg, true, loader));
+            }
+        }
+        if (outputDir == null || pkg == null || types.isEmpty()) {
+            System.err.println("Usage: java "+SourceGenerator.class.getName()
+                    +" -d outputDir -p package [-m ModuleName] [-c MapperClass] className1 [className2 ...]");
+            System.exit(1);
+        }
+        ObjectMapper mapper = (mapperClass == null) ? new ObjectMapper()
+                : _createMapper(Class.forName(mapperClass, true, loader));
+        SourceGenerator gen = new SourceGenerator(mapper, pkg, module);
+        List<File> files = gen.writeSources(types, new File(outputDir));
+        for (Map.Entry<Class<?>,String> en : gen.getSkipped().entrySet()) {
+            System.err.println("Skipped "+en.getKey().getName()+" ("+en.getValue()+")");
+        }
+        System.out.println("Wrote "+files.size()+" source files under '"+outputDir+"'");
+    }
+
+    protected static ObjectMapper _createMapper(Class<?> mapperClass) throws Exception
+    {
+        Object ob = mapperClass.newInstance();
+        if (ob instanceof Callable<?>) {
+            ob = ((Callable<?>) ob).call();
+        }
+        if (!(ob instanceof ObjectMapper)) {
+            throw new IllegalArgumentException("Class "+mapperClass.getName()
+                    +" is neither an ObjectMapper nor a Callable that returns one");
+        }
+        return (ObjectMapper) ob;
+    }
+
+    /*
+    /**********************************************************
+    /* Serializer generation
+    /**********************************************************
+     */
+
+    /**
+     * @return Null if serializer source was generated (and appended to given
+     *   buffer); otherwise description of why it could not be
+     */
+    protected String _generateSerializer(SerializationConfig config, Class<?> cls,
+            String name, StringBuilder sb)
+    {
+        if (config.isEnabled(SerializationConfig.Feature.USE_STATIC_TYPING)) {
+            return "static typing enabled";
+        }
+        SerializerFactory sf = _mapper.getSerializerFactory();
+        JavaType type = config.constructType(cls);
+        SerializerCapture capture = new SerializerCapture();
+        try {
+            if (sf.createTypeSerializer(config, type, null) != null) {
+                return "uses polymorphic type handling";
+            }
+            BasicBeanDescription classDesc = config.introspectClassAnnotations(type);
+            if (config.getAnnotationIntrospector().findSerializationTyping(classDesc.getClassInfo())
+                    == JsonSerialize.Typing.STATIC) {
+                return "uses static typing";
+            }
+            JsonSerializer<Object> ser = sf.withSerializerModifier(capture).createSerializer(config, type, null);
+            if (ser == null || ser.getClass() != BeanSerializer.class || capture.builder == null
+                    || capture.builder.getBeanDescription().getBeanClass() != cls) {
+                return "not serialized as a regular bean";
+            }
+        } catch (JsonMappingException e) {
+            return "failed to construct serializer: "+e.getMessage();
+        }
+        BeanSerializerBuilder builder = capture.builder;
+        if (builder.getAnyGetter() != null) {
+            return "has any-getter";
+        }
+        if (builder.getFilterId() != null) {
+            return "uses filtering";
+        }
+        if (builder.getFilteredProperties() != null) {
+            return "uses views";
+        }
+        List<BeanPropertyWriter> props = builder.getProperties();
+        for (BeanPropertyWriter prop : props) {
+            String problem = _serPropertyProblem(prop);
+            if (problem != null) {
+                return "property '"+prop.getName()+"' "+problem;
+            }
+        }
+
+        String typeName = cls.getCanonicalName();
+        _appendHeader(sb);
+        sb.append("import java.io.IOException;\n\n");
+        sb.append("import org.codehaus.jackson.*;\n");
+        sb.append("import org.codehaus.jackson.io.SerializedString;\n");
+        sb.append("import org.codehaus.jackson.map.*;\n");
+        sb.append("import org.codehaus.jackson.map.codegen.GeneratedBeanSerializer;\n");
+        sb.append("import org.codehaus.jackson.type.JavaType;\n\n");
+        sb.append("public class ").append(name).append(" extends GeneratedBeanSerializer<")
+            .append(typeName).append(">\n");
+        sb.append("{\n");
+        final int count = props.size();
+        boolean needsResolve = false;
+        for (int i = 0; i < count; ++i) {
+            sb.append("    protected final static SerializedString _name").append(i)
+                .append(" = new SerializedString(\"").append(_escape(props.get(i).getName())).append("\");\n");
+        }
+        for (int i = 0; i < count; ++i) {
+            if (_needsCanonicalType(props.get(i).getType())) {
+                sb.append("    protected JavaType _type").append(i).append(";\n");
+                needsResolve = true;
+            }
+        }
+        sb.append("\n");
+        sb.append("    public ").append(name).append("() {\n");
+        sb.append("        super(").append(typeName).append(".class,\n");
+        sb.append("                \"").append(_escape(CodegenModule.serializationSignature(config, cls))).append("\");\n");
+        sb.append("    }\n\n");
+
+        if (needsResolve) {
+            sb.append("    @Override\n");
+            sb.append("    public void resolve(SerializerProvider provider) throws JsonMappingException\n");
+            sb.append("    {\n");
+            for (int i = 0; i < count; ++i) {
+                JavaType propType = props.get(i).getType();
+                if (_needsCanonicalType(propType)) {
+                    sb.append("        _type").append(i)
+                        .append(" = provider.getConfig().getTypeFactory().constructFromCanonical(\"")
+                        .append(_escape(propType.toCanonical())).append("\");\n");
+                }
+            }
+            sb.append("    }\n\n");
+        }
+
+        sb.append("    @Override\n");
+        sb.append("    protected void serializeFields(").append(typeName)
+            .append(" bean, JsonGenerator jgen, SerializerProvider provider)\n");
+        sb.append("        throws IOException, JsonGenerationException\n");
+        sb.append("    {\n");
+        if (count > 0) {
+            sb.append("        String prop = null;\n");
+            sb.append("        try {\n");
+            for (int i = 0; i < count; ++i) {
+                BeanPropertyWriter prop = props.get(i);
+                String access = _accessor(prop.getMember());
+                Class<?> raw = prop.getPropertyType();
+                sb.append("            prop = \"").append(_escape(prop.getName())).append("\";\n");
+                if (raw.isPrimitive() && raw != Character.TYPE && _hasStdSerializer(config, sf, raw)) {
+                    sb.append("            jgen.writeFieldName(_name").append(i).append(");\n");
+                    sb.append("            jgen.").append((raw == Boolean.TYPE) ? "writeBoolean(" : "writeNumber(")
+                        .append(access).append(");\n");
+                } else if (raw == String.class && _hasStdSerializer(config, sf, raw)) {
+                    sb.append("            _writeString(jgen, provider, _name").append(i).append(", ")
+                        .append(access).append(", ").append(prop.willSuppressNulls()).append(");\n");
+                } else {
+                    sb.append("            _writeValue(bean, jgen, provider, _name").append(i).append(", ")
+                        .append(access).append(", ")
+                        .append(_needsCanonicalType(prop.getType()) ? ("_type"+i) : "null")
+                        .append(", ").append(prop.willSuppressNulls()).append(");\n");
+                }
+            }
+            sb.append("        } catch (Exception e) {\n");
+            sb.append("            wrapAndThrow(provider, e, bean, prop);\n");
+            sb.append("        }\n");
+        }
+        sb.append("    }\n");
+        sb.append("}\n");
+        return null;
+    }
+
+    protected String _serPropertyProblem(BeanPropertyWriter prop)
+    {
+        if (prop.getClass() != BeanPropertyWriter.class) {
+            return "uses custom or unwrapping writer";
+        }
+        if (prop.hasSerializer()) {
+            return "uses custom serializer";
+        }
+        if (prop.getTypeSerializer() != null) {
+            return "uses polymorphic type handling";
+        }
+        if (prop.getSerializationType() != null) {
+            return "has serialization type override";
+        }
+        if (prop.getSuppressableValue() != null) {
+            return "uses default-value suppression";
+        }
+        if (prop.getViews() != null) {
+            return "uses views";
+        }
+        if (!_isPublic(prop.getMember())) {
+            return "not publicly accessible";
+        }
+        JsonSerialize ann = prop.getAnnotation(JsonSerialize.class);
+        if (ann != null) {
+            if (ann.contentUsing() != JsonSerializer.None.class
+                    || ann.keyUsing() != JsonSerializer.None.class
+                    || ann.contentAs() != NoClass.class || ann.keyAs() != NoClass.class
+                    || ann.typing() == JsonSerialize.Typing.STATIC) {
+                return "uses unsupported @JsonSerialize settings";
+            }
+        }
+        return null;
+    }
+
+    /*
+    /**********************************************************
+    /* Deserializer generation
+    /**********************************************************
+     */
+
+    /**
+     * @return Null if deserializer source was generated (and appended to given
+     *   buffer); otherwise description of why it could not be
+     */
+    protected String _generateDeserializer(DeserializationConfig config, Class<?> cls,
+            String name, StringBuilder sb)
+    {
+        if (Modifier.isAbstract(cls.getModifiers())) {
+            return "abstract type";
+        }
+        DeserializerProvider provider = _mapper.getDeserializerProvider();
+        if (!(provider instanceof StdDeserializerProvider)) {
+            return "custom deserializer provider";
+        }
+        DeserializerFactory df = ((StdDeserializerProvider) provider).getFactory();
+        JavaType type = config.constructType(cls);
+        DeserializerCapture capture = new DeserializerCapture();
+        try {
+            if (df.findTypeDeserializer(config, type, null) != null) {
+                return "uses polymorphic type handling";
+            }
+            JsonDeserializer<Object> deser = df.withDeserializerModifier(capture).createBeanDeserializer(config, provider, type, null);
+            if (deser == null || deser.getClass() != BeanDeserializer.class || capture.builder == null
+                    || capture.beanDesc.getBeanClass() != cls) {
+                return "not deserialized as a regular bean";
+            }
+        } catch (JsonMappingException e) {
+            return "failed to construct deserializer: "+e.getMessage();
+        }
+        BeanDeserializerBuilder builder = capture.builder;
+        if (builder.getAnySetter() != null) {
+            return "has any-setter";
+        }
+        if (builder.getInjectables() != null && !builder.getInjectables().isEmpty()) {
+            return "has injectable values";
+        }
+        if (builder.getBackReferenceProperties() != null && !builder.getBackReferenceProperties().isEmpty()) {
+            return "has back references";
+        }
+        ValueInstantiator inst = builder.getValueInstantiator();
+        if (inst == null || inst.getClass() != StdValueInstantiator.class) {
+            return "uses custom value instantiator";
+        }
+        if (inst.canCreateUsingDelegate() || inst.canCreateFromObjectWith()
+                || inst.canCreateFromString() || inst.canCreateFromInt() || inst.canCreateFromLong()
+                || inst.canCreateFromDouble() || inst.canCreateFromBoolean()) {
+            return "uses creators";
+        }
+        AnnotatedWithParams ctor = inst.getDefaultCreator();
+        if (!inst.canCreateUsingDefault() || ctor == null || !ctor.isPublic()
+                || !(ctor.getAnnotated() instanceof java.lang.reflect.Constructor<?>)) {
+            return "has no public default constructor";
+        }
+        AnnotationIntrospector intr = config.getAnnotationIntrospector();
+        ArrayList<SettableBeanProperty> props = new ArrayList<SettableBeanProperty>();
+        for (Iterator<SettableBeanProperty> it = builder.getProperties(); it.hasNext(); ) {
+            SettableBeanProperty prop = it.next();
+            String problem = _deserPropertyProblem(intr, prop);
+            if (problem != null) {
+                return "property '"+prop.getName()+"' "+problem;
+            }
+            props.add(prop);
+        }
+
+        String typeName = cls.getCanonicalName();
+        _appendHeader(sb);
+        sb.append("import java.io.IOException;\n\n");
+        sb.append("import org.codehaus.jackson.*;\n");
+        sb.append("import org.codehaus.jackson.map.*;\n");
+        sb.append("import org.codehaus.jackson.map.annotate.JsonCachable;\n");
+        sb.append("import org.codehaus.jackson.map.codegen.GeneratedBeanDeserializer;\n\n");
+        sb.append("@JsonCachable\n");
+        sb.append("public class ").append(name).append(" extends GeneratedBeanDeserializer<")
+            .append(typeName).append(">\n");
+        sb.append("{\n");
+
+        final int count = props.size();
+        boolean[] dynamic = new boolean[count];
+        boolean needsResolve = false;
+        for (int i = 0; i < count; ++i) {
+            Class<?> raw = props.get(i).getType().getRawClass();
+            dynamic[i] = !_isFastPrimitive(raw) || !_hasStdDeserializer(config, provider, raw);
+            if (dynamic[i]) {
+                sb.append("    protected JsonDeserializer<Object> _d").append(i).append(";\n");
+                needsResolve = true;
+            }
+        }
+        if (needsResolve) {
+            sb.append("\n");
+        }
+        sb.append("    public ").append(name).append("() {\n");
+        sb.append("        super(").append(typeName).append(".class, ");
+        Set<String> ignorable = builder.getIgnorableProperties();
+        if (ignorable == null || ignorable.isEmpty()) {
+            sb.append("null");
+        } else {
+            sb.append("new String[] {");
+            int ix = 0;
+            for (String ign : ignorable) {
+                if (ix++ > 0) {
+                    sb.append(", ");
+                }
+                sb.append('"').append(_escape(ign)).append('"');
+            }
+            sb.append("}");
+        }
+        sb.append(", ").append(builder.getIgnoreUnknownProperties()).append(",\n");
+        sb.append("                \"").append(_escape(CodegenModule.deserializationSignature(config, cls))).append("\");\n");
+        sb.append("    }\n\n");
+
+        if (needsResolve) {
+            sb.append("    @Override\n");
+            sb.append("    public void resolve(DeserializationConfig config, DeserializerProvider provider)\n");
+            sb.append("        throws JsonMappingException\n");
+            sb.append("    {\n");
+            for (int i = 0; i < count; ++i) {
+                if (dynamic[i]) {
+                    JavaType propType = props.get(i).getType();
+                    sb.append("        _d").append(i).append(" = provider.findValueDeserializer(config, ");
+                    if (_needsCanonicalType(propType)) {
+                        sb.append("config.getTypeFactory().constructFromCanonical(\"")
+                            .append(_escape(propType.toCanonical())).append("\")");
+                    } else {
+                        sb.append("config.constructType(").append(propType.getRawClass().getCanonicalName())
+                            .append(".class)");
+                    }
+                    sb.append(", null);\n");
+                }
+            }
+            sb.append("    }\n\n");
+        }
+
+        sb.append("    @Override\n");
+        sb.append("    protected ").append(typeName).append(" createInstance() {\n");
+        sb.append("        return new ").append(typeName).append("();\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @SuppressWarnings(\"unchecked\")\n");
+        sb.append("    @Override\n");
+        sb.append("    protected boolean deserializeProperty(JsonParser jp, DeserializationContext ctxt,\n");
+        sb.append("            ").append(typeName).append(" bean, String propName)\n");
+        sb.append("        throws IOException, JsonProcessingException\n");
+        sb.append("    {\n");
+        for (int i = 0; i < count; ++i) {
+            SettableBeanProperty prop = props.get(i);
+            Class<?> raw = prop.getType().getRawClass();
+            String value;
+            if (!dynamic[i]) {
+                value = "_" + raw.getName() + "Value(jp, ctxt)";
+            } else if (raw.isPrimitive()) {
+                String wrapper = _wrapperFor(raw);
+                value = "((java.lang." + wrapper + ") _primitiveValue(jp, ctxt, _d" + i + ", " + raw.getName()
+                    + ".class))." + raw.getName() + "Value()";
+            } else {
+                value = "(" + raw.getCanonicalName() + ") _value(jp, ctxt, _d" + i + ")";
+            }
+            sb.append("        if (\"").append(_escape(prop.getName())).append("\".equals(propName)) {\n");
+            AnnotatedMember member = prop.getMember();
+            if (member instanceof AnnotatedMethod) {
+                sb.append("            bean.").append(member.getName()).append('(').append(value).append(");\n");
+            } else {
+                sb.append("            bean.").append(member.getName()).append(" = ").append(value).append(";\n");
+            }
+            sb.append("            return true;\n");
+            sb.append("        }\n");
+        }
+        sb.append("        return false;\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+        return null;
+    }
+
+    protected String _deserPropertyProblem(AnnotationIntrospector intr, SettableBeanProperty prop)
+    {
+        Class<?> propClass = prop.getClass();
+        if (propClass != SettableBeanProperty.MethodProperty.class
+                && propClass != SettableBeanProperty.FieldProperty.class) {
+            return "is not a setter or field property";
+        }
+        if (prop.hasValueDeserializer()) {
+            return "uses custom deserializer";
+        }
+        if (prop.hasValueTypeDeserializer()) {
+            return "uses polymorphic type handling";
+        }
+        if (prop.getManagedReferenceName() != null) {
+            return "is a managed reference";
+        }
+        AnnotatedMember member = prop.getMember();
+        if (!_isPublic(member)) {
+            return "not publicly accessible";
+        }
+        if ((member instanceof AnnotatedField) && Modifier.isFinal(((AnnotatedField) member).getModifiers())) {
+            return "is a final field";
+        }
+        if (Boolean.TRUE.equals(intr.shouldUnwrapProperty(member))) {
+            return "is unwrapped";
+        }
+        JsonDeserialize ann = prop.getAnnotation(JsonDeserialize.class);
+        if (ann != null) {
+            if (ann.contentUsing() != JsonDeserializer.None.class
+                    || ann.keyUsing() != KeyDeserializer.None.class
+                    || ann.contentAs() != NoClass.class || ann.keyAs() != NoClass.class) {
+                return "uses unsupported @JsonDeserialize settings";
+            }
+        }
+        if (!_isAccessible(prop.getType().getRawClass())) {
+            return "has type that is not publicly accessible";
+        }
+        return null;
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    /**
+     * @return Description of problem, if class can not have generated code;
+     *    null if it can
+     */
+    protected String _classProblem(Class<?> cls)
+    {
+        if (cls.isInterface() || cls.isArray() || cls.isPrimitive() || cls.isEnum()) {
+            return "not a bean class";
+        }
+        if (!_isAccessible(cls)) {
+            return "not a public class";
+        }
+        if (cls.getEnclosingClass() != null && !Modifier.isStatic(cls.getModifiers())) {
+            return "non-static inner class";
+        }
+        if (cls.getTypeParameters().length > 0) {
+            return "generic class";
+        }
+        return null;
+    }
+
+    /**
+     * Method for constructing unique base name for generated classes,
+     * based on (nested) class name
+     */
+    protected String _baseName(Class<?> cls, Set<String> used)
+    {
+        String base = cls.getSimpleName();
+        for (Class<?> outer = cls.getEnclosingClass(); outer != null; outer = outer.getEnclosingClass()) {
+            base = outer.getSimpleName() + "_" + base;
+        }
+        String name = base;
+        for (int i = 2; !used.add(name); ++i) {
+            name = base + i;
+        }
+        return name;
+    }
+
+    protected String _qualified(String simpleName) {
+        return (_packageName.length() == 0) ? simpleName : (_packageName + "." + simpleName);
+    }
+
+    protected void _appendHeader(StringBuilder sb)
+    {
+        sb.append("// Generated by ").append(SourceGenerator.class.getName()).append("; do not edit\n");
+        if (_packageName.length() > 0) {
+            sb.append("package ").append(_packageName).append(";\n\n");
+        }
+    }
+
+    /**
+     * Whether given type needs to be passed as full {@link JavaType}
+     * (constructed from canonical representation), instead of
+     * just a class literal
+     */
+    protected boolean _needsCanonicalType(JavaType type) {
+        return type.isContainerType() || type.containedTypeCount() > 0;
+    }
+
+    protected boolean _hasStdSerializer(SerializationConfig config, SerializerFactory sf, Class<?> raw)
+    {
+        try {
+            JsonSerializer<?> ser = sf.createSerializer(config, config.constructType(raw), null);
+            return (ser != null) && ser.getClass().getName().startsWith("org.codehaus.jackson.map.ser.");
+        } catch (JsonMappingException e) {
+            return false;
+        }
+    }
+
+    protected boolean _hasStdDeserializer(DeserializationConfig config, DeserializerProvider provider,
+            Class<?> raw)
+    {
+        try {
+            JsonDeserializer<?> deser = provider.findValueDeserializer(config, config.constructType(raw), null);
+            return (deser != null) && deser.getClass().getName().startsWith("org.codehaus.jackson.map.deser.");
+        } catch (JsonMappingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether given type has specialized accessor in
+     * {@link GeneratedBeanDeserializer}
+     */
+    protected boolean _isFastPrimitive(Class<?> raw) {
+        return (raw == Integer.TYPE) || (raw == Long.TYPE) || (raw == Boolean.TYPE) || (raw == Double.TYPE);
+    }
+
+    protected String _wrapperFor(Class<?> primitive)
+    {
+        if (primitive == Integer.TYPE) return "Integer";
+        if (primitive == Long.TYPE) return "Long";
+        if (primitive == Boolean.TYPE) return "Boolean";
+        if (primitive == Double.TYPE) return "Double";
+        if (primitive == Float.TYPE) return "Float";
+        if (primitive == Short.TYPE) return "Short";
+        if (primitive == Byte.TYPE) return "Byte";
+        return "Character";
+    }
+
+    protected String _accessor(AnnotatedMember member)
+    {
+        if (member instanceof AnnotatedMethod) {
+            return "bean." + member.getName() + "()";
+        }
+        return "bean." + member.getName();
+    }
+
+    protected boolean _isPublic(AnnotatedMember member)
+    {
+        Member m = member.getMember();
+        return (m != null) && Modifier.isPublic(m.getModifiers());
+    }
+
+    /**
+     * Whether given class can be referred to from generated code
+     */
+    protected boolean _isAccessible(Class<?> cls)
+    {
+        while (cls.isArray()) {
+            cls = cls.getComponentType();
+        }
+        if (cls.isPrimitive()) {
+            return true;
+        }
+        if (cls.getCanonicalName() == null) { // local or anonymous
+            return false;
+        }
+        for (; cls != null; cls = cls.getEnclosingClass()) {
+            if (!Modifier.isPublic(cls.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Helper method for escaping given text to be included in a Java String literal
+     */
+    protected static String _escape(String text)
+    {
+        StringBuilder sb = new StringBuilder(text.length() + 8);
+        for (int i = 0, len = text.length(); i < len; ++i) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7E) {
+                String hex = Integer.toHexString(c);
+                sb.append("\\u");
+                for (int j = hex.length(); j < 4; ++j) {
+                    sb.append('0');
+                }
+                sb.append(hex);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /*
+    /**********************************************************
+    /* Helper classes
+    /**********************************************************
+     */
+
+    /**
+     * Modifier used for getting access to builder that factory uses,
+     * to find out properties of bean type.
+     */
+    protected static class SerializerCapture extends BeanSerializerModifier
+    {
+        public BeanSerializerBuilder builder;
+
+        @Override
+        public BeanSerializerBuilder updateBuilder(SerializationConfig config,
+                BasicBeanDescription beanDesc, BeanSerializerBuilder b)
+        {
+            builder = b;
+            return b;
+        }
+    }
+
+    protected static class DeserializerCapture extends BeanDeserializerModifier
+    {
+        public BasicBeanDescription beanDesc;
+
+        public BeanDeserializerBuilder builder;
+
+        @Override
+        public BeanDeserializerBuilder updateBuilder(DeserializationConfig config,
+                BasicBeanDescription desc, BeanDeserializerBuilder b)
+        {
+            beanDesc = desc;
+            builder = b;
+            return b;
+        }
+    }
+}
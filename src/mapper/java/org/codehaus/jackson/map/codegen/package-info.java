@@ -0,0 +1,10 @@
+/**
+ * Package that contains {@link org.codehaus.jackson.map.codegen.SourceGenerator},
+ * which can be used at build time to generate Java source code for serializers
+ * and deserializers of simple bean types, to avoid introspection overhead
+ * at runtime, as well as base classes and the module type that generated
+ * code uses.
+ *
+ * @since 1.9.14
+ */
+package org.codehaus.jackson.map.codegen;
@@ -0,0 +1,494 @@
+package org.codehaus.jackson.map.deser;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.*;
+
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonProcessingException;
+import org.codehaus.jackson.JsonToken;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.annotate.JacksonStdImpl;
+import org.codehaus.jackson.map.deser.std.StdDeserializer;
+import org.codehaus.jackson.map.util.ArrayBuilders;
+import org.codehaus.jackson.map.util.BeanColumns;
+import org.codehaus.jackson.map.util.ClassUtil;
+import org.codehaus.jackson.map.util.ObjectBuffer;
+import org.codehaus.jackson.type.JavaType;
+
+/**
+ * Deserializer that binds JSON Arrays of Objects into {@link BeanColumns};
+ * uses property definitions of the {@link BeanDeserializer} of the bean
+ * type, but instead of constructing beans, collects values of each
+ * property in a separate array (using primitive array builders for
+ * primitive-valued properties).
+ *
+ * @since 1.9.14
+ */
+public class BeanColumnsDeserializer
+    extends StdDeserializer<BeanColumns<Object>>
+    implements ResolvableDeserializer
+{
+    /**
+     * Type of beans that elements represent
+     */
+    protected final JavaType _beanType;
+
+    protected final BeanProperty _property;
+
+    /**
+     * Deserializer for beans, used for handling unknown properties;
+     * assigned during resolution.
+     */
+    protected BeanDeserializer _beanDeserializer;
+
+    /**
+     * Properties that get columns, in column order; assigned during
+     * resolution.
+     */
+    protected SettableBeanProperty[] _properties;
+
+    /**
+     * Mapping from property names to column indexes
+     */
+    protected HashMap<String,Integer> _propertyIndexes;
+
+    public BeanColumnsDeserializer(JavaType beanType, BeanProperty property)
+    {
+        super(BeanColumns.class);
+        _beanType = beanType;
+        _property = property;
+    }
+
+    /*
+    /**********************************************************
+    /* Validation, post-processing (ResolvableDeserializer)
+    /**********************************************************
+     */
+
+    @Override
+    public void resolve(DeserializationConfig config, DeserializerProvider provider)
+        throws JsonMappingException
+    {
+        if (_beanType == null || _beanType.getRawClass() == Object.class) {
+            throw new JsonMappingException("Can not bind BeanColumns without bean type (missing type parameter?)");
+        }
+        JsonDeserializer<Object> deser = provider.findValueDeserializer(config, _beanType, _property);
+        if (deser.getClass() != BeanDeserializer.class) {
+            throw new JsonMappingException("Can not bind values of type "+_beanType
+                    +" as BeanColumns: not deserialized using standard BeanDeserializer (but "
+                    +deser.getClass().getName()+")");
+        }
+        BeanDeserializer beanDeser = (BeanDeserializer) deser;
+        if (beanDeser._nonStandardCreation || beanDeser._anySetter != null) {
+            throw new JsonMappingException("Can not bind values of type "+_beanType
+                    +" as BeanColumns: only types with default constructor and no 'any setter' supported");
+        }
+        ArrayList<SettableBeanProperty> props = new ArrayList<SettableBeanProperty>();
+        HashMap<String,Integer> indexes = new HashMap<String,Integer>();
+        Iterator<SettableBeanProperty> it = beanDeser.properties();
+        while (it.hasNext()) {
+            SettableBeanProperty prop = it.next();
+            indexes.put(prop.getName(), props.size());
+            props.add(prop);
+        }
+        _beanDeserializer = beanDeser;
+        _properties = props.toArray(new SettableBeanProperty[props.size()]);
+        _propertyIndexes = indexes;
+    }
+
+    /*
+    /**********************************************************
+    /* JsonDeserializer implementation
+    /**********************************************************
+     */
+
+    @Override
+    public BeanColumns<Object> deserialize(JsonParser jp, DeserializationContext ctxt)
+        throws IOException, JsonProcessingException
+    {
+        if (!jp.isExpectedStartArrayToken()) {
+            throw ctxt.mappingException(BeanColumns.class);
+        }
+        final SettableBeanProperty[] props = _properties;
+        final int colCount = props.length;
+        Column[] columns = new Column[colCount];
+        for (int i = 0; i < colCount; ++i) {
+            columns[i] = _constructColumn(props[i]);
+        }
+        final Class<?> beanClass = _beanType.getRawClass();
+        int row = 0;
+        JsonToken t;
+        while ((t = jp.nextToken()) != JsonToken.END_ARRAY) {
+            if (t != JsonToken.START_OBJECT) {
+                throw ctxt.mappingException(beanClass, t);
+            }
+            while ((t = jp.nextToken()) == JsonToken.FIELD_NAME) {
+                String propName = jp.getCurrentName();
+                t = jp.nextToken();
+                Integer ix = _propertyIndexes.get(propName);
+                if (ix == null) {
+                    _beanDeserializer.handleUnknownProperty(jp, ctxt, beanClass, propName);
+                    continue;
+                }
+                Column col = columns[ix.intValue()];
+                try {
+                    col.read(jp, ctxt, t, row);
+                } catch (Exception e) {
+                    _beanDeserializer.wrapAndThrow(e, beanClass, propName, ctxt);
+                }
+            }
+            // fill in values that were missing
+            for (int i = 0; i < colCount; ++i) {
+                columns[i].completeRow(row);
+            }
+            ++row;
+        }
+        String[] names = new String[colCount];
+        Object[] arrays = new Object[colCount];
+        for (int i = 0; i < colCount; ++i) {
+            names[i] = props[i].getName();
+            arrays[i] = columns[i].complete();
+        }
+        @SuppressWarnings("unchecked")
+        Class<Object> type = (Class<Object>) beanClass;
+        return new BeanColumns<Object>(type, names, arrays);
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser jp, DeserializationContext ctxt,
+            TypeDeserializer typeDeserializer)
+        throws IOException, JsonProcessingException
+    {
+        return typeDeserializer.deserializeTypedFromArray(jp, ctxt);
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    protected Column _constructColumn(SettableBeanProperty prop)
+    {
+        Class<?> type = prop.getType().getRawClass();
+        // primitive values can be read directly if handled by standard deserializers
+        JsonDeserializer<Object> deser = prop.getValueDeserializer();
+        boolean direct = (deser == null) || (deser.getClass().getAnnotation(JacksonStdImpl.class) != null);
+        if (type == Integer.TYPE) {
+            return new IntColumn(prop, direct);
+        }
+        if (type == Long.TYPE) {
+            return new LongColumn(prop, direct);
+        }
+        if (type == Double.TYPE) {
+            return new DoubleColumn(prop, direct);
+        }
+        if (type == Boolean.TYPE) {
+            return new BooleanColumn(prop, direct);
+        }
+        return new ObjectColumn(prop, type);
+    }
+
+    /**
+     * Base class for accumulators of property values.
+     */
+    protected abstract static class Column
+    {
+        protected final SettableBeanProperty _property;
+
+        /**
+         * Index of the last row value was added for
+         */
+        protected int _lastRow = -1;
+
+        protected Column(SettableBeanProperty prop) {
+            _property = prop;
+        }
+
+        /**
+         * Method called to read value of the current token, and add it
+         * as value of the property for given row (or, if value was
+         * already added for the row, replace it).
+         */
+        public abstract void read(JsonParser jp, DeserializationContext ctxt, JsonToken t, int row)
+            throws IOException, JsonProcessingException;
+
+        /**
+         * Method called at the end of given row: will add default value
+         * if no value was added.
+         */
+        public final void completeRow(int row)
+        {
+            if (_lastRow != row) {
+                appendDefault();
+                _lastRow = row;
+            }
+        }
+
+        protected abstract void appendDefault();
+
+        public abstract Object complete();
+
+        protected final boolean _replace(int row)
+        {
+            if (_lastRow == row) {
+                return true;
+            }
+            _lastRow = row;
+            return false;
+        }
+    }
+
+    protected final static class IntColumn extends Column
+    {
+        private final boolean _direct;
+        private final ArrayBuilders.IntBuilder _builder = new ArrayBuilders.IntBuilder();
+        private int[] _chunk = _builder.resetAndStart();
+        private int _ix;
+
+        public IntColumn(SettableBeanProperty prop, boolean direct) {
+            super(prop);
+            _direct = direct;
+        }
+
+        @Override
+        public void read(JsonParser jp, DeserializationContext ctxt, JsonToken t, int row)
+            throws IOException, JsonProcessingException
+        {
+            int value;
+            if (_direct && t == JsonToken.VALUE_NUMBER_INT) {
+                value = jp.getIntValue();
+            } else {
+                Object ob = _property.deserialize(jp, ctxt);
+                value = (ob == null) ? 0 : ((Number) ob).intValue();
+            }
+            if (_replace(row)) {
+                _chunk[_ix-1] = value;
+            } else {
+                _append(value);
+            }
+        }
+
+        @Override
+        protected void appendDefault() { _append(0); }
+
+        private void _append(int value)
+        {
+            if (_ix >= _chunk.length) {
+                _chunk = _builder.appendCompletedChunk(_chunk, _ix);
+                _ix = 0;
+            }
+            _chunk[_ix++] = value;
+        }
+
+        @Override
+        public Object complete() {
+            return _builder.completeAndClearBuffer(_chunk, _ix);
+        }
+    }
+
+    protected final static class LongColumn extends Column
+    {
+        private final boolean _direct;
+        private final ArrayBuilders.LongBuilder _builder = new ArrayBuilders.LongBuilder();
+        private long[] _chunk = _builder.resetAndStart();
+        private int _ix;
+
+        public LongColumn(SettableBeanProperty prop, boolean direct) {
+            super(prop);
+            _direct = direct;
+        }
+
+        @Override
+        public void read(JsonParser jp, DeserializationContext ctxt, JsonToken t, int row)
+            throws IOException, JsonProcessingException
+        {
+            long value;
+            if (_direct && t == JsonToken.VALUE_NUMBER_INT) {
+                value = jp.getLongValue();
+            } else {
+                Object ob = _property.deserialize(jp, ctxt);
+                value = (ob == null) ? 0L : ((Number) ob).longValue();
+            }
+            if (_replace(row)) {
+                _chunk[_ix-1] = value;
+            } else {
+                _append(value);
+            }
+        }
+
+        @Override
+        protected void appendDefault() { _append(0L); }
+
+        private void _append(long value)
+        {
+            if (_ix >= _chunk.length) {
+                _chunk = _builder.appendCompletedChunk(_chunk, _ix);
+                _ix = 0;
+            }
+            _chunk[_ix++] = value;
+        }
+
+        @Override
+        public Object complete() {
+            return _builder.completeAndClearBuffer(_chunk, _ix);
+        }
+    }
+
+    protected final static class DoubleColumn extends Column
+    {
+        private final boolean _direct;
+        private final ArrayBuilders.DoubleBuilder _builder = new ArrayBuilders.DoubleBuilder();
+        private double[] _chunk = _builder.resetAndStart();
+        private int _ix;
+
+        public DoubleColumn(SettableBeanProperty prop, boolean direct) {
+            super(prop);
+            _direct = direct;
+        }
+
+        @Override
+        public void read(JsonParser jp, DeserializationContext ctxt, JsonToken t, int row)
+            throws IOException, JsonProcessingException
+        {
+            double value;
+            if (_direct && (t == JsonToken.VALUE_NUMBER_FLOAT || t == JsonToken.VALUE_NUMBER_INT)) {
+                value = jp.getDoubleValue();
+            } else {
+                Object ob = _property.deserialize(jp, ctxt);
+                value = (ob == null) ? 0.0 : ((Number) ob).doubleValue();
+            }
+            if (_replace(row)) {
+                _chunk[_ix-1] = value;
+            } else {
+                _append(value);
+            }
+        }
+
+        @Override
+        protected void appendDefault() { _append(0.0); }
+
+        private void _append(double value)
+        {
+            if (_ix >= _chunk.length) {
+                _chunk = _builder.appendCompletedChunk(_chunk, _ix);
+                _ix = 0;
+            }
+            _chunk[_ix++] = value;
+        }
+
+        @Override
+        public Object complete() {
+            return _builder.completeAndClearBuffer(_chunk, _ix);
+        }
+    }
+
+    protected final static class BooleanColumn extends Column
+    {
+        private final boolean _direct;
+        private final ArrayBuilders.BooleanBuilder _builder = new ArrayBuilders.BooleanBuilder();
+        private boolean[] _chunk = _builder.resetAndStart();
+        private int _ix;
+
+        public BooleanColumn(SettableBeanProperty prop, boolean direct) {
+            super(prop);
+            _direct = direct;
+        }
+
+        @Override
+        public void read(JsonParser jp, DeserializationContext ctxt, JsonToken t, int row)
+            throws IOException, JsonProcessingException
+        {
+            boolean value;
+            if (_direct && t == JsonToken.VALUE_TRUE) {
+                value = true;
+            } else if (_direct && t == JsonToken.VALUE_FALSE) {
+                value = false;
+            } else {
+                Object ob = _property.deserialize(jp, ctxt);
+                value = (ob == null) ? false : ((Boolean) ob).booleanValue();
+            }
+            if (_replace(row)) {
+                _chunk[_ix-1] = value;
+            } else {
+                _append(value);
+            }
+        }
+
+        @Override
+        protected void appendDefault() { _append(false); }
+
+        private void _append(boolean value)
+        {
+            if (_ix >= _chunk.length) {
+                _chunk = _builder.appendCompletedChunk(_chunk, _ix);
+                _ix = 0;
+            }
+            _chunk[_ix++] = value;
+        }
+
+        @Override
+        public Object complete() {
+            return _builder.completeAndClearBuffer(_chunk, _ix);
+        }
+    }
+
+    /**
+     * Column used for all other types; values are deserialized using property
+     * deserializer. For primitive types other than ones with specialized
+     * columns (such as <code>float</code> or <code>char</code>), values are copied
+     * into a primitive array once complete.
+     */
+    protected final static class ObjectColumn extends Column
+    {
+        private final Class<?> _type;
+        private final ObjectBuffer _buffer = new ObjectBuffer();
+        private Object[] _chunk = _buffer.resetAndStart();
+        private int _ix;
+
+        public ObjectColumn(SettableBeanProperty prop, Class<?> type) {
+            super(prop);
+            _type = type;
+        }
+
+        @Override
+        public void read(JsonParser jp, DeserializationContext ctxt, JsonToken t, int row)
+            throws IOException, JsonProcessingException
+        {
+            Object value = _property.deserialize(jp, ctxt);
+            if (_replace(row)) {
+                _chunk[_ix-1] = value;
+            } else {
+                _append(value);
+            }
+        }
+
+        @Override
+        protected void appendDefault() { _append(null); }
+
+        private void _append(Object value)
+        {
+            if (_ix >= _chunk.length) {
+                _chunk = _buffer.appendCompletedChunk(_chunk);
+                _ix = 0;
+            }
+            _chunk[_ix++] = value;
+        }
+
+        @Override
+        public Object complete()
+        {
+            if (!_type.isPrimitive()) {
+                return _buffer.completeAndClearBuffer(_chunk, _ix, _type);
+            }
+            Object[] values = _buffer.completeAndClearBuffer(_chunk, _ix);
+            Object result = Array.newInstance(_type, values.length);
+            for (int i = 0; i < values.length; ++i) {
+                Object value = values[i];
+                Array.set(result, i, (value == null) ? ClassUtil.defaultValue(_type) : value);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,578 @@
+package org.codehaus.jackson.map.deser;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.codehaus.jackson.*;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.annotate.JacksonStdImpl;
+import org.codehaus.jackson.map.deser.std.MapDeserializer;
+import org.codehaus.jackson.map.deser.std.UntypedObjectDeserializer;
+import org.codehaus.jackson.map.ser.BeanPropertyWriter;
+import org.codehaus.jackson.map.ser.BeanSerializer;
+import org.codehaus.jackson.map.ser.std.NullSerializer;
+import org.codehaus.jackson.map.util.ClassUtil;
+import org.codehaus.jackson.map.util.UntypedContainerFactory;
+import org.codehaus.jackson.util.TokenBuffer;
+
+/**
+ * Helper class used by {@link ObjectMapper#convertValue} for converting
+ * beans into other beans, or into {@link java.util.Map}s, without
+ * writing intermediate JSON tokens: property values are read using
+ * {@link BeanPropertyWriter}s of the source {@link BeanSerializer}, and
+ * assigned using {@link SettableBeanProperty} instances of the target
+ * {@link BeanDeserializer} (or added to a Map constructed by
+ * {@link MapDeserializer} or {@link UntypedObjectDeserializer}).
+ *<p>
+ * Direct conversion is only used if it produces the same result as
+ * serializing and deserializing would: source must use the standard bean
+ * serializer without filters or any-getter; and target the standard
+ * bean deserializer with default constructor (and no creator properties,
+ * any-setter or unknown properties), or a Map with String keys.
+ * Scalar values (Strings, Booleans, Integers, Longs and Doubles) are copied
+ * as is if both sides use standard (de)serializers, and nested beans are
+ * converted recursively; other values, as well as ones with custom
+ * (de)serializers, are converted one property at a time using a
+ * {@link TokenBuffer}.
+ *
+ * @since 1.9.14
+ */
+public class BeanConverter
+{
+    /**
+     * Maximum number of source/target combinations for which conversion
+     * plans are cached.
+     */
+    protected final static int MAX_CACHED_PLANS = 500;
+
+    /**
+     * Marker returned by value conversion methods when value can not
+     * be converted directly.
+     */
+    protected final static Object NOT_DIRECT = new Object();
+
+    protected final ConcurrentHashMap<PlanKey, Plan> _plans = new ConcurrentHashMap<PlanKey, Plan>(16, 0.75f, 2);
+
+    public BeanConverter() { }
+
+    /*
+    /**********************************************************
+    /* Public API
+    /**********************************************************
+     */
+
+    /**
+     * Method called to try converting given value directly.
+     *
+     * @param codec Codec to assign to {@link TokenBuffer}s used for values that can
+     *   not be copied directly
+     * @param value Non-null value to convert
+     * @param ser Serializer that would be used for serializing the value
+     * @param prov Serializer provider instance (non-blueprint) to use
+     * @param deser Deserializer that would be used for deserializing result
+     * @param ctxt Deserialization context to use; must be
+     *   {@link StdDeserializationContext}
+     *
+     * @return Converted value, if direct conversion was possible; null if not
+     *   (in which case nothing has been read from the value)
+     */
+    public Object convert(ObjectCodec codec, Object value, JsonSerializer<?> ser, SerializerProvider prov,
+            JsonDeserializer<?> deser, DeserializationContext ctxt)
+        throws IOException, JsonProcessingException
+    {
+        if (!(ctxt instanceof StdDeserializationContext)) {
+            return null;
+        }
+        // untyped values are bound to LinkedHashMaps, so other container types can not be used
+        if (ctxt.getConfig().getUntypedContainerFactory() != UntypedContainerFactory.instance) {
+            return null;
+        }
+        Plan plan = _findPlan(ser, deser, prov);
+        if (plan == null) {
+            return null;
+        }
+        return _convertBean(plan, codec, value, prov, (StdDeserializationContext) ctxt,
+                new Path(value, null));
+    }
+
+    /**
+     * Method for checking how many conversion plans have been cached.
+     */
+    public int cachedPlanCount() {
+        return _plans.size();
+    }
+
+    /*
+    /**********************************************************
+    /* Plan construction
+    /**********************************************************
+     */
+
+    /**
+     * Method for finding plan for converting values serialized using given serializer
+     * with given deserializer; or null if direct conversion is not possible.
+     */
+    protected Plan _findPlan(JsonSerializer<?> ser, JsonDeserializer<?> deser,
+            SerializerProvider prov)
+    {
+        if (ser == null || ser.getClass() != BeanSerializer.class) {
+            return null;
+        }
+        final BeanSerializer beanSer = (BeanSerializer) ser;
+        // note: properties depend on active view, so plan may need to be rebuilt
+        final BeanPropertyWriter[] writers = beanSer.propertiesToWrite(prov);
+        if (writers == null) {
+            return null;
+        }
+        final PlanKey key = new PlanKey(ser, deser);
+        Plan plan = _plans.get(key);
+        if (plan == null || plan.writers != writers) {
+            plan = _constructPlan(beanSer, writers, deser);
+            if (_plans.size() < MAX_CACHED_PLANS) {
+                _plans.put(key, plan);
+            }
+        }
+        return plan.isDirect() ? plan : null;
+    }
+
+    protected Plan _constructPlan(BeanSerializer ser, BeanPropertyWriter[] writers,
+            JsonDeserializer<?> deser)
+    {
+        for (BeanPropertyWriter w : writers) {
+            // unwrapping writers may write any number of properties
+            if (w != null && w.getClass() != BeanPropertyWriter.class) {
+                return new Plan(ser, writers);
+            }
+        }
+        if (deser == null) {
+            return new Plan(ser, writers);
+        }
+        Class<?> deserClass = deser.getClass();
+        if (deserClass == BeanDeserializer.class) {
+            BeanDeserializer beanDeser = (BeanDeserializer) deser;
+            if (beanDeser._nonStandardCreation || beanDeser._anySetter != null) {
+                return new Plan(ser, writers);
+            }
+            SettableBeanProperty[] targets = new SettableBeanProperty[writers.length];
+            for (int i = 0, len = writers.length; i < len; ++i) {
+                BeanPropertyWriter w = writers[i];
+                if (w == null) {
+                    continue;
+                }
+                String name = w.getName();
+                SettableBeanProperty prop = beanDeser._beanProperties.find(name);
+                if (prop == null) {
+                    // ignorable ones can just be skipped; others need to be reported (or not)
+                    if (!beanDeser._ignoreAllUnknown
+                            && (beanDeser._ignorableProps == null || !beanDeser._ignorableProps.contains(name))) {
+                        return new Plan(ser, writers);
+                    }
+                }
+                targets[i] = prop;
+            }
+            return new Plan(ser, writers, beanDeser, targets);
+        }
+        if (deserClass == MapDeserializer.class) {
+            MapDeserializer mapDeser = (MapDeserializer) deser;
+            if (!mapDeser.canPopulateDirectly()) {
+                return new Plan(ser, writers);
+            }
+            return new Plan(ser, writers, mapDeser, mapDeser.getContentType().getRawClass(),
+                    mapDeser.getContentDeserializer(), mapDeser.getContentTypeDeserializer());
+        }
+        if (deserClass == UntypedObjectDeserializer.class) {
+            @SuppressWarnings("unchecked")
+            JsonDeserializer<Object> untyped = (JsonDeserializer<Object>) deser;
+            return new Plan(ser, writers, null, Object.class, untyped, null);
+        }
+        return new Plan(ser, writers);
+    }
+
+    /*
+    /**********************************************************
+    /* Conversion
+    /**********************************************************
+     */
+
+    /**
+     * @param path Beans being converted, from the root value to given bean
+     *   (inclusive)
+     */
+    protected Object _convertBean(Plan plan, ObjectCodec codec, Object bean,
+            SerializerProvider prov, StdDeserializationContext ctxt, Path path)
+        throws IOException, JsonProcessingException
+    {
+        final BeanDeserializer beanDeser = plan.beanDeserializer;
+        final BeanPropertyWriter[] writers = plan.writers;
+        final Object result;
+        if (beanDeser != null) {
+            result = beanDeser._valueInstantiator.createUsingDefault();
+            if (beanDeser._injectables != null) {
+                beanDeser.injectValues(ctxt, result);
+            }
+        } else if (plan.mapDeserializer != null) {
+            result = plan.mapDeserializer.createEmptyMap();
+        } else { // untyped
+            result = new LinkedHashMap<String,Object>();
+        }
+        for (int i = 0, len = writers.length; i < len; ++i) {
+            final BeanPropertyWriter w = writers[i];
+            if (w == null) {
+                continue;
+            }
+            Object value;
+            try {
+                value = w.get(bean);
+            } catch (Exception e) {
+                plan.serializer.wrapAndThrow(prov, e, bean, w.getName());
+                continue;
+            }
+            if (beanDeser != null) {
+                SettableBeanProperty prop = plan.targets[i];
+                if (prop == null) { // ignorable
+                    continue;
+                }
+                try {
+                    _convertProperty(plan, codec, bean, w, value, prop, result, prov, ctxt, path);
+                } catch (Exception e) {
+                    beanDeser.wrapAndThrow(e, result, w.getName(), ctxt);
+                }
+            } else {
+                _convertEntry(plan, codec, bean, w, value, result, prov, ctxt, path);
+            }
+        }
+        return result;
+    }
+
+    protected void _convertProperty(Plan plan, ObjectCodec codec, Object bean, BeanPropertyWriter w, Object value,
+            SettableBeanProperty prop, Object result, SerializerProvider prov, StdDeserializationContext ctxt,
+            Path path)
+        throws IOException, JsonProcessingException
+    {
+        // only regular setters and fields can be assigned as is
+        Class<?> propClass = prop.getClass();
+        if (propClass == SettableBeanProperty.MethodProperty.class
+                || propClass == SettableBeanProperty.FieldProperty.class) {
+            if (value == null) {
+                if (w.willSuppressNulls()) {
+                    return;
+                }
+                if (prop._nullProvider == null && _writesPlainNull(prov)) {
+                    prop.set(result, null);
+                    return;
+                }
+            } else if (value != bean) { // self-references need to be reported by writer
+                if (_isSuppressed(w, value)) {
+                    return;
+                }
+                Object converted = _convertValue(codec, w, value, prop.getType().getRawClass(),
+                        prop.getValueDeserializer(), prop.getValueTypeDeserializer(), prov, ctxt, path);
+                if (converted != NOT_DIRECT) {
+                    prop.set(result, converted);
+                    return;
+                }
+            }
+        }
+        JsonParser jp = _bufferProperty(codec, plan.serializer, bean, w, prov);
+        if (jp != null) {
+            JsonParser oldParser = ctxt._parser;
+            ctxt._parser = jp;
+            try {
+                prop.deserializeAndSet(jp, ctxt, result);
+            } finally {
+                ctxt._parser = oldParser;
+            }
+            jp.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void _convertEntry(Plan plan, ObjectCodec codec, Object bean, BeanPropertyWriter w,
+            Object value, Object result, SerializerProvider prov, StdDeserializationContext ctxt,
+            Path path)
+        throws IOException, JsonProcessingException
+    {
+        Map<Object,Object> map = (Map<Object,Object>) result;
+        if (value == null) {
+            if (w.willSuppressNulls()) {
+                return;
+            }
+            if (_writesPlainNull(prov)) {
+                map.put(w.getName(), null);
+                return;
+            }
+        } else if (value != bean) {
+            if (_isSuppressed(w, value)) {
+                return;
+            }
+            Object converted = _convertValue(codec, w, value, plan.contentClass,
+                    plan.contentDeserializer, plan.contentTypeDeserializer, prov, ctxt, path);
+            if (converted != NOT_DIRECT) {
+                map.put(w.getName(), converted);
+                return;
+            }
+        }
+        JsonParser jp = _bufferProperty(codec, plan.serializer, bean, w, prov);
+        if (jp != null) {
+            JsonParser oldParser = ctxt._parser;
+            ctxt._parser = jp;
+            try {
+                // note: value deserializers do not handle nulls, need to check
+                Object entryValue;
+                if (jp.getCurrentToken() == JsonToken.VALUE_NULL) {
+                    entryValue = null;
+                } else if (plan.contentTypeDeserializer == null) {
+                    entryValue = plan.contentDeserializer.deserialize(jp, ctxt);
+                } else {
+                    entryValue = plan.contentDeserializer.deserializeWithType(jp, ctxt, plan.contentTypeDeserializer);
+                }
+                map.put(w.getName(), entryValue);
+            } finally {
+                ctxt._parser = oldParser;
+            }
+            jp.close();
+        }
+    }
+
+    /**
+     * Method called to convert given non-null property value directly, if possible.
+     * Beans that are already being converted (that is, ones that are part of a cycle)
+     * are not converted directly, but left for the serializer to report.
+     *
+     * @return Converted value, or {@link #NOT_DIRECT} if value can not be converted directly
+     */
+    protected Object _convertValue(ObjectCodec codec, BeanPropertyWriter w, Object value,
+            Class<?> targetClass, JsonDeserializer<Object> deser, TypeDeserializer typeDeser,
+            SerializerProvider prov, StdDeserializationContext ctxt, Path path)
+        throws IOException, JsonProcessingException
+    {
+        if (deser == null || typeDeser != null || w.getTypeSerializer() != null) {
+            return NOT_DIRECT;
+        }
+        final Class<?> cls = value.getClass();
+        JsonSerializer<Object> ser = w.getSerializer();
+        if (ser == null) {
+            ser = prov.findValueSerializer(cls, w);
+        }
+        if (cls == String.class || cls == Integer.class || cls == Long.class
+                || cls == Double.class || cls == Boolean.class) {
+            if (!_isStdImpl(ser) || !_isStdImpl(deser)) {
+                return NOT_DIRECT;
+            }
+            if (targetClass == cls
+                    || (targetClass.isPrimitive() && ClassUtil.wrapperType(targetClass) == cls)) {
+                return value;
+            }
+            // "natural" binding retains type, unless configured to use big numbers
+            if (targetClass == Object.class && deser.getClass() == UntypedObjectDeserializer.class) {
+                if (cls == Double.class) {
+                    if (ctxt.isEnabled(DeserializationConfig.Feature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+                        return NOT_DIRECT;
+                    }
+                } else if (cls == Integer.class || cls == Long.class) {
+                    if (ctxt.isEnabled(DeserializationConfig.Feature.USE_BIG_INTEGER_FOR_INTS)) {
+                        return NOT_DIRECT;
+                    }
+                }
+                return value;
+            }
+            return NOT_DIRECT;
+        }
+        if (path.contains(value)) {
+            return NOT_DIRECT;
+        }
+        Plan plan = _findPlan(ser, deser, prov);
+        if (plan == null) {
+            return NOT_DIRECT;
+        }
+        return _convertBean(plan, codec, value, prov, ctxt, new Path(value, path));
+    }
+
+    /**
+     * Helper method for serializing given property (if not suppressed) into
+     * a {@link TokenBuffer}, and returning parser that points to its value.
+     *
+     * @return Parser pointing to the value; or null if property was not written
+     */
+    protected JsonParser _bufferProperty(ObjectCodec codec, BeanSerializer ser, Object bean,
+            BeanPropertyWriter w, SerializerProvider prov)
+        throws IOException, JsonProcessingException
+    {
+        TokenBuffer buf = new TokenBuffer(codec);
+        buf.writeStartObject();
+        try {
+            w.serializeAsField(bean, buf, prov);
+        } catch (Exception e) {
+            ser.wrapAndThrow(prov, e, bean, w.getName());
+        }
+        buf.writeEndObject();
+        JsonParser jp = buf.asParser();
+        jp.nextToken(); // START_OBJECT
+        if (jp.nextToken() != JsonToken.FIELD_NAME) { // suppressed
+            jp.close();
+            return null;
+        }
+        jp.nextToken();
+        return jp;
+    }
+
+    protected final static boolean _isSuppressed(BeanPropertyWriter w, Object value)
+    {
+        Object suppressable = w.getSuppressableValue();
+        return (suppressable != null) && suppressable.equals(value);
+    }
+
+    protected final static boolean _writesPlainNull(SerializerProvider prov)
+    {
+        return prov.getNullValueSerializer() == NullSerializer.instance;
+    }
+
+    protected final static boolean _isStdImpl(Object handler)
+    {
+        return (handler != null) && (handler.getClass().getAnnotation(JacksonStdImpl.class) != null);
+    }
+
+    /*
+    /**********************************************************
+    /* Helper classes
+    /**********************************************************
+     */
+
+    /**
+     * Key for plans: identities of serializer and deserializer
+     */
+    protected final static class PlanKey
+    {
+        public final Object serializer;
+        public final Object deserializer;
+        private final int _hashCode;
+
+        public PlanKey(Object ser, Object deser)
+        {
+            serializer = ser;
+            deserializer = deser;
+            _hashCode = System.identityHashCode(ser) * 31 + System.identityHashCode(deser);
+        }
+
+        @Override
+        public int hashCode() { return _hashCode; }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (o == this) return true;
+            if (o == null || o.getClass() != getClass()) return false;
+            PlanKey other = (PlanKey) o;
+            return (other.serializer == serializer) && (other.deserializer == deserializer);
+        }
+    }
+
+    /**
+     * Linked list of beans being converted, from the innermost one to
+     * the root value; used for detecting cycles before recursing.
+     */
+    protected final static class Path
+    {
+        public final Object bean;
+        public final Path parent;
+
+        public Path(Object bean, Path parent)
+        {
+            this.bean = bean;
+            this.parent = parent;
+        }
+
+        public boolean contains(Object value)
+        {
+            for (Path p = this; p != null; p = p.parent) {
+                if (p.bean == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Plan for converting values of a bean type into target type; either
+     * a bean (in which case {@link #beanDeserializer} is non-null) or a Map.
+     */
+    protected final static class Plan
+    {
+        public final BeanSerializer serializer;
+
+        public final BeanPropertyWriter[] writers;
+
+        /**
+         * Whether direct conversion is possible; if not, other fields
+         * (except for {@link #writers}) are not set.
+         */
+        protected final boolean _direct;
+
+        public final BeanDeserializer beanDeserializer;
+
+        /**
+         * Target properties for source properties, matched by index;
+         * null for properties that are to be ignored.
+         */
+        public final SettableBeanProperty[] targets;
+
+        /**
+         * Deserializer that constructs target Map; null for bean targets,
+         * as well as for untyped Maps
+         */
+        public final MapDeserializer mapDeserializer;
+
+        public final Class<?> contentClass;
+        public final JsonDeserializer<Object> contentDeserializer;
+        public final TypeDeserializer contentTypeDeserializer;
+
+        /**
+         * Constructor for plans indicating that direct conversion is not possible
+         */
+        public Plan(BeanSerializer ser, BeanPropertyWriter[] writers)
+        {
+            serializer = ser;
+            this.writers = writers;
+            _direct = false;
+            beanDeserializer = null;
+            targets = null;
+            mapDeserializer = null;
+            contentClass = null;
+            contentDeserializer = null;
+            contentTypeDeserializer = null;
+        }
+
+        public Plan(BeanSerializer ser, BeanPropertyWriter[] writers,
+                BeanDeserializer deser, SettableBeanProperty[] targets)
+        {
+            serializer = ser;
+            this.writers = writers;
+            _direct = true;
+            beanDeserializer = deser;
+            this.targets = targets;
+            mapDeserializer = null;
+            contentClass = null;
+            contentDeserializer = null;
+            contentTypeDeserializer = null;
+        }
+
+        public Plan(BeanSerializer ser, BeanPropertyWriter[] writers, MapDeserializer deser,
+                Class<?> contentClass, JsonDeserializer<Object> contentDeser, TypeDeserializer contentTypeDeser)
+        {
+            serializer = ser;
+            this.writers = writers;
+            _direct = true;
+            beanDeserializer = null;
+            targets = null;
+            mapDeserializer = deser;
+            this.contentClass = contentClass;
+            contentDeserializer = contentDeser;
+            contentTypeDeserializer = contentTypeDeser;
+        }
+
+        public boolean isDirect() { return _direct; }
+    }
+}
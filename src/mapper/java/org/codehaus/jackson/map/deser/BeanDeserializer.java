@@ -164,6 +164,21 @@ public class BeanDeserializer
      */
     protected UnwrappedPropertyHandler _unwrappedPropertyHandler;
 
+    /**
+     * If all "unwrapped" values can be deserialized directly from input
+     * (without buffering), helper object used for doing that. Lazily
+     * constructed when first needed, since deserializers of unwrapped
+     * values need to be fully resolved first.
+     * 
+     * @since 1.9.14
+     */
+    protected UnwrappedPropertyHandler.Flattened _flattenedUnwrapped;
+
+    /**
+     * @since 1.9.14
+     */
+    protected boolean _flattenedUnwrappedChecked;
+
     /**
      * Handler that we need iff any of properties uses external
      * type id.
@@ -625,12 +640,23 @@ public class BeanDeserializer
         if (t == JsonToken.START_OBJECT) {
             t = jp.nextToken();
         }
+        // [1.9.14]: properties are usually in expected order; if so, no lookups needed
+        SettableBeanProperty[] ordered = _beanProperties.getExpectedOrder();
+        int nextIndex = 0;
         for (; t == JsonToken.FIELD_NAME; t = jp.nextToken()) {
             String propName = jp.getCurrentName();
             // Skip field name:
             jp.nextToken();
-            SettableBeanProperty prop = _beanProperties.find(propName);
-            
+            SettableBeanProperty prop;
+            if (nextIndex < ordered.length && propName.equals(ordered[nextIndex].getName())) {
+                prop = ordered[nextIndex++];
+            } else {
+                prop = _beanProperties.findUnexpected(propName, nextIndex);
+                if (prop != null) {
+                    ordered = _beanProperties.getExpectedOrder();
+                    nextIndex = _beanProperties.indexAfter(ordered, prop, nextIndex);
+                }
+            }
             if (prop != null) { // normal case
                 try {
                     prop.deserializeAndSet(jp, ctxt, bean);
@@ -687,11 +713,23 @@ public class BeanDeserializer
         if (_injectables != null) {
             injectValues(ctxt, bean);
         }
+        // [1.9.14]: properties are usually in expected order; if so, no lookups needed
+        SettableBeanProperty[] ordered = _beanProperties.getExpectedOrder();
+        int nextIndex = 0;
         for (; jp.getCurrentToken() != JsonToken.END_OBJECT; jp.nextToken()) {
             String propName = jp.getCurrentName();
             // Skip field name:
             jp.nextToken();
-            SettableBeanProperty prop = _beanProperties.find(propName);
+            SettableBeanProperty prop;
+            if (nextIndex < ordered.length && propName.equals(ordered[nextIndex].getName())) {
+                prop = ordered[nextIndex++];
+            } else {
+                prop = _beanProperties.findUnexpected(propName, nextIndex);
+                if (prop != null) {
+                    ordered = _beanProperties.getExpectedOrder();
+                    nextIndex = _beanProperties.indexAfter(ordered, prop, nextIndex);
+                }
+            }
             if (prop != null) { // normal case
                 try {
                     prop.deserializeAndSet(jp, ctxt, bean);
@@ -1031,13 +1069,17 @@ public class BeanDeserializer
             return deserializeUsingPropertyBasedWithUnwrapped(jp, ctxt);
         }
         
-        TokenBuffer tokens = new TokenBuffer(jp.getCodec());
-        tokens.writeStartObject();
         final Object bean = _valueInstantiator.createUsingDefault();
 
         if (_injectables != null) {
             injectValues(ctxt, bean);
         }
+        UnwrappedPropertyHandler.Flattened flattened = _findFlattenedUnwrapped();
+        if (flattened != null) {
+            return _deserializeWithFlattened(jp, ctxt, bean, flattened, flattened.start());
+        }
+        TokenBuffer tokens = new TokenBuffer(jp.getCodec());
+        tokens.writeStartObject();
         
         for (; jp.getCurrentToken() != JsonToken.END_OBJECT; jp.nextToken()) {
             String propName = jp.getCurrentName();
@@ -1077,6 +1119,10 @@ public class BeanDeserializer
     protected Object deserializeWithUnwrapped(JsonParser jp, DeserializationContext ctxt, Object bean)
         throws IOException, JsonProcessingException
     {
+        UnwrappedPropertyHandler.Flattened flattened = _findFlattenedUnwrapped();
+        if (flattened != null) {
+            return _deserializeWithFlattened(jp, ctxt, bean, flattened, flattened.start());
+        }
         JsonToken t = jp.getCurrentToken();
         if (t == JsonToken.START_OBJECT) {
             t = jp.nextToken();
@@ -1115,6 +1161,10 @@ public class BeanDeserializer
     protected Object deserializeUsingPropertyBasedWithUnwrapped(JsonParser jp, DeserializationContext ctxt)
         throws IOException, JsonProcessingException
     {
+        UnwrappedPropertyHandler.Flattened flattened = _findFlattenedUnwrapped();
+        if (flattened != null) {
+            return deserializeUsingPropertyBasedWithFlattened(jp, ctxt, flattened);
+        }
         final PropertyBasedCreator creator = _propertyBasedCreator;
         PropertyValueBuffer buffer = creator.startBuilding(jp, ctxt);
 
@@ -1187,6 +1237,205 @@ public class BeanDeserializer
         return _unwrappedPropertyHandler.processUnwrapped(jp, ctxt, bean, tokens);
     }
 
+    /**
+     * Method called instead of {@link #deserializeUsingPropertyBasedWithUnwrapped}
+     * if properties of unwrapped values can be deserialized directly.
+     * 
+     * @since 1.9.14
+     */
+    protected Object deserializeUsingPropertyBasedWithFlattened(JsonParser jp, DeserializationContext ctxt,
+            UnwrappedPropertyHandler.Flattened flattened)
+        throws IOException, JsonProcessingException
+    {
+        final PropertyBasedCreator creator = _propertyBasedCreator;
+        PropertyValueBuffer buffer = creator.startBuilding(jp, ctxt);
+        final Object[] values = flattened.start();
+
+        JsonToken t = jp.getCurrentToken();
+        for (; t == JsonToken.FIELD_NAME; t = jp.nextToken()) {
+            String propName = jp.getCurrentName();
+            jp.nextToken(); // to point to value
+            // creator property?
+            SettableBeanProperty creatorProp = creator.findCreatorProperty(propName);
+            if (creatorProp != null) {
+                // Last creator property to set?
+                Object value = creatorProp.deserialize(jp, ctxt);
+                if (buffer.assignParameter(creatorProp.getPropertyIndex(), value)) {
+                    jp.nextToken(); // to move to following FIELD_NAME/END_OBJECT
+                    Object bean;
+                    try {
+                        bean = creator.build(buffer);
+                    } catch (Exception e) {
+                        wrapAndThrow(e, _beanType.getRawClass(), propName, ctxt);
+                        continue; // never gets here
+                    }
+                    if (bean.getClass() != _beanType.getRawClass()) {
+                        throw ctxt.mappingException("Can not create polymorphic instances with unwrapped values");
+                    }
+                    // remaining properties can be assigned directly
+                    return _deserializeWithFlattened(jp, ctxt, bean, flattened, values);
+                }
+                continue;
+            }
+            // regular property? needs buffering
+            SettableBeanProperty prop = _beanProperties.find(propName);
+            if (prop != null) {
+                buffer.bufferProperty(prop, prop.deserialize(jp, ctxt));
+                continue;
+            }
+            if (_ignorableProps != null && _ignorableProps.contains(propName)) {
+                jp.skipChildren();
+                continue;
+            }
+            // property of an unwrapped value? Those can be assigned right away
+            UnwrappedPropertyHandler.ChildProperty childProp = flattened.find(propName);
+            if (childProp != null) {
+                Object value = flattened.valueFor(childProp, values);
+                try {
+                    childProp.getProperty().deserializeAndSet(jp, ctxt, value);
+                } catch (Exception e) {
+                    wrapAndThrow(e, value, propName, ctxt);
+                }
+                continue;
+            }
+            // otherwise unknown; ignored same as with buffered unwrapped values
+            jp.skipChildren();
+        }
+
+        // We hit END_OBJECT, so:
+        Object bean;
+        try {
+            bean =  creator.build(buffer);
+        } catch (Exception e) {
+            wrapInstantiationProblem(e, ctxt);
+            return null; // never gets here
+        }
+        return flattened.complete(bean, values);
+    }
+
+    /**
+     * Helper method for deserializing properties of a bean with unwrapped
+     * values, when properties of unwrapped values can be deserialized
+     * directly from the input (instead of first buffering all properties).
+     * 
+     * @since 1.9.14
+     */
+    protected final Object _deserializeWithFlattened(JsonParser jp, DeserializationContext ctxt,
+            Object bean, UnwrappedPropertyHandler.Flattened flattened, Object[] values)
+        throws IOException, JsonProcessingException
+    {
+        JsonToken t = jp.getCurrentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = jp.nextToken();
+        }
+        for (; t == JsonToken.FIELD_NAME; t = jp.nextToken()) {
+            String propName = jp.getCurrentName();
+            jp.nextToken();
+            SettableBeanProperty prop = _beanProperties.find(propName);
+            if (prop != null) { // normal case
+                try {
+                    prop.deserializeAndSet(jp, ctxt, bean);
+                } catch (Exception e) {
+                    wrapAndThrow(e, bean, propName, ctxt);
+                }
+                continue;
+            }
+            if (_ignorableProps != null && _ignorableProps.contains(propName)) {
+                jp.skipChildren();
+                continue;
+            }
+            UnwrappedPropertyHandler.ChildProperty childProp = flattened.find(propName);
+            if (childProp != null) {
+                Object value = flattened.valueFor(childProp, values);
+                try {
+                    childProp.getProperty().deserializeAndSet(jp, ctxt, value);
+                } catch (Exception e) {
+                    wrapAndThrow(e, value, propName, ctxt);
+                }
+                continue;
+            }
+            // otherwise unknown; ignored same as with buffered unwrapped values
+            jp.skipChildren();
+        }
+        return flattened.complete(bean, values);
+    }
+
+    /**
+     * Accessor for helper object used for deserializing unwrapped values
+     * directly from input, if that is possible; constructed when first needed.
+     * 
+     * @since 1.9.14
+     */
+    protected UnwrappedPropertyHandler.Flattened _findFlattenedUnwrapped()
+    {
+        if (!_flattenedUnwrappedChecked) {
+            // races are benign: will construct equivalent instances
+            _flattenedUnwrapped = _flattenUnwrapped();
+            _flattenedUnwrappedChecked = true;
+        }
+        return _flattenedUnwrapped;
+    }
+
+    /**
+     * Method that checks whether all unwrapped values are simple beans whose
+     * properties can be deserialized directly from input; and if so, constructs
+     * lookup from names of their properties to properties.
+     * 
+     * @return Helper object for deserializing unwrapped values, if possible;
+     *   null if unwrapped values need to be buffered
+     * 
+     * @since 1.9.14
+     */
+    protected UnwrappedPropertyHandler.Flattened _flattenUnwrapped()
+    {
+        // "any setter" gets copies of all properties not handled by this bean; can't flatten
+        if (_anySetter != null) {
+            return null;
+        }
+        final UnwrappedPropertyHandler unwrapped = _unwrappedPropertyHandler;
+        final int len = unwrapped.size();
+        SettableBeanProperty[] props = new SettableBeanProperty[len];
+        ValueInstantiator[] instantiators = new ValueInstantiator[len];
+        HashMap<String, UnwrappedPropertyHandler.ChildProperty> childProps
+            = new HashMap<String, UnwrappedPropertyHandler.ChildProperty>();
+        for (int i = 0; i < len; ++i) {
+            SettableBeanProperty prop = unwrapped.getProperty(i);
+            JsonDeserializer<Object> deser = prop.getValueDeserializer();
+            if (prop.hasValueTypeDeserializer() || deser == null
+                    || deser.getClass() != BeanDeserializer.class) {
+                return null;
+            }
+            BeanDeserializer child = (BeanDeserializer) deser;
+            if (child._nonStandardCreation || child._unwrappedPropertyHandler != null
+                    || child._externalTypeIdHandler != null
+                    || child._anySetter != null || child._injectables != null
+                    || !child._valueInstantiator.canCreateUsingDefault()) {
+                return null;
+            }
+            props[i] = prop;
+            instantiators[i] = child._valueInstantiator;
+            Iterator<SettableBeanProperty> it = child._beanProperties.allProperties();
+            while (it.hasNext()) {
+                SettableBeanProperty childProp = it.next();
+                if (!childProp.hasValueDeserializer()) { // not yet resolved? Just in case
+                    return null;
+                }
+                String name = childProp.getName();
+                // properties of this bean itself are never passed to unwrapped values
+                if (_beanProperties.find(name) != null
+                        || (_ignorableProps != null && _ignorableProps.contains(name))
+                        || (_propertyBasedCreator != null && _propertyBasedCreator.findCreatorProperty(name) != null)) {
+                    continue;
+                }
+                // and if multiple unwrapped values have same property, all get values; need buffering
+                if (childProps.put(name, new UnwrappedPropertyHandler.ChildProperty(i, childProp)) != null) {
+                    return null;
+                }
+            }
+        }
+        return new UnwrappedPropertyHandler.Flattened(props, instantiators, childProps);
+    }
+
     /*
     /**********************************************************
     /* Handling for cases where we have property/-ies wth
@@ -1207,7 +1456,16 @@ public class BeanDeserializer
             Object bean)
         throws IOException, JsonProcessingException
     {
-        final ExternalTypeHandler ext = _externalTypeIdHandler.start();
+        return _deserializeWithExternalTypeId(jp, ctxt, bean, _externalTypeIdHandler.start());
+    }
+
+    /**
+     * @since 1.9.14
+     */
+    protected final Object _deserializeWithExternalTypeId(JsonParser jp, DeserializationContext ctxt,
+            Object bean, ExternalTypeHandler ext)
+        throws IOException, JsonProcessingException
+    {
         for (; jp.getCurrentToken() != JsonToken.END_OBJECT; jp.nextToken()) {
             String propName = jp.getCurrentName();
             jp.nextToken();
@@ -1257,9 +1515,6 @@ public class BeanDeserializer
         final PropertyBasedCreator creator = _propertyBasedCreator;
         PropertyValueBuffer buffer = creator.startBuilding(jp, ctxt);
 
-        TokenBuffer tokens = new TokenBuffer(jp.getCodec());
-        tokens.writeStartObject();
-
         JsonToken t = jp.getCurrentToken();
         for (; t == JsonToken.FIELD_NAME; t = jp.nextToken()) {
             String propName = jp.getCurrentName();
@@ -1278,18 +1533,13 @@ public class BeanDeserializer
                         wrapAndThrow(e, _beanType.getRawClass(), propName, ctxt);
                         continue; // never gets here
                     }
-                    // if so, need to copy all remaining tokens into buffer
-                    while (t == JsonToken.FIELD_NAME) {
-                        jp.nextToken(); // to skip name
-                        tokens.copyCurrentStructure(jp);
-                        t = jp.nextToken();
-                    }
                     if (bean.getClass() != _beanType.getRawClass()) {
                         // !!! 08-Jul-2011, tatu: Could probably support; but for now
                         //   it's too complicated, so bail out
                         throw ctxt.mappingException("Can not create polymorphic instances with unwrapped values");
                     }
-                    return ext.complete(jp, ctxt, bean);
+                    // and then handle remaining properties as usual (values assigned directly)
+                    return _deserializeWithExternalTypeId(jp, ctxt, bean, ext);
                 }
                 continue;
             }
@@ -259,6 +259,43 @@ public class BeanDeserializerBuilder
     public ValueInstantiator getValueInstantiator() {
         return _valueInstantiator;
     }
+
+    /**
+     * @since 1.9.14
+     */
+    public SettableAnyProperty getAnySetter() {
+        return _anySetter;
+    }
+
+    /**
+     * @since 1.9.14
+     */
+    public List<ValueInjector> getInjectables() {
+        return _injectables;
+    }
+
+    /**
+     * @since 1.9.14
+     */
+    public Map<String, SettableBeanProperty> getBackReferenceProperties() {
+        return _backRefProperties;
+    }
+
+    /**
+     * @return Names of properties to ignore, if any; null if none
+     * 
+     * @since 1.9.14
+     */
+    public Set<String> getIgnorableProperties() {
+        return _ignorableProps;
+    }
+
+    /**
+     * @since 1.9.14
+     */
+    public boolean getIgnoreUnknownProperties() {
+        return _ignoreAllUnknown;
+    }
     
     /*
     /**********************************************************
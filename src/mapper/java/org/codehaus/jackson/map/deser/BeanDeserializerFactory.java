@@ -11,6 +11,7 @@ import org.codehaus.jackson.map.deser.std.ThrowableDeserializer;
 import org.codehaus.jackson.map.introspect.*;
 import org.codehaus.jackson.map.type.*;
 import org.codehaus.jackson.map.util.ArrayBuilders;
+import org.codehaus.jackson.map.util.BeanColumns;
 import org.codehaus.jackson.map.util.ClassUtil;
 import org.codehaus.jackson.map.util.EnumResolver;
 import org.codehaus.jackson.type.JavaType;
@@ -583,6 +584,22 @@ public class BeanDeserializerFactory
             type = mapAbstractType(config, type);
         }
         
+        // [1.9.14]: "direct" deserializers are located without introspection
+        for (Deserializers d  : _factoryConfig.deserializers()) {
+            if (d instanceof Deserializers.Direct) {
+                JsonDeserializer<?> deser = ((Deserializers.Direct) d).findDirectDeserializer(config,
+                        type.getRawClass());
+                if (deser != null) {
+                    @SuppressWarnings("unchecked")
+                    JsonDeserializer<Object> result = (JsonDeserializer<Object>) deser;
+                    return result;
+                }
+            }
+        }
+        // [1.9.14]: columnar binding of arrays of beans
+        if (type.getRawClass() == BeanColumns.class) {
+            return buildBeanColumnsDeserializer(config, type, property);
+        }
         // First things first: maybe explicit definition via annotations?
         BasicBeanDescription beanDesc = config.introspect(type);
         JsonDeserializer<Object> ad = findDeserializerFromAnnotation(config, beanDesc.getClassInfo(), property);
@@ -673,6 +690,22 @@ public class BeanDeserializerFactory
         return null;
     }
     
+    /**
+     * Method for constructing deserializer for {@link BeanColumns}; bean type
+     * is specified by type parameter.
+     * 
+     * @since 1.9.14
+     */
+    @SuppressWarnings("unchecked")
+    protected JsonDeserializer<Object> buildBeanColumnsDeserializer(DeserializationConfig config,
+            JavaType type, BeanProperty property)
+        throws JsonMappingException
+    {
+        JavaType beanType = type.containedType(0);
+        JsonDeserializer<?> deser = new BeanColumnsDeserializer(beanType, property);
+        return (JsonDeserializer<Object>) deser;
+    }
+
     /*
     /**********************************************************
     /* Public construction method beyond DeserializerFactory API:
@@ -1,6 +1,7 @@
 package org.codehaus.jackson.map.deser;
 
 import java.io.IOException;
+import java.lang.ref.SoftReference;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.util.*;
@@ -10,10 +11,12 @@ import org.codehaus.jackson.JsonProcessingException;
 import org.codehaus.jackson.JsonToken;
 import org.codehaus.jackson.map.*;
 import org.codehaus.jackson.map.exc.UnrecognizedPropertyException;
+import org.codehaus.jackson.map.deser.impl.PropertyValueBuffer;
 import org.codehaus.jackson.map.util.ArrayBuilders;
 import org.codehaus.jackson.map.util.ClassUtil;
 import org.codehaus.jackson.map.util.LinkedNode;
 import org.codehaus.jackson.map.util.ObjectBuffer;
+import org.codehaus.jackson.map.util.StringValueCanonicalizer;
 import org.codehaus.jackson.type.JavaType;
 
 /**
@@ -29,6 +32,12 @@ public class StdDeserializationContext
      */
     final static int MAX_ERROR_STR_LEN = 500;
 
+    /**
+     * Maximum number of Creator property buffers to retain for reuse;
+     * only needs to cover expected nesting depth of Creator-based values.
+     */
+    final static int MAX_PROPERTY_VALUE_BUFFERS = 8;
+
     // // // Configuration
 
     /**
@@ -54,8 +63,41 @@ public class StdDeserializationContext
 
     protected ObjectBuffer _objectBuffer;
 
+    /**
+     * Recycled buffers for property-based Creators; used as a stack,
+     * so that nested values (which lease and return buffers within
+     * lease of enclosing value) get buffers sized for them.
+     *
+     * @since 1.9.14
+     */
+    protected PropertyValueBuffer[] _propertyValueBuffers;
+
+    /**
+     * @since 1.9.14
+     */
+    protected int _propertyValueBufferCount;
+
     protected DateFormat _dateFormat;
 
+    /**
+     * Helper object used for sharing String values, if enabled;
+     * constructed lazily, and cleared between calls.
+     * 
+     * @since 1.9.14
+     */
+    protected StringValueCanonicalizer _stringCanonicalizer;
+
+    // // // Recycling of context itself
+
+    /**
+     * Whether this instance was obtained using {@link #leaseInstance}, and
+     * is currently in use; only such instances are made available for reuse
+     * by {@link #release}.
+     * 
+     * @since 1.9.14
+     */
+    protected boolean _leased;
+
     /*
     /**********************************************************
     /* Life-cycle
@@ -71,6 +113,67 @@ public class StdDeserializationContext
         _injectableValues = injectableValues;
     }
 
+    /**
+     * Factory method for getting a context to use for a single (root-level)
+     * deserialization call: will reuse the context recycled by an earlier
+     * call from the same thread, if it was constructed for the same
+     * configuration, provider and injectable values (and is not currently
+     * in use), so that helper objects it has (buffers, date format) need
+     * not be constructed again; otherwise constructs a new recyclable instance.
+     * Caller should call {@link #release} once deserialization is complete.
+     * 
+     * @param recycled Per-thread holder of the most recently leased instance;
+     *   usually owned by {@link ObjectMapper}, so that contexts are not retained
+     *   beyond life-time of the mapper
+     * 
+     * @since 1.9.14
+     */
+    public static StdDeserializationContext leaseInstance(ThreadLocal<SoftReference<StdDeserializationContext>> recycled,
+            DeserializationConfig config, JsonParser jp,
+            DeserializerProvider prov, InjectableValues injectableValues)
+    {
+        SoftReference<StdDeserializationContext> ref = recycled.get();
+        StdDeserializationContext ctxt = (ref == null) ? null : ref.get();
+        if (ctxt != null && !ctxt._leased && ctxt._config == config
+                && ctxt._deserProvider == prov && ctxt._injectableValues == injectableValues) {
+            ctxt.reset(jp);
+        } else {
+            ctxt = new StdDeserializationContext(config, jp, prov, injectableValues);
+            recycled.set(new SoftReference<StdDeserializationContext>(ctxt));
+        }
+        ctxt._leased = true;
+        return ctxt;
+    }
+
+    /**
+     * Method called to prepare a recycled context for use with given parser;
+     * helper objects (buffers, date format) are retained.
+     * 
+     * @since 1.9.14
+     */
+    protected void reset(JsonParser jp)
+    {
+        _parser = jp;
+        if (_stringCanonicalizer != null) {
+            _stringCanonicalizer.clear();
+        }
+    }
+
+    /**
+     * Method called once a context obtained using {@link #leaseInstance} is
+     * no longer used, to allow it to be reused for later calls. Calls
+     * for other instances are ignored.
+     * 
+     * @since 1.9.14
+     */
+    public void release()
+    {
+        if (_leased) {
+            _leased = false;
+            _parser = null;
+        }
+    }
+
     /*
     /**********************************************************
     /* Public API, accessors
@@ -133,6 +236,35 @@ public class StdDeserializationContext
         }
     }
 
+    @Override
+    public final PropertyValueBuffer leasePropertyValueBuffer(JsonParser jp, int paramCount)
+    {
+        if (_propertyValueBufferCount == 0) {
+            return new PropertyValueBuffer(jp, this, paramCount);
+        }
+        int ix = --_propertyValueBufferCount;
+        PropertyValueBuffer buf = _propertyValueBuffers[ix];
+        _propertyValueBuffers[ix] = null;
+        buf.reset(jp, paramCount);
+        return buf;
+    }
+
+    @Override
+    public final void returnPropertyValueBuffer(PropertyValueBuffer buf)
+    {
+        // only recycle buffers we created, and only retain a few
+        if (buf.getContext() != this) {
+            return;
+        }
+        buf.clear();
+        if (_propertyValueBuffers == null) {
+            _propertyValueBuffers = new PropertyValueBuffer[MAX_PROPERTY_VALUE_BUFFERS];
+        } else if (_propertyValueBufferCount == MAX_PROPERTY_VALUE_BUFFERS) {
+            return;
+        }
+        _propertyValueBuffers[_propertyValueBufferCount++] = buf;
+    }
+
     @Override
     public final ArrayBuilders getArrayBuilders()
     {
@@ -142,6 +274,18 @@ public class StdDeserializationContext
         return _arrayBuilders;
     }
 
+    @Override
+    public final StringValueCanonicalizer getStringCanonicalizer()
+    {
+        if (_stringCanonicalizer == null) {
+            if (!_config.isEnabled(DeserializationConfig.Feature.CANONICALIZE_STRING_VALUES)) {
+                return null;
+            }
+            _stringCanonicalizer = _config.constructStringCanonicalizer();
+        }
+        return _stringCanonicalizer;
+    }
+
     /*
     /**********************************************************
     /* Parsing methods that may use reusable/recyclable objects
@@ -110,6 +110,13 @@ public class StdDeserializerProvider
         return withFactory(_factory.withValueInstantiators(instantiators));
     }
 
+    /**
+     * @since 1.9.14
+     */
+    public DeserializerFactory getFactory() {
+        return _factory;
+    }
+
     @Override
     public StdDeserializerProvider withFactory(DeserializerFactory factory) {
         // sanity-check to try to prevent hard-to-debug problems; sub-classes MUST override this method
@@ -148,6 +155,7 @@ public class StdDeserializerProvider
     {
         JsonDeserializer<Object> deser = _findCachedDeserializer(propertyType);
         if (deser != null) {
+            config.getInstrumentation().deserializerCacheHit();
             // [JACKSON-385]: need to support contextualization:
             if (deser instanceof ContextualDeserializer<?>) {
                 JsonDeserializer<?> d = ((ContextualDeserializer<?>) deser).createContextual(config, property);
@@ -155,6 +163,7 @@ public class StdDeserializerProvider
             }
             return deser;
         }
+        config.getInstrumentation().deserializerCacheMiss();
         // If not, need to request factory to construct (or recycle)
         deser = _createAndCacheValueDeserializer(config, propertyType, property);
         if (deser == null) {
@@ -305,6 +314,9 @@ public class StdDeserializerProvider
             BeanProperty property)
         throws JsonMappingException
     {
+        MapperInstrumentation instr = config.getInstrumentation();
+        final boolean timed = instr.isEnabled();
+        final long start = timed ? System.nanoTime() : 0L;
         JsonDeserializer<Object> deser;
         try {
             deser = _createDeserializer(config, type, property);
@@ -355,6 +367,9 @@ public class StdDeserializerProvider
         if (addToCache) {
             _cachedDeserializers.put(type, deser);
         }
+        if (timed) {
+            instr.deserializerConstructed(type, System.nanoTime() - start);
+        }
         return deser;
     }
 
@@ -12,6 +12,14 @@ import org.codehaus.jackson.map.deser.SettableBeanProperty;
  * is performance: although default implementation is very good for generic
  * use cases, it can still be streamlined a bit for specific use case
  * we have.
+ *<p>
+ * Since 1.9.14, map also keeps track of the order in which properties are
+ * expected to appear in input (initially order in which properties were
+ * passed, which is usually the same as order used for serialization), to
+ * allow callers to first just compare incoming names against name of
+ * expected next property (see {@link #getExpectedOrder} and
+ * {@link #findUnexpected}). Expected order adapts to actual order used in
+ * input, if that differs.
  * 
  * @since 1.7
  */
@@ -22,6 +30,40 @@ public final class BeanPropertyMap
     private final int _hashMask;
 
     private final int _size;
+
+    /**
+     * Properties in order they are expected to be found in input. Never
+     * modified after being assigned: adaptation is done by creating and
+     * assigning a new array.
+     * 
+     * @since 1.9.14
+     */
+    private volatile SettableBeanProperty[] _expectedOrder;
+
+    /**
+     * Number of times we may still change expected order; used to
+     * prevent endless reordering for inputs with no consistent ordering.
+     * Accessed without synchronization, as precision is not needed.
+     * 
+     * @since 1.9.14
+     */
+    private int _reorderBudget;
+
+    /**
+     * Number of mismatches seen since expected order was last changed;
+     * order is only changed when mismatches recur, since they may also be
+     * due to properties missing from input.
+     * Accessed without synchronization, as precision is not needed.
+     * 
+     * @since 1.9.14
+     */
+    private int _misses;
+
+    /**
+     * Number of mismatches (where property was found later than expected)
+     * to see before changing expected order.
+     */
+    private final static int REORDER_THRESHOLD = 8;
     
     public BeanPropertyMap(Collection<SettableBeanProperty> properties)
     {
@@ -29,12 +71,17 @@ public final class BeanPropertyMap
         int bucketCount = findSize(_size);
         _hashMask = bucketCount-1;
         Bucket[] buckets = new Bucket[bucketCount];
+        SettableBeanProperty[] ordered = new SettableBeanProperty[_size];
+        int i = 0;
         for (SettableBeanProperty property : properties) {
             String key = property.getName();
             int index = key.hashCode() & _hashMask;
             buckets[index] = new Bucket(buckets[index], key, property);
+            ordered[i++] = property;
         }
         _buckets = buckets;
+        _expectedOrder = ordered;
+        _reorderBudget = 4 * _size;
     }
 
     public void assignIndexes()
@@ -96,6 +143,72 @@ public final class BeanPropertyMap
         return _findWithEquals(key, index);
     }
 
+    /**
+     * Accessor for properties in the order they are expected to be
+     * encountered in input. Callers should first compare (using
+     * {@link String#equals}, which checks identity first; names are usually
+     * interned, but not always) name of the next expected property with
+     * the incoming name, and only call {@link #findUnexpected} if it
+     * does not match. Returned array must not be modified.
+     * 
+     * @since 1.9.14
+     */
+    public SettableBeanProperty[] getExpectedOrder() {
+        return _expectedOrder;
+    }
+
+    /**
+     * Method to call when incoming property name did not match the next
+     * expected property: will find the property using regular lookup, and
+     * let map adapt its expected ordering if necessary.
+     * 
+     * @param key Name of property to find
+     * @param expectedIndex Index of expected property that did not match
+     *   (may be equal to number of properties, if all expected properties
+     *   were already seen)
+     * 
+     * @return Property found, if any; null if none
+     * 
+     * @since 1.9.14
+     */
+    public SettableBeanProperty findUnexpected(String key, int expectedIndex)
+    {
+        SettableBeanProperty prop = find(key);
+        if (prop != null && _reorderBudget > 0) {
+            SettableBeanProperty[] ordered = _expectedOrder;
+            if (expectedIndex < ordered.length && ordered[expectedIndex] != prop) {
+                _reorder(ordered, expectedIndex, prop);
+            }
+        }
+        return prop;
+    }
+
+    /**
+     * Helper method that can be used to find index of the property that follows
+     * given property, in the current expected order; returns length of the
+     * array if property was not found (or is the last one).
+     * Search starts from given index (usually the expected index passed to
+     * {@link #findUnexpected}, where property is most likely to be found,
+     * possibly after reordering), and only wraps around if necessary.
+     * 
+     * @since 1.9.14
+     */
+    public int indexAfter(SettableBeanProperty[] ordered, SettableBeanProperty prop, int fromIndex)
+    {
+        final int len = ordered.length;
+        for (int i = fromIndex; i < len; ++i) {
+            if (ordered[i] == prop) {
+                return i+1;
+            }
+        }
+        for (int i = 0, end = Math.min(fromIndex, len); i < end; ++i) {
+            if (ordered[i] == prop) {
+                return i+1;
+            }
+        }
+        return len;
+    }
+    
     /**
      * Specialized method that can be used to replace an existing entry
      * (note: entry MUST exist; otherwise exception is thrown) with
@@ -129,6 +242,15 @@ public final class BeanPropertyMap
          * it allows replacement even when iterating over entries
          */
         _buckets[index] = new Bucket(tail, name, property);
+
+        SettableBeanProperty[] ordered = _expectedOrder.clone();
+        for (int i = 0; i < ordered.length; ++i) {
+            if (ordered[i].getName().equals(name)) {
+                ordered[i] = property;
+                break;
+            }
+        }
+        _expectedOrder = ordered;
     }
 
     /**
@@ -157,6 +279,15 @@ public final class BeanPropertyMap
             throw new NoSuchElementException("No entry '"+property+"' found, can't remove");
         }
         _buckets[index] = tail;
+
+        SettableBeanProperty[] ordered = _expectedOrder;
+        ArrayList<SettableBeanProperty> remaining = new ArrayList<SettableBeanProperty>(ordered.length);
+        for (SettableBeanProperty prop : ordered) {
+            if (!prop.getName().equals(name)) {
+                remaining.add(prop);
+            }
+        }
+        _expectedOrder = remaining.toArray(new SettableBeanProperty[remaining.size()]);
     }
     
     /*
@@ -165,6 +296,39 @@ public final class BeanPropertyMap
     /**********************************************************
      */
     
+    /**
+     * Helper method called to move given property to given position in
+     * expected order: this way expected order converges to order used in
+     * input, when that is consistent.
+     */
+    private void _reorder(SettableBeanProperty[] ordered, int expectedIndex, SettableBeanProperty prop)
+    {
+        int currIndex = -1;
+        for (int i = 0, len = ordered.length; i < len; ++i) {
+            if (ordered[i] == prop) {
+                currIndex = i;
+                break;
+            }
+        }
+        /* Only move properties that are found later than expected (others
+         * will end up in right place as a result); and only if this keeps
+         * happening, as properties may simply be missing from some inputs
+         * (nulls suppressed and such)
+         */
+        if (currIndex <= expectedIndex) {
+            return;
+        }
+        if (++_misses < REORDER_THRESHOLD) {
+            return;
+        }
+        _misses = 0;
+        --_reorderBudget;
+        SettableBeanProperty[] result = ordered.clone();
+        System.arraycopy(ordered, expectedIndex, result, expectedIndex+1, currIndex - expectedIndex);
+        result[expectedIndex] = prop;
+        _expectedOrder = result;
+    }
+
     private SettableBeanProperty _findWithEquals(String key, int index)
     {
         Bucket bucket = _buckets[index];
@@ -5,8 +5,11 @@ import java.util.*;
 
 import org.codehaus.jackson.JsonParser;
 import org.codehaus.jackson.JsonProcessingException;
+import org.codehaus.jackson.JsonToken;
 import org.codehaus.jackson.map.DeserializationContext;
+import org.codehaus.jackson.map.TypeDeserializer;
 import org.codehaus.jackson.map.deser.SettableBeanProperty;
+import org.codehaus.jackson.map.jsontype.impl.AsExternalTypeDeserializer;
 import org.codehaus.jackson.util.TokenBuffer;
 
 /**
@@ -15,6 +18,11 @@ import org.codehaus.jackson.util.TokenBuffer;
  * This is needed to store temporary state and buffer tokens, as the structure is
  * rearranged a bit so that actual type deserializer can resolve type and 
  * finalize deserialization.
+ *<p>
+ * Since 1.9.14, values are bound directly from the input stream whenever
+ * type id has been seen before the value (and with standard type
+ * deserializers); only values that precede their type id need to be
+ * buffered, and only values of the affected property are.
  * 
  * @since 1.9
  */
@@ -25,6 +33,20 @@ public class ExternalTypeHandler
 
     private final String[] _typeIds;
     private final TokenBuffer[] _tokens;
+
+    /**
+     * Values that have been deserialized, but can not yet be assigned
+     * since there is no bean instance yet (when using Creators);
+     * lazily allocated.
+     *
+     * @since 1.9.14
+     */
+    private Object[] _values;
+
+    /**
+     * @since 1.9.14
+     */
+    private boolean[] _hasValue;
     
     protected ExternalTypeHandler(ExtTypedProperty[] properties,
             HashMap<String, Integer> nameToPropertyIndex,
@@ -100,10 +122,28 @@ public class ExternalTypeHandler
             jp.skipChildren();
             canDeserialize = (bean != null) && (_tokens[index] != null);
         } else {
+            String typeId = _typeIds[index];
+            // Type id already known? If so, can bind value directly
+            if (typeId != null && prop.canDeserializeDirectly()) {
+                Object value = prop.deserializeDirectly(jp, ctxt, typeId);
+                if (bean != null) {
+                    prop.getProperty().set(bean, value);
+                    _typeIds[index] = null;
+                } else {
+                    if (_values == null) {
+                        int len = _properties.length;
+                        _values = new Object[len];
+                        _hasValue = new boolean[len];
+                    }
+                    _values[index] = value;
+                    _hasValue[index] = true;
+                }
+                return true;
+            }
             TokenBuffer tokens = new TokenBuffer(jp.getCodec());
             tokens.copyCurrentStructure(jp);
             _tokens[index] = tokens;
-            canDeserialize = (bean != null) && (_typeIds[index] != null);
+            canDeserialize = (bean != null) && (typeId != null);
         }
         /* Minor optimization: let's deserialize properties as soon as
          * we have all pertinent information:
@@ -121,6 +161,10 @@ public class ExternalTypeHandler
         throws IOException, JsonProcessingException
     {
         for (int i = 0, len = _properties.length; i < len; ++i) {
+            if (_hasValue != null && _hasValue[i]) {
+                _properties[i].getProperty().set(bean, _values[i]);
+                continue;
+            }
             if (_typeIds[i] == null) {
                 // let's allow missing both type and property (may already have been set, too)
                 if (_tokens[i] == null) {
@@ -140,6 +184,14 @@ public class ExternalTypeHandler
     protected final void _deserialize(JsonParser jp, DeserializationContext ctxt, Object bean, int index)
         throws IOException, JsonProcessingException
     {
+        ExtTypedProperty prop = _properties[index];
+        // With standard type deserializer, can just bind buffered value:
+        if (prop.canDeserializeDirectly()) {
+            JsonParser p2 = _tokens[index].asParser(jp);
+            p2.nextToken();
+            prop.getProperty().set(bean, prop.deserializeDirectly(p2, ctxt, _typeIds[index]));
+            return;
+        }
         /* Ok: time to mix type id, value; and we will actually use "wrapper-array"
          * style to ensure we can handle all kinds of JSON constructs.
          */
@@ -153,7 +205,7 @@ public class ExternalTypeHandler
         // needs to point to START_OBJECT (or whatever first token is)
         p2 = merged.asParser(jp);
         p2.nextToken();
-        _properties[index].getProperty().deserializeAndSet(p2, ctxt, bean);
+        prop.getProperty().deserializeAndSet(p2, ctxt, bean);
     }
     
     /*
@@ -185,11 +237,34 @@ public class ExternalTypeHandler
     {
         private final SettableBeanProperty _property;
         private final String _typePropertyName;
+
+        /**
+         * Type deserializer to use for binding values directly, if
+         * it is of standard type; null otherwise
+         */
+        private final AsExternalTypeDeserializer _typeDeserializer;
         
         public ExtTypedProperty(SettableBeanProperty property, String typePropertyName)
         {
             _property = property;
             _typePropertyName = typePropertyName;
+            TypeDeserializer typeDeser = property.getValueTypeDeserializer();
+            _typeDeserializer = (typeDeser instanceof AsExternalTypeDeserializer) ?
+                    (AsExternalTypeDeserializer) typeDeser : null;
+        }
+
+        public boolean canDeserializeDirectly() {
+            return _typeDeserializer != null;
+        }
+
+        public Object deserializeDirectly(JsonParser jp, DeserializationContext ctxt, String typeId)
+            throws IOException, JsonProcessingException
+        {
+            // nulls need no type information
+            if (jp.getCurrentToken() == JsonToken.VALUE_NULL) {
+                return _property.deserialize(jp, ctxt);
+            }
+            return _typeDeserializer.deserializeTypedWithId(jp, ctxt, typeId);
         }
 
         public boolean hasTypePropertyName(String n) {
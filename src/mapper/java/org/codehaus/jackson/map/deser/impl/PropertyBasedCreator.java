@@ -9,6 +9,7 @@ import org.codehaus.jackson.map.DeserializationContext;
 import org.codehaus.jackson.map.JsonDeserializer;
 import org.codehaus.jackson.map.deser.SettableBeanProperty;
 import org.codehaus.jackson.map.deser.ValueInstantiator;
+import org.codehaus.jackson.map.deser.std.StdValueInstantiator;
 import org.codehaus.jackson.map.util.ClassUtil;
 
 /**
@@ -49,6 +50,16 @@ public final class PropertyBasedCreator
      * @since 1.9
      */
     protected final SettableBeanProperty[] _propertiesWithInjectables;
+
+    /**
+     * Flag that indicates whether parameter arrays may be reused once
+     * instance has been created: true for the standard instantiator
+     * (which only passes them to reflection calls), but not for custom
+     * ones, which might retain them.
+     *
+     * @since 1.9.14
+     */
+    protected final boolean _canReuseParameters;
     
     public PropertyBasedCreator(ValueInstantiator valueInstantiator)
     {
@@ -79,6 +90,7 @@ public final class PropertyBasedCreator
         }
         _defaultValues = defValues;
         _propertiesWithInjectables = propertiesWithInjectables;        
+        _canReuseParameters = (valueInstantiator.getClass() == StdValueInstantiator.class);
     }
 
     public Collection<SettableBeanProperty> getCreatorProperties() {
@@ -103,10 +115,12 @@ public final class PropertyBasedCreator
     
     /**
      * Method called when starting to build a bean instance.
+     * Buffer is leased from the context, and will be returned
+     * to it by {@link #build} once instance has been created.
      */
     public PropertyValueBuffer startBuilding(JsonParser jp, DeserializationContext ctxt)
     {
-        PropertyValueBuffer buffer = new PropertyValueBuffer(jp, ctxt, _propertyCount);
+        PropertyValueBuffer buffer = ctxt.leasePropertyValueBuffer(jp, _propertyCount);
         if (_propertiesWithInjectables != null) {
             buffer.inject(_propertiesWithInjectables);
         }
@@ -115,11 +129,16 @@ public final class PropertyBasedCreator
     
     public Object build(PropertyValueBuffer buffer) throws IOException
     {
-        Object bean = _valueInstantiator.createFromObjectWith(buffer.getParameters(_defaultValues));
+        Object[] params = buffer.getParameters(_defaultValues);
+        if (!_canReuseParameters) {
+            params = params.clone();
+        }
+        Object bean = _valueInstantiator.createFromObjectWith(params);
         // Anything buffered?
-        for (PropertyValue pv = buffer.buffered(); pv != null; pv = pv.next) {
-            pv.assign(bean);
+        if (buffer.hasBuffered()) {
+            buffer.assignBuffered(bean);
         }
+        buffer.getContext().returnPropertyValueBuffer(buffer);
         return bean;
     }
 }
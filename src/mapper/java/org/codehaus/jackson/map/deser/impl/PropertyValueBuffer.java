@@ -1,6 +1,10 @@
 package org.codehaus.jackson.map.deser.impl;
 
+import java.io.IOException;
+import java.util.Arrays;
+
 import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonProcessingException;
 import org.codehaus.jackson.map.DeserializationContext;
 import org.codehaus.jackson.map.deser.SettableAnyProperty;
 import org.codehaus.jackson.map.deser.SettableBeanProperty;
@@ -8,35 +12,65 @@ import org.codehaus.jackson.map.deser.SettableBeanProperty;
 /**
  * Simple container used for temporarily buffering a set of
  * <code>PropertyValue</code>s.
- * Using during construction of beans (and Maps) that use Creators, 
+ * Using during construction of beans (and Maps) that use Creators,
  * and hence need buffering before instance (that will have properties
  * to assign values to) is constructed.
+ *<p>
+ * Since 1.9.14, buffered values are stored in index-addressed arrays
+ * (instead of a linked list of <code>PropertyValue</code>s), and
+ * buffers are recycled via {@link DeserializationContext}, so that
+ * no per-instance allocations are needed once buffers have grown to
+ * the needed size.
  */
 public final class PropertyValueBuffer
 {
-    final JsonParser _parser;
+    final static int INITIAL_BUFFERED_SIZE = 8;
+
+    JsonParser _parser;
     final DeserializationContext _context;
-    
+
     /**
      * Buffer used for storing creator parameters for constructing
      * instance
      */
-    final Object[] _creatorParameters;
-    
+    Object[] _creatorParameters;
+
     /**
      * Number of creator parameters we are still missing.
      *<p>
      * NOTE: assumes there are no duplicates, for now.
      */
     private int _paramsNeeded;
-    
+
     /**
      * If we get non-creator parameters before or between
-     * creator parameters, those need to be buffered. Buffer
-     * is just a simple linked list
+     * creator parameters, those need to be buffered. Buffered
+     * values are kept in three parallel arrays: properties
+     * ({@link SettableBeanProperty} or {@link SettableAnyProperty};
+     * null for Map entries), keys (property name for "any" properties;
+     * key for Map entries) and values.
+     *
+     * @since 1.9.14
+     */
+    private Object[] _bufferedProperties;
+
+    /**
+     * @since 1.9.14
      */
-    private PropertyValue _buffered;
-    
+    private Object[] _bufferedKeys;
+
+    /**
+     * @since 1.9.14
+     */
+    private Object[] _bufferedValues;
+
+    /**
+     * Number of buffered non-creator property values
+     *
+     * @since 1.9.14
+     */
+    private int _bufferedCount;
+
     public PropertyValueBuffer(JsonParser jp, DeserializationContext ctxt, int paramCount)
     {
         _parser = jp;
@@ -45,6 +79,56 @@ public final class PropertyValueBuffer
         _creatorParameters = new Object[paramCount];
     }
 
+    /*
+    /**********************************************************
+    /* Recycling
+    /**********************************************************
+     */
+
+    /**
+     * Method called to prepare a recycled buffer for building a new
+     * instance; parameter array is only reallocated if its size differs.
+     *
+     * @since 1.9.14
+     */
+    public void reset(JsonParser jp, int paramCount)
+    {
+        _parser = jp;
+        _paramsNeeded = paramCount;
+        if (_creatorParameters.length != paramCount) {
+            _creatorParameters = new Object[paramCount];
+        }
+    }
+
+    /**
+     * Method called once buffer is no longer needed, to clear out
+     * references to buffered values (to allow them to be garbage
+     * collected while the buffer is being retained for reuse).
+     *
+     * @since 1.9.14
+     */
+    public void clear()
+    {
+        _parser = null;
+        Arrays.fill(_creatorParameters, null);
+        if (_bufferedCount > 0) {
+            Arrays.fill(_bufferedProperties, 0, _bufferedCount, null);
+            Arrays.fill(_bufferedKeys, 0, _bufferedCount, null);
+            Arrays.fill(_bufferedValues, 0, _bufferedCount, null);
+            _bufferedCount = 0;
+        }
+    }
+
+    public DeserializationContext getContext() {
+        return _context;
+    }
+
+    /*
+    /**********************************************************
+    /* Creator parameters
+    /**********************************************************
+     */
+
     public void inject(SettableBeanProperty[] injectableProperties)
     {
         for (int i = 0, len = injectableProperties.length; i < len; ++i) {
@@ -56,7 +140,7 @@ public final class PropertyValueBuffer
             }
         }
     }
-    
+
     /**
      * @param defaults If any of parameters requires nulls to be replaced with a non-null
      *    object (usually primitive types), this is a non-null array that has such replacement
@@ -77,8 +161,6 @@ public final class PropertyValueBuffer
         return _creatorParameters;
     }
 
-    protected PropertyValue buffered() { return _buffered; }
-    
     /**
      * @return True if we have received all creator parameters
      */
@@ -86,17 +168,82 @@ public final class PropertyValueBuffer
         _creatorParameters[index] = value;
         return --_paramsNeeded <= 0;
     }
-    
+
+    /*
+    /**********************************************************
+    /* Other buffered properties
+    /**********************************************************
+     */
+
     public void bufferProperty(SettableBeanProperty prop, Object value) {
-        _buffered = new PropertyValue.Regular(_buffered, value, prop);
+        _buffer(prop, null, value);
     }
-    
+
     public void bufferAnyProperty(SettableAnyProperty prop, String propName, Object value) {
-        _buffered = new PropertyValue.Any(_buffered, value, prop, propName);
+        _buffer(prop, propName, value);
     }
 
     public void bufferMapProperty(Object key, Object value) {
-        _buffered = new PropertyValue.Map(_buffered, value, key);
+        _buffer(null, key, value);
+    }
+
+    /**
+     * @return True if there are buffered non-creator property values
+     *
+     * @since 1.9.14
+     */
+    protected boolean hasBuffered() {
+        return _bufferedCount > 0;
     }
-}
 
+    /**
+     * Method for assigning all buffered non-creator property values to
+     * given newly constructed instance, in the order they were buffered.
+     *
+     * @since 1.9.14
+     */
+    @SuppressWarnings("unchecked")
+    protected void assignBuffered(Object bean)
+        throws IOException, JsonProcessingException
+    {
+        final Object[] props = _bufferedProperties;
+        final Object[] keys = _bufferedKeys;
+        final Object[] values = _bufferedValues;
+        for (int i = 0, len = _bufferedCount; i < len; ++i) {
+            Object prop = props[i];
+            if (prop instanceof SettableBeanProperty) {
+                ((SettableBeanProperty) prop).set(bean, values[i]);
+            } else if (prop == null) {
+                ((java.util.Map<Object,Object>) bean).put(keys[i], values[i]);
+            } else {
+                ((SettableAnyProperty) prop).set(bean, (String) keys[i], values[i]);
+            }
+        }
+    }
+
+    private void _buffer(Object prop, Object key, Object value)
+    {
+        int ix = _bufferedCount;
+        if (_bufferedProperties == null) {
+            _bufferedProperties = new Object[INITIAL_BUFFERED_SIZE];
+            _bufferedKeys = new Object[INITIAL_BUFFERED_SIZE];
+            _bufferedValues = new Object[INITIAL_BUFFERED_SIZE];
+        } else if (ix == _bufferedProperties.length) {
+            int newSize = ix + ix;
+            _bufferedProperties = _grow(_bufferedProperties, newSize);
+            _bufferedKeys = _grow(_bufferedKeys, newSize);
+            _bufferedValues = _grow(_bufferedValues, newSize);
+        }
+        _bufferedProperties[ix] = prop;
+        _bufferedKeys[ix] = key;
+        _bufferedValues[ix] = value;
+        _bufferedCount = ix+1;
+    }
+
+    private final static Object[] _grow(Object[] arr, int newSize)
+    {
+        Object[] result = new Object[newSize];
+        System.arraycopy(arr, 0, result, 0, arr.length);
+        return result;
+    }
+}
@@ -7,6 +7,7 @@ import org.codehaus.jackson.JsonParser;
 import org.codehaus.jackson.JsonProcessingException;
 import org.codehaus.jackson.map.DeserializationContext;
 import org.codehaus.jackson.map.deser.SettableBeanProperty;
+import org.codehaus.jackson.map.deser.ValueInstantiator;
 import org.codehaus.jackson.util.TokenBuffer;
 
 /**
@@ -26,6 +27,20 @@ public class UnwrappedPropertyHandler
         _properties.add(property);
     }
 
+    /**
+     * @since 1.9.14
+     */
+    public int size() {
+        return _properties.size();
+    }
+
+    /**
+     * @since 1.9.14
+     */
+    public SettableBeanProperty getProperty(int index) {
+        return _properties.get(index);
+    }
+
     public Object processUnwrapped(JsonParser originalParser, DeserializationContext ctxt, Object bean,
             TokenBuffer buffered)
         throws IOException, JsonProcessingException
@@ -38,4 +53,117 @@ public class UnwrappedPropertyHandler
         }
         return bean;
     }
+
+    /*
+    /**********************************************************
+    /* Helper classes
+    /**********************************************************
+     */
+
+    /**
+     * Helper object used when properties of all unwrapped values can be
+     * deserialized directly from the input stream, instead of buffering
+     * them and then passing buffered tokens to all unwrapped value
+     * deserializers: this requires that unwrapped values are simple
+     * beans (constructed using default constructor, no "any setter" and so on),
+     * and that their property names do not overlap.
+     * Instances are constructed by {@link org.codehaus.jackson.map.deser.BeanDeserializer}
+     * and are immutable; per-instance state (unwrapped value instances) is
+     * kept in an array constructed using {@link #start}.
+     *
+     * @since 1.9.14
+     */
+    public final static class Flattened
+    {
+        /**
+         * Unwrapped properties of the parent bean
+         */
+        protected final SettableBeanProperty[] _properties;
+
+        /**
+         * Instantiators for values of unwrapped properties
+         */
+        protected final ValueInstantiator[] _instantiators;
+
+        /**
+         * Lookup from names of properties of unwrapped values to those
+         * properties
+         */
+        protected final HashMap<String, ChildProperty> _childProperties;
+
+        public Flattened(SettableBeanProperty[] props, ValueInstantiator[] instantiators,
+                HashMap<String, ChildProperty> childProperties)
+        {
+            _properties = props;
+            _instantiators = instantiators;
+            _childProperties = childProperties;
+        }
+
+        public ChildProperty find(String propName) {
+            return _childProperties.get(propName);
+        }
+
+        /**
+         * Method called to construct container for unwrapped value instances
+         * for a single parent instance.
+         */
+        public Object[] start() {
+            return new Object[_properties.length];
+        }
+
+        /**
+         * Method for accessing unwrapped value that given property belongs to;
+         * instance is constructed when first needed.
+         */
+        public Object valueFor(ChildProperty prop, Object[] values)
+            throws IOException, JsonProcessingException
+        {
+            int ix = prop.getIndex();
+            Object value = values[ix];
+            if (value == null) {
+                value = _instantiators[ix].createUsingDefault();
+                values[ix] = value;
+            }
+            return value;
+        }
+
+        /**
+         * Method called once all properties of the parent have been handled,
+         * to assign unwrapped values; values are constructed for unwrapped
+         * properties that had no properties in input, same as when
+         * deserializing from buffered tokens.
+         */
+        public Object complete(Object bean, Object[] values)
+            throws IOException, JsonProcessingException
+        {
+            for (int i = 0, len = _properties.length; i < len; ++i) {
+                Object value = values[i];
+                if (value == null) {
+                    value = _instantiators[i].createUsingDefault();
+                }
+                _properties[i].set(bean, value);
+            }
+            return bean;
+        }
+    }
+
+    /**
+     * Property of an unwrapped value, along with index of the unwrapped
+     * property it belongs to.
+     *
+     * @since 1.9.14
+     */
+    public final static class ChildProperty
+    {
+        protected final int _index;
+        protected final SettableBeanProperty _property;
+
+        public ChildProperty(int index, SettableBeanProperty prop) {
+            _index = index;
+            _property = prop;
+        }
+
+        public int getIndex() { return _index; }
+        public SettableBeanProperty getProperty() { return _property; }
+    }
 }
@@ -4,6 +4,8 @@ import java.io.IOException;
 
 import org.codehaus.jackson.*;
 import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.util.ArrayBuilders;
+import org.codehaus.jackson.map.util.StringValueCanonicalizer;
 import org.codehaus.jackson.node.*;
 
 /**
@@ -185,12 +187,13 @@ abstract class BaseNodeDeserializer<N extends JsonNode>
         throws IOException, JsonProcessingException
     {
         ObjectNode node = nodeFactory.objectNode();
+        final StringValueCanonicalizer canon = ctxt.getStringCanonicalizer();
         JsonToken t = jp.getCurrentToken();
         if (t == JsonToken.START_OBJECT) {
             t = jp.nextToken();
         }
         for (; t == JsonToken.FIELD_NAME; t = jp.nextToken()) {
-            String fieldName = jp.getCurrentName();
+            String fieldName = (canon == null) ? jp.getCurrentName() : canon.canonicalize(jp);
             JsonNode value;
             switch (jp.nextToken()) {
             case START_OBJECT:
@@ -200,7 +203,8 @@ abstract class BaseNodeDeserializer<N extends JsonNode>
                 value = deserializeArray(jp, ctxt, nodeFactory);
                 break;
             case VALUE_STRING:
-                value = nodeFactory.textNode(jp.getText());
+                value = (canon == null) ? nodeFactory.textNode(jp.getText())
+                        : _textNode(jp, canon, nodeFactory);
                 break;
             default:
                 value = deserializeAny(jp, ctxt, nodeFactory);
@@ -217,9 +221,29 @@ abstract class BaseNodeDeserializer<N extends JsonNode>
             final JsonNodeFactory nodeFactory)            
         throws IOException, JsonProcessingException
     {
-        ArrayNode node = nodeFactory.arrayNode();
-        while (true) {
-            switch (jp.nextToken()) {
+        JsonToken t = jp.nextToken();
+        /* [1.9.14]: arrays of numbers are stored in primitive arrays, as long
+         * as nodes for elements would be constructed by the default factory
+         */
+        if ((t == JsonToken.VALUE_NUMBER_INT || t == JsonToken.VALUE_NUMBER_FLOAT)
+                && nodeFactory.getClass() == JsonNodeFactory.class) {
+            return _deserializeNumberArray(jp, ctxt, nodeFactory, t);
+        }
+        return _deserializeArray(jp, ctxt, nodeFactory, nodeFactory.arrayNode(), t);
+    }
+
+    /**
+     * Helper method for reading contents of a JSON array into given
+     * array node, starting with given (current) token.
+     * 
+     * @since 1.9.14
+     */
+    private final ArrayNode _deserializeArray(JsonParser jp, DeserializationContext ctxt,
+            final JsonNodeFactory nodeFactory, ArrayNode node, JsonToken t)
+        throws IOException, JsonProcessingException
+    {
+        for (;; t = jp.nextToken()) {
+            switch (t) {
             case START_OBJECT:
                 node.add(deserializeObject(jp, ctxt, nodeFactory));
                 break;
@@ -229,7 +253,7 @@ abstract class BaseNodeDeserializer<N extends JsonNode>
             case END_ARRAY:
                 return node;
             case VALUE_STRING:
-                node.add(nodeFactory.textNode(jp.getText()));
+                node.add(_textNode(jp, ctxt, nodeFactory));
                 break;
             default:
                 node.add(deserializeAny(jp, ctxt, nodeFactory));
@@ -238,6 +262,127 @@ abstract class BaseNodeDeserializer<N extends JsonNode>
         }
     }
 
+    /**
+     * Helper method for constructing node for the current JSON String value;
+     * will share equal values if
+     * {@link DeserializationConfig.Feature#CANONICALIZE_STRING_VALUES} is enabled.
+     * 
+     * @since 1.9.14
+     */
+    protected final JsonNode _textNode(JsonParser jp, DeserializationContext ctxt,
+            final JsonNodeFactory nodeFactory)
+        throws IOException, JsonProcessingException
+    {
+        StringValueCanonicalizer canon = ctxt.getStringCanonicalizer();
+        if (canon == null) {
+            return nodeFactory.textNode(jp.getText());
+        }
+        return _textNode(jp, canon, nodeFactory);
+    }
+
+    private final JsonNode _textNode(JsonParser jp, StringValueCanonicalizer canon,
+            final JsonNodeFactory nodeFactory)
+        throws IOException, JsonProcessingException
+    {
+        // nodes themselves can only be shared if constructed by the default factory
+        if (nodeFactory.getClass() == JsonNodeFactory.class) {
+            return canon.textNode(jp);
+        }
+        return nodeFactory.textNode(canon.canonicalize(jp));
+    }
+
+    /**
+     * Helper method for reading contents of a JSON array that starts with a number:
+     * as long as all elements are numbers that would be bound to same type of node
+     * ({@link org.codehaus.jackson.node.IntNode}, {@link org.codehaus.jackson.node.LongNode}
+     * or {@link org.codehaus.jackson.node.DoubleNode}), they are collected in a primitive
+     * array; if any other element is encountered, contents are added to a regular
+     * array node instead.
+     * 
+     * @since 1.9.14
+     */
+    private final ArrayNode _deserializeNumberArray(JsonParser jp, DeserializationContext ctxt,
+            final JsonNodeFactory nodeFactory, JsonToken t)
+        throws IOException, JsonProcessingException
+    {
+        final JsonParser.NumberType nt = jp.getNumberType();
+        ArrayNode node;
+        if (t == JsonToken.VALUE_NUMBER_INT) {
+            if (ctxt.isEnabled(DeserializationConfig.Feature.USE_BIG_INTEGER_FOR_INTS)) {
+                return _deserializeArray(jp, ctxt, nodeFactory, nodeFactory.arrayNode(), t);
+            }
+            if (nt == JsonParser.NumberType.INT) {
+                ArrayBuilders.IntBuilder builder = ctxt.getArrayBuilders().getIntBuilder();
+                int[] chunk = builder.resetAndStart();
+                int ix = 0;
+                do {
+                    if (ix >= chunk.length) {
+                        chunk = builder.appendCompletedChunk(chunk, ix);
+                        ix = 0;
+                    }
+                    chunk[ix++] = jp.getIntValue();
+                } while ((t = jp.nextToken()) == JsonToken.VALUE_NUMBER_INT
+                        && jp.getNumberType() == JsonParser.NumberType.INT);
+                int[] values = builder.completeAndClearBuffer(chunk, ix);
+                if (t == JsonToken.END_ARRAY) {
+                    return nodeFactory.arrayNode(values);
+                }
+                node = nodeFactory.arrayNode();
+                for (int v : values) {
+                    node.add(v);
+                }
+            } else if (nt == JsonParser.NumberType.LONG) {
+                ArrayBuilders.LongBuilder builder = ctxt.getArrayBuilders().getLongBuilder();
+                long[] chunk = builder.resetAndStart();
+                int ix = 0;
+                do {
+                    if (ix >= chunk.length) {
+                        chunk = builder.appendCompletedChunk(chunk, ix);
+                        ix = 0;
+                    }
+                    chunk[ix++] = jp.getLongValue();
+                } while ((t = jp.nextToken()) == JsonToken.VALUE_NUMBER_INT
+                        && jp.getNumberType() == JsonParser.NumberType.LONG);
+                long[] values = builder.completeAndClearBuffer(chunk, ix);
+                if (t == JsonToken.END_ARRAY) {
+                    return nodeFactory.arrayNode(values);
+                }
+                node = nodeFactory.arrayNode();
+                for (long v : values) {
+                    node.add(v);
+                }
+            } else { // BigIntegers
+                return _deserializeArray(jp, ctxt, nodeFactory, nodeFactory.arrayNode(), t);
+            }
+        } else {
+            if (nt == JsonParser.NumberType.BIG_DECIMAL
+                    || ctxt.isEnabled(DeserializationConfig.Feature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+                return _deserializeArray(jp, ctxt, nodeFactory, nodeFactory.arrayNode(), t);
+            }
+            ArrayBuilders.DoubleBuilder builder = ctxt.getArrayBuilders().getDoubleBuilder();
+            double[] chunk = builder.resetAndStart();
+            int ix = 0;
+            do {
+                if (ix >= chunk.length) {
+                    chunk = builder.appendCompletedChunk(chunk, ix);
+                    ix = 0;
+                }
+                chunk[ix++] = jp.getDoubleValue();
+            } while ((t = jp.nextToken()) == JsonToken.VALUE_NUMBER_FLOAT
+                    && jp.getNumberType() != JsonParser.NumberType.BIG_DECIMAL);
+            double[] values = builder.completeAndClearBuffer(chunk, ix);
+            if (t == JsonToken.END_ARRAY) {
+                return nodeFactory.arrayNode(values);
+            }
+            node = nodeFactory.arrayNode();
+            for (double v : values) {
+                node.add(v);
+            }
+        }
+        // Mixed content: rest (starting with current token) is bound as usual
+        return _deserializeArray(jp, ctxt, nodeFactory, node, t);
+    }
+
     protected final JsonNode deserializeAny(JsonParser jp, DeserializationContext ctxt,
             final JsonNodeFactory nodeFactory)            
         throws IOException, JsonProcessingException
@@ -268,7 +413,7 @@ abstract class BaseNodeDeserializer<N extends JsonNode>
             }
 
         case VALUE_STRING:
-            return nodeFactory.textNode(jp.getText());
+            return _textNode(jp, ctxt, nodeFactory);
 
         case VALUE_NUMBER_INT:
             {
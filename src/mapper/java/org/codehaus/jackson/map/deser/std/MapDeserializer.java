@@ -284,6 +284,42 @@ public class MapDeserializer
 
     @Override public JavaType getValueType() { return _mapType; }
 
+    /**
+     * Accessor for type deserializer used for Map values, if any.
+     *
+     * @since 1.9.14
+     */
+    public TypeDeserializer getContentTypeDeserializer() { return _valueTypeDeserializer; }
+
+    /**
+     * Method for checking whether Maps this deserializer produces could be
+     * constructed and filled directly, without reading JSON tokens: this is
+     * the case when instances are constructed using default constructor,
+     * JSON property names are used as keys as is, and no properties are
+     * to be ignored.
+     *
+     * @since 1.9.14
+     */
+    public boolean canPopulateDirectly()
+    {
+        return _hasDefaultCreator && (_propertyBasedCreator == null) && (_delegateDeserializer == null)
+            && (_ignorableProperties == null || _ignorableProperties.isEmpty())
+            && (_keyDeserializer instanceof StdKeyDeserializer.StringKD);
+    }
+
+    /**
+     * Method for constructing an empty Map instance, to be populated
+     * directly; only to be called if {@link #canPopulateDirectly} returns true.
+     *
+     * @since 1.9.14
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Object,Object> createEmptyMap()
+        throws IOException, JsonProcessingException
+    {
+        return (Map<Object,Object>) _valueInstantiator.createUsingDefault();
+    }
+
     /*
     /**********************************************************
     /* Internal methods
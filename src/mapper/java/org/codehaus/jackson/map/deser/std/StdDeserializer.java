@@ -12,6 +12,8 @@ import org.codehaus.jackson.JsonToken;
 import org.codehaus.jackson.io.NumberInput;
 import org.codehaus.jackson.map.*;
 import org.codehaus.jackson.map.annotate.JacksonStdImpl;
+import org.codehaus.jackson.map.util.ISO8601Utils;
+import org.codehaus.jackson.map.util.StdDateFormat;
 import org.codehaus.jackson.type.JavaType;
 
 /**
@@ -564,6 +566,13 @@ public abstract class StdDeserializer<T>
             return (java.util.Date) getNullValue();
         }
         if (t == JsonToken.VALUE_STRING) {
+            // with default date format, can usually parse directly from parser's buffer
+            if (ctxt.getConfig().getDateFormat().getClass() == StdDateFormat.class) {
+                long timestamp = ISO8601Utils.parseStd(jp.getTextCharacters(), jp.getTextOffset(), jp.getTextLength());
+                if (timestamp != ISO8601Utils.NO_TIMESTAMP) {
+                    return new java.util.Date(timestamp);
+                }
+            }
             try {
                 /* As per [JACKSON-203], take empty Strings to mean
                  * null
@@ -10,6 +10,7 @@ import org.codehaus.jackson.map.*;
 import org.codehaus.jackson.map.annotate.JacksonStdImpl;
 import org.codehaus.jackson.map.deser.ValueInstantiator;
 import org.codehaus.jackson.map.introspect.AnnotatedWithParams;
+import org.codehaus.jackson.map.util.StringValueCanonicalizer;
 import org.codehaus.jackson.type.JavaType;
 
 /**
@@ -160,7 +161,14 @@ public final class StringCollectionDeserializer
             return deserializeUsingCustom(jp, ctxt, result);
         }
         JsonToken t;
-
+        // [1.9.14]: may need to share values, same as StringDeserializer does
+        final StringValueCanonicalizer canon = ctxt.getStringCanonicalizer();
+        if (canon != null) {
+            while ((t = jp.nextToken()) != JsonToken.END_ARRAY) {
+                result.add((t == JsonToken.VALUE_NULL) ? null : canon.canonicalize(jp));
+            }
+            return result;
+        }
         while ((t = jp.nextToken()) != JsonToken.END_ARRAY) {
             result.add((t == JsonToken.VALUE_NULL) ? null : jp.getText());
         }
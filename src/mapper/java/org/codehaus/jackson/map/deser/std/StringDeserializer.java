@@ -9,6 +9,7 @@ import org.codehaus.jackson.JsonToken;
 import org.codehaus.jackson.map.DeserializationContext;
 import org.codehaus.jackson.map.TypeDeserializer;
 import org.codehaus.jackson.map.annotate.JacksonStdImpl;
+import org.codehaus.jackson.map.util.StringValueCanonicalizer;
 
 @JacksonStdImpl
 public class StringDeserializer
@@ -23,7 +24,8 @@ public class StringDeserializer
         JsonToken curr = jp.getCurrentToken();
         // Usually should just get string value:
         if (curr == JsonToken.VALUE_STRING) {
-            return jp.getText();
+            StringValueCanonicalizer canon = ctxt.getStringCanonicalizer();
+            return (canon == null) ? jp.getText() : canon.canonicalize(jp);
         }
         // [JACKSON-330]: need to gracefully handle byte[] data, as base64
         if (curr == JsonToken.VALUE_EMBEDDED_OBJECT) {
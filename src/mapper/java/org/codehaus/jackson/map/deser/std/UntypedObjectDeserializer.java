@@ -11,6 +11,8 @@ import org.codehaus.jackson.map.DeserializationContext;
 import org.codehaus.jackson.map.TypeDeserializer;
 import org.codehaus.jackson.map.annotate.JacksonStdImpl;
 import org.codehaus.jackson.map.util.ObjectBuffer;
+import org.codehaus.jackson.map.util.StringValueCanonicalizer;
+import org.codehaus.jackson.map.util.UntypedContainerFactory;
 
 /**
  * Deserializer implementation that is used if it is necessary to bind content of
@@ -56,7 +58,7 @@ public class UntypedObjectDeserializer
         case VALUE_EMBEDDED_OBJECT:
             return jp.getEmbeddedObject();
         case VALUE_STRING:
-            return jp.getText();
+            return _textValue(jp, ctxt);
 
         case VALUE_NUMBER_INT:
             /* [JACKSON-100]: caller may want to get all integral values
@@ -109,7 +111,7 @@ public class UntypedObjectDeserializer
          * naturally and thus do not need or use type ids)
          */
         case VALUE_STRING:
-            return jp.getText();
+            return _textValue(jp, ctxt);
 
         case VALUE_NUMBER_INT:
             // For [JACKSON-100], see above:
@@ -153,6 +155,11 @@ public class UntypedObjectDeserializer
         if (ctxt.isEnabled(DeserializationConfig.Feature.USE_JAVA_ARRAY_FOR_JSON_ARRAY)) {
             return mapArrayToArray(jp, ctxt);
         }
+        // [1.9.14]: custom container factory? Needs exact-size array, which we can produce
+        UntypedContainerFactory f = ctxt.getConfig().getUntypedContainerFactory();
+        if (f != UntypedContainerFactory.instance) {
+            return f.createList(mapArrayToArray(jp, ctxt));
+        }
         // Minor optimization to handle small lists (default size for ArrayList is 10)
         if (jp.nextToken()  == JsonToken.END_ARRAY) {
             return new ArrayList<Object>(4);
@@ -182,6 +189,10 @@ public class UntypedObjectDeserializer
     protected Object mapObject(JsonParser jp, DeserializationContext ctxt)
         throws IOException, JsonProcessingException
     {
+        UntypedContainerFactory f = ctxt.getConfig().getUntypedContainerFactory();
+        if (f != UntypedContainerFactory.instance) {
+            return mapObjectUsing(jp, ctxt, f);
+        }
         JsonToken t = jp.getCurrentToken();
         if (t == JsonToken.START_OBJECT) {
             t = jp.nextToken();
@@ -191,7 +202,8 @@ public class UntypedObjectDeserializer
             // empty map might work; but caller may want to modify... so better just give small modifiable
             return new LinkedHashMap<String,Object>(4);
         }
-        String field1 = jp.getText();
+        final StringValueCanonicalizer canon = ctxt.getStringCanonicalizer();
+        String field1 = (canon == null) ? jp.getText() : canon.canonicalize(jp);
         jp.nextToken();
         Object value1 = deserialize(jp, ctxt);
         if (jp.nextToken() != JsonToken.FIELD_NAME) { // single entry; but we want modifiable
@@ -199,7 +211,7 @@ public class UntypedObjectDeserializer
             result.put(field1, value1);
             return result;
         }
-        String field2 = jp.getText();
+        String field2 = (canon == null) ? jp.getText() : canon.canonicalize(jp);
         jp.nextToken();
         Object value2 = deserialize(jp, ctxt);
         if (jp.nextToken() != JsonToken.FIELD_NAME) {
@@ -213,13 +225,55 @@ public class UntypedObjectDeserializer
         result.put(field1, value1);
         result.put(field2, value2);
         do {
-            String fieldName = jp.getText();
+            String fieldName = (canon == null) ? jp.getText() : canon.canonicalize(jp);
             jp.nextToken();
             result.put(fieldName, deserialize(jp, ctxt));
         } while (jp.nextToken() != JsonToken.END_OBJECT);
         return result;
     }
 
+    /**
+     * Method called to map a JSON Object into a Map constructed by given
+     * (non-default) container factory: entries are first collected in
+     * an {@link ObjectBuffer}, to give factory exactly-sized contents.
+     * 
+     * @since 1.9.14
+     */
+    protected Object mapObjectUsing(JsonParser jp, DeserializationContext ctxt,
+            UntypedContainerFactory f)
+        throws IOException, JsonProcessingException
+    {
+        JsonToken t = jp.getCurrentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = jp.nextToken();
+        }
+        if (t != JsonToken.FIELD_NAME) {
+            return f.createMap(NO_OBJECTS);
+        }
+        final StringValueCanonicalizer canon = ctxt.getStringCanonicalizer();
+        ObjectBuffer buffer = ctxt.leaseObjectBuffer();
+        Object[] entries = buffer.resetAndStart();
+        int ptr = 0;
+        do {
+            String fieldName = (canon == null) ? jp.getText() : canon.canonicalize(jp);
+            jp.nextToken();
+            Object value = deserialize(jp, ctxt);
+            if (ptr >= entries.length) {
+                entries = buffer.appendCompletedChunk(entries);
+                ptr = 0;
+            }
+            entries[ptr++] = fieldName;
+            if (ptr >= entries.length) {
+                entries = buffer.appendCompletedChunk(entries);
+                ptr = 0;
+            }
+            entries[ptr++] = value;
+        } while (jp.nextToken() != JsonToken.END_OBJECT);
+        Object[] result = buffer.completeAndClearBuffer(entries, ptr);
+        ctxt.returnObjectBuffer(buffer);
+        return f.createMap(result);
+    }
+
     /**
      * Method called to map a JSON Array into a Java Object array (Object[]).
      * 
@@ -245,4 +299,18 @@ public class UntypedObjectDeserializer
         } while (jp.nextToken() != JsonToken.END_ARRAY);
         return buffer.completeAndClearBuffer(values, ptr);
     }
+
+    /**
+     * Helper method for accessing value of the current JSON String;
+     * will share equal values if
+     * {@link DeserializationConfig.Feature#CANONICALIZE_STRING_VALUES} is enabled.
+     * 
+     * @since 1.9.14
+     */
+    protected final String _textValue(JsonParser jp, DeserializationContext ctxt)
+        throws IOException, JsonProcessingException
+    {
+        StringValueCanonicalizer canon = ctxt.getStringCanonicalizer();
+        return (canon == null) ? jp.getText() : canon.canonicalize(jp);
+    }
 }
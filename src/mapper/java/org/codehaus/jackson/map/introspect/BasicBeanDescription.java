@@ -109,7 +109,21 @@ public class BasicBeanDescription extends BeanDescription
      */
     public static BasicBeanDescription forDeserialization(POJOPropertiesCollector coll)
     {
-        BasicBeanDescription desc = new BasicBeanDescription(coll.getConfig(),
+        return forDeserialization(coll, coll.getConfig());
+    }
+
+    /**
+     * Factory method to use for constructing an instance to use for building
+     * deserializers, using given configuration instead of one collector
+     * was constructed with (which matters if collector is shared via
+     * {@link IntrospectionCache}).
+     * 
+     * @since 1.9.14
+     */
+    public static BasicBeanDescription forDeserialization(POJOPropertiesCollector coll,
+            MapperConfig<?> config)
+    {
+        BasicBeanDescription desc = new BasicBeanDescription(config,
                 coll.getType(), coll.getClassDef(), coll.getProperties());
         desc._anySetterMethod = coll.getAnySetterMethod();
         desc._ignoredPropertyNames = coll.getIgnoredPropertyNames();
@@ -126,7 +140,21 @@ public class BasicBeanDescription extends BeanDescription
      */
     public static BasicBeanDescription forSerialization(POJOPropertiesCollector coll)
     {
-        BasicBeanDescription desc = new BasicBeanDescription(coll.getConfig(),
+        return forSerialization(coll, coll.getConfig());
+    }
+
+    /**
+     * Factory method to use for constructing an instance to use for building
+     * serializers, using given configuration instead of one collector
+     * was constructed with (which matters if collector is shared via
+     * {@link IntrospectionCache}).
+     * 
+     * @since 1.9.14
+     */
+    public static BasicBeanDescription forSerialization(POJOPropertiesCollector coll,
+            MapperConfig<?> config)
+    {
+        BasicBeanDescription desc = new BasicBeanDescription(config,
                 coll.getType(), coll.getClassDef(), coll.getProperties());
         desc._jsonValueMethod = coll.getJsonValueMethod();
         desc._anyGetterMethod = coll.getAnyGetterMethod();
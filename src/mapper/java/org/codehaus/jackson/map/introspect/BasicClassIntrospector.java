@@ -8,6 +8,7 @@ import org.codehaus.jackson.map.AnnotationIntrospector;
 import org.codehaus.jackson.map.ClassIntrospector;
 import org.codehaus.jackson.map.DeserializationConfig;
 import org.codehaus.jackson.map.MapperConfig;
+import org.codehaus.jackson.map.MapperInstrumentation;
 import org.codehaus.jackson.map.SerializationConfig;
 import org.codehaus.jackson.map.type.SimpleType;
 import org.codehaus.jackson.map.util.ClassUtil;
@@ -78,7 +79,33 @@ public class BasicClassIntrospector
 
     public final static BasicClassIntrospector instance = new BasicClassIntrospector();
 
-    public BasicClassIntrospector() { }
+    /**
+     * Cache for introspection results, if any
+     * 
+     * @since 1.9.14
+     */
+    protected final IntrospectionCache _cache;
+
+    public BasicClassIntrospector() {
+        this(null);
+    }
+
+    /**
+     * @param cache Cache to use for introspection results (possibly shared
+     *   with other introspectors); null to not cache results
+     * 
+     * @since 1.9.14
+     */
+    public BasicClassIntrospector(IntrospectionCache cache) {
+        _cache = cache;
+    }
+
+    /**
+     * @since 1.9.14
+     */
+    public IntrospectionCache getCache() {
+        return _cache;
+    }
     
     /*
     /**********************************************************
@@ -93,7 +120,7 @@ public class BasicClassIntrospector
         // minor optimization: for JDK types do minimal introspection
         BasicBeanDescription desc = _findCachedDesc(type);
         if (desc == null) {
-            desc = BasicBeanDescription.forSerialization(collectProperties(cfg, type, r, true));
+            desc = BasicBeanDescription.forSerialization(collectProperties(cfg, type, r, true), cfg);
         }
         return desc;
     }
@@ -105,7 +132,7 @@ public class BasicClassIntrospector
         // minor optimization: for JDK types do minimal introspection
         BasicBeanDescription desc = _findCachedDesc(type);
         if (desc == null) {
-            desc = BasicBeanDescription.forDeserialization(collectProperties(cfg, type, r, false));
+            desc = BasicBeanDescription.forDeserialization(collectProperties(cfg, type, r, false), cfg);
         }
         return desc;
     }
@@ -116,7 +143,7 @@ public class BasicClassIntrospector
     {
         BasicBeanDescription desc = _findCachedDesc(type);
         if (desc == null) {
-            desc = BasicBeanDescription.forDeserialization(collectProperties(cfg, type, r, false));
+            desc = BasicBeanDescription.forDeserialization(collectProperties(cfg, type, r, false), cfg);
         }
         return desc;
     }
@@ -125,9 +152,20 @@ public class BasicClassIntrospector
     public BasicBeanDescription forClassAnnotations(MapperConfig<?> cfg,
             JavaType type, MixInResolver r)
     {
+        IntrospectionCache.Key key = null;
+        if (_cache != null) {
+            key = _cache.classAnnotationsKey(cfg, type, r, false);
+            AnnotatedClass ac = (AnnotatedClass) _cache._find(key);
+            if (ac != null) {
+                return BasicBeanDescription.forOtherUse(cfg, type, ac);
+            }
+        }
         boolean useAnnotations = cfg.isAnnotationProcessingEnabled();
         AnnotationIntrospector ai =  cfg.getAnnotationIntrospector();
         AnnotatedClass ac = AnnotatedClass.construct(type.getRawClass(), (useAnnotations ? ai : null), r);
+        if (key != null) {
+            _cache._add(key, ac);
+        }
         return BasicBeanDescription.forOtherUse(cfg, type, ac);
     }
 
@@ -135,10 +173,21 @@ public class BasicClassIntrospector
     public BasicBeanDescription forDirectClassAnnotations(MapperConfig<?> cfg,
             JavaType type, MixInResolver r)
     {
+        IntrospectionCache.Key key = null;
+        if (_cache != null) {
+            key = _cache.classAnnotationsKey(cfg, type, r, true);
+            AnnotatedClass ac = (AnnotatedClass) _cache._find(key);
+            if (ac != null) {
+                return BasicBeanDescription.forOtherUse(cfg, type, ac);
+            }
+        }
         boolean useAnnotations = cfg.isAnnotationProcessingEnabled();
         AnnotationIntrospector ai =  cfg.getAnnotationIntrospector();
         AnnotatedClass ac = AnnotatedClass.constructWithoutSuperTypes(type.getRawClass(),
                 (useAnnotations ? ai : null), r);
+        if (key != null) {
+            _cache._add(key, ac);
+        }
         return BasicBeanDescription.forOtherUse(cfg, type, ac);
     }
     
@@ -149,15 +198,38 @@ public class BasicClassIntrospector
      */
 
     /**
+     * Method for collecting properties of given type; if a cache is configured,
+     * results may be shared with other introspectors, and caller must not
+     * modify them (note that
+     * {@link POJOPropertiesCollector#getProperties} returns a copy).
+     * 
      * @since 1.9
      */
     public POJOPropertiesCollector collectProperties(MapperConfig<?> config,
             JavaType type, MixInResolver r, boolean forSerialization)
     {
+        IntrospectionCache.Key key = null;
+        if (_cache != null) {
+            key = _cache.propertiesKey(config, type, r, forSerialization);
+            POJOPropertiesCollector coll = (POJOPropertiesCollector) _cache._find(key);
+            if (coll != null) {
+                return coll;
+            }
+        }
+        final MapperInstrumentation instr = config.getInstrumentation();
+        final boolean timed = instr.isEnabled();
+        final long start = timed ? System.nanoTime() : 0L;
         AnnotatedClass ac = classWithCreators(config, type, r);
         ac.resolveMemberMethods(MINIMAL_FILTER);
         ac.resolveFields();
-        return constructPropertyCollector(config, ac, type, forSerialization).collect();
+        POJOPropertiesCollector coll = constructPropertyCollector(config, ac, type, forSerialization).collect();
+        if (timed) {
+            instr.typeIntrospected(type, System.nanoTime() - start);
+        }
+        if (key != null) {
+            _cache._add(key, coll);
+        }
+        return coll;
     }
 
     /**
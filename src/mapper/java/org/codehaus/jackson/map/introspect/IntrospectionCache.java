@@ -0,0 +1,209 @@
+package org.codehaus.jackson.map.introspect;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.codehaus.jackson.map.AnnotationIntrospector;
+import org.codehaus.jackson.map.ClassIntrospector.MixInResolver;
+import org.codehaus.jackson.map.MapperConfig;
+import org.codehaus.jackson.map.PropertyNamingStrategy;
+import org.codehaus.jackson.map.util.ClassUtil;
+import org.codehaus.jackson.map.util.LRUMap;
+import org.codehaus.jackson.type.JavaType;
+
+/**
+ * Bounded, thread-safe cache for results of class introspection
+ * ({@link POJOPropertiesCollector}s and {@link AnnotatedClass}es), used by
+ * {@link BasicClassIntrospector} if one is configured. Since entries are
+ * keyed by type as well as all configuration that affects introspection
+ * (annotation introspector, visibility settings, naming strategy,
+ * property ordering and applicable mix-ins), a single instance can be
+ * shared by any number of {@link org.codehaus.jackson.map.ObjectMapper}s,
+ * even ones with differing configurations: typically this is done using
+ * {@link org.codehaus.jackson.map.ObjectMapper#setIntrospectionCache}.
+ *<p>
+ * Note that annotation introspectors, visibility checkers and naming
+ * strategies are compared using their <code>equals()</code> methods:
+ * this means that for custom implementations that do not override it,
+ * sharing only occurs if mappers use the very same instance.
+ *<p>
+ * Access is synchronized; this should not be a bottleneck since lookups are
+ * only made when constructing new serializers and deserializers, results of
+ * which are cached by providers.
+ *
+ * @since 1.9.14
+ */
+public class IntrospectionCache
+{
+    public final static int DEFAULT_MAX_ENTRIES = 1000;
+
+    protected final static int MODE_SERIALIZATION = 1;
+    protected final static int MODE_DESERIALIZATION = 2;
+    protected final static int MODE_CLASS_ANNOTATIONS = 3;
+    protected final static int MODE_DIRECT_CLASS_ANNOTATIONS = 4;
+
+    protected final LRUMap<Key,Object> _entries;
+
+    public IntrospectionCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries Maximum number of introspection results to retain;
+     *   least recently used ones are evicted after this
+     */
+    public IntrospectionCache(int maxEntries) {
+        _entries = new LRUMap<Key,Object>(Math.min(64, maxEntries), maxEntries);
+    }
+
+    /*
+    /**********************************************************
+    /* Public API
+    /**********************************************************
+     */
+
+    public synchronized int size() {
+        return _entries.size();
+    }
+
+    /**
+     * Method for removing all cached entries; needed if classes are
+     * reloaded (or to release memory).
+     */
+    public synchronized void clear() {
+        _entries.clear();
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods, used by BasicClassIntrospector
+    /**********************************************************
+     */
+
+    protected synchronized Object _find(Key key) {
+        return _entries.get(key);
+    }
+
+    protected synchronized void _add(Key key, Object value) {
+        _entries.put(key, value);
+    }
+
+    /**
+     * Method for constructing key for property introspection results
+     */
+    protected Key propertiesKey(MapperConfig<?> config, JavaType type, MixInResolver r,
+            boolean forSerialization)
+    {
+        AnnotationIntrospector ai = config.isAnnotationProcessingEnabled() ?
+                config.getAnnotationIntrospector() : null;
+        return new Key(forSerialization ? MODE_SERIALIZATION : MODE_DESERIALIZATION, type, ai,
+                config.getDefaultVisibilityChecker(), config.getPropertyNamingStrategy(),
+                config.shouldSortPropertiesAlphabetically(), _findMixIns(config, type.getRawClass(), r));
+    }
+
+    /**
+     * Method for constructing key for class annotation introspection results
+     */
+    protected Key classAnnotationsKey(MapperConfig<?> config, JavaType type, MixInResolver r,
+            boolean direct)
+    {
+        AnnotationIntrospector ai = config.isAnnotationProcessingEnabled() ?
+                config.getAnnotationIntrospector() : null;
+        return new Key(direct ? MODE_DIRECT_CLASS_ANNOTATIONS : MODE_CLASS_ANNOTATIONS, type, ai,
+                null, null, false, _findMixIns(config, type.getRawClass(), r));
+    }
+
+    /**
+     * Helper method for finding mix-ins that may be applied when introspecting
+     * given class: ones for class itself, its super types and <code>Object</code>.
+     *
+     * @return Mix-ins in a well-defined order, if any exist; null if none
+     */
+    protected Class<?>[] _findMixIns(MapperConfig<?> config, Class<?> cls, MixInResolver r)
+    {
+        if (r == null || (r == config && config.mixInCount() == 0)) {
+            return null;
+        }
+        List<Class<?>> supers = ClassUtil.findSuperTypes(cls, null);
+        Class<?>[] result = new Class<?>[supers.size() + 2];
+        result[0] = r.findMixInClassFor(cls);
+        boolean found = (result[0] != null);
+        int i = 1;
+        for (Class<?> c : supers) {
+            Class<?> mixin = r.findMixInClassFor(c);
+            found |= (mixin != null);
+            result[i++] = mixin;
+        }
+        result[i] = r.findMixInClassFor(Object.class);
+        found |= (result[i] != null);
+        return found ? result : null;
+    }
+
+    /*
+    /**********************************************************
+    /* Helper classes
+    /**********************************************************
+     */
+
+    /**
+     * Key that consists of introspected type and all configuration
+     * that may affect introspection results.
+     */
+    protected final static class Key
+    {
+        private final int _mode;
+        private final JavaType _type;
+        private final AnnotationIntrospector _annotationIntrospector;
+        private final VisibilityChecker<?> _visibilityChecker;
+        private final PropertyNamingStrategy _namingStrategy;
+        private final boolean _sortAlphabetically;
+        private final Class<?>[] _mixIns;
+        private final int _hashCode;
+
+        public Key(int mode, JavaType type, AnnotationIntrospector ai, VisibilityChecker<?> vc,
+                PropertyNamingStrategy naming, boolean sort, Class<?>[] mixIns)
+        {
+            _mode = mode;
+            _type = type;
+            _annotationIntrospector = ai;
+            _visibilityChecker = vc;
+            _namingStrategy = naming;
+            _sortAlphabetically = sort;
+            _mixIns = mixIns;
+            int h = type.hashCode() + mode;
+            if (ai != null) {
+                h = (h * 31) + ai.hashCode();
+            }
+            if (vc != null) {
+                h = (h * 31) + vc.hashCode();
+            }
+            if (mixIns != null) {
+                h = (h * 31) + Arrays.hashCode(mixIns);
+            }
+            _hashCode = h;
+        }
+
+        @Override
+        public int hashCode() { return _hashCode; }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (o == this) return true;
+            if (o == null || o.getClass() != getClass()) return false;
+            Key other = (Key) o;
+            return (_hashCode == other._hashCode)
+                && (_mode == other._mode)
+                && (_sortAlphabetically == other._sortAlphabetically)
+                && _type.equals(other._type)
+                && _equals(_annotationIntrospector, other._annotationIntrospector)
+                && _equals(_visibilityChecker, other._visibilityChecker)
+                && _equals(_namingStrategy, other._namingStrategy)
+                && Arrays.equals(_mixIns, other._mixIns);
+        }
+
+        private final static boolean _equals(Object o1, Object o2) {
+            return (o1 == null) ? (o2 == null) : o1.equals(o2);
+        }
+    }
+}
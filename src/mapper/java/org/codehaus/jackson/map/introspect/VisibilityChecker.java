@@ -410,6 +410,36 @@ public interface VisibilityChecker<T extends VisibilityChecker<T>>
         /* Standard methods
         /********************************************************
          */
+        /**
+         * Instances are equal if they are of same class and have same
+         * visibility levels; needed for sharing introspection results
+         * between configurations.
+         * 
+         * @since 1.9.14
+         */
+        @Override
+        public boolean equals(Object o)
+        {
+            if (o == this) return true;
+            if (o == null || o.getClass() != getClass()) return false;
+            Std other = (Std) o;
+            return (_getterMinLevel == other._getterMinLevel)
+                && (_isGetterMinLevel == other._isGetterMinLevel)
+                && (_setterMinLevel == other._setterMinLevel)
+                && (_creatorMinLevel == other._creatorMinLevel)
+                && (_fieldMinLevel == other._fieldMinLevel);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int h = _getterMinLevel.ordinal();
+            h = (h * 7) + _isGetterMinLevel.ordinal();
+            h = (h * 7) + _setterMinLevel.ordinal();
+            h = (h * 7) + _creatorMinLevel.ordinal();
+            return (h * 7) + _fieldMinLevel.ordinal();
+        }
+
         @Override
         public String toString() {
             return new StringBuilder("[Visibility:")
@@ -31,7 +31,7 @@ public class AsArrayTypeSerializer
         throws IOException, JsonProcessingException
     {
         jgen.writeStartArray();
-        jgen.writeString(_idResolver.idFromValue(value));
+        _writeTypeId(value, jgen);
         jgen.writeStartObject();
     }
 
@@ -50,7 +50,7 @@ public class AsArrayTypeSerializer
         throws IOException, JsonProcessingException
     {
         jgen.writeStartArray();
-        jgen.writeString(_idResolver.idFromValue(value));
+        _writeTypeId(value, jgen);
         jgen.writeStartArray();
     }
 
@@ -70,7 +70,7 @@ public class AsArrayTypeSerializer
     {
         // only need the wrapper array
         jgen.writeStartArray();
-        jgen.writeString(_idResolver.idFromValue(value));
+        _writeTypeId(value, jgen);
     }
 
     @Override
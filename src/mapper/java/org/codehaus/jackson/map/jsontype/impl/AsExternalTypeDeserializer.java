@@ -1,7 +1,12 @@
 package org.codehaus.jackson.map.jsontype.impl;
 
+import java.io.IOException;
+
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonProcessingException;
 import org.codehaus.jackson.annotate.JsonTypeInfo.As;
 import org.codehaus.jackson.map.BeanProperty;
+import org.codehaus.jackson.map.DeserializationContext;
 import org.codehaus.jackson.map.jsontype.TypeIdResolver;
 import org.codehaus.jackson.type.JavaType;
 
@@ -34,4 +39,19 @@ public class AsExternalTypeDeserializer extends AsArrayTypeDeserializer
 
     @Override
     public String getPropertyName() { return _typePropertyName; }
+
+    /**
+     * Method called to deserialize value when type id has already been
+     * located (by the containing bean deserializer), and parser points to
+     * the first token of value itself. This allows deserializing values
+     * directly from the input, without first rearranging them into
+     * "wrapper-array" form.
+     *
+     * @since 1.9.14
+     */
+    public Object deserializeTypedWithId(JsonParser jp, DeserializationContext ctxt, String typeId)
+        throws IOException, JsonProcessingException
+    {
+        return _findDeserializer(ctxt, typeId).deserialize(jp, ctxt);
+    }
 }
@@ -5,6 +5,7 @@ import java.io.IOException;
 import org.codehaus.jackson.JsonGenerator;
 import org.codehaus.jackson.JsonProcessingException;
 import org.codehaus.jackson.annotate.JsonTypeInfo.As;
+import org.codehaus.jackson.io.SerializedString;
 import org.codehaus.jackson.map.BeanProperty;
 import org.codehaus.jackson.map.jsontype.TypeIdResolver;
 
@@ -23,11 +24,19 @@ public class AsPropertyTypeSerializer
 {
     protected final String _typePropertyName;
 
+    /**
+     * Pre-encoded version of {@link #_typePropertyName}
+     * 
+     * @since 1.9.14
+     */
+    protected final SerializedString _serializedPropertyName;
+
     public AsPropertyTypeSerializer(TypeIdResolver idRes, BeanProperty property,
             String propName)
     {
         super(idRes, property);
         _typePropertyName = propName;
+        _serializedPropertyName = new SerializedString(propName);
     }
 
     @Override
@@ -41,7 +50,8 @@ public class AsPropertyTypeSerializer
         throws IOException, JsonProcessingException
     {
         jgen.writeStartObject();
-        jgen.writeStringField(_typePropertyName, _idResolver.idFromValue(value));
+        jgen.writeFieldName(_serializedPropertyName);
+        _writeTypeId(value, jgen);
     }
 
     @Override
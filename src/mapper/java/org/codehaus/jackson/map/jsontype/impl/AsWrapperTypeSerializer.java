@@ -37,7 +37,8 @@ public class AsWrapperTypeSerializer
         // wrapper
         jgen.writeStartObject();
         // and then JSON Object start caller wants
-        jgen.writeObjectFieldStart(_idResolver.idFromValue(value));
+        _writeTypeIdAsFieldName(value, jgen);
+        jgen.writeStartObject();
     }
 
     @Override
@@ -58,7 +59,8 @@ public class AsWrapperTypeSerializer
         // can still wrap ok
         jgen.writeStartObject();
         // and then JSON Array start caller wants
-        jgen.writeArrayFieldStart(_idResolver.idFromValue(value));
+        _writeTypeIdAsFieldName(value, jgen);
+        jgen.writeStartArray();
     }
 
     @Override
@@ -78,7 +80,7 @@ public class AsWrapperTypeSerializer
     {
         // can still wrap ok
         jgen.writeStartObject();
-        jgen.writeFieldName(_idResolver.idFromValue(value));
+        _writeTypeIdAsFieldName(value, jgen);
     }
 
     @Override
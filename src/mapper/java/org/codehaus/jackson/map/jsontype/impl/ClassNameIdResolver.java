@@ -65,6 +65,21 @@ public class ClassNameIdResolver
     /* Internal methods
     /**********************************************************
      */
+
+    /**
+     * Ids only depend on class of value, except for EnumSets and EnumMaps
+     * (which include type of enum values). Custom sub-classes may
+     * produce ids based on value, so they are not considered to
+     * have class-based ids.
+     */
+    @Override
+    protected boolean _hasClassBasedId(Object value) {
+        Class<?> cls = getClass();
+        if (cls != ClassNameIdResolver.class && cls != MinimalClassNameIdResolver.class) {
+            return false;
+        }
+        return !(value instanceof EnumSet<?>) && !(value instanceof EnumMap<?,?>);
+    }
     
     protected final String _idFrom(Object value, Class<?> cls)
     {
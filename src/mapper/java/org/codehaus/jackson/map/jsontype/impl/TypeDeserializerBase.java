@@ -1,7 +1,7 @@
 package org.codehaus.jackson.map.jsontype.impl;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.codehaus.jackson.*;
 import org.codehaus.jackson.annotate.JsonTypeInfo;
@@ -35,8 +35,10 @@ public abstract class TypeDeserializerBase extends TypeDeserializer
     /**
      * For efficient operation we will lazily build mappings from type ids
      * to actual deserializers, once needed.
+     *<p>
+     * Since 1.9.14, a concurrent map, accessed without locking.
      */
-    protected final HashMap<String,JsonDeserializer<Object>> _deserializers;
+    protected final ConcurrentHashMap<String,JsonDeserializer<Object>> _deserializers;
 
     /**
      * @since 1.9
@@ -57,7 +59,7 @@ public abstract class TypeDeserializerBase extends TypeDeserializer
         _baseType = baseType;
         _idResolver = idRes;
         _property = property;
-        _deserializers = new HashMap<String,JsonDeserializer<Object>>();
+        _deserializers = new ConcurrentHashMap<String,JsonDeserializer<Object>>(16, 0.75f, 4);
         if (defaultImpl == null) {
             _defaultImpl = null;
         } else {
@@ -105,34 +107,34 @@ public abstract class TypeDeserializerBase extends TypeDeserializer
     protected final JsonDeserializer<Object> _findDeserializer(DeserializationContext ctxt, String typeId)
         throws IOException, JsonProcessingException
     {
-        JsonDeserializer<Object> deser;
-
-        synchronized (_deserializers) {
-            deser = _deserializers.get(typeId);
-            if (deser == null) {
-                JavaType type = _idResolver.typeFromId(typeId);
-                if (type == null) {
-                    // As per [JACKSON-614], use the default impl if no type id available:
-                    if (_defaultImpl == null) {
-                        throw ctxt.unknownTypeException(_baseType, typeId);
-                    }
-                    deser = _findDefaultImplDeserializer(ctxt);
-                } else {
-                    /* 16-Dec-2010, tatu: Since nominal type we get here has no (generic) type parameters,
-                     *   we actually now need to explicitly narrow from base type (which may have parameterization)
-                     *   using raw type.
-                     *   
-                     *   One complication, though; can not change 'type class' (simple type to container); otherwise
-                     *   we may try to narrow a SimpleType (Object.class) into MapType (Map.class), losing actual
-                     *   type in process (getting SimpleType of Map.class which will not work as expected)
-                     */
-                    if (_baseType != null && _baseType.getClass() == type.getClass()) {
-                        type = _baseType.narrowBy(type.getRawClass());
-                    }
-                    deser = ctxt.getDeserializerProvider().findValueDeserializer(ctxt.getConfig(), type, _property);
+        JsonDeserializer<Object> deser = _deserializers.get(typeId);
+        if (deser == null) {
+            /* No locking: in case of a race, we may resolve the same id more than
+             * once; but resolution yields the same deserializer, since providers
+             * cache them.
+             */
+            JavaType type = _idResolver.typeFromId(typeId);
+            if (type == null) {
+                // As per [JACKSON-614], use the default impl if no type id available:
+                if (_defaultImpl == null) {
+                    throw ctxt.unknownTypeException(_baseType, typeId);
+                }
+                deser = _findDefaultImplDeserializer(ctxt);
+            } else {
+                /* 16-Dec-2010, tatu: Since nominal type we get here has no (generic) type parameters,
+                 *   we actually now need to explicitly narrow from base type (which may have parameterization)
+                 *   using raw type.
+                 *   
+                 *   One complication, though; can not change 'type class' (simple type to container); otherwise
+                 *   we may try to narrow a SimpleType (Object.class) into MapType (Map.class), losing actual
+                 *   type in process (getting SimpleType of Map.class which will not work as expected)
+                 */
+                if (_baseType != null && _baseType.getClass() == type.getClass()) {
+                    type = _baseType.narrowBy(type.getRawClass());
                 }
-                _deserializers.put(typeId, deser);
+                deser = ctxt.getDeserializerProvider().findValueDeserializer(ctxt.getConfig(), type, _property);
             }
+            _deserializers.put(typeId, deser);
         }
         return deser;
     }
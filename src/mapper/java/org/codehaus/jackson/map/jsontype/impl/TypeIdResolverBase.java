@@ -1,5 +1,8 @@
 package org.codehaus.jackson.map.jsontype.impl;
 
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.codehaus.jackson.io.SerializedString;
 import org.codehaus.jackson.map.jsontype.TypeIdResolver;
 import org.codehaus.jackson.map.type.TypeFactory;
 import org.codehaus.jackson.type.JavaType;
@@ -14,6 +17,15 @@ public abstract class TypeIdResolverBase
      */
     protected final JavaType _baseType;
 
+    /**
+     * Pre-encoded type ids, keyed by class of value; only used for
+     * values for which {@link #_hasClassBasedId} returns true.
+     * 
+     * @since 1.9.14
+     */
+    protected final ConcurrentHashMap<Class<?>,SerializedString> _serializedIds
+        = new ConcurrentHashMap<Class<?>,SerializedString>(16, 0.75f, 4);
+
     protected TypeIdResolverBase(JavaType baseType, TypeFactory typeFactory)
     {
         _baseType = baseType;
@@ -34,4 +46,50 @@ public abstract class TypeIdResolverBase
     {
         return idFromValueAndType(null, _baseType.getRawClass());
     }
+
+    /**
+     * Method for finding type id for given value, as pre-encoded
+     * {@link SerializedString} that can be efficiently written
+     * using {@link org.codehaus.jackson.JsonGenerator}.
+     * Ids are cached by class of value (without synchronization) if
+     * {@link #_hasClassBasedId} indicates it is safe to do so.
+     * 
+     * @since 1.9.14
+     */
+    public SerializedString serializedIdFromValue(Object value)
+    {
+        if (!_hasClassBasedId(value)) {
+            return new SerializedString(idFromValue(value));
+        }
+        final Class<?> cls = value.getClass();
+        SerializedString id = _serializedIds.get(cls);
+        if (id == null) {
+            id = new SerializedString(_findId(value));
+            _serializedIds.put(cls, id);
+        }
+        return id;
+    }
+
+    /**
+     * Method called to check whether type id of given value only depends
+     * on class of the value, and can thus be cached.
+     * Default implementation returns false, to be safe; standard
+     * implementations override as necessary.
+     * 
+     * @since 1.9.14
+     */
+    protected boolean _hasClassBasedId(Object value) {
+        return false;
+    }
+
+    /**
+     * Method called by {@link #serializedIdFromValue} to find id for value
+     * that is not yet cached; default implementation simply calls
+     * {@link #idFromValue}.
+     * 
+     * @since 1.9.14
+     */
+    protected String _findId(Object value) {
+        return idFromValue(value);
+    }
 }
@@ -83,6 +83,18 @@ public class TypeNameIdResolver
 
     @Override
     public String idFromValue(Object value)
+    {
+        // ids are cached by class, so that locking is only needed for new types
+        return serializedIdFromValue(value).getValue();
+    }
+
+    @Override
+    protected boolean _hasClassBasedId(Object value) {
+        return true;
+    }
+
+    @Override
+    protected String _findId(Object value)
     {
         Class<?> cls = value.getClass();
         final String key = cls.getName();
@@ -1,5 +1,9 @@
 package org.codehaus.jackson.map.jsontype.impl;
 
+import java.io.IOException;
+
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonProcessingException;
 import org.codehaus.jackson.annotate.JsonTypeInfo;
 import org.codehaus.jackson.map.BeanProperty;
 import org.codehaus.jackson.map.TypeSerializer;
@@ -13,11 +17,22 @@ public abstract class TypeSerializerBase extends TypeSerializer
     protected final TypeIdResolver _idResolver;
 
     protected final BeanProperty _property;
+
+    /**
+     * Id resolver, if it is one of standard resolvers (which can
+     * produce pre-encoded type ids); null if not. Sub-classes of standard
+     * resolvers are not included, since they may override
+     * {@link TypeIdResolver#idFromValue}.
+     * 
+     * @since 1.9.14
+     */
+    protected final TypeIdResolverBase _stdIdResolver;
     
     protected TypeSerializerBase(TypeIdResolver idRes, BeanProperty property)
     {
         _idResolver = idRes;
         _property = property;
+        _stdIdResolver = _isStdResolver(idRes) ? (TypeIdResolverBase) idRes : null;
     }
 
     @Override
@@ -28,4 +43,50 @@ public abstract class TypeSerializerBase extends TypeSerializer
     
     @Override
     public TypeIdResolver getTypeIdResolver() { return _idResolver; }
+
+    /*
+    /**********************************************************
+    /* Helper methods for sub-classes
+    /**********************************************************
+     */
+
+    private static boolean _isStdResolver(TypeIdResolver idRes)
+    {
+        if (idRes == null) {
+            return false;
+        }
+        Class<?> cls = idRes.getClass();
+        return (cls == TypeNameIdResolver.class) || (cls == ClassNameIdResolver.class)
+            || (cls == MinimalClassNameIdResolver.class);
+    }
+
+    /**
+     * Helper method for writing type id of given value as a JSON String
+     * 
+     * @since 1.9.14
+     */
+    protected final void _writeTypeId(Object value, JsonGenerator jgen)
+        throws IOException, JsonProcessingException
+    {
+        if (_stdIdResolver != null) {
+            jgen.writeString(_stdIdResolver.serializedIdFromValue(value));
+        } else {
+            jgen.writeString(_idResolver.idFromValue(value));
+        }
+    }
+
+    /**
+     * Helper method for writing type id of given value as a JSON field name
+     * 
+     * @since 1.9.14
+     */
+    protected final void _writeTypeIdAsFieldName(Object value, JsonGenerator jgen)
+        throws IOException, JsonProcessingException
+    {
+        if (_stdIdResolver != null) {
+            jgen.writeFieldName(_stdIdResolver.serializedIdFromValue(value));
+        } else {
+            jgen.writeFieldName(_idResolver.idFromValue(value));
+        }
+    }
 }
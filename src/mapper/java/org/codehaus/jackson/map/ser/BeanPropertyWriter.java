@@ -1,6 +1,7 @@
 package org.codehaus.jackson.map.ser;
 
 import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonProcessingException;
 import org.codehaus.jackson.map.BeanProperty;
 import org.codehaus.jackson.map.JsonMappingException;
 import org.codehaus.jackson.map.JsonSerializer;
@@ -13,6 +14,7 @@ import org.codehaus.jackson.map.util.Annotations;
 import org.codehaus.jackson.io.SerializedString;
 import org.codehaus.jackson.type.JavaType;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -400,6 +402,24 @@ public class BeanPropertyWriter
     }
 
     public Class<?>[] getViews() { return _includeInViews; }
+
+    /**
+     * @since 1.9.14
+     */
+    public boolean willSuppressNulls() { return _suppressNulls; }
+
+    /**
+     * @return Value which, if property has it, is not to be written out
+     *   (default value, or marker for "empty" values); null if none
+     * 
+     * @since 1.9.14
+     */
+    public Object getSuppressableValue() { return _suppressableValue; }
+
+    /**
+     * @since 1.9.14
+     */
+    public TypeSerializer getTypeSerializer() { return _typeSerializer; }
     
     /*
     /**********************************************************
@@ -416,6 +436,24 @@ public class BeanPropertyWriter
         throws Exception
     {
         Object value = get(bean);
+        // First: simple check for direct cycles
+        if (value == bean) {
+            _reportSelfReference(bean);
+        }
+        serializeValueAsField(value, jgen, prov);
+    }
+
+    /**
+     * Method called to serialize given value of the property this
+     * Object describes (instead of accessing it from a bean) as a JSON Object
+     * field, using same serializer and inclusion criteria as
+     * {@link #serializeAsField}.
+     * 
+     * @since 1.9.14
+     */
+    public void serializeValueAsField(Object value, JsonGenerator jgen, SerializerProvider prov)
+        throws IOException, JsonProcessingException
+    {
         // Null handling is bit different, check that first
         if (value == null) {
             if (!_suppressNulls) {
@@ -424,10 +462,6 @@ public class BeanPropertyWriter
             }
             return;
         }
-        // For non-nulls, first: simple check for direct cycles
-        if (value == bean) {
-            _reportSelfReference(bean);
-        }
         if (_suppressableValue != null && _suppressableValue.equals(value)) {
             return;
         }
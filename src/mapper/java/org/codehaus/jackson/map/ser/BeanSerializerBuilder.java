@@ -77,6 +77,16 @@ public class BeanSerializerBuilder
     public BasicBeanDescription getBeanDescription() { return _beanDesc; }
     public List<BeanPropertyWriter> getProperties() { return _properties; }
     public BeanPropertyWriter[] getFilteredProperties() { return _filteredProperties; }
+
+    /**
+     * @since 1.9.14
+     */
+    public AnyGetterWriter getAnyGetter() { return _anyGetter; }
+
+    /**
+     * @since 1.9.14
+     */
+    public Object getFilterId() { return _filterId; }
     
     /**
      * @since 1.9
@@ -247,6 +247,18 @@ public class BeanSerializerFactory
             BeanProperty property)
         throws JsonMappingException
     {
+        // [1.9.14]: "direct" serializers are located without introspection
+        if (!origType.isContainerType()) {
+            for (Serializers serializers : _factoryConfig.serializers()) {
+                if (serializers instanceof Serializers.Direct) {
+                    JsonSerializer<?> ser = ((Serializers.Direct) serializers).findDirectSerializer(config,
+                            origType.getRawClass());
+                    if (ser != null) {
+                        return (JsonSerializer<Object>) ser;
+                    }
+                }
+            }
+        }
         // Very first thing, let's check if there is explicit serializer annotation:
         BasicBeanDescription beanDesc = config.introspect(origType);
         JsonSerializer<?> ser = findSerializerFromAnnotation(config, beanDesc.getClassInfo(), property);
@@ -21,6 +21,61 @@ public abstract class FilteredBeanPropertyWriter
         return new MultiView(base, viewsToIncludeIn);
     }
 
+    /**
+     * Helper method for constructing a compacted array of writers to use
+     * for given active view: properties not included in the view are
+     * left out altogether, and view-based filtering writers constructed
+     * by this class are replaced by their delegates, so that no per-property
+     * view checks are needed when serializing. Other writers are included
+     * as is.
+     * 
+     * @param filteredProps Writers with view-based filtering; nulls for
+     *   properties that are never included when a view is active
+     * @param activeView View that is active
+     * 
+     * @since 1.9.14
+     */
+    public static BeanPropertyWriter[] writersForView(BeanPropertyWriter[] filteredProps, Class<?> activeView)
+    {
+        BeanPropertyWriter[] result = new BeanPropertyWriter[filteredProps.length];
+        int count = 0;
+        for (BeanPropertyWriter prop : filteredProps) {
+            if (prop == null) {
+                continue;
+            }
+            if (prop instanceof SingleView) {
+                SingleView sv = (SingleView) prop;
+                if (!sv._view.isAssignableFrom(activeView)) {
+                    continue;
+                }
+                prop = sv._delegate;
+            } else if (prop instanceof MultiView) {
+                MultiView mv = (MultiView) prop;
+                if (!_isIncluded(mv._views, activeView)) {
+                    continue;
+                }
+                prop = mv._delegate;
+            }
+            result[count++] = prop;
+        }
+        if (count < result.length) {
+            BeanPropertyWriter[] compact = new BeanPropertyWriter[count];
+            System.arraycopy(result, 0, compact, 0, count);
+            result = compact;
+        }
+        return result;
+    }
+
+    private static boolean _isIncluded(Class<?>[] views, Class<?> activeView)
+    {
+        for (int i = 0, len = views.length; i < len; ++i) {
+            if (views[i].isAssignableFrom(activeView)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /*
     /**********************************************************
     /* Concrete sub-classes
@@ -80,15 +135,9 @@ public abstract class FilteredBeanPropertyWriter
             throws Exception
         {
             final Class<?> activeView = prov.getSerializationView();
-            if (activeView != null) {
-                int i = 0, len = _views.length;
-                for (; i < len; ++i) {
-                    if (_views[i].isAssignableFrom(activeView)) break;
-                }
-                // not included, bail out:
-                if (i == len) {
-                    return;
-                }
+            // not included, bail out:
+            if (activeView != null && !_isIncluded(_views, activeView)) {
+                return;
             }
             _delegate.serializeAsField(bean, jgen, prov);
         }
@@ -0,0 +1,37 @@
+package org.codehaus.jackson.map.ser;
+
+/**
+ * Extension of {@link BeanPropertyFilter} that filters that only use static
+ * information about properties (such as name) can implement, to declare
+ * that the set of properties to serialize only depends on the property
+ * itself: not on bean instance being serialized, or on dynamic state
+ * of the serializer provider.
+ *<p>
+ * For such filters, bean serializers can determine the subset of properties
+ * to serialize once, cache it, and then serialize properties as is, without
+ * calling {@link #serializeAsField} for each property of each bean.
+ * Implementations must ensure that {@link #serializeAsField} is consistent
+ * with {@link #includeProperty}: that is, that it serializes property using
+ * given writer if and only if property is included.
+ *<p>
+ * Note that sub-classes of standard implementations
+ * ({@link org.codehaus.jackson.map.ser.impl.SimpleBeanPropertyFilter.FilterExceptFilter}
+ * and {@link org.codehaus.jackson.map.ser.impl.SimpleBeanPropertyFilter.SerializeExceptFilter})
+ * are not handled as static filters, since they may override
+ * {@link #serializeAsField}.
+ *
+ * @since 1.9.14
+ */
+public interface StaticBeanPropertyFilter extends BeanPropertyFilter
+{
+    /**
+     * Method called to determine whether property written by given
+     * writer is to be serialized or not.
+     *
+     * @param writer Default bean property serializer for the property
+     *
+     * @return True if property is to be serialized; false if it is to be
+     *   filtered out
+     */
+    public boolean includeProperty(BeanPropertyWriter writer);
+}
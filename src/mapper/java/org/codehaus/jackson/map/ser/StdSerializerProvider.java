@@ -1,6 +1,7 @@
 package org.codehaus.jackson.map.ser;
 
 import java.io.IOException;
+import java.lang.ref.SoftReference;
 import java.text.DateFormat;
 import java.util.Date;
 
@@ -13,7 +14,9 @@ import org.codehaus.jackson.map.ser.std.NullSerializer;
 import org.codehaus.jackson.map.ser.std.StdKeySerializer;
 import org.codehaus.jackson.map.ser.std.StdKeySerializers;
 import org.codehaus.jackson.map.util.ClassUtil;
+import org.codehaus.jackson.map.util.ISO8601Utils;
 import org.codehaus.jackson.map.util.RootNameLookup;
+import org.codehaus.jackson.map.util.StdDateFormat;
 import org.codehaus.jackson.node.ObjectNode;
 import org.codehaus.jackson.schema.JsonSchema;
 import org.codehaus.jackson.schema.SchemaAware;
@@ -137,6 +140,28 @@ public class StdSerializerProvider
      */
     protected DateFormat _dateFormat;
 
+    /**
+     * Lazily allocated buffer used for formatting dates when the default
+     * date format ({@link StdDateFormat}) is used, in which case no
+     * format instance is needed.
+     *
+     * @since 1.9.14
+     */
+    protected char[] _dateBuffer;
+
+    /**
+     * For blueprint instances: most recently constructed non-blueprint
+     * instance, per thread, which can be reused for later calls with the
+     * same configuration and factory, as long as its read-only lookup map
+     * is still up to date. Null for non-blueprint instances.
+     *<p>
+     * Note: instances have no state that would be specific to a single
+     * call, so that reuse is safe even for nested calls.
+     * 
+     * @since 1.9.14
+     */
+    protected final ThreadLocal<SoftReference<StdSerializerProvider>> _recycledInstance;
+
     /*
     /**********************************************************
     /* Life-cycle
@@ -156,6 +181,7 @@ public class StdSerializerProvider
         // Blueprints doesn't have access to any serializers...
         _knownSerializers = null;
         _rootNames = new RootNameLookup();
+        _recycledInstance = new ThreadLocal<SoftReference<StdSerializerProvider>>();
     }
 
     /**
@@ -184,6 +210,7 @@ public class StdSerializerProvider
          * need synchronization for lookups.
          */
         _knownSerializers = _serializerCache.getReadOnlyLookupMap();
+        _recycledInstance = null;
     }
 
     /**
@@ -247,13 +274,16 @@ public class StdSerializerProvider
          * non-shared ("local") read-only lookup Map for fast
          * class-to-serializer lookup
          */
-        StdSerializerProvider inst = createInstance(config, jsf);
-        // sanity check to avoid weird errors; to ensure sub-classes do override createInstance
-        if (inst.getClass() != getClass()) {
-            throw new IllegalStateException("Broken serializer provider: createInstance returned instance of type "+inst.getClass()+"; blueprint of type "+getClass());
-        }
+        StdSerializerProvider inst = _instanceFor(config, jsf);
         // And then we can do actual serialization, through the instance
-        inst._serializeValue(jgen, value);
+        MapperInstrumentation instr = config.getInstrumentation();
+        if (instr.isEnabled()) {
+            long start = System.nanoTime();
+            inst._serializeValue(jgen, value);
+            instr.rootValueWritten((value == null) ? Object.class : value.getClass(), System.nanoTime() - start);
+        } else {
+            inst._serializeValue(jgen, value);
+        }
     }
 
     @Override
@@ -264,11 +294,68 @@ public class StdSerializerProvider
         if (jsf == null) {
             throw new IllegalArgumentException("Can not pass null serializerFactory");
         }
+        StdSerializerProvider inst = _instanceFor(config, jsf);
+        MapperInstrumentation instr = config.getInstrumentation();
+        if (instr.isEnabled()) {
+            long start = System.nanoTime();
+            inst._serializeValue(jgen, value, rootType);
+            instr.rootValueWritten(rootType.getRawClass(), System.nanoTime() - start);
+        } else {
+            inst._serializeValue(jgen, value, rootType);
+        }
+    }
+    
+    /**
+     * Helper method for finding non-blueprint instance to use for serialization
+     * with given configuration and factory: if possible, an instance constructed
+     * for an earlier call (by the same thread) is reused; otherwise a new one
+     * is constructed using {@link #createInstance}.
+     *<p>
+     * Note that reuse is only done for instances of this class, not sub-classes,
+     * since sub-classes may retain per-call state. And since instances are only
+     * reused when the same configuration instance is passed, reuse relies on
+     * {@link ObjectMapper} (and {@link ObjectWriter}) passing same configuration
+     * objects for calls, as long as configuration does not change.
+     * 
+     * @since 1.9.14
+     */
+    protected StdSerializerProvider _instanceFor(SerializationConfig config, SerializerFactory jsf)
+    {
+        final boolean reusable = (_recycledInstance != null) && (getClass() == StdSerializerProvider.class);
+        if (reusable) {
+            SoftReference<StdSerializerProvider> ref = _recycledInstance.get();
+            StdSerializerProvider inst = (ref == null) ? null : ref.get();
+            if (inst != null && inst._config == config && inst._serializerFactory == jsf
+                    && _serializerCache.isUpToDate(inst._knownSerializers)
+                    && _hasSameSpecialSerializers(inst)) {
+                return inst;
+            }
+        }
         StdSerializerProvider inst = createInstance(config, jsf);
+        // sanity check to avoid weird errors; to ensure sub-classes do override createInstance
         if (inst.getClass() != getClass()) {
             throw new IllegalStateException("Broken serializer provider: createInstance returned instance of type "+inst.getClass()+"; blueprint of type "+getClass());
         }
-        inst._serializeValue(jgen, value, rootType);
+        if (reusable) {
+            _recycledInstance.set(new SoftReference<StdSerializerProvider>(inst));
+        }
+        return inst;
+    }
+    
+    /**
+     * Helper method for checking whether given instance still uses the
+     * same specialized serializers (null value, null key, default key and
+     * unknown type serializers) as this blueprint; these may be changed
+     * after instance has been constructed.
+     * 
+     * @since 1.9.14
+     */
+    private boolean _hasSameSpecialSerializers(StdSerializerProvider inst)
+    {
+        return (inst._nullValueSerializer == _nullValueSerializer)
+            && (inst._nullKeySerializer == _nullKeySerializer)
+            && (inst._keySerializer == _keySerializer)
+            && (inst._unknownTypeSerializer == _unknownTypeSerializer);
     }
     
     @Override
@@ -310,6 +397,31 @@ public class StdSerializerProvider
         return createInstance(config, jsf)._findExplicitUntypedSerializer(cls, null) != null;
     }
     
+    @Override
+    public JsonSerializer<Object> preloadSerializer(SerializationConfig config,
+            JavaType type, SerializerFactory jsf)
+        throws JsonMappingException
+    {
+        StdSerializerProvider inst = createInstance(config, jsf);
+        /* Root values are looked up by runtime class, if type has no
+         * generic parameters; need to use same key to benefit from caching
+         */
+        if (type.containedTypeCount() == 0) {
+            return inst.findTypedValueSerializer(type.getRawClass(), true, null);
+        }
+        return inst.findTypedValueSerializer(type, true, null);
+    }
+
+    @Override
+    public SerializerProvider instanceForConversion(SerializationConfig config,
+            SerializerFactory jsf)
+    {
+        if (jsf == null) {
+            throw new IllegalArgumentException("Can not pass null serializerFactory");
+        }
+        return _instanceFor(config, jsf);
+    }
+
     @Override
     public int cachedSerializersCount() {
         return _serializerCache.size();
@@ -340,6 +452,7 @@ public class StdSerializerProvider
                 // ... possibly as fully typed?
                 ser = _serializerCache.untypedValueSerializer(_config.constructType(valueType));
                 if (ser == null) {
+                    _config.getInstrumentation().serializerCacheMiss();
                     // If neither, must create
                     ser = _createAndCacheUntypedSerializer(valueType, property);
                     // Not found? Must use the unknown type serializer
@@ -355,9 +468,15 @@ public class StdSerializerProvider
                         }
                         return ser;
                     }
+                } else {
+                    _config.getInstrumentation().serializerCacheHit();
                 }
+            } else {
+                _config.getInstrumentation().serializerCacheHit();
             }
-        }            
+        } else {
+            _config.getInstrumentation().serializerCacheHit();
+        }
         return _handleContextualResolvable(ser, property);
     }
 
@@ -376,6 +495,7 @@ public class StdSerializerProvider
             // If not, maybe shared map already has it?
             ser = _serializerCache.untypedValueSerializer(valueType);
             if (ser == null) {
+                _config.getInstrumentation().serializerCacheMiss();
                 // If neither, must create
                 ser = _createAndCacheUntypedSerializer(valueType, property);
                 // Not found? Must use the unknown type serializer
@@ -391,7 +511,11 @@ public class StdSerializerProvider
                     }
                     return ser;
                 }
+            } else {
+                _config.getInstrumentation().serializerCacheHit();
             }
+        } else {
+            _config.getInstrumentation().serializerCacheHit();
         }
         return _handleContextualResolvable(ser, property);
     }
@@ -407,12 +531,12 @@ public class StdSerializerProvider
     {
         // Two-phase lookups; local non-shared cache, then shared:
         JsonSerializer<Object> ser = _knownSerializers.typedValueSerializer(valueType);
-        if (ser != null) {
-            return ser;
+        if (ser == null) {
+            // If not, maybe shared map already has it?
+            ser = _serializerCache.typedValueSerializer(valueType);
         }
-        // If not, maybe shared map already has it?
-        ser = _serializerCache.typedValueSerializer(valueType);
         if (ser != null) {
+            _config.getInstrumentation().serializerCacheHit();
             return ser;
         }
 
@@ -436,12 +560,12 @@ public class StdSerializerProvider
     {
         // Two-phase lookups; local non-shared cache, then shared:
         JsonSerializer<Object> ser = _knownSerializers.typedValueSerializer(valueType);
-        if (ser != null) {
-            return ser;
+        if (ser == null) {
+            // If not, maybe shared map already has it?
+            ser = _serializerCache.typedValueSerializer(valueType);
         }
-        // If not, maybe shared map already has it?
-        ser = _serializerCache.typedValueSerializer(valueType);
         if (ser != null) {
+            _config.getInstrumentation().serializerCacheHit();
             return ser;
         }
 
@@ -519,6 +643,11 @@ public class StdSerializerProvider
         if (isEnabled(SerializationConfig.Feature.WRITE_DATES_AS_TIMESTAMPS)) {
             jgen.writeNumber(timestamp);
         } else {
+            int end = _formatStdDate(timestamp);
+            if (end > 0) {
+                jgen.writeString(_dateBuffer, 0, end);
+                return;
+            }
             if (_dateFormat == null) {
                 // must create a clone since Formats are not thread-safe:
                 _dateFormat = (DateFormat)_config.getDateFormat().clone();
@@ -535,6 +664,11 @@ public class StdSerializerProvider
         if (isEnabled(SerializationConfig.Feature.WRITE_DATES_AS_TIMESTAMPS)) {
             jgen.writeNumber(date.getTime());
         } else {
+            int end = _formatStdDate(date.getTime());
+            if (end > 0) {
+                jgen.writeString(_dateBuffer, 0, end);
+                return;
+            }
             if (_dateFormat == null) {
                 DateFormat blueprint = _config.getDateFormat();
                 // must create a clone since Formats are not thread-safe:
@@ -551,6 +685,11 @@ public class StdSerializerProvider
         if (isEnabled(SerializationConfig.Feature.WRITE_DATE_KEYS_AS_TIMESTAMPS)) {
             jgen.writeFieldName(String.valueOf(timestamp));
         } else {
+            int end = _formatStdDate(timestamp);
+            if (end > 0) {
+                jgen.writeFieldName(new String(_dateBuffer, 0, end));
+                return;
+            }
             if (_dateFormat == null) {
                 DateFormat blueprint = _config.getDateFormat();
                 // must create a clone since Formats are not thread-safe:
@@ -567,6 +706,11 @@ public class StdSerializerProvider
         if (isEnabled(SerializationConfig.Feature.WRITE_DATE_KEYS_AS_TIMESTAMPS)) {
             jgen.writeFieldName(String.valueOf(date.getTime()));
         } else {
+            int end = _formatStdDate(date.getTime());
+            if (end > 0) {
+                jgen.writeFieldName(new String(_dateBuffer, 0, end));
+                return;
+            }
             if (_dateFormat == null) {
                 DateFormat blueprint = _config.getDateFormat();
                 // must create a clone since Formats are not thread-safe:
@@ -575,6 +719,26 @@ public class StdSerializerProvider
             jgen.writeFieldName(_dateFormat.format(date));
         }
     }
+
+    /**
+     * Helper method that formats given timestamp into {@link #_dateBuffer},
+     * if the default date format is used and timestamp is within range
+     * it can be formatted without using a date format instance.
+     *
+     * @return Length of formatted date, if formatted; -1 if not
+     *
+     * @since 1.9.14
+     */
+    protected final int _formatStdDate(long timestamp)
+    {
+        if (_config.getDateFormat().getClass() != StdDateFormat.class) {
+            return -1;
+        }
+        if (_dateBuffer == null) {
+            _dateBuffer = new char[ISO8601Utils.STD_FORMAT_LENGTH];
+        }
+        return ISO8601Utils.formatStd(timestamp, _dateBuffer, 0);
+    }
     
     /*
     /**********************************************************
@@ -773,6 +937,13 @@ public class StdSerializerProvider
             BeanProperty property)
         throws JsonMappingException
     {
+        MapperInstrumentation instr = _config.getInstrumentation();
+        if (instr.isEnabled()) {
+            long start = System.nanoTime();
+            JsonSerializer<Object> ser = _serializerFactory.createSerializer(_config, type, property);
+            instr.serializerConstructed(type, System.nanoTime() - start);
+            return ser;
+        }
         /* 10-Dec-2008, tatu: Is there a possibility of infinite loops
          *   here? Shouldn't be, given that we do not pass back-reference
          *   to this provider. But if there is, we'd need to sync calls,
@@ -37,7 +37,7 @@ public abstract class PropertySerializerMap
         throws JsonMappingException
     {
         JsonSerializer<Object> serializer = provider.findValueSerializer(type, property);
-        return new SerializerAndMapResult(serializer, newWith(type, serializer));
+        return new SerializerAndMapResult(serializer, _newWith(type, serializer, provider));
     }
 
     public final SerializerAndMapResult findAndAddSerializer(JavaType type,
@@ -45,10 +45,24 @@ public abstract class PropertySerializerMap
         throws JsonMappingException
     {
         JsonSerializer<Object> serializer = provider.findValueSerializer(type, property);
-        return new SerializerAndMapResult(serializer, newWith(type.getRawClass(), serializer));
+        return new SerializerAndMapResult(serializer, _newWith(type.getRawClass(), serializer, provider));
     }
 
+    /**
+     * Method for constructing a map that also contains given type and serializer
+     * mapping; or, if map can not grow any more, this instance.
+     */
     public abstract PropertySerializerMap newWith(Class<?> type, JsonSerializer<Object> serializer);
+
+    private final PropertySerializerMap _newWith(Class<?> type, JsonSerializer<Object> serializer,
+            SerializerProvider provider)
+    {
+        PropertySerializerMap map = newWith(type, serializer);
+        if (map == this) { // full; will need to look up from provider every time
+            provider.getConfig().getInstrumentation().dynamicSerializerFallback(type);
+        }
+        return map;
+    }
     
     public static PropertySerializerMap emptyMap() {
         return Empty.instance;
@@ -176,9 +190,10 @@ public abstract class PropertySerializerMap
         @Override
         public PropertySerializerMap newWith(Class<?> type, JsonSerializer<Object> serializer) {
             // Ok: let's just create generic one
-            TypeAndSerializer[] ts = new TypeAndSerializer[2];
+            TypeAndSerializer[] ts = new TypeAndSerializer[3];
             ts[0] = new TypeAndSerializer(_type1, _serializer1);
             ts[1] = new TypeAndSerializer(_type2, _serializer2);
+            ts[2] = new TypeAndSerializer(type, serializer);
             return new Multi(ts);
         }
     }
@@ -186,12 +201,9 @@ public abstract class PropertySerializerMap
     private final static class Multi extends PropertySerializerMap
     {
         /**
-         * Let's limit number of serializers we actually cache; linear
-         * lookup won't scale too well beyond smallish number, and if
-         * we really want to support larger collections should use
-         * a hash map. But it seems unlikely this is a common use
-         * case so for now let's just stop building after hard-coded
-         * limit. 8 sounds like a reasonable stab for now.
+         * Linear lookup won't scale too well beyond smallish number of
+         * entries; after this many we will switch to a hash-based
+         * implementation.
          */
         private final static int MAX_ENTRIES = 8;
         
@@ -217,9 +229,8 @@ public abstract class PropertySerializerMap
         public PropertySerializerMap newWith(Class<?> type, JsonSerializer<Object> serializer)
         {
             int len = _entries.length;
-            // Will only grow up to N entries
             if (len == MAX_ENTRIES) {
-                return this;
+                return Hashed.construct(_entries).newWith(type, serializer);
             }
             // 1.6 has nice resize methods but we are still 1.5
             TypeAndSerializer[] entries = new TypeAndSerializer[len+1];
@@ -228,4 +239,126 @@ public abstract class PropertySerializerMap
             return new Multi(entries);
         }
     }
+
+    /**
+     * Implementation used for properties with many different value types
+     * (such as elements of <code>List&lt;Object&gt;</code>, or values of
+     * <code>Map&lt;String,Object&gt;</code>): uses open addressing
+     * (linear probing), keyed by class identity. Grows (by creating new,
+     * bigger instances) up to {@link #MAX_ENTRIES}; after that new types
+     * are no longer added.
+     * 
+     * @since 1.9.14
+     */
+    private final static class Hashed extends PropertySerializerMap
+    {
+        /**
+         * Let's still limit size, to guard against unbounded growth with
+         * dynamically generated classes.
+         */
+        private final static int MAX_ENTRIES = 512;
+
+        private final Class<?>[] _types;
+        private final JsonSerializer<Object>[] _serializers;
+        private final int _size;
+
+        private Hashed(Class<?>[] types, JsonSerializer<Object>[] serializers, int size)
+        {
+            _types = types;
+            _serializers = serializers;
+            _size = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public static Hashed construct(TypeAndSerializer[] entries)
+        {
+            int tableSize = _tableSize(entries.length);
+            Class<?>[] types = new Class<?>[tableSize];
+            JsonSerializer<Object>[] serializers = (JsonSerializer<Object>[]) new JsonSerializer<?>[tableSize];
+            for (TypeAndSerializer entry : entries) {
+                _add(types, serializers, entry.type, entry.serializer);
+            }
+            return new Hashed(types, serializers, entries.length);
+        }
+
+        @Override
+        public JsonSerializer<Object> serializerFor(Class<?> type)
+        {
+            final Class<?>[] types = _types;
+            final int mask = types.length - 1;
+            int ix = _hash(type) & mask;
+            while (true) {
+                Class<?> curr = types[ix];
+                if (curr == type) {
+                    return _serializers[ix];
+                }
+                if (curr == null) {
+                    return null;
+                }
+                ix = (ix + 1) & mask;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public PropertySerializerMap newWith(Class<?> type, JsonSerializer<Object> serializer)
+        {
+            if (_size == MAX_ENTRIES) {
+                return this;
+            }
+            int newSize = _size + 1;
+            Class<?>[] types;
+            JsonSerializer<Object>[] serializers;
+            // can copy as is, or need to rehash?
+            int tableSize = _tableSize(newSize);
+            if (tableSize == _types.length) {
+                types = _types.clone();
+                serializers = _serializers.clone();
+            } else {
+                types = new Class<?>[tableSize];
+                serializers = (JsonSerializer<Object>[]) new JsonSerializer<?>[tableSize];
+                for (int i = 0, len = _types.length; i < len; ++i) {
+                    if (_types[i] != null) {
+                        _add(types, serializers, _types[i], _serializers[i]);
+                    }
+                }
+            }
+            _add(types, serializers, type, serializer);
+            return new Hashed(types, serializers, newSize);
+        }
+
+        /**
+         * Helper method for adding an entry in given (not yet shared) table
+         */
+        private static void _add(Class<?>[] types, JsonSerializer<Object>[] serializers,
+                Class<?> type, JsonSerializer<Object> serializer)
+        {
+            final int mask = types.length - 1;
+            int ix = _hash(type) & mask;
+            while (types[ix] != null) {
+                ix = (ix + 1) & mask;
+            }
+            types[ix] = type;
+            serializers[ix] = serializer;
+        }
+
+        /**
+         * Table size to use for given number of entries: power of two,
+         * with fill rate of at most 50%, to keep probe sequences short
+         */
+        private static int _tableSize(int entries)
+        {
+            int size = 16;
+            while (size < (entries + entries)) {
+                size += size;
+            }
+            return size;
+        }
+
+        private static int _hash(Class<?> type)
+        {
+            int h = System.identityHashCode(type);
+            return h ^ (h >>> 16);
+        }
+    }
 }
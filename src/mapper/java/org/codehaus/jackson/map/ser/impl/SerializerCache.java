@@ -36,7 +36,7 @@ public final class SerializerCache
     /**
      * Most recent read-only instance, created from _sharedMap, if any.
      */
-    private ReadOnlyClassToSerializerMap _readOnlyMap = null;
+    private volatile ReadOnlyClassToSerializerMap _readOnlyMap = null;
 
     public SerializerCache() {
     }
@@ -57,6 +57,19 @@ public final class SerializerCache
         return m.instance();
     }
 
+    /**
+     * Method that can be called to check whether given read-only instance
+     * (constructed using {@link #getReadOnlyLookupMap}) still contains
+     * all serializers in the shared map.
+     * 
+     * @since 1.9.14
+     */
+    public boolean isUpToDate(ReadOnlyClassToSerializerMap map)
+    {
+        ReadOnlyClassToSerializerMap m = _readOnlyMap;
+        return (m != null) && (m._map == map._map);
+    }
+
     /*
     /**********************************************************
     /* Lookup methods for accessing shared (slow) cache
@@ -6,10 +6,16 @@ import org.codehaus.jackson.JsonGenerator;
 import org.codehaus.jackson.map.*;
 import org.codehaus.jackson.map.ser.BeanPropertyFilter;
 import org.codehaus.jackson.map.ser.BeanPropertyWriter;
+import org.codehaus.jackson.map.ser.StaticBeanPropertyFilter;
 
 /**
  * Simple {@link BeanPropertyFilter} implementation that only uses property name
  * to determine whether to serialize property as is, or to filter it out.
+ *<p>
+ * Since 1.9.14, standard implementations also implement
+ * {@link StaticBeanPropertyFilter}, which allows bean serializers to
+ * determine and cache set of included properties (as long as they
+ * are not sub-classed).
  * 
  * @since 1.7
  */
@@ -59,6 +65,7 @@ public abstract class SimpleBeanPropertyFilter implements BeanPropertyFilter
      */
     public static class FilterExceptFilter
         extends SimpleBeanPropertyFilter
+        implements StaticBeanPropertyFilter
     {
         /**
          * Set of property names to serialize.
@@ -74,10 +81,15 @@ public abstract class SimpleBeanPropertyFilter implements BeanPropertyFilter
                 SerializerProvider provider, BeanPropertyWriter writer)
             throws Exception
         {
-            if (_propertiesToInclude.contains(writer.getName())) {
+            if (includeProperty(writer)) {
                 writer.serializeAsField(bean, jgen, provider);
             }
         }
+
+        //@Override
+        public boolean includeProperty(BeanPropertyWriter writer) {
+            return _propertiesToInclude.contains(writer.getName());
+        }
     }
 
     /**
@@ -86,6 +98,7 @@ public abstract class SimpleBeanPropertyFilter implements BeanPropertyFilter
      */
     public static class SerializeExceptFilter
         extends SimpleBeanPropertyFilter
+        implements StaticBeanPropertyFilter
     {
         /**
          * Set of property names to filter out.
@@ -101,9 +114,14 @@ public abstract class SimpleBeanPropertyFilter implements BeanPropertyFilter
                 SerializerProvider provider, BeanPropertyWriter writer)
             throws Exception
         {
-            if (!_propertiesToExclude.contains(writer.getName())) {
+            if (includeProperty(writer)) {
                 writer.serializeAsField(bean, jgen, provider);
             }
         }
+
+        //@Override
+        public boolean includeProperty(BeanPropertyWriter writer) {
+            return !_propertiesToExclude.contains(writer.getName());
+        }
     }
 }
@@ -8,6 +8,7 @@ import org.codehaus.jackson.JsonGenerator;
 import org.codehaus.jackson.JsonNode;
 import org.codehaus.jackson.map.*;
 import org.codehaus.jackson.map.ser.*;
+import org.codehaus.jackson.map.ser.impl.SimpleBeanPropertyFilter;
 import org.codehaus.jackson.node.ObjectNode;
 import org.codehaus.jackson.schema.JsonSchema;
 import org.codehaus.jackson.schema.SchemaAware;
@@ -56,6 +57,47 @@ public abstract class BeanSerializerBase
      * Id of the bean property filter to use, if any; null if none.
      */
     final protected Object _propertyFilterId;
+
+    /*
+    /**********************************************************
+    /* Per-view state
+    /**********************************************************
+     */
+
+    /**
+     * Maximum number of distinct views for which compacted property
+     * arrays are cached; beyond this, regular filtered properties
+     * are used.
+     * 
+     * @since 1.9.14
+     */
+    protected final static int MAX_CACHED_VIEWS = 16;
+
+    /**
+     * Compacted property arrays constructed so far, keyed by view;
+     * immutable, replaced (copy-on-write) when new views are added.
+     * 
+     * @since 1.9.14
+     */
+    protected volatile ViewProperties _viewProperties;
+
+    /**
+     * Maximum number of (filter, view) combinations for which property
+     * subsets are cached; if more are needed, cache is cleared and
+     * started anew.
+     * 
+     * @since 1.9.14
+     */
+    protected final static int MAX_CACHED_FILTERS = 16;
+
+    /**
+     * Property subsets determined so far for {@link StaticBeanPropertyFilter}s
+     * (and active view, if any); immutable, replaced (copy-on-write)
+     * when new entries are added.
+     * 
+     * @since 1.9.14
+     */
+    protected volatile FilteredProperties _filteredProperties;
     
     /*
     /**********************************************************
@@ -101,6 +143,96 @@ public abstract class BeanSerializerBase
                 src._props, src._filteredProps, src._anyGetterWriter, src._propertyFilterId);
     }
     
+    /**
+     * Immutable container for cached per-view property arrays.
+     * 
+     * @since 1.9.14
+     */
+    protected final static class ViewProperties
+    {
+        public final Class<?>[] views;
+        public final BeanPropertyWriter[][] props;
+
+        public ViewProperties(Class<?>[] views, BeanPropertyWriter[][] props)
+        {
+            this.views = views;
+            this.props = props;
+        }
+
+        public BeanPropertyWriter[] find(Class<?> view)
+        {
+            final Class<?>[] v = views;
+            for (int i = 0, len = v.length; i < len; ++i) {
+                if (v[i] == view) {
+                    return props[i];
+                }
+            }
+            return null;
+        }
+
+        public ViewProperties withView(Class<?> view, BeanPropertyWriter[] viewProps)
+        {
+            int len = views.length;
+            Class<?>[] newViews = new Class<?>[len+1];
+            System.arraycopy(views, 0, newViews, 0, len);
+            newViews[len] = view;
+            BeanPropertyWriter[][] newProps = new BeanPropertyWriter[len+1][];
+            System.arraycopy(props, 0, newProps, 0, len);
+            newProps[len] = viewProps;
+            return new ViewProperties(newViews, newProps);
+        }
+    }
+
+    /**
+     * Immutable container for cached property subsets for static
+     * property filters; keyed by filter and active view.
+     * 
+     * @since 1.9.14
+     */
+    protected final static class FilteredProperties
+    {
+        public final BeanPropertyFilter[] filters;
+        public final Class<?>[] views;
+        public final BeanPropertyWriter[][] props;
+
+        public FilteredProperties(BeanPropertyFilter[] filters, Class<?>[] views,
+                BeanPropertyWriter[][] props)
+        {
+            this.filters = filters;
+            this.views = views;
+            this.props = props;
+        }
+
+        public int size() { return filters.length; }
+        
+        public BeanPropertyWriter[] find(BeanPropertyFilter filter, Class<?> view)
+        {
+            final BeanPropertyFilter[] f = filters;
+            for (int i = 0, len = f.length; i < len; ++i) {
+                if (f[i] == filter && views[i] == view) {
+                    return props[i];
+                }
+            }
+            return null;
+        }
+
+        public FilteredProperties withFilter(BeanPropertyFilter filter, Class<?> view,
+                BeanPropertyWriter[] filteredProps)
+        {
+            int len = filters.length;
+            BeanPropertyFilter[] newFilters = new BeanPropertyFilter[len+1];
+            System.arraycopy(filters, 0, newFilters, 0, len);
+            newFilters[len] = filter;
+            Class<?>[] newViews = new Class<?>[len+1];
+            System.arraycopy(views, 0, newViews, 0, len);
+            newViews[len] = view;
+            BeanPropertyWriter[][] newProps = new BeanPropertyWriter[len+1][];
+            System.arraycopy(props, 0, newProps, 0, len);
+            newProps[len] = filteredProps;
+            return new FilteredProperties(newFilters, newViews, newProps);
+        }
+    }
+
     /*
     /**********************************************************
     /* Partial JsonSerializer implementation
@@ -136,12 +268,19 @@ public abstract class BeanSerializerBase
     protected void serializeFields(Object bean, JsonGenerator jgen, SerializerProvider provider)
         throws IOException, JsonGenerationException
     {
-        final BeanPropertyWriter[] props;
-        if (_filteredProps != null && provider.getSerializationView() != null) {
-            props = _filteredProps;
-        } else {
-            props = _props;
-        }
+        _serializeFields(bean, jgen, provider, _propsForView(provider));
+    }
+
+    /**
+     * Helper method that serializes given properties (all of which
+     * are to be included) as is, followed by any-getter properties.
+     * 
+     * @since 1.9.14
+     */
+    private final void _serializeFields(Object bean, JsonGenerator jgen, SerializerProvider provider,
+            final BeanPropertyWriter[] props)
+        throws IOException, JsonGenerationException
+    {
         int i = 0;
         try {
             for (final int len = props.length; i < len; ++i) {
@@ -182,18 +321,19 @@ public abstract class BeanSerializerBase
          * so that old method need not add check for existence of filter.
          */
         
-        final BeanPropertyWriter[] props;
-        if (_filteredProps != null && provider.getSerializationView() != null) {
-            props = _filteredProps;
-        } else {
-            props = _props;
-        }
+        final BeanPropertyWriter[] props = _propsForView(provider);
         final BeanPropertyFilter filter = findFilter(provider);
         // better also allow missing filter actually..
         if (filter == null) {
             serializeFields(bean, jgen, provider);
             return;
         }
+        // [1.9.14]: static filters need not be called for each property
+        if (_isStaticFilter(filter)) {
+            _serializeFields(bean, jgen, provider,
+                    _propsForFilter((StaticBeanPropertyFilter) filter, provider, props));
+            return;
+        }
         
         int i = 0;
         try {
@@ -217,6 +357,107 @@ public abstract class BeanSerializerBase
         }
     }
 
+    /**
+     * Helper method for finding properties to serialize, given active
+     * view (if any). For active views, compacted arrays that only
+     * contain properties included in the view are constructed and cached
+     * on first use, so that no per-property view checks are needed.
+     * 
+     * @since 1.9.14
+     */
+    protected final BeanPropertyWriter[] _propsForView(SerializerProvider provider)
+    {
+        if (_filteredProps == null) {
+            return _props;
+        }
+        final Class<?> view = provider.getSerializationView();
+        if (view == null) {
+            return _props;
+        }
+        ViewProperties cached = _viewProperties;
+        if (cached != null) {
+            BeanPropertyWriter[] props = cached.find(view);
+            if (props != null) {
+                return props;
+            }
+            if (cached.views.length >= MAX_CACHED_VIEWS) {
+                return _filteredProps;
+            }
+        }
+        BeanPropertyWriter[] props = FilteredBeanPropertyWriter.writersForView(_filteredProps, view);
+        /* Benign race: concurrent additions may lose entries, in which case
+         * they just get recomputed later on
+         */
+        _viewProperties = (cached == null)
+            ? new ViewProperties(new Class<?>[] { view }, new BeanPropertyWriter[][] { props })
+            : cached.withView(view, props);
+        return props;
+    }
+
+    /**
+     * Helper method for checking whether given filter can be handled as
+     * a {@link StaticBeanPropertyFilter}. Sub-classes of standard
+     * {@link SimpleBeanPropertyFilter} implementations are not, since
+     * they may override {@link BeanPropertyFilter#serializeAsField}.
+     * 
+     * @since 1.9.14
+     */
+    protected static boolean _isStaticFilter(BeanPropertyFilter filter)
+    {
+        if (filter instanceof SimpleBeanPropertyFilter) {
+            Class<?> cls = filter.getClass();
+            return (cls == SimpleBeanPropertyFilter.FilterExceptFilter.class)
+                || (cls == SimpleBeanPropertyFilter.SerializeExceptFilter.class);
+        }
+        return (filter instanceof StaticBeanPropertyFilter);
+    }
+
+    /**
+     * Helper method for finding subset of given properties that given
+     * static filter includes; subsets are constructed and cached on
+     * first use.
+     * 
+     * @param props Properties to filter (ones for active view, if any)
+     * 
+     * @since 1.9.14
+     */
+    protected final BeanPropertyWriter[] _propsForFilter(StaticBeanPropertyFilter filter,
+            SerializerProvider provider, BeanPropertyWriter[] props)
+    {
+        // active view only matters if it affected properties to filter
+        final Class<?> view = (props == _props) ? null : provider.getSerializationView();
+        FilteredProperties cached = _filteredProperties;
+        if (cached != null) {
+            BeanPropertyWriter[] result = cached.find(filter, view);
+            if (result != null) {
+                return result;
+            }
+        }
+        BeanPropertyWriter[] result = new BeanPropertyWriter[props.length];
+        int count = 0;
+        for (BeanPropertyWriter prop : props) {
+            if (prop != null && filter.includeProperty(prop)) {
+                result[count++] = prop;
+            }
+        }
+        if (count < result.length) {
+            BeanPropertyWriter[] compact = new BeanPropertyWriter[count];
+            System.arraycopy(result, 0, compact, 0, count);
+            result = compact;
+        }
+        /* Filters may well be constructed per call; if so, better start
+         * over than keep on accumulating stale entries. And as with views,
+         * concurrent additions may lose entries, which is ok.
+         */
+        if (cached == null || cached.size() >= MAX_CACHED_FILTERS) {
+            _filteredProperties = new FilteredProperties(new BeanPropertyFilter[] { filter },
+                    new Class<?>[] { view }, new BeanPropertyWriter[][] { result });
+        } else {
+            _filteredProperties = cached.withFilter(filter, view, result);
+        }
+        return result;
+    }
+
     /**
      * Helper method used to locate filter that is needed, based on filter id
      * this serializer was constructed with.
@@ -236,7 +477,24 @@ public abstract class BeanSerializerBase
         // But whether unknown ids are ok just depends on filter provider; if we get null that's fine
         return filter;
     }
-    
+
+    /**
+     * Accessor for properties that would be serialized (in order) for
+     * given provider, for callers that want to access property values
+     * directly, such as {@link ObjectMapper#convertValue}. Returns null
+     * if output can not be determined from properties alone; that is, if
+     * there is a filter or an any-getter to call.
+     *
+     * @since 1.9.14
+     */
+    public BeanPropertyWriter[] propertiesToWrite(SerializerProvider provider)
+    {
+        if (_propertyFilterId != null || _anyGetterWriter != null) {
+            return null;
+        }
+        return _propsForView(provider);
+    }
+
     @Override
     public JsonNode getSchema(SerializerProvider provider, Type typeHint)
         throws JsonMappingException
@@ -335,6 +593,9 @@ public abstract class BeanSerializerBase
         if (_anyGetterWriter != null) {
             _anyGetterWriter.resolve(provider);
         }
+        // and any per-view (or per-filter) properties constructed so far are stale
+        _viewProperties = null;
+        _filteredProperties = null;
     }
 
 }
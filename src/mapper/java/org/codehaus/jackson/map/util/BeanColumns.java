@@ -0,0 +1,346 @@
+package org.codehaus.jackson.map.util;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.List;
+
+import org.codehaus.jackson.*;
+import org.codehaus.jackson.io.SerializedString;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.annotate.JacksonStdImpl;
+import org.codehaus.jackson.map.ser.BeanPropertyWriter;
+import org.codehaus.jackson.map.ser.std.BeanSerializerBase;
+
+/**
+ * Container for "columnar" representation of a JSON Array of Objects that
+ * map to beans of type <code>T</code>: instead of constructing a bean
+ * for each element, values of each property are stored in a separate
+ * array (column). Properties of primitive types use primitive arrays
+ * (<code>int[]</code>, <code>double[]</code> and so on), and other properties
+ * arrays of declared property type (such as <code>String[]</code>).
+ * This can greatly reduce number of objects constructed when binding large
+ * arrays of small beans.
+ *<p>
+ * Data binding is done by declaring target type as, say,
+ * <code>BeanColumns&lt;Point&gt;</code> (using {@link org.codehaus.jackson.type.TypeReference}
+ * or {@link org.codehaus.jackson.type.JavaType}); all properties bean
+ * deserializer recognizes get a column. Values for properties that are
+ * missing from an element are left as defaults of the column type (null, 0 or
+ * false). Only types deserialized using standard bean deserializer with
+ * default (no-arguments) constructor, and without "any setter", can be bound
+ * as columns.
+ *<p>
+ * When serialized, instances are written as a JSON Array of Objects,
+ * with a property for each column (in column order). If beans are serialized
+ * using standard bean serializer, values are written using its property
+ * writers (so that annotated serializers, inclusion criteria and type information
+ * of properties are used), and columns for properties it does not write are
+ * skipped.
+ *
+ * @since 1.9.14
+ */
+public final class BeanColumns<T>
+    implements JsonSerializableWithType
+{
+    protected final Class<T> _beanType;
+
+    protected final String[] _names;
+
+    /**
+     * Arrays that contain values of properties: either primitive arrays,
+     * or Object arrays
+     */
+    protected final Object[] _columns;
+
+    protected final int _size;
+
+    /**
+     * Encoded names, constructed when first serialized
+     */
+    protected SerializedString[] _serializedNames;
+
+    /**
+     * @param beanType Type of beans values represent
+     * @param names Names of properties
+     * @param columns Arrays that contain property values, in same order as
+     *   names; must all have same length
+     */
+    public BeanColumns(Class<T> beanType, String[] names, Object[] columns)
+    {
+        if (names.length != columns.length) {
+            throw new IllegalArgumentException("Number of names ("+names.length
+                    +") differs from number of columns ("+columns.length+")");
+        }
+        int size = 0;
+        for (int i = 0; i < columns.length; ++i) {
+            Object col = columns[i];
+            if (col == null || !col.getClass().isArray()) {
+                throw new IllegalArgumentException("Column '"+names[i]+"' is not an array");
+            }
+            int len = Array.getLength(col);
+            if (i == 0) {
+                size = len;
+            } else if (len != size) {
+                throw new IllegalArgumentException("Column '"+names[i]+"' has "+len
+                        +" values; expected "+size);
+            }
+        }
+        _beanType = beanType;
+        _names = names;
+        _columns = columns;
+        _size = size;
+    }
+
+    /*
+    /**********************************************************
+    /* Accessors
+    /**********************************************************
+     */
+
+    public Class<T> getBeanType() { return _beanType; }
+
+    /**
+     * Accessor for number of rows (beans) contained
+     */
+    public int size() { return _size; }
+
+    /**
+     * Accessor for names of properties that have columns, in column order.
+     */
+    public List<String> getColumnNames() {
+        return Arrays.asList(_names.clone());
+    }
+
+    public boolean hasColumn(String name) {
+        return _indexOf(name) >= 0;
+    }
+
+    /**
+     * Accessor for values of specified property; result is an array
+     * (primitive or Object array), or null if there is no such column.
+     */
+    public Object getColumn(String name)
+    {
+        int ix = _indexOf(name);
+        return (ix < 0) ? null : _columns[ix];
+    }
+
+    public int[] getIntColumn(String name) {
+        return _column(name, int[].class);
+    }
+
+    public long[] getLongColumn(String name) {
+        return _column(name, long[].class);
+    }
+
+    public double[] getDoubleColumn(String name) {
+        return _column(name, double[].class);
+    }
+
+    public boolean[] getBooleanColumn(String name) {
+        return _column(name, boolean[].class);
+    }
+
+    /**
+     * Accessor for values of specified property that has non-primitive type;
+     * returned array has declared property type as its component type.
+     */
+    public Object[] getObjectColumn(String name) {
+        return _column(name, Object[].class);
+    }
+
+    /*
+    /**********************************************************
+    /* JsonSerializable(WithType) implementation
+    /**********************************************************
+     */
+
+    //@Override
+    public void serialize(JsonGenerator jgen, SerializerProvider provider)
+        throws IOException, JsonProcessingException
+    {
+        jgen.writeStartArray();
+        serializeContents(jgen, provider);
+        jgen.writeEndArray();
+    }
+
+    //@Override
+    public void serializeWithType(JsonGenerator jgen, SerializerProvider provider,
+            TypeSerializer typeSer)
+        throws IOException, JsonProcessingException
+    {
+        typeSer.writeTypePrefixForArray(this, jgen);
+        serializeContents(jgen, provider);
+        typeSer.writeTypeSuffixForArray(this, jgen);
+    }
+
+    protected void serializeContents(JsonGenerator jgen, SerializerProvider provider)
+        throws IOException, JsonProcessingException
+    {
+        SerializedString[] names = _serializedNames;
+        if (names == null) {
+            names = new SerializedString[_names.length];
+            for (int i = 0; i < names.length; ++i) {
+                names[i] = new SerializedString(_names[i]);
+            }
+            _serializedNames = names;
+        }
+        final Object[] columns = _columns;
+        final int colCount = columns.length;
+        final BeanPropertyWriter[] writers = _findWriters(provider);
+        /* primitive values can be written directly, unless property
+         * has custom serializer or inclusion criteria
+         */
+        final boolean[] direct = new boolean[colCount];
+        for (int i = 0; i < colCount; ++i) {
+            direct[i] = (writers == null) || _canWriteDirectly(writers[i]);
+        }
+        // for Object columns without writers, let's keep track of the last serializer used
+        final Class<?>[] serClasses = new Class<?>[colCount];
+        @SuppressWarnings("unchecked")
+        final JsonSerializer<Object>[] sers = (JsonSerializer<Object>[]) new JsonSerializer<?>[colCount];
+
+        for (int row = 0; row < _size; ++row) {
+            jgen.writeStartObject();
+            for (int i = 0; i < colCount; ++i) {
+                Object col = columns[i];
+                if (writers != null) {
+                    BeanPropertyWriter w = writers[i];
+                    if (w == null) { // not written for beans either
+                        continue;
+                    }
+                    if (col instanceof Object[]) {
+                        w.serializeValueAsField(((Object[]) col)[row], jgen, provider);
+                        continue;
+                    }
+                    if (!direct[i]) {
+                        w.serializeValueAsField(Array.get(col, row), jgen, provider);
+                        continue;
+                    }
+                }
+                jgen.writeFieldName(names[i]);
+                if (col instanceof Object[]) {
+                    Object value = ((Object[]) col)[row];
+                    if (value == null) {
+                        provider.defaultSerializeNull(jgen);
+                        continue;
+                    }
+                    Class<?> cls = value.getClass();
+                    JsonSerializer<Object> ser = sers[i];
+                    if (cls != serClasses[i]) {
+                        ser = provider.findTypedValueSerializer(cls, true, null);
+                        sers[i] = ser;
+                        serClasses[i] = cls;
+                    }
+                    ser.serialize(value, jgen, provider);
+                } else if (col instanceof int[]) {
+                    jgen.writeNumber(((int[]) col)[row]);
+                } else if (col instanceof long[]) {
+                    jgen.writeNumber(((long[]) col)[row]);
+                } else if (col instanceof double[]) {
+                    jgen.writeNumber(((double[]) col)[row]);
+                } else if (col instanceof boolean[]) {
+                    jgen.writeBoolean(((boolean[]) col)[row]);
+                } else if (col instanceof float[]) {
+                    jgen.writeNumber(((float[]) col)[row]);
+                } else if (col instanceof short[]) {
+                    jgen.writeNumber(((short[]) col)[row]);
+                } else if (col instanceof byte[]) {
+                    jgen.writeNumber(((byte[]) col)[row]);
+                } else { // char[]
+                    jgen.writeString(((char[]) col), row, 1);
+                }
+            }
+            jgen.writeEndObject();
+        }
+    }
+
+    /**
+     * Helper method for finding property writers of the bean serializer
+     * for columns (null entries for columns it does not write); or null if
+     * beans are not serialized using a standard bean serializer.
+     */
+    protected BeanPropertyWriter[] _findWriters(SerializerProvider provider)
+        throws JsonMappingException
+    {
+        JsonSerializer<Object> ser = provider.findValueSerializer(_beanType, null);
+        if (!(ser instanceof BeanSerializerBase)) {
+            return null;
+        }
+        // note: properties depend on active view
+        BeanPropertyWriter[] props = ((BeanSerializerBase) ser).propertiesToWrite(provider);
+        if (props == null) { // filtered, or has any-getter
+            return null;
+        }
+        BeanPropertyWriter[] writers = new BeanPropertyWriter[_names.length];
+        for (int i = 0; i < writers.length; ++i) {
+            for (BeanPropertyWriter w : props) {
+                if (w != null && w.getName().equals(_names[i])) {
+                    // unwrapping writers may write any number of properties
+                    if (w.getClass() != BeanPropertyWriter.class) {
+                        return null;
+                    }
+                    writers[i] = w;
+                    break;
+                }
+            }
+        }
+        return writers;
+    }
+
+    private static boolean _canWriteDirectly(BeanPropertyWriter w)
+    {
+        if (w == null) {
+            return true;
+        }
+        if (w.getTypeSerializer() != null || w.getSuppressableValue() != null) {
+            return false;
+        }
+        JsonSerializer<Object> ser = w.getSerializer();
+        return (ser == null) || (ser.getClass().getAnnotation(JacksonStdImpl.class) != null);
+    }
+
+    /*
+    /**********************************************************
+    /* Standard methods
+    /**********************************************************
+     */
+
+    @Override
+    public String toString() {
+        return "[BeanColumns for "+_beanType.getName()+": "+_size+" rows, columns "
+            +Arrays.asList(_names)+"]";
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods
+    /**********************************************************
+     */
+
+    private int _indexOf(String name)
+    {
+        for (int i = 0, len = _names.length; i < len; ++i) {
+            if (_names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private <C> C _column(String name, Class<C> type)
+    {
+        int ix = _indexOf(name);
+        if (ix < 0) {
+            throw new IllegalArgumentException("No column '"+name+"' for "+_beanType.getName()
+                    +" (known columns: "+Arrays.asList(_names)+")");
+        }
+        Object col = _columns[ix];
+        if (!type.isInstance(col)) {
+            throw new IllegalArgumentException("Column '"+name+"' is of type "
+                    +col.getClass().getComponentType().getName()+"; not "+type.getComponentType().getName());
+        }
+        return type.cast(col);
+    }
+}
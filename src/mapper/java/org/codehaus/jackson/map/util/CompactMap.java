@@ -0,0 +1,291 @@
+package org.codehaus.jackson.map.util;
+
+import java.util.*;
+
+/**
+ * Insertion-ordered {@link Map} implementation that stores keys and
+ * values in a single array, and looks up entries with linear search.
+ * Uses much less memory than {@link LinkedHashMap} (no per-entry objects
+ * or hash table), but is only meant for small Maps, such as ones
+ * constructed for typical JSON Objects by
+ * {@link UntypedContainerFactory#compact}.
+ *<p>
+ * Instances can be either modifiable (in which case array is grown
+ * as necessary), or read-only.
+ *
+ * @since 1.9.14
+ */
+public final class CompactMap
+    extends AbstractMap<String,Object>
+{
+    private final static Object[] NO_ENTRIES = new Object[0];
+
+    /**
+     * Keys (at even indexes) and values (at odd indexes) of entries
+     */
+    private Object[] _entries;
+
+    /**
+     * Number of entries (key/value pairs) in this Map
+     */
+    private int _size;
+
+    private final boolean _immutable;
+
+    private transient Set<Map.Entry<String,Object>> _entrySet;
+
+    /**
+     * Constructor for an empty modifiable Map
+     */
+    public CompactMap() {
+        _entries = NO_ENTRIES;
+        _immutable = false;
+    }
+
+    /**
+     * Constructor for a Map that will use given array for storing
+     * its entries.
+     *
+     * @param keysAndValues Array with keys (Strings; at even indexes) and
+     *   values (at odd indexes); if same key is included more than once,
+     *   value of the last one is retained (at position of the first one).
+     * @param immutable Whether Map is to be read-only
+     */
+    public CompactMap(Object[] keysAndValues, boolean immutable)
+    {
+        _immutable = immutable;
+        _entries = keysAndValues;
+        final int len = keysAndValues.length >> 1;
+        int size = 0;
+        main_loop:
+        for (int i = 0; i < len; ++i) {
+            Object key = keysAndValues[i+i];
+            Object value = keysAndValues[i+i+1];
+            // duplicates are rare, but need to be handled
+            for (int j = 0; j < size; ++j) {
+                if (key.equals(keysAndValues[j+j])) {
+                    keysAndValues[j+j+1] = value;
+                    continue main_loop;
+                }
+            }
+            if (size < i) {
+                keysAndValues[size+size] = key;
+                keysAndValues[size+size+1] = value;
+            }
+            ++size;
+        }
+        // clear out any slots left over by duplicates
+        for (int i = size+size; i < keysAndValues.length; ++i) {
+            keysAndValues[i] = null;
+        }
+        _size = size;
+    }
+
+    /*
+    /**********************************************************
+    /* Map implementation
+    /**********************************************************
+     */
+
+    @Override
+    public int size() { return _size; }
+
+    @Override
+    public boolean isEmpty() { return _size == 0; }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return _indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key)
+    {
+        int ix = _indexOf(key);
+        return (ix < 0) ? null : _entries[ix+ix+1];
+    }
+
+    @Override
+    public Object put(String key, Object value)
+    {
+        _checkModifiable();
+        int ix = _indexOf(key);
+        if (ix >= 0) {
+            Object old = _entries[ix+ix+1];
+            _entries[ix+ix+1] = value;
+            return old;
+        }
+        int offset = _size + _size;
+        if (offset >= _entries.length) {
+            Object[] old = _entries;
+            // grow by 50% (but must keep length even)
+            _entries = new Object[(old.length < 8) ? 8 : (old.length + ((old.length >> 2) << 1))];
+            System.arraycopy(old, 0, _entries, 0, offset);
+        }
+        _entries[offset] = key;
+        _entries[offset+1] = value;
+        ++_size;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key)
+    {
+        _checkModifiable();
+        int ix = _indexOf(key);
+        if (ix < 0) {
+            return null;
+        }
+        Object old = _entries[ix+ix+1];
+        _removeAt(ix);
+        return old;
+    }
+
+    @Override
+    public void clear()
+    {
+        _checkModifiable();
+        Arrays.fill(_entries, 0, _size+_size, null);
+        _size = 0;
+    }
+
+    @Override
+    public Set<Map.Entry<String,Object>> entrySet()
+    {
+        Set<Map.Entry<String,Object>> set = _entrySet;
+        if (set == null) {
+            _entrySet = set = new EntrySet();
+        }
+        return set;
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods
+    /**********************************************************
+     */
+
+    private int _indexOf(Object key)
+    {
+        final Object[] entries = _entries;
+        if (key == null) {
+            for (int i = 0, len = _size; i < len; ++i) {
+                if (entries[i+i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = 0, len = _size; i < len; ++i) {
+                Object k = entries[i+i];
+                if (k == key || key.equals(k)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void _removeAt(int index)
+    {
+        int offset = index+index;
+        int end = _size+_size;
+        System.arraycopy(_entries, offset+2, _entries, offset, end - offset - 2);
+        _entries[end-2] = null;
+        _entries[end-1] = null;
+        --_size;
+    }
+
+    private void _checkModifiable()
+    {
+        if (_immutable) {
+            throw new UnsupportedOperationException("Map is read-only");
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String,Object>>
+    {
+        @Override
+        public int size() { return _size; }
+
+        @Override
+        public Iterator<Map.Entry<String,Object>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String,Object>>
+    {
+        private int _next;
+
+        private boolean _canRemove;
+
+        public boolean hasNext() { return _next < _size; }
+
+        public Map.Entry<String,Object> next()
+        {
+            if (_next >= _size) {
+                throw new NoSuchElementException();
+            }
+            _canRemove = true;
+            return new Entry(_next++);
+        }
+
+        public void remove()
+        {
+            _checkModifiable();
+            if (!_canRemove) {
+                throw new IllegalStateException();
+            }
+            _canRemove = false;
+            _removeAt(--_next);
+        }
+    }
+
+    /**
+     * Entry that accesses contents of Map by index; hence entries
+     * are only valid until an entry is removed from the Map.
+     */
+    private final class Entry implements Map.Entry<String,Object>
+    {
+        private final int _index;
+
+        Entry(int index) { _index = index; }
+
+        public String getKey() { return (String) _entries[_index+_index]; }
+
+        public Object getValue() { return _entries[_index+_index+1]; }
+
+        public Object setValue(Object value)
+        {
+            _checkModifiable();
+            Object old = _entries[_index+_index+1];
+            _entries[_index+_index+1] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Map.Entry<?,?>)) {
+                return false;
+            }
+            Map.Entry<?,?> other = (Map.Entry<?,?>) o;
+            return _equals(getKey(), other.getKey()) && _equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            Object key = getKey();
+            Object value = getValue();
+            return ((key == null) ? 0 : key.hashCode()) ^ ((value == null) ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() { return getKey() + "=" + getValue(); }
+    }
+
+    private static boolean _equals(Object o1, Object o2) {
+        return (o1 == null) ? (o2 == null) : o1.equals(o2);
+    }
+}
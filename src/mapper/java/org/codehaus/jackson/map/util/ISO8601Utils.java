@@ -162,6 +162,244 @@ public class ISO8601Utils {
         }
     }
 
+    /*
+    /**********************************************************
+    /* Fast path for default (StdDateFormat) format
+    /**********************************************************
+     */
+
+    /**
+     * Length of dates formatted using {@link #formatStd}: length of
+     * "yyyy-MM-ddTHH:mm:ss.SSS+0000".
+     *
+     * @since 1.9.14
+     */
+    public final static int STD_FORMAT_LENGTH = 28;
+
+    /**
+     * Marker value returned by {@link #parseStd} to indicate that value
+     * could not be handled.
+     *
+     * @since 1.9.14
+     */
+    public final static long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final static long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    /* Range of years for which fast path is used: JDK calendars use Julian
+     * calendar before 1582, so must leave earlier dates to them.
+     */
+    private final static int MIN_FAST_YEAR = 1583;
+    private final static int MAX_FAST_YEAR = 9999;
+    private final static long MIN_FAST_TIMESTAMP = daysFromCivil(MIN_FAST_YEAR, 1, 1) * MILLIS_PER_DAY;
+    private final static long MAX_FAST_TIMESTAMP = daysFromCivil(MAX_FAST_YEAR + 1, 1, 1) * MILLIS_PER_DAY - 1;
+
+    /**
+     * Method for formatting given timestamp into given buffer, using the
+     * format {@link StdDateFormat} uses for output
+     * ("yyyy-MM-dd'T'HH:mm:ss.SSSZ", in GMT); without constructing
+     * calendar or date format objects.
+     *
+     * @param buffer Buffer to write characters to; must have at least
+     *   {@link #STD_FORMAT_LENGTH} characters available after offset
+     * @return Offset after last character written, if timestamp could be
+     *   formatted; -1 if not (timestamp outside supported range of years
+     *   1583 - 9999)
+     *
+     * @since 1.9.14
+     */
+    public static int formatStd(long timestamp, char[] buffer, int offset)
+    {
+        if (timestamp < MIN_FAST_TIMESTAMP || timestamp > MAX_FAST_TIMESTAMP) {
+            return -1;
+        }
+        // timestamps within range are positive, so no need for floor division
+        long days = timestamp / MILLIS_PER_DAY;
+        int msOfDay = (int) (timestamp - days * MILLIS_PER_DAY);
+        if (msOfDay < 0) {
+            --days;
+            msOfDay += (int) MILLIS_PER_DAY;
+        }
+        // civil-from-days, see 'daysFromCivil' for the reverse
+        int z = (int) days + 719468;
+        int era = z / 146097;
+        int doe = z - era * 146097;
+        int yoe = (doe - doe/1460 + doe/36524 - doe/146096) / 365;
+        int doy = doe - (365*yoe + yoe/4 - yoe/100);
+        int mp = (5*doy + 2) / 153;
+        int day = doy - (153*mp + 2)/5 + 1;
+        int month = (mp < 10) ? (mp + 3) : (mp - 9);
+        int year = yoe + era * 400 + ((month <= 2) ? 1 : 0);
+
+        offset = put4(buffer, offset, year);
+        buffer[offset++] = '-';
+        offset = put2(buffer, offset, month);
+        buffer[offset++] = '-';
+        offset = put2(buffer, offset, day);
+        buffer[offset++] = 'T';
+        int secs = msOfDay / 1000;
+        offset = put2(buffer, offset, secs / 3600);
+        buffer[offset++] = ':';
+        offset = put2(buffer, offset, (secs / 60) % 60);
+        buffer[offset++] = ':';
+        offset = put2(buffer, offset, secs % 60);
+        buffer[offset++] = '.';
+        int ms = msOfDay % 1000;
+        buffer[offset++] = (char) ('0' + ms / 100);
+        offset = put2(buffer, offset, ms % 100);
+        buffer[offset++] = '+';
+        buffer[offset++] = '0';
+        buffer[offset++] = '0';
+        buffer[offset++] = '0';
+        buffer[offset++] = '0';
+        return offset;
+    }
+
+    /**
+     * Method for parsing strictly formatted ISO-8601 dates, as accepted by
+     * {@link StdDateFormat}, directly from given characters: handles
+     * "yyyy-MM-dd" and "yyyy-MM-ddTHH:mm:ss[.SSS]", optionally followed by
+     * either 'Z' or timezone offset ("+hh", "+hhmm", "+hh:mm"). No lenient
+     * handling is done: values that are not in one of these forms (or have
+     * out-of-range field values) are not handled, and caller is expected
+     * to fall back to using full date format.
+     *
+     * @return Timestamp, if value could be parsed; {@link #NO_TIMESTAMP} if not
+     *
+     * @since 1.9.14
+     */
+    public static long parseStd(char[] buffer, int offset, int len)
+    {
+        if (len < 10) {
+            return NO_TIMESTAMP;
+        }
+        final int end = offset + len;
+        int year = digits4(buffer, offset);
+        if (year < MIN_FAST_YEAR || buffer[offset+4] != '-' || buffer[offset+7] != '-') {
+            return NO_TIMESTAMP;
+        }
+        int month = digits2(buffer, offset+5);
+        int day = digits2(buffer, offset+8);
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+            return NO_TIMESTAMP;
+        }
+        long timestamp = daysFromCivil(year, month, day) * MILLIS_PER_DAY;
+        if (len == 10) { // plain date
+            return timestamp;
+        }
+        int ptr = offset+10;
+        if (len < 19 || buffer[ptr] != 'T' || buffer[ptr+3] != ':' || buffer[ptr+6] != ':') {
+            return NO_TIMESTAMP;
+        }
+        int hour = digits2(buffer, ptr+1);
+        int minute = digits2(buffer, ptr+4);
+        int second = digits2(buffer, ptr+7);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return NO_TIMESTAMP;
+        }
+        timestamp += ((hour * 60 + minute) * 60 + second) * 1000L;
+        ptr += 9;
+        if (ptr < end && buffer[ptr] == '.') { // need exactly 3 digits, if any
+            if (ptr + 4 > end) {
+                return NO_TIMESTAMP;
+            }
+            int ms = digits2(buffer, ptr+1);
+            int ms3 = digit(buffer[ptr+3]);
+            if (ms < 0 || ms3 < 0) {
+                return NO_TIMESTAMP;
+            }
+            timestamp += ms * 10 + ms3;
+            ptr += 4;
+        }
+        if (ptr == end) { // no timezone means GMT
+            return timestamp;
+        }
+        char c = buffer[ptr];
+        if (c == 'Z') {
+            return (ptr+1 == end) ? timestamp : NO_TIMESTAMP;
+        }
+        if (c != '+' && c != '-') {
+            return NO_TIMESTAMP;
+        }
+        int tzLen = end - ptr - 1;
+        int tzHours = (tzLen >= 2) ? digits2(buffer, ptr+1) : -1;
+        int tzMinutes;
+        if (tzLen == 2) {
+            tzMinutes = 0;
+        } else if (tzLen == 4) {
+            tzMinutes = digits2(buffer, ptr+3);
+        } else if (tzLen == 5 && buffer[ptr+3] == ':') {
+            tzMinutes = digits2(buffer, ptr+4);
+        } else {
+            return NO_TIMESTAMP;
+        }
+        if (tzHours < 0 || tzHours > 23 || tzMinutes < 0 || tzMinutes > 59) {
+            return NO_TIMESTAMP;
+        }
+        long tzOffset = (tzHours * 60 + tzMinutes) * 60000L;
+        return (c == '+') ? (timestamp - tzOffset) : (timestamp + tzOffset);
+    }
+
+    /**
+     * Helper method for calculating number of days since epoch, for given
+     * date in proleptic Gregorian calendar.
+     */
+    private static long daysFromCivil(int year, int month, int day)
+    {
+        if (month <= 2) {
+            --year;
+        }
+        int era = year / 400; // only called with positive years
+        int yoe = year - era * 400;
+        int doy = (153 * (month + ((month > 2) ? -3 : 9)) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe/4 - yoe/100 + doy;
+        return era * 146097L + doe - 719468;
+    }
+
+    private static int daysInMonth(int year, int month)
+    {
+        if (month == 2) {
+            return ((year % 4 == 0) && ((year % 100 != 0) || (year % 400 == 0))) ? 29 : 28;
+        }
+        return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+    }
+
+    private static int put2(char[] buffer, int offset, int value)
+    {
+        buffer[offset++] = (char) ('0' + value / 10);
+        buffer[offset++] = (char) ('0' + value % 10);
+        return offset;
+    }
+
+    private static int put4(char[] buffer, int offset, int value)
+    {
+        offset = put2(buffer, offset, value / 100);
+        return put2(buffer, offset, value % 100);
+    }
+
+    private static int digit(char c)
+    {
+        return (c >= '0' && c <= '9') ? (c - '0') : -1;
+    }
+
+    /**
+     * @return Value of 2 digits at given offset, or negative number if
+     *   not digits
+     */
+    private static int digits2(char[] buffer, int offset)
+    {
+        int d1 = digit(buffer[offset]);
+        int d2 = digit(buffer[offset+1]);
+        return (d1 < 0 || d2 < 0) ? -1 : (d1 * 10 + d2);
+    }
+
+    private static int digits4(char[] buffer, int offset)
+    {
+        int d1 = digits2(buffer, offset);
+        int d2 = digits2(buffer, offset+2);
+        return (d1 < 0 || d2 < 0) ? -1 : (d1 * 100 + d2);
+    }
+
     /**
      * Check if the expected character exist at the given offset of the
      *
@@ -0,0 +1,372 @@
+package org.codehaus.jackson.map.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.codehaus.jackson.map.MapperInstrumentation;
+import org.codehaus.jackson.type.JavaType;
+
+/**
+ * Standard {@link MapperInstrumentation} implementation that keeps simple
+ * aggregate counters (cache hits and misses, construction counts and times,
+ * root-level operation counts and times, content sizes), and optionally a
+ * per-root-type timing histogram.
+ *<p>
+ * Counters are exposed via {@link StdMapperInstrumentationMBean}, so
+ * instances can be registered with a JMX {@link MBeanServer} (see
+ * {@link #registerMBean}) for monitoring.
+ *
+ * @since 1.9.14
+ */
+public class StdMapperInstrumentation
+    extends MapperInstrumentation
+    implements StdMapperInstrumentationMBean
+{
+    /**
+     * Whether per-root-type timings are to be collected or not
+     */
+    protected final boolean _trackRootTypes;
+
+    protected final AtomicLong _serCacheHits = new AtomicLong();
+    protected final AtomicLong _serCacheMisses = new AtomicLong();
+    protected final AtomicLong _serConstructed = new AtomicLong();
+    protected final AtomicLong _serConstructionNanos = new AtomicLong();
+    protected final AtomicLong _dynamicSerFallbacks = new AtomicLong();
+
+    protected final AtomicLong _deserCacheHits = new AtomicLong();
+    protected final AtomicLong _deserCacheMisses = new AtomicLong();
+    protected final AtomicLong _deserConstructed = new AtomicLong();
+    protected final AtomicLong _deserConstructionNanos = new AtomicLong();
+
+    protected final AtomicLong _rootWrites = new AtomicLong();
+    protected final AtomicLong _rootWriteNanos = new AtomicLong();
+    protected final AtomicLong _rootReads = new AtomicLong();
+    protected final AtomicLong _rootReadNanos = new AtomicLong();
+
+    protected final AtomicLong _contentWritten = new AtomicLong();
+    protected final AtomicLong _contentRead = new AtomicLong();
+
+    /**
+     * Per-root-type write timings, if tracking is enabled
+     */
+    protected final ConcurrentHashMap<Class<?>, Histogram> _writeTimings;
+
+    /**
+     * Per-root-type read timings, if tracking is enabled
+     */
+    protected final ConcurrentHashMap<Class<?>, Histogram> _readTimings;
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    /**
+     * Default constructor; will only collect aggregate counters,
+     * but not per-root-type timings
+     */
+    public StdMapperInstrumentation() {
+        this(false);
+    }
+
+    /**
+     * @param trackRootTypes Whether to collect timing histogram separately
+     *   for each root value type read or written
+     */
+    public StdMapperInstrumentation(boolean trackRootTypes)
+    {
+        _trackRootTypes = trackRootTypes;
+        if (trackRootTypes) {
+            _writeTimings = new ConcurrentHashMap<Class<?>, Histogram>(16, 0.75f, 4);
+            _readTimings = new ConcurrentHashMap<Class<?>, Histogram>(16, 0.75f, 4);
+        } else {
+            _writeTimings = null;
+            _readTimings = null;
+        }
+    }
+
+    /**
+     * Convenience method for registering this instance with given
+     * MBean server, using given object name.
+     */
+    public void registerMBean(MBeanServer server, ObjectName name)
+        throws JMException
+    {
+        server.registerMBean(this, name);
+    }
+
+    /**
+     * Convenience method for registering this instance with the platform
+     * MBean server, using given object name.
+     */
+    public void registerMBean(String objectName)
+        throws JMException
+    {
+        registerMBean(ManagementFactory.getPlatformMBeanServer(), new ObjectName(objectName));
+    }
+
+    /*
+    /**********************************************************
+    /* MapperInstrumentation impl
+    /**********************************************************
+     */
+
+    @Override
+    public void serializerCacheHit() {
+        _serCacheHits.incrementAndGet();
+    }
+
+    @Override
+    public void serializerCacheMiss() {
+        _serCacheMisses.incrementAndGet();
+    }
+
+    @Override
+    public void serializerConstructed(JavaType type, long nanos) {
+        _serConstructed.incrementAndGet();
+        _serConstructionNanos.addAndGet(nanos);
+    }
+
+    @Override
+    public void dynamicSerializerFallback(Class<?> type) {
+        _dynamicSerFallbacks.incrementAndGet();
+    }
+
+    @Override
+    public void deserializerCacheHit() {
+        _deserCacheHits.incrementAndGet();
+    }
+
+    @Override
+    public void deserializerCacheMiss() {
+        _deserCacheMisses.incrementAndGet();
+    }
+
+    @Override
+    public void deserializerConstructed(JavaType type, long nanos) {
+        _deserConstructed.incrementAndGet();
+        _deserConstructionNanos.addAndGet(nanos);
+    }
+
+    @Override
+    public void rootValueWritten(Class<?> rootType, long nanos)
+    {
+        _rootWrites.incrementAndGet();
+        _rootWriteNanos.addAndGet(nanos);
+        if (_trackRootTypes) {
+            _histogramFor(_writeTimings, rootType).add(nanos);
+        }
+    }
+
+    @Override
+    public void rootValueRead(JavaType rootType, long nanos)
+    {
+        _rootReads.incrementAndGet();
+        _rootReadNanos.addAndGet(nanos);
+        if (_trackRootTypes && rootType != null) {
+            _histogramFor(_readTimings, rootType.getRawClass()).add(nanos);
+        }
+    }
+
+    @Override
+    public void contentWritten(long count) {
+        _contentWritten.addAndGet(count);
+    }
+
+    @Override
+    public void contentRead(long count) {
+        _contentRead.addAndGet(count);
+    }
+
+    /*
+    /**********************************************************
+    /* MBean impl
+    /**********************************************************
+     */
+
+    public long getSerializerCacheHits() { return _serCacheHits.get(); }
+    public long getSerializerCacheMisses() { return _serCacheMisses.get(); }
+    public long getSerializersConstructed() { return _serConstructed.get(); }
+    public long getSerializerConstructionNanos() { return _serConstructionNanos.get(); }
+    public long getDynamicSerializerFallbacks() { return _dynamicSerFallbacks.get(); }
+
+    public long getDeserializerCacheHits() { return _deserCacheHits.get(); }
+    public long getDeserializerCacheMisses() { return _deserCacheMisses.get(); }
+    public long getDeserializersConstructed() { return _deserConstructed.get(); }
+    public long getDeserializerConstructionNanos() { return _deserConstructionNanos.get(); }
+
+    public long getRootValuesWritten() { return _rootWrites.get(); }
+    public long getRootWriteNanos() { return _rootWriteNanos.get(); }
+    public long getRootValuesRead() { return _rootReads.get(); }
+    public long getRootReadNanos() { return _rootReadNanos.get(); }
+
+    public long getContentWritten() { return _contentWritten.get(); }
+    public long getContentRead() { return _contentRead.get(); }
+
+    public String[] getRootTypeTimings()
+    {
+        if (!_trackRootTypes) {
+            return new String[0];
+        }
+        ArrayList<String> result = new ArrayList<String>();
+        for (Map.Entry<Class<?>,Histogram> en : _writeTimings.entrySet()) {
+            result.add("write "+en.getKey().getName()+": "+en.getValue());
+        }
+        for (Map.Entry<Class<?>,Histogram> en : _readTimings.entrySet()) {
+            result.add("read "+en.getKey().getName()+": "+en.getValue());
+        }
+        return result.toArray(new String[result.size()]);
+    }
+
+    public void reset()
+    {
+        _serCacheHits.set(0L);
+        _serCacheMisses.set(0L);
+        _serConstructed.set(0L);
+        _serConstructionNanos.set(0L);
+        _dynamicSerFallbacks.set(0L);
+        _deserCacheHits.set(0L);
+        _deserCacheMisses.set(0L);
+        _deserConstructed.set(0L);
+        _deserConstructionNanos.set(0L);
+        _rootWrites.set(0L);
+        _rootWriteNanos.set(0L);
+        _rootReads.set(0L);
+        _rootReadNanos.set(0L);
+        _contentWritten.set(0L);
+        _contentRead.set(0L);
+        if (_trackRootTypes) {
+            _writeTimings.clear();
+            _readTimings.clear();
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Extended API
+    /**********************************************************
+     */
+
+    /**
+     * @return Write timings for given root type, if per-type tracking is
+     *   enabled and values of type have been written; null otherwise
+     */
+    public Histogram getWriteTimings(Class<?> rootType) {
+        return _trackRootTypes ? _writeTimings.get(rootType) : null;
+    }
+
+    /**
+     * @return Read timings for given root type, if per-type tracking is
+     *   enabled and values of type have been read; null otherwise
+     */
+    public Histogram getReadTimings(Class<?> rootType) {
+        return _trackRootTypes ? _readTimings.get(rootType) : null;
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods
+    /**********************************************************
+     */
+
+    protected Histogram _histogramFor(ConcurrentHashMap<Class<?>, Histogram> timings, Class<?> type)
+    {
+        Histogram h = timings.get(type);
+        if (h == null) {
+            h = new Histogram();
+            Histogram old = timings.putIfAbsent(type, h);
+            if (old != null) {
+                h = old;
+            }
+        }
+        return h;
+    }
+
+    /*
+    /**********************************************************
+    /* Helper classes
+    /**********************************************************
+     */
+
+    /**
+     * Simple lock-free timing histogram, using buckets whose upper bounds
+     * are powers of two microseconds (so first bucket is for durations
+     * below 1 microsecond; second for ones below 2 microseconds and so on).
+     */
+    public final static class Histogram
+    {
+        /**
+         * Number of buckets; last bucket contains everything longer than
+         * about 17 minutes
+         */
+        public final static int BUCKET_COUNT = 32;
+
+        protected final AtomicLongArray _buckets = new AtomicLongArray(BUCKET_COUNT);
+
+        protected final AtomicLong _count = new AtomicLong();
+
+        protected final AtomicLong _totalNanos = new AtomicLong();
+
+        public void add(long nanos)
+        {
+            long micros = nanos / 1000L;
+            int ix = (micros <= 0L) ? 0 : (64 - Long.numberOfLeadingZeros(micros));
+            if (ix >= BUCKET_COUNT) {
+                ix = BUCKET_COUNT-1;
+            }
+            _buckets.incrementAndGet(ix);
+            _count.incrementAndGet();
+            _totalNanos.addAndGet(nanos);
+        }
+
+        public long getCount() { return _count.get(); }
+
+        public long getTotalNanos() { return _totalNanos.get(); }
+
+        /**
+         * @return Number of durations recorded in bucket with given index
+         */
+        public long getBucketCount(int index) { return _buckets.get(index); }
+
+        /**
+         * Method for finding approximate value of given percentile, expressed
+         * as the upper bound (in microseconds) of bucket that contains it.
+         *
+         * @param percentile Percentile to find, between 0.0 and 100.0
+         */
+        public long getPercentileMicros(double percentile)
+        {
+            long total = _count.get();
+            if (total == 0L) {
+                return 0L;
+            }
+            long threshold = (long) Math.ceil(total * (percentile / 100.0));
+            long seen = 0L;
+            for (int i = 0; i < BUCKET_COUNT; ++i) {
+                seen += _buckets.get(i);
+                if (seen >= threshold) {
+                    return 1L << i;
+                }
+            }
+            return 1L << (BUCKET_COUNT-1);
+        }
+
+        @Override
+        public String toString()
+        {
+            long count = _count.get();
+            long avgMicros = (count == 0L) ? 0L : (_totalNanos.get() / count / 1000L);
+            return "count="+count+", avg="+avgMicros+"us, p50<="+getPercentileMicros(50.0)
+                +"us, p99<="+getPercentileMicros(99.0)+"us";
+        }
+    }
+}
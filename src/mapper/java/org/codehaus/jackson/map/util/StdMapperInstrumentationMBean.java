@@ -0,0 +1,55 @@
+package org.codehaus.jackson.map.util;
+
+/**
+ * Management interface of {@link StdMapperInstrumentation}, used for
+ * exposing collected counters as a standard JMX MBean.
+ *
+ * @since 1.9.14
+ */
+public interface StdMapperInstrumentationMBean
+{
+    public long getSerializerCacheHits();
+
+    public long getSerializerCacheMisses();
+
+    public long getSerializersConstructed();
+
+    public long getSerializerConstructionNanos();
+
+    /**
+     * Number of times serializer for a value of dynamically typed property had to
+     * be located from shared caches, due to per-property lookup being full
+     */
+    public long getDynamicSerializerFallbacks();
+
+    public long getDeserializerCacheHits();
+
+    public long getDeserializerCacheMisses();
+
+    public long getDeserializersConstructed();
+
+    public long getDeserializerConstructionNanos();
+
+    public long getRootValuesWritten();
+
+    public long getRootWriteNanos();
+
+    public long getRootValuesRead();
+
+    public long getRootReadNanos();
+
+    public long getContentWritten();
+
+    public long getContentRead();
+
+    /**
+     * Accessor for per-root-type timing summaries, one entry per type,
+     * if per-type tracking is enabled; empty array if not.
+     */
+    public String[] getRootTypeTimings();
+
+    /**
+     * Method for resetting all counters (and per-type timings) to zero.
+     */
+    public void reset();
+}
@@ -0,0 +1,216 @@
+package org.codehaus.jackson.map.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.node.TextNode;
+
+/**
+ * Helper class used for sharing String values (and {@link TextNode}s
+ * that contain them) that occur repeatedly in content being deserialized,
+ * such as codes, enumerated values and URLs. Only values up to specified
+ * maximum length are shared; and since values are kept in a fixed-size
+ * direct-mapped table (where a new value replaces an older one with same
+ * slot), amount of memory retained is bounded.
+ *<p>
+ * Instances are not thread-safe; they are used by a single
+ * {@link org.codehaus.jackson.map.DeserializationContext} at a time,
+ * and are cleared between deserialization calls.
+ *
+ * @since 1.9.14
+ */
+public final class StringValueCanonicalizer
+{
+    /**
+     * By default, only values of up to 32 characters are shared: longer
+     * values are less likely to be repeated, and comparing them is more
+     * costly.
+     */
+    public final static int DEFAULT_MAX_LENGTH = 32;
+
+    /**
+     * By default, up to 1024 distinct values are retained.
+     */
+    public final static int DEFAULT_MAX_ENTRIES = 1024;
+
+    /**
+     * Upper limit for number of entries, to limit size of the table
+     */
+    private final static int MAX_ENTRIES = 0x10000;
+
+    protected final int _maxLength;
+
+    protected final int _mask;
+
+    protected final String[] _strings;
+
+    /**
+     * Text nodes for shared values, if any, in same slots as
+     * values themselves; constructed lazily
+     */
+    protected TextNode[] _textNodes;
+
+    /**
+     * Flag set when table has entries, to avoid clearing empty tables
+     */
+    protected boolean _dirty;
+
+    public StringValueCanonicalizer() {
+        this(DEFAULT_MAX_LENGTH, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxLength Maximum length of values to share
+     * @param maxEntries Maximum number of distinct values to retain; actual
+     *    table size is the closest power of two (up to 65536)
+     */
+    public StringValueCanonicalizer(int maxLength, int maxEntries)
+    {
+        _maxLength = maxLength;
+        int size = 16;
+        while (size < maxEntries && size < MAX_ENTRIES) {
+            size += size;
+        }
+        _mask = size-1;
+        _strings = new String[size];
+    }
+
+    public int getMaxLength() { return _maxLength; }
+
+    /**
+     * Method for removing all shared values.
+     */
+    public void clear()
+    {
+        if (_dirty) {
+            _dirty = false;
+            Arrays.fill(_strings, null);
+            if (_textNodes != null) {
+                Arrays.fill(_textNodes, null);
+            }
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Public API
+    /**********************************************************
+     */
+
+    /**
+     * Method for accessing textual value of the current token of given parser:
+     * if an equal value has been seen recently, that instance is returned.
+     * If parser exposes its text buffer, matching is done without
+     * constructing a new String.
+     */
+    public String canonicalize(JsonParser jp)
+        throws IOException
+    {
+        int ix = _findSlot(jp);
+        return (ix < 0) ? jp.getText() : _strings[ix];
+    }
+
+    /**
+     * Method for finding shared instance of given String value, if any;
+     * if none found, given value is added (if short enough) and returned
+     */
+    public String canonicalize(String text)
+    {
+        int ix = _findSlot(text);
+        return (ix < 0) ? text : _strings[ix];
+    }
+
+    /**
+     * Method for constructing (or reusing) a {@link TextNode} for
+     * textual value of the current token of given parser.
+     */
+    public TextNode textNode(JsonParser jp)
+        throws IOException
+    {
+        int ix = _findSlot(jp);
+        if (ix < 0) {
+            return TextNode.valueOf(jp.getText());
+        }
+        String str = _strings[ix];
+        if (_textNodes == null) {
+            _textNodes = new TextNode[_strings.length];
+        } else {
+            TextNode n = _textNodes[ix];
+            // note: must verify, since slot may have been reused since
+            if (n != null && n.getTextValue() == str) {
+                return n;
+            }
+        }
+        TextNode n = TextNode.valueOf(str);
+        _textNodes[ix] = n;
+        return n;
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods
+    /**********************************************************
+     */
+
+    /**
+     * @return Slot that contains canonical instance of the current text
+     *   value, if it is to be shared; -1 if not
+     */
+    private int _findSlot(JsonParser jp)
+        throws IOException
+    {
+        if (!jp.hasTextCharacters()) {
+            return _findSlot(jp.getText());
+        }
+        final int len = jp.getTextLength();
+        if (len > _maxLength) {
+            return -1;
+        }
+        final char[] buf = jp.getTextCharacters();
+        final int offset = jp.getTextOffset();
+        final int end = offset+len;
+        // note: must use same hash as String.hashCode(), to match Strings
+        int hash = 0;
+        for (int i = offset; i < end; ++i) {
+            hash = (hash * 31) + buf[i];
+        }
+        int ix = _slotFor(hash);
+        String str = _strings[ix];
+        if (str != null && str.length() == len && str.hashCode() == hash) {
+            int i = 0;
+            while (true) {
+                if (i == len) { // match
+                    return ix;
+                }
+                if (str.charAt(i) != buf[offset+i]) {
+                    break;
+                }
+                ++i;
+            }
+        }
+        _strings[ix] = new String(buf, offset, len);
+        _dirty = true;
+        return ix;
+    }
+
+    private int _findSlot(String text)
+    {
+        if (text == null || text.length() > _maxLength) {
+            return -1;
+        }
+        int ix = _slotFor(text.hashCode());
+        String str = _strings[ix];
+        if (str != text && !text.equals(str)) {
+            _strings[ix] = text;
+            _dirty = true;
+        }
+        return ix;
+    }
+
+    private int _slotFor(int hash)
+    {
+        hash ^= (hash >>> 16);
+        return hash & _mask;
+    }
+}
@@ -0,0 +1,185 @@
+package org.codehaus.jackson.map.util;
+
+import java.util.*;
+
+/**
+ * Factory class used for constructing {@link java.util.Map}s and
+ * {@link java.util.List}s that "untyped" JSON Objects and Arrays
+ * (ones bound to {@link java.lang.Object}, as well as contents of
+ * such values) are bound to.
+ * Default instance ({@link #instance}) constructs {@link LinkedHashMap}s
+ * and {@link ArrayList}s; alternative implementations can be configured
+ * using
+ * {@link org.codehaus.jackson.map.DeserializationConfig#withUntypedContainerFactory}.
+ *<p>
+ * Contents are passed to factory methods as arrays that are exactly sized,
+ * and not used by caller afterwards; implementations may retain them.
+ * Note that the default factory is never called by the standard
+ * deserializer, which builds default containers directly.
+ *
+ * @since 1.9.14
+ */
+public class UntypedContainerFactory
+{
+    /**
+     * Default instance, which constructs same containers as standard
+     * deserializers do by default.
+     */
+    public final static UntypedContainerFactory instance = new UntypedContainerFactory();
+
+    /**
+     * Maximum number of entries for which {@link CompactMap}s are used
+     * by default by {@link #compact} factories; larger JSON Objects are
+     * bound as {@link LinkedHashMap}s, to keep lookups efficient.
+     */
+    public final static int DEFAULT_MAX_COMPACT_MAP_SIZE = 16;
+
+    protected UntypedContainerFactory() { }
+
+    /**
+     * Factory method for constructing a factory that uses {@link CompactMap}s
+     * for JSON Objects that have at most {@link #DEFAULT_MAX_COMPACT_MAP_SIZE}
+     * entries, and exactly sized {@link ArrayList}s for JSON Arrays.
+     *
+     * @param immutable Whether containers constructed are to be
+     *   immutable; if true, all containers are read-only (including
+     *   {@link LinkedHashMap}s, which are wrapped), and lists are
+     *   light-weight wrappers around value arrays.
+     */
+    public static UntypedContainerFactory compact(boolean immutable) {
+        return new Compact(DEFAULT_MAX_COMPACT_MAP_SIZE, immutable);
+    }
+
+    /**
+     * Factory method for constructing a factory similar to one returned by
+     * {@link #compact(boolean)}, but with specified maximum size for
+     * {@link CompactMap}s.
+     */
+    public static UntypedContainerFactory compact(int maxCompactMapSize, boolean immutable) {
+        return new Compact(maxCompactMapSize, immutable);
+    }
+
+    /*
+    /**********************************************************
+    /* Factory methods
+    /**********************************************************
+     */
+
+    /**
+     * Method called to construct a Map with given entries.
+     *
+     * @param keysAndValues Array that contains keys (at even indexes) and
+     *   values (at odd indexes) in document order. Keys are Strings, and
+     *   may be repeated: if so, last value is to be used.
+     */
+    public Map<String,Object> createMap(Object[] keysAndValues)
+    {
+        LinkedHashMap<String,Object> result = new LinkedHashMap<String,Object>(_mapCapacity(keysAndValues.length >> 1));
+        _putAll(result, keysAndValues);
+        return result;
+    }
+
+    /**
+     * Method called to construct a List with given values.
+     *
+     * @param values Array that contains values in document order
+     */
+    public List<Object> createList(Object[] values)
+    {
+        int len = values.length;
+        // same as default: slack of 1/8 for possible additions
+        ArrayList<Object> result = new ArrayList<Object>(len + (len >> 3) + 1);
+        for (int i = 0; i < len; ++i) {
+            result.add(values[i]);
+        }
+        return result;
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    protected final static int _mapCapacity(int entryCount)
+    {
+        // as per default load factor of 0.75
+        return (entryCount < 3) ? 4 : (entryCount + (entryCount / 3) + 1);
+    }
+
+    protected final static void _putAll(Map<String,Object> result, Object[] keysAndValues)
+    {
+        for (int i = 0, len = keysAndValues.length; i < len; i += 2) {
+            result.put((String) keysAndValues[i], keysAndValues[i+1]);
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Implementations
+    /**********************************************************
+     */
+
+    /**
+     * Implementation that uses {@link CompactMap}s for small JSON Objects,
+     * and exactly sized Lists for JSON Arrays.
+     */
+    protected static class Compact extends UntypedContainerFactory
+    {
+        protected final int _maxCompactMapSize;
+
+        protected final boolean _immutable;
+
+        protected Compact(int maxCompactMapSize, boolean immutable)
+        {
+            _maxCompactMapSize = maxCompactMapSize;
+            _immutable = immutable;
+        }
+
+        @Override
+        public Map<String,Object> createMap(Object[] keysAndValues)
+        {
+            if ((keysAndValues.length >> 1) <= _maxCompactMapSize) {
+                return new CompactMap(keysAndValues, _immutable);
+            }
+            LinkedHashMap<String,Object> result = new LinkedHashMap<String,Object>(_mapCapacity(keysAndValues.length >> 1));
+            _putAll(result, keysAndValues);
+            return _immutable ? Collections.unmodifiableMap(result) : result;
+        }
+
+        @Override
+        public List<Object> createList(Object[] values)
+        {
+            if (_immutable) {
+                return new ReadOnlyList(values);
+            }
+            int len = values.length;
+            ArrayList<Object> result = new ArrayList<Object>(len);
+            for (int i = 0; i < len; ++i) {
+                result.add(values[i]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Simple read-only List backed by the value array.
+     */
+    protected final static class ReadOnlyList
+        extends AbstractList<Object>
+        implements RandomAccess
+    {
+        protected final Object[] _values;
+
+        public ReadOnlyList(Object[] values) { _values = values; }
+
+        @Override
+        public Object get(int index) { return _values[index]; }
+
+        @Override
+        public int size() { return _values.length; }
+
+        @Override
+        public Object[] toArray() { return _values.clone(); }
+    }
+}
@@ -14,10 +14,24 @@ import org.codehaus.jackson.map.TypeSerializer;
 public final class ArrayNode
     extends ContainerNode
 {
-    protected ArrayList<JsonNode> _children;
+    /**
+     * Child nodes; either a regular (modifiable) {@link ArrayList}, or
+     * (since 1.9.14) a read-only {@link NumericNodeList}, for arrays of
+     * numbers read from JSON, which gets replaced on first modification.
+     */
+    protected List<JsonNode> _children;
 
     public ArrayNode(JsonNodeFactory nc) { super(nc); }
 
+    /**
+     * @since 1.9.14
+     */
+    ArrayNode(JsonNodeFactory nc, NumericNodeList numbers)
+    {
+        super(nc);
+        _children = numbers;
+    }
+
     /*
     /**********************************************************
     /* Implementation of core JsonNode API
@@ -38,7 +52,14 @@ public final class ArrayNode
     @Override
     public Iterator<JsonNode> getElements()
     {
-        return (_children == null) ? NoNodesIterator.instance() : _children.iterator();
+        if (_children == null) {
+            return NoNodesIterator.instance();
+        }
+        // [1.9.14]: read-only numeric lists need to be replaced if elements are removed
+        if (_children instanceof NumericNodeList) {
+            return new NumericElementIterator();
+        }
+        return _children.iterator();
     }
 
     @Override
@@ -76,7 +97,9 @@ public final class ArrayNode
         throws IOException, JsonProcessingException
     {
         jg.writeStartArray();
-        if (_children != null) {
+        if (_children instanceof NumericNodeList) {
+            ((NumericNodeList) _children).serializeContents(jg);
+        } else if (_children != null) {
             for (JsonNode n : _children) {
                 /* 17-Feb-2009, tatu: Can we trust that all nodes will always
                  *   extend BaseJsonNode? Or if not, at least implement
@@ -95,7 +118,9 @@ public final class ArrayNode
         throws IOException, JsonProcessingException
     {
         typeSer.writeTypePrefixForArray(this, jg);
-        if (_children != null) {
+        if (_children instanceof NumericNodeList) {
+            ((NumericNodeList) _children).serializeContents(jg);
+        } else if (_children != null) {
             for (JsonNode n : _children) {
                 ((BaseJsonNode)n).serialize(jg, provider);
             }
@@ -217,10 +242,7 @@ public final class ArrayNode
     {
         int len = other.size();
         if (len > 0) {
-            if (_children == null) {
-                _children = new ArrayList<JsonNode>(len+2);
-            }
-            other.addContentsTo(_children);
+            other.addContentsTo(_modifiableChildren(len+2));
         }
         return this;
     }
@@ -241,7 +263,7 @@ public final class ArrayNode
             if (_children == null) {
                 _children = new ArrayList<JsonNode>(nodes);
             } else {
-                _children.addAll(nodes);
+                _modifiableChildren(len).addAll(nodes);
             }
         }
         return this;
@@ -270,7 +292,7 @@ public final class ArrayNode
     public JsonNode remove(int index)
     {
         if (index >= 0 && (_children != null) && index < _children.size()) {
-            return _children.remove(index);
+            return _modifiableChildren(0).remove(index);
         }
         return null;
     }
@@ -711,38 +733,54 @@ public final class ArrayNode
         if (_children == null || index < 0 || index >= _children.size()) {
             throw new IndexOutOfBoundsException("Illegal index "+index+", array size "+size());
         }
-        return _children.set(index, value);
+        return _modifiableChildren(0).set(index, value);
     }
 
     private void _add(JsonNode node)
     {
-        if (_children == null) {
-            _children = new ArrayList<JsonNode>();
-        }
-        _children.add(node);
+        _modifiableChildren(1).add(node);
     }
 
     private void _insert(int index, JsonNode node)
     {
-        if (_children == null) {
-            _children = new ArrayList<JsonNode>();
-            _children.add(node);
-            return;
-        }
+        List<JsonNode> children = _modifiableChildren(1);
         if (index < 0) {
-            _children.add(0, node);
-        } else if (index >= _children.size()) {
-            _children.add(node);
+            children.add(0, node);
+        } else if (index >= children.size()) {
+            children.add(node);
         } else {
-            _children.add(index, node);
+            children.add(index, node);
         }
     }
 
+    /**
+     * Helper method for accessing list of child nodes to modify: will
+     * construct one if none exists yet, and replace read-only
+     * numeric lists with regular ones.
+     * 
+     * @param extra Expected number of entries to add
+     * 
+     * @since 1.9.14
+     */
+    private List<JsonNode> _modifiableChildren(int extra)
+    {
+        List<JsonNode> children = _children;
+        if (children == null) {
+            children = new ArrayList<JsonNode>();
+            _children = children;
+        } else if (children instanceof NumericNodeList) {
+            ArrayList<JsonNode> copy = new ArrayList<JsonNode>(children.size() + extra);
+            copy.addAll(children);
+            _children = children = copy;
+        }
+        return children;
+    }
+
     /**
      * Note: this method gets called iff <code>otherChildren</code>
      * is non-empty
      */
-    private boolean _sameChildren(ArrayList<JsonNode> otherChildren)
+    private boolean _sameChildren(List<JsonNode> otherChildren)
     {
         int len = otherChildren.size();
         if (this.size() != len) { // important: call size() to handle case of null list...
@@ -755,4 +793,42 @@ public final class ArrayNode
         }
         return true;
     }
+
+    /**
+     * Iterator used for numeric node lists: supports removal of elements
+     * by replacing list with a modifiable one first.
+     *
+     * @since 1.9.14
+     */
+    private final class NumericElementIterator implements Iterator<JsonNode>
+    {
+        /**
+         * Index of the element to return next
+         */
+        private int _index;
+
+        private boolean _canRemove;
+
+        public boolean hasNext() {
+            return (_children != null) && (_index < _children.size());
+        }
+
+        public JsonNode next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            _canRemove = true;
+            return _children.get(_index++);
+        }
+
+        public void remove()
+        {
+            if (!_canRemove) {
+                throw new IllegalStateException();
+            }
+            _canRemove = false;
+            _modifiableChildren(0).remove(--_index);
+        }
+    }
 }
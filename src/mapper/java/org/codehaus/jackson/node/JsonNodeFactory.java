@@ -206,6 +206,47 @@ public class JsonNodeFactory
      */
     public ArrayNode arrayNode() { return new ArrayNode(this); }
 
+    /**
+     * Factory method for constructing a JSON Array node that contains
+     * given values as {@link IntNode}s. Values are kept in given
+     * array (which caller must not modify afterwards) until array node
+     * is modified; element nodes are only constructed when accessed.
+     *
+     * @since 1.9.14
+     */
+    public ArrayNode arrayNode(int[] values) {
+        if (values.length == 0) {
+            return arrayNode();
+        }
+        return new ArrayNode(this, new NumericNodeList.Ints(values));
+    }
+
+    /**
+     * Factory method for constructing a JSON Array node that contains
+     * given values as {@link LongNode}s; similar to {@link #arrayNode(int[])}.
+     *
+     * @since 1.9.14
+     */
+    public ArrayNode arrayNode(long[] values) {
+        if (values.length == 0) {
+            return arrayNode();
+        }
+        return new ArrayNode(this, new NumericNodeList.Longs(values));
+    }
+
+    /**
+     * Factory method for constructing a JSON Array node that contains
+     * given values as {@link DoubleNode}s; similar to {@link #arrayNode(int[])}.
+     *
+     * @since 1.9.14
+     */
+    public ArrayNode arrayNode(double[] values) {
+        if (values.length == 0) {
+            return arrayNode();
+        }
+        return new ArrayNode(this, new NumericNodeList.Doubles(values));
+    }
+
     /**
      * Factory method for constructing an empty JSON Object ("struct") node
      */
@@ -0,0 +1,104 @@
+package org.codehaus.jackson.node;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonNode;
+
+/**
+ * Read-only list of numeric nodes, backed by a primitive array, used as
+ * contents of {@link ArrayNode}s that only contain numbers of same type.
+ * Element nodes are only constructed when accessed, and are not retained
+ * (since value nodes are immutable, and compared by value); and contents
+ * can be serialized without constructing nodes.
+ *<p>
+ * Since lists can not be modified, {@link ArrayNode} replaces them
+ * with regular node lists before modifications.
+ *
+ * @since 1.9.14
+ */
+abstract class NumericNodeList
+    extends AbstractList<JsonNode>
+    implements RandomAccess
+{
+    /**
+     * Method for writing contents of this list (but not enclosing
+     * array markers) using given generator.
+     */
+    public abstract void serializeContents(JsonGenerator jg)
+        throws IOException;
+
+    /**
+     * List of {@link IntNode}s
+     */
+    final static class Ints extends NumericNodeList
+    {
+        protected final int[] _values;
+
+        public Ints(int[] values) { _values = values; }
+
+        @Override
+        public JsonNode get(int index) { return IntNode.valueOf(_values[index]); }
+
+        @Override
+        public int size() { return _values.length; }
+
+        @Override
+        public void serializeContents(JsonGenerator jg) throws IOException
+        {
+            for (int v : _values) {
+                jg.writeNumber(v);
+            }
+        }
+    }
+
+    /**
+     * List of {@link LongNode}s
+     */
+    final static class Longs extends NumericNodeList
+    {
+        protected final long[] _values;
+
+        public Longs(long[] values) { _values = values; }
+
+        @Override
+        public JsonNode get(int index) { return LongNode.valueOf(_values[index]); }
+
+        @Override
+        public int size() { return _values.length; }
+
+        @Override
+        public void serializeContents(JsonGenerator jg) throws IOException
+        {
+            for (long v : _values) {
+                jg.writeNumber(v);
+            }
+        }
+    }
+
+    /**
+     * List of {@link DoubleNode}s
+     */
+    final static class Doubles extends NumericNodeList
+    {
+        protected final double[] _values;
+
+        public Doubles(double[] values) { _values = values; }
+
+        @Override
+        public JsonNode get(int index) { return DoubleNode.valueOf(_values[index]); }
+
+        @Override
+        public int size() { return _values.length; }
+
+        @Override
+        public void serializeContents(JsonGenerator jg) throws IOException
+        {
+            for (double v : _values) {
+                jg.writeNumber(v);
+            }
+        }
+    }
+}
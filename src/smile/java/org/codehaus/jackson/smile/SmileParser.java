@@ -750,6 +750,31 @@ public class SmileParser
     	return super.getNumberType();
     }
 
+    /**
+     * Overridden to skip contents of the current Object or Array without
+     * constructing tokens: length-prefixed and fixed-length values are
+     * jumped over as is, and only field names (if shared names are enabled)
+     * and short String values (if shared String values are enabled) need
+     * to be decoded, to keep back-references valid.
+     *
+     * @since 1.9.14
+     */
+    @Override
+    public JsonParser skipChildren() throws IOException, JsonParseException
+    {
+        if (_currToken == JsonToken.START_OBJECT) {
+            _skipObjectContents();
+            _skippedChildren('}');
+        } else if (_currToken == JsonToken.START_ARRAY) {
+            _skipArrayContents();
+            _skippedChildren(']');
+        } else {
+            return this;
+        }
+        _tokenInputTotal = _currInputProcessed + _inputPtr - 1;
+        return this;
+    }
+
     /*
     /**********************************************************
     /* Public API, traversal, nextXxxValue/nextFieldName
@@ -2370,6 +2395,141 @@ public class SmileParser
     	_throwInternal();
     }
 
+    /**
+     * Method called by {@link #skipChildren} to skip entries of an Object,
+     * including the closing END_OBJECT marker.
+     */
+    private final void _skipObjectContents() throws IOException, JsonParseException
+    {
+        while (true) {
+            if (_inputPtr >= _inputEnd) {
+                loadMoreGuaranteed();
+            }
+            int ch = _inputBuffer[_inputPtr] & 0xFF;
+            if (ch == 0xFB) { // END_OBJECT
+                ++_inputPtr;
+                return;
+            }
+            if (_seenNames != null) { // shared names; must decode to keep track
+                _handleFieldName();
+            } else if (ch >= 0x80 && ch <= 0xF7) { // short ASCII, Unicode names
+                ++_inputPtr;
+                _skipBytes((ch < 0xC0) ? (1 + (ch & 0x3F)) : (2 + (ch & 0x3F)));
+            } else if (ch == 0x34) { // long name
+                ++_inputPtr;
+                _skipToEndOfString();
+            } else { // rest are either simple, or errors
+                _handleFieldName();
+            }
+            _skipValue();
+        }
+    }
+
+    /**
+     * Method called by {@link #skipChildren} to skip elements of an Array,
+     * including the closing END_ARRAY marker.
+     */
+    private final void _skipArrayContents() throws IOException, JsonParseException
+    {
+        while (true) {
+            if (_inputPtr >= _inputEnd) {
+                loadMoreGuaranteed();
+            }
+            if (_inputBuffer[_inputPtr] == SmileConstants.TOKEN_LITERAL_END_ARRAY) {
+                ++_inputPtr;
+                return;
+            }
+            _skipValue();
+        }
+    }
+
+    /**
+     * Method called by {@link #skipChildren} to skip a single value,
+     * including contents of Objects and Arrays
+     */
+    private final void _skipValue() throws IOException, JsonParseException
+    {
+        if (_inputPtr >= _inputEnd) {
+            loadMoreGuaranteed();
+        }
+        int ch = _inputBuffer[_inputPtr++];
+        switch ((ch >> 5) & 0x7) {
+        case 0: // short shared string value reference
+            if (ch == 0) {
+                break;
+            }
+            return;
+        case 1: // simple literals, numbers
+            {
+                int typeBits = ch & 0x1F;
+                if (typeBits < 4) {
+                    return;
+                }
+                if (typeBits < 12 && (typeBits & 0x3) <= 0x2) {
+                    _typeByte = ch;
+                    _skipIncomplete();
+                    return;
+                }
+            }
+            break;
+        case 2: // tiny ASCII
+        case 3: // short ASCII
+        case 4: // tiny Unicode
+        case 5: // short Unicode
+            _typeByte = ch;
+            if (_seenStringValueCount >= 0) { // shared text values enabled
+                _addSeenStringValue();
+            } else {
+                _skipIncomplete();
+            }
+            return;
+        case 6: // small integers
+            return;
+        case 7:
+            switch (ch & 0x1F) {
+            case 0x00: // long variable length ASCII
+            case 0x04: // long variable length unicode
+            case 0x08: // binary, 7-bit
+            case 0x1D: // binary, raw
+                _typeByte = ch;
+                _skipIncomplete();
+                return;
+            case 0x0C: // long shared string
+            case 0x0D:
+            case 0x0E:
+            case 0x0F:
+                _skipBytes(1);
+                return;
+            case 0x18: // START_ARRAY
+                _skipArrayContents();
+                return;
+            case 0x1A: // START_OBJECT
+                _skipObjectContents();
+                return;
+            }
+            break;
+        }
+        _reportError("Invalid type marker byte 0x"+Integer.toHexString(ch & 0xFF)+" for expected value token");
+    }
+
+    /**
+     * Helper method for skipping variable length String, terminated
+     * by end-of-String marker
+     */
+    private final void _skipToEndOfString() throws IOException, JsonParseException
+    {
+        while (true) {
+            final int end = _inputEnd;
+            final byte[] buf = _inputBuffer;
+            while (_inputPtr < end) {
+                if (buf[_inputPtr++] == BYTE_MARKER_END_OF_STRING) {
+                    return;
+                }
+            }
+            loadMoreGuaranteed();
+        }
+    }
+
     protected void _skipBytes(int len)
         throws IOException, JsonParseException
     {
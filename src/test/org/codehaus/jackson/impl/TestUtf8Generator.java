@@ -2,7 +2,10 @@ package org.codehaus.jackson.impl;
 
 import java.io.ByteArrayOutputStream;
 
+import org.codehaus.jackson.JsonFactory;
 import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
 import org.codehaus.jackson.io.IOContext;
 import org.codehaus.jackson.util.BufferRecycler;
 
@@ -25,4 +28,59 @@ public class TestUtf8Generator
         gen.writeString(str);
         gen.flush();
     }
+
+    // Verify that String value caching produces identical output
+    public void testCachedStringValues() throws Exception
+    {
+        final String[] VALUES = new String[] { "ACTIVE", "caf\u00e9", "a\"b\\c\n", "", "x",
+                "\uD83D\uDE04!", "Some longer value, not to be cached at all" };
+        JsonFactory f = new JsonFactory();
+        String exp = _writeValues(f, VALUES);
+        f.enable(JsonGenerator.Feature.CACHE_STRING_VALUES);
+        assertEquals(exp, _writeValues(f, VALUES));
+
+        // and verify it is actually valid JSON with expected values
+        JsonParser jp = f.createJsonParser(exp.getBytes("UTF-8"));
+        assertToken(JsonToken.START_ARRAY, jp.nextToken());
+        for (int i = 0; i < 3000; ++i) {
+            assertToken(JsonToken.VALUE_STRING, jp.nextToken());
+            assertEquals(VALUES[i % VALUES.length], jp.getText());
+        }
+        assertToken(JsonToken.END_ARRAY, jp.nextToken());
+        jp.close();
+    }
+
+    // Changes to escaping must not be hidden by cached values
+    public void testCachedStringValuesWithEscaping() throws Exception
+    {
+        JsonFactory f = new JsonFactory();
+        f.enable(JsonGenerator.Feature.CACHE_STRING_VALUES);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator gen = f.createJsonGenerator(bytes);
+        gen.writeStartArray();
+        gen.writeString("caf\u00e9");
+        gen.writeString("caf\u00e9");
+        gen.writeString("caf\u00e9");
+        gen.enable(JsonGenerator.Feature.ESCAPE_NON_ASCII);
+        gen.writeString("caf\u00e9");
+        gen.writeString("caf\u00e9");
+        gen.writeEndArray();
+        gen.close();
+        assertEquals("[\"caf\u00e9\",\"caf\u00e9\",\"caf\u00e9\",\"caf\\u00E9\",\"caf\\u00E9\"]",
+                bytes.toString("UTF-8"));
+    }
+
+    private String _writeValues(JsonFactory f, String[] values) throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator gen = f.createJsonGenerator(bytes);
+        gen.writeStartArray();
+        // enough values to cross output buffer boundaries multiple times
+        for (int i = 0; i < 3000; ++i) {
+            gen.writeString(values[i % values.length]);
+        }
+        gen.writeEndArray();
+        gen.close();
+        return bytes.toString("UTF-8");
+    }
 }
@@ -0,0 +1,179 @@
+package org.codehaus.jackson.main;
+
+import java.io.*;
+
+import org.codehaus.jackson.*;
+
+/**
+ * Unit tests for verifying that Objects and Arrays are copied as is
+ * by {@link JsonGenerator#copyCurrentStructure} when enabled, and both
+ * parser and generator use UTF-8 (and that they are re-encoded if not).
+ */
+public class TestRawStructureCopy
+    extends main.BaseTest
+{
+    // note: white space and escapes are only retained when copied as is
+    final static String DOC = "{\"a\" : [ 1, 2.50 ,\"\\u0041\\\"]\"], \"b\":{ \"c\":null,\"d\":[]} }";
+
+    public void testCopyAsIs() throws IOException
+    {
+        JsonFactory f = _rawCopyingFactory();
+        assertEquals(DOC, _copy(f, DOC));
+    }
+
+    public void testCopyWithContext() throws IOException
+    {
+        JsonFactory f = _rawCopyingFactory();
+        JsonParser jp = f.createJsonParser(utf8("[ {\"x\" : [ 1 ] }, [ ], {\"y\":{}} ] "));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator jgen = f.createJsonGenerator(bytes, JsonEncoding.UTF8);
+
+        jgen.writeStartObject();
+        assertToken(JsonToken.START_ARRAY, jp.nextToken());
+        assertToken(JsonToken.START_OBJECT, jp.nextToken());
+        jgen.writeFieldName("first");
+        jgen.copyCurrentStructure(jp);
+        assertToken(JsonToken.END_OBJECT, jp.getCurrentToken());
+        assertToken(JsonToken.START_ARRAY, jp.nextToken());
+        jgen.writeFieldName("second");
+        jgen.copyCurrentStructure(jp);
+        assertToken(JsonToken.END_ARRAY, jp.getCurrentToken());
+        // and let's also copy field name along with value
+        assertToken(JsonToken.START_OBJECT, jp.nextToken());
+        assertToken(JsonToken.FIELD_NAME, jp.nextToken());
+        jgen.copyCurrentStructure(jp);
+        assertToken(JsonToken.END_OBJECT, jp.getCurrentToken());
+        assertToken(JsonToken.END_OBJECT, jp.nextToken());
+        assertToken(JsonToken.END_ARRAY, jp.nextToken());
+        assertNull(jp.nextToken());
+        jgen.writeEndObject();
+        jgen.close();
+        jp.close();
+        assertEquals("{\"first\":{\"x\" : [ 1 ] },\"second\":[ ],\"y\":{}}", bytes.toString("UTF-8"));
+    }
+
+    public void testCopyRootValues() throws IOException
+    {
+        JsonFactory f = _rawCopyingFactory();
+        JsonParser jp = f.createJsonParser(utf8("[ 1 ]\n{ }"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator jgen = f.createJsonGenerator(bytes, JsonEncoding.UTF8);
+        while (jp.nextToken() != null) {
+            jgen.copyCurrentStructure(jp);
+        }
+        jgen.close();
+        assertEquals("[ 1 ] { }", bytes.toString("UTF-8"));
+    }
+
+    public void testCopyLongContent() throws IOException
+    {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 3000; ++i) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append("{\"id\" : ").append(i).append(", \"name\":\"Name \\\"#").append(i)
+                .append("\\\" \u00e9\u4e00\"}");
+        }
+        sb.append(']');
+        String json = sb.toString();
+        JsonFactory f = _rawCopyingFactory();
+        JsonParser jp = f.createJsonParser(new ByteArrayInputStream(utf8(json)));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator jgen = f.createJsonGenerator(bytes, JsonEncoding.UTF8);
+        jp.nextToken();
+        jgen.copyCurrentStructure(jp);
+        jgen.close();
+        assertNull(jp.nextToken());
+        jp.close();
+        assertEquals(json, bytes.toString("UTF-8"));
+    }
+
+    public void testCopyReEncoded() throws IOException
+    {
+        final String EXP = "{\"a\":[1,2.5,\"A\\\"]\"],\"b\":{\"c\":null,\"d\":[]}}";
+        JsonFactory f = _rawCopyingFactory();
+        // parser allowing non-standard content: must re-encode
+        f.enable(JsonParser.Feature.ALLOW_COMMENTS);
+        assertEquals(EXP, _copy(f, DOC));
+
+        // as well as for generator that escapes non-ASCII chars
+        f = _rawCopyingFactory();
+        f.enable(JsonGenerator.Feature.ESCAPE_NON_ASCII);
+        assertEquals(EXP, _copy(f, DOC));
+
+        // and for char-based parsers
+        f = _rawCopyingFactory();
+        JsonParser jp = f.createJsonParser(DOC);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator jgen = f.createJsonGenerator(bytes, JsonEncoding.UTF8);
+        jp.nextToken();
+        jgen.copyCurrentStructure(jp);
+        jgen.close();
+        assertEquals(EXP, bytes.toString("UTF-8"));
+    }
+
+    public void testNotEnabledByDefault() throws IOException
+    {
+        final String EXP = "{\"a\":[1,2.5,\"A\\\"]\"],\"b\":{\"c\":null,\"d\":[]}}";
+        assertEquals(EXP, _copy(new JsonFactory(), DOC));
+
+        // and malformed content must be reported by default
+        final String[] INVALID = new String[] {
+                "{\"a\":tru}", "[1 2]", "{\"a\" 1}", "[\"<\u0001>\"]", "{\"a\":[1,2],}"
+        };
+        for (String json : INVALID) {
+            try {
+                _copy(new JsonFactory(), json);
+                fail("Should not pass: "+json);
+            } catch (JsonParseException e) { }
+        }
+    }
+
+    public void testInvalidContent() throws IOException
+    {
+        JsonFactory f = _rawCopyingFactory();
+        // note: only nesting is verified, not types of close markers
+        try {
+            _copy(f, "{\"a\":[1,2]");
+            fail("Should not pass");
+        } catch (JsonParseException e) {
+            verifyException(e, "Unexpected end-of-input");
+        }
+        try {
+            _copy(f, "[\"abc");
+            fail("Should not pass");
+        } catch (JsonParseException e) {
+            verifyException(e, "Unexpected end-of-input");
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private JsonFactory _rawCopyingFactory()
+    {
+        JsonFactory f = new JsonFactory();
+        f.enable(JsonGenerator.Feature.COPY_STRUCTURES_AS_IS);
+        return f;
+    }
+
+    private String _copy(JsonFactory f, String json) throws IOException
+    {
+        JsonParser jp = f.createJsonParser(utf8(json));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator jgen = f.createJsonGenerator(bytes, JsonEncoding.UTF8);
+        jp.nextToken();
+        jgen.copyCurrentStructure(jp);
+        jgen.close();
+        jp.close();
+        return bytes.toString("UTF-8");
+    }
+
+    private static byte[] utf8(String str) throws IOException {
+        return str.getBytes("UTF-8");
+    }
+}
@@ -0,0 +1,132 @@
+package org.codehaus.jackson.main;
+
+import org.codehaus.jackson.*;
+
+/**
+ * Unit tests for verifying that {@link JsonParser#skipChildren} works
+ * as expected with textual parsers, which skip contents without
+ * tokenizing them.
+ */
+public class TestSkipChildren extends main.BaseTest
+{
+    final static String DOC =
+        "{ \"skipped\" : { \"a\" : [ 1, -2.5e3, true, null, \"]}\", \"\\\"}\" ],\n"
+        +"  \"b\\\\\" : { \"c\" : { } , \"d\" : [ [ ], { \"e\" : \"\\u005D\" } ] },\r\n"
+        +"  \"f\" : \"\u00E9\u20AC\" },\n"
+        +" \"next\" : [ 3 ] }";
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testSkipObject() throws Exception
+    {
+        _testSkipObject(false);
+        _testSkipObject(true);
+    }
+
+    public void testSkipWithComments() throws Exception
+    {
+        JsonFactory f = new JsonFactory();
+        f.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
+        f.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
+        final String JSON = "[ [ /* ] */ 1, // ]\n 'x]\\'', \"'\" ], 2 ]";
+        for (int i = 0; i < 2; ++i) {
+            JsonParser jp = (i == 0) ? createParserUsingReader(f, JSON)
+                    : createParserUsingStream(f, JSON, "UTF-8");
+            assertToken(JsonToken.START_ARRAY, jp.nextToken());
+            assertToken(JsonToken.START_ARRAY, jp.nextToken());
+            jp.skipChildren();
+            assertToken(JsonToken.END_ARRAY, jp.getCurrentToken());
+            assertToken(JsonToken.VALUE_NUMBER_INT, jp.nextToken());
+            assertEquals(2, jp.getIntValue());
+            assertToken(JsonToken.END_ARRAY, jp.nextToken());
+            assertNull(jp.nextToken());
+            jp.close();
+        }
+        // but comments must still be enabled to be skipped
+        for (int i = 0; i < 2; ++i) {
+            JsonParser jp = (i == 0) ? createParserUsingReader("[ [ /* x */ ] ]")
+                    : createParserUsingStream("[ [ /* x */ ] ]", "UTF-8");
+            assertToken(JsonToken.START_ARRAY, jp.nextToken());
+            assertToken(JsonToken.START_ARRAY, jp.nextToken());
+            try {
+                jp.skipChildren();
+                fail("Expected an exception for comment");
+            } catch (JsonParseException e) {
+                verifyException(e, "ALLOW_COMMENTS");
+            }
+            jp.close();
+        }
+    }
+
+    public void testMismatchedEnd() throws Exception
+    {
+        for (int i = 0; i < 2; ++i) {
+            JsonParser jp = (i == 0) ? createParserUsingReader("[ [ 1, 2 } ]")
+                    : createParserUsingStream("[ [ 1, 2 } ]", "UTF-8");
+            assertToken(JsonToken.START_ARRAY, jp.nextToken());
+            assertToken(JsonToken.START_ARRAY, jp.nextToken());
+            try {
+                jp.skipChildren();
+                fail("Expected an exception for mismatched end marker");
+            } catch (JsonParseException e) {
+                verifyException(e, "Unexpected close marker '}'");
+            }
+            jp.close();
+        }
+    }
+
+    public void testUnexpectedEOF() throws Exception
+    {
+        final String[] DOCS = new String[] { "[ { \"a\" : [ 1 ] ", "[ [ \"abc" };
+        for (String doc : DOCS) {
+            for (int i = 0; i < 2; ++i) {
+                JsonParser jp = (i == 0) ? createParserUsingReader(doc)
+                        : createParserUsingStream(doc, "UTF-8");
+                assertToken(JsonToken.START_ARRAY, jp.nextToken());
+                jp.nextToken();
+                try {
+                    jp.skipChildren();
+                    fail("Expected an exception for unexpected EOF");
+                } catch (JsonParseException e) {
+                    verifyException(e, "Unexpected end-of-input");
+                }
+                jp.close();
+            }
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private void _testSkipObject(boolean useStream) throws Exception
+    {
+        JsonParser jp = useStream ? createParserUsingStream(DOC, "UTF-8")
+                : createParserUsingReader(DOC);
+        assertToken(JsonToken.START_OBJECT, jp.nextToken());
+        assertToken(JsonToken.FIELD_NAME, jp.nextToken());
+        assertToken(JsonToken.START_OBJECT, jp.nextToken());
+        jp.skipChildren();
+        assertToken(JsonToken.END_OBJECT, jp.getCurrentToken());
+        // location must reflect linefeeds skipped
+        assertEquals(3, jp.getTokenLocation().getLineNr());
+        assertEquals(3, jp.getCurrentLocation().getLineNr());
+        // and state must be back to enclosing Object
+        assertEquals("skipped", jp.getCurrentName());
+        assertToken(JsonToken.FIELD_NAME, jp.nextToken());
+        assertEquals("next", jp.getCurrentName());
+        assertToken(JsonToken.START_ARRAY, jp.nextToken());
+        assertToken(JsonToken.VALUE_NUMBER_INT, jp.nextToken());
+        assertEquals(3, jp.getIntValue());
+        assertToken(JsonToken.END_ARRAY, jp.nextToken());
+        assertToken(JsonToken.END_OBJECT, jp.nextToken());
+        assertNull(jp.nextToken());
+        jp.close();
+    }
+}
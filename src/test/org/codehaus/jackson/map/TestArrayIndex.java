@@ -0,0 +1,184 @@
+package org.codehaus.jackson.map;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import org.codehaus.jackson.*;
+import org.codehaus.jackson.util.JsonArrayIndex;
+
+/**
+ * Unit tests for verifying that {@link JsonArrayIndex} can be used
+ * for binding elements of large JSON Arrays by index.
+ */
+public class TestArrayIndex extends BaseMapTest
+{
+    static class Point {
+        public int x, y;
+        public String label;
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testBuildIndex() throws Exception
+    {
+        final String JSON = " [ {\"x\":1}, [1,[2]], \"a]}\" ,3,\n null, {\"a\":{\"b\":\"}\"}} ] ";
+        JsonArrayIndex index = JsonArrayIndex.build(new JsonFactory(), JSON.getBytes("UTF-8"));
+        assertEquals(6, index.size());
+        assertEquals(JSON.indexOf('{'), (int) index.getOffset(0));
+        _verifyElementAt(JSON, index, 1, "[1");
+        _verifyElementAt(JSON, index, 2, "\"a]");
+        _verifyElementAt(JSON, index, 3, "3");
+        _verifyElementAt(JSON, index, 4, "null");
+        _verifyElementAt(JSON, index, 5, "{\"a\"");
+        assertEquals(JSON.lastIndexOf(']') + 1, (int) index.getEndOffset());
+
+        try {
+            index.getOffset(6);
+            fail("Should not pass");
+        } catch (IndexOutOfBoundsException e) {
+            verifyException(e, "Invalid element index 6");
+        }
+
+        // empty arrays are fine too
+        assertEquals(0, JsonArrayIndex.build(new JsonFactory(), "[ ]".getBytes("UTF-8")).size());
+    }
+
+    public void testInvalidContent() throws Exception
+    {
+        JsonFactory f = new JsonFactory();
+        try {
+            JsonArrayIndex.build(f, "{ }".getBytes("UTF-8"));
+            fail("Should not pass");
+        } catch (JsonParseException e) {
+            verifyException(e, "Can only index JSON Arrays");
+        }
+        try {
+            JsonArrayIndex.build(f.createJsonParser("[ 1 ]"));
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "UTF-8");
+        }
+    }
+
+    public void testReadElementsFromBuffer() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        byte[] doc = _pointArray(mapper, 100);
+        JsonArrayIndex index = JsonArrayIndex.build(mapper.getJsonFactory(), doc);
+        assertEquals(100, index.size());
+        ObjectReader r = mapper.reader(Point.class);
+
+        ByteBuffer buf = ByteBuffer.wrap(doc);
+        Point p = r.readElement(buf, index, 37);
+        assertEquals(37, p.x);
+        assertEquals(-37, p.y);
+        assertEquals("p37", p.label);
+        p = r.readElement(buf, index, 99);
+        assertEquals(99, p.x);
+        // buffer must not have been modified
+        assertEquals(0, buf.position());
+
+        List<Point> points = r.readElements(buf, index, 10, 20);
+        assertEquals(10, points.size());
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(10 + i, points.get(i).x);
+            assertEquals("p"+(10+i), points.get(i).label);
+        }
+        points = r.readElements(buf, index, 95, 100);
+        assertEquals(5, points.size());
+        assertEquals(99, points.get(4).x);
+        assertEquals(0, r.readElements(buf, index, 5, 5).size());
+
+        try {
+            r.readElements(buf, index, 95, 101);
+            fail("Should not pass");
+        } catch (IndexOutOfBoundsException e) {
+            verifyException(e, "Invalid element range");
+        }
+    }
+
+    public void testReadElementsFromFile() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        File f = File.createTempFile("jackson-index", ".json");
+        File indexFile = File.createTempFile("jackson-index", ".idx");
+        try {
+            FileOutputStream out = new FileOutputStream(f);
+            out.write(_pointArray(mapper, 500));
+            out.close();
+
+            // build, persist and read back index
+            out = new FileOutputStream(indexFile);
+            JsonArrayIndex.build(mapper.getJsonFactory(), f).writeTo(out);
+            out.close();
+            InputStream in = new FileInputStream(indexFile);
+            JsonArrayIndex index = JsonArrayIndex.readFrom(in);
+            in.close();
+            assertEquals(500, index.size());
+
+            ObjectReader r = mapper.reader(Point.class);
+            Point p = r.readElement(f, index, 499);
+            assertEquals(499, p.x);
+            assertEquals("p499", p.label);
+
+            List<Point> points = r.readElements(f, index, 0, 3);
+            assertEquals(3, points.size());
+            assertEquals(0, points.get(0).x);
+            assertEquals(2, points.get(2).x);
+
+            // and with untyped binding, too
+            Map<?,?> map = mapper.reader(Map.class).readElement(f, index, 250);
+            assertEquals(Integer.valueOf(-250), map.get("y"));
+        } finally {
+            f.delete();
+            indexFile.delete();
+        }
+    }
+
+    public void testInvalidPersistedIndex() throws Exception
+    {
+        try {
+            JsonArrayIndex.readFrom(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 }));
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "not a persisted JSON Array index");
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private void _verifyElementAt(String json, JsonArrayIndex index, int elementIndex, String start)
+    {
+        String content = json.substring((int) index.getOffset(elementIndex)).trim();
+        if (!content.startsWith(start)) {
+            fail("Element #"+elementIndex+" should start with '"+start+"'; content at offset: '"+content+"'");
+        }
+    }
+
+    private byte[] _pointArray(ObjectMapper mapper, int count) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator jgen = mapper.getJsonFactory().createJsonGenerator(bytes, JsonEncoding.UTF8);
+        jgen.writeStartArray();
+        for (int i = 0; i < count; ++i) {
+            jgen.writeRaw("\n  ");
+            jgen.writeStartObject();
+            jgen.writeNumberField("x", i);
+            jgen.writeNumberField("y", -i);
+            jgen.writeStringField("label", "p"+i);
+            jgen.writeEndObject();
+        }
+        jgen.writeEndArray();
+        jgen.close();
+        return bytes.toByteArray();
+    }
+}
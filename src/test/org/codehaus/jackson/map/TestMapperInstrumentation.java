@@ -0,0 +1,103 @@
+package org.codehaus.jackson.map;
+
+import org.codehaus.jackson.Version;
+import org.codehaus.jackson.map.util.StdMapperInstrumentation;
+
+public class TestMapperInstrumentation extends BaseMapTest
+{
+    /*
+    /**********************************************************
+    /* Helper types
+    /**********************************************************
+     */
+
+    static class Point {
+        public int x, y;
+
+        public Point() { }
+        public Point(int x, int y) { this.x = x; this.y = y; }
+    }
+
+    static class InstrModule extends Module
+    {
+        protected final MapperInstrumentation _instr;
+
+        public InstrModule(MapperInstrumentation instr) { _instr = instr; }
+
+        @Override
+        public String getModuleName() { return "instr"; }
+
+        @Override
+        public Version version() { return Version.unknownVersion(); }
+
+        @Override
+        public void setupModule(SetupContext context) {
+            ((InstrumentationContext) context).setInstrumentation(_instr);
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testDefaultIsNop() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        assertSame(MapperInstrumentation.Nop.instance, mapper.getInstrumentation());
+        assertFalse(mapper.getInstrumentation().isEnabled());
+    }
+
+    public void testCounters() throws Exception
+    {
+        StdMapperInstrumentation instr = new StdMapperInstrumentation(true);
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new InstrModule(instr));
+        assertSame(instr, mapper.getInstrumentation());
+
+        String json = mapper.writeValueAsString(new Point(1, 2));
+        assertEquals("{\"x\":1,\"y\":2}", json);
+        assertEquals(1L, instr.getRootValuesWritten());
+        assertEquals((long) json.length(), instr.getContentWritten());
+        assertTrue(instr.getSerializersConstructed() > 0L);
+        long missesAfterFirst = instr.getSerializerCacheMisses();
+        assertTrue(missesAfterFirst > 0L);
+
+        // second round should only hit caches
+        mapper.writeValueAsBytes(new Point(3, 4));
+        assertEquals(2L, instr.getRootValuesWritten());
+        assertEquals(missesAfterFirst, instr.getSerializerCacheMisses());
+        assertTrue(instr.getSerializerCacheHits() > 0L);
+        assertEquals(2L, instr.getWriteTimings(Point.class).getCount());
+
+        Point p = mapper.readValue(json, Point.class);
+        assertEquals(2, p.y);
+        assertEquals(1L, instr.getRootValuesRead());
+        // parser location points to the last character consumed
+        assertTrue(instr.getContentRead() >= json.length()-1);
+        assertTrue(instr.getDeserializersConstructed() > 0L);
+        assertNotNull(instr.getReadTimings(Point.class));
+
+        p = mapper.reader(Point.class).readValue(json);
+        assertEquals(1, p.x);
+        assertEquals(2L, instr.getRootValuesRead());
+        assertEquals(2, instr.getRootTypeTimings().length);
+
+        instr.reset();
+        assertEquals(0L, instr.getRootValuesRead());
+        assertEquals(0, instr.getRootTypeTimings().length);
+    }
+
+    public void testHistogram() throws Exception
+    {
+        StdMapperInstrumentation.Histogram h = new StdMapperInstrumentation.Histogram();
+        assertEquals(0L, h.getPercentileMicros(50.0));
+        h.add(500L); // < 1 usec
+        h.add(3000L); // 3 usecs -> bucket for < 4
+        assertEquals(1L, h.getBucketCount(0));
+        assertEquals(1L, h.getBucketCount(2));
+        assertEquals(1L, h.getPercentileMicros(50.0));
+        assertEquals(4L, h.getPercentileMicros(99.0));
+    }
+}
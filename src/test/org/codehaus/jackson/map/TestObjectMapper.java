@@ -1,6 +1,7 @@
 package org.codehaus.jackson.map;
 
 import java.io.*;
+import java.util.*;
 
 import org.codehaus.jackson.JsonFactory;
 import org.codehaus.jackson.JsonNode;
@@ -9,6 +10,11 @@ import org.codehaus.jackson.node.*;
 
 public class TestObjectMapper extends BaseMapTest
 {
+    static class Bean {
+        public int b = 2;
+        public int a = 1;
+    }
+    
     public void testProps()
     {
         ObjectMapper m = new ObjectMapper();
@@ -77,4 +83,104 @@ public class TestObjectMapper extends BaseMapTest
         assertSame(f, m.getJsonFactory());
         assertSame(m, f.getCodec());
     }
+
+    // [1.9.14]: unshared config copies are reused until something changes
+    @SuppressWarnings("deprecation")
+    public void testSerializationConfigSnapshots() throws Exception
+    {
+        ObjectMapper m = new ObjectMapper();
+        SerializationConfig sc = m._serializationConfigSnapshot();
+        assertNotSame(m.getSerializationConfig(), sc);
+        assertSame(sc, m._serializationConfigSnapshot());
+        assertEquals("{\"b\":2,\"a\":1}", m.writeValueAsString(new Bean()));
+        assertSame(sc, m._serializationConfigSnapshot());
+        // but copies are still copies
+        assertNotSame(m.copySerializationConfig(), m.copySerializationConfig());
+
+        // changes via mapper must be reflected
+        m.configure(SerializationConfig.Feature.WRAP_ROOT_VALUE, true);
+        assertEquals("{\"Bean\":{\"b\":2,\"a\":1}}", m.writeValueAsString(new Bean()));
+        assertNotSame(sc, m._serializationConfigSnapshot());
+        m.configure(SerializationConfig.Feature.WRAP_ROOT_VALUE, false);
+        // as well as (deprecated) direct changes to shared config
+        m.getSerializationConfig().enable(SerializationConfig.Feature.INDENT_OUTPUT);
+        assertTrue(m.writeValueAsString(new Bean()).indexOf('\n') > 0);
+
+        // and if snapshot itself gets modified, it must not be reused
+        sc = m._serializationConfigSnapshot();
+        sc.disable(SerializationConfig.Feature.INDENT_OUTPUT);
+        assertNotSame(sc, m._serializationConfigSnapshot());
+        assertTrue(m.writeValueAsString(new Bean()).indexOf('\n') > 0);
+    }
+
+    public void testDeserializationConfigSnapshots() throws Exception
+    {
+        ObjectMapper m = new ObjectMapper();
+        DeserializationConfig dc = m._deserializationConfigSnapshot();
+        assertSame(dc, m._deserializationConfigSnapshot());
+        assertFalse(dc.shouldSortPropertiesAlphabetically());
+        // serialization features are also passed, and need to be considered
+        m.enable(SerializationConfig.Feature.SORT_PROPERTIES_ALPHABETICALLY);
+        assertTrue(m._deserializationConfigSnapshot().shouldSortPropertiesAlphabetically());
+
+        m.configure(DeserializationConfig.Feature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        Bean bean = m.readValue("{\"a\":3,\"x\":1}", Bean.class);
+        assertEquals(3, bean.a);
+        m.configure(DeserializationConfig.Feature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        try {
+            m.readValue("{\"a\":3,\"x\":1}", Bean.class);
+            fail("Should have failed for unknown property");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Unrecognized field");
+        }
+    }
+
+    // Serializer provider instances may be reused; need to pick up new serializers
+    public void testProviderReuse() throws Exception
+    {
+        ObjectMapper m = new ObjectMapper();
+        for (int i = 0; i < 3; ++i) {
+            assertEquals("{\"b\":2,\"a\":1}", m.writeValueAsString(new Bean()));
+            assertEquals("[1,\"x\"]", m.writeValueAsString(Arrays.asList(1, "x")));
+            assertEquals("{\"k\":{\"b\":2,\"a\":1}}", m.writeValueAsString(Collections.singletonMap("k", new Bean())));
+            assertEquals("{\"b\":2,\"a\":1}", m.writer().writeValueAsString(new Bean()));
+        }
+    }
+
+    // ... as well as changes to null and key serializers of the blueprint
+    public void testProviderReuseWithChangedSerializers() throws Exception
+    {
+        ObjectMapper m = new ObjectMapper();
+        List<Object> nullList = Arrays.asList((Object) null);
+        for (int i = 0; i < 3; ++i) {
+            assertEquals("[null]", m.writeValueAsString(nullList));
+        }
+        m.getSerializerProvider().setNullValueSerializer(new NullAsText());
+        assertEquals("[\"NULL\"]", m.writeValueAsString(nullList));
+
+        Map<String,Object> map = new HashMap<String,Object>();
+        map.put(null, 1);
+        try {
+            m.writeValueAsString(map);
+            fail("Should not pass");
+        } catch (org.codehaus.jackson.JsonProcessingException e) {
+            verifyException(e, "Null key");
+        }
+        m.getSerializerProvider().setNullKeySerializer(new NullAsText());
+        assertEquals("{\"NULL\":1}", m.writeValueAsString(map));
+    }
+
+    static class NullAsText extends JsonSerializer<Object>
+    {
+        @Override
+        public void serialize(Object value, org.codehaus.jackson.JsonGenerator jgen, SerializerProvider provider)
+            throws IOException
+        {
+            if (jgen.getOutputContext().inObject()) {
+                jgen.writeFieldName("NULL");
+            } else {
+                jgen.writeString("NULL");
+            }
+        }
+    }
 }
@@ -0,0 +1,170 @@
+package org.codehaus.jackson.map;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.codehaus.jackson.map.ser.StdSerializerProvider;
+import org.codehaus.jackson.type.JavaType;
+
+/**
+ * Unit tests for verifying {@link ObjectMapper#preload} functionality.
+ */
+public class TestPreload extends BaseMapTest
+{
+    /*
+    /**********************************************************
+    /* Helper types
+    /**********************************************************
+     */
+
+    static class Order {
+        public String id;
+        public Customer customer;
+        public List<LineItem> items;
+        public Map<String,Money> totals;
+        public Object extra;
+    }
+
+    static class Customer {
+        public String name;
+        public Address address;
+        // cyclic reference should not cause problems
+        public Order lastOrder;
+    }
+
+    static class Address {
+        public String street;
+        public Shape shape;
+    }
+
+    static class LineItem {
+        public int count;
+        public Money price;
+    }
+
+    static class Money {
+        public long cents;
+        public Currency currency;
+    }
+
+    enum Currency { EUR, USD; }
+
+    static abstract class Shape { }
+
+    // conflicting setters, can not construct deserializer
+    static class Conflicting {
+        public int getX() { return 1; }
+        public void setX(int x) { }
+        public void setX(String x) { }
+    }
+
+    // provider that does not support preloading
+    static class NoPreloadProvider extends StdSerializerProvider
+    {
+        @Override
+        public JsonSerializer<Object> preloadSerializer(SerializationConfig cfg,
+                JavaType type, SerializerFactory jsf) {
+            return null;
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testSimpleTransitive() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        PreloadResult result = mapper.preload(Arrays.asList(mapper.constructType(Order.class)));
+        _verifyOrderResult(mapper, result);
+    }
+
+    public void testParallel() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        ExecutorService exec = Executors.newFixedThreadPool(3);
+        try {
+            PreloadResult result = mapper.preload(Arrays.asList(mapper.constructType(Order.class)), exec);
+            _verifyOrderResult(mapper, result);
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    // content and key types of root-level containers must be preloaded too
+    public void testContainerRootTypes() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, LineItem.class);
+        JavaType mapType = mapper.getTypeFactory().constructMapType(Map.class, String.class, Customer.class);
+        PreloadResult result = mapper.preload(Arrays.asList(listType, mapType));
+        assertTrue(result.isSuccessful());
+        Set<JavaType> preloaded = result.getPreloaded();
+        assertTrue(preloaded.contains(listType));
+        assertTrue(preloaded.contains(mapType));
+        assertTrue(preloaded.contains(mapper.constructType(LineItem.class)));
+        assertTrue(preloaded.contains(mapper.constructType(Money.class)));
+        assertTrue(preloaded.contains(mapper.constructType(Customer.class)));
+        // as well as ones referenced by them
+        assertTrue(preloaded.contains(mapper.constructType(Order.class)));
+        assertTrue(preloaded.contains(mapper.constructType(Address.class)));
+    }
+
+    public void testFailures() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        JavaType type = mapper.constructType(Conflicting.class);
+        PreloadResult result = mapper.preload(Arrays.asList(type));
+        assertFalse(result.isSuccessful());
+        assertTrue(result.getDeserializationFailures().containsKey(type));
+        assertEquals(0, result.getSerializationFailures().size());
+        assertFalse(result.getPreloaded().contains(type));
+        // but serialization should still work fine
+        assertEquals("{\"x\":1}", mapper.writeValueAsString(new Conflicting()));
+    }
+
+    public void testPreloadingNotSupported() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setSerializerProvider(new NoPreloadProvider());
+        JavaType type = mapper.constructType(Money.class);
+        PreloadResult result = mapper.preload(Arrays.asList(type));
+        assertFalse(result.isSuccessful());
+        assertTrue(result.getSerializationFailures().containsKey(type));
+        assertFalse(result.getPreloaded().contains(type));
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private void _verifyOrderResult(ObjectMapper mapper, PreloadResult result) throws Exception
+    {
+        assertTrue(result.isSuccessful());
+        Set<JavaType> preloaded = result.getPreloaded();
+        assertTrue(preloaded.contains(mapper.constructType(Order.class)));
+        assertTrue(preloaded.contains(mapper.constructType(Customer.class)));
+        assertTrue(preloaded.contains(mapper.constructType(Address.class)));
+        assertTrue(preloaded.contains(mapper.constructType(LineItem.class)));
+        assertTrue(preloaded.contains(mapper.constructType(Money.class)));
+        assertTrue(preloaded.contains(mapper.constructType(Currency.class)));
+        assertEquals(6, preloaded.size());
+        Set<JavaType> dynamic = result.getDynamic();
+        assertTrue(dynamic.contains(mapper.constructType(Object.class)));
+        assertTrue(dynamic.contains(mapper.constructType(Shape.class)));
+        assertEquals(2, dynamic.size());
+
+        // and preloaded (de)serializers must work as expected
+        assertTrue(mapper.getSerializerProvider().cachedSerializersCount() > 0);
+        Order order = mapper.readValue("{\"id\":\"a\",\"items\":[{\"count\":2,\"price\":{\"cents\":100,\"currency\":\"EUR\"}}]}",
+                Order.class);
+        assertEquals(Currency.EUR, order.items.get(0).price.currency);
+        assertEquals("{\"id\":\"a\",\"customer\":null,\"items\":[{\"count\":2,\"price\":{\"cents\":100,\"currency\":\"EUR\"}}],\"totals\":null,\"extra\":null}",
+                mapper.writeValueAsString(order));
+    }
+}
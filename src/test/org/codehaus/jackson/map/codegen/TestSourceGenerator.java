@@ -0,0 +1,321 @@
+package org.codehaus.jackson.map.codegen;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.*;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.codehaus.jackson.annotate.*;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.annotate.JsonSerialize;
+import org.codehaus.jackson.map.type.TypeFactory;
+
+public class TestSourceGenerator extends BaseMapTest
+{
+    /*
+    /**********************************************************
+    /* Helper types
+    /**********************************************************
+     */
+
+    @JsonPropertyOrder({ "id", "name" })
+    @JsonIgnoreProperties({ "legacy" })
+    public static class Item
+    {
+        public int id;
+        public String name;
+        protected long stamp;
+        protected boolean active;
+        protected double ratio;
+        protected float weight;
+        protected List<String> tags;
+        protected Map<String,Integer> counts;
+        protected Item child;
+
+        public long getStamp() { return stamp; }
+        public void setStamp(long s) { stamp = s; }
+
+        public boolean isActive() { return active; }
+        public void setActive(boolean a) { active = a; }
+
+        public double getRatio() { return ratio; }
+        public void setRatio(double r) { ratio = r; }
+
+        public float getWeight() { return weight; }
+        public void setWeight(float w) { weight = w; }
+
+        public List<String> getTags() { return tags; }
+        public void setTags(List<String> t) { tags = t; }
+
+        public Map<String,Integer> getCounts() { return counts; }
+        public void setCounts(Map<String,Integer> c) { counts = c; }
+
+        @JsonSerialize(include=JsonSerialize.Inclusion.NON_NULL)
+        public Item getChild() { return child; }
+        public void setChild(Item c) { child = c; }
+
+        @JsonProperty("renamed \"odd\"")
+        public String getOdd() { return "x"; }
+        public void setOdd(String s) { }
+    }
+
+    public static class WithCreator
+    {
+        protected final int x;
+
+        @JsonCreator
+        public WithCreator(@JsonProperty("x") int x) { this.x = x; }
+
+        public int getX() { return x; }
+    }
+
+    static class NonPublic
+    {
+        public int x;
+    }
+
+    @JsonTypeInfo(use=JsonTypeInfo.Id.CLASS)
+    public static class Typed
+    {
+        public int x;
+    }
+
+    public static class Point
+    {
+        public String name;
+        public int x;
+        public String label;
+    }
+
+    public abstract static class PointMixin
+    {
+        @JsonIgnore
+        public String label;
+    }
+
+    /**
+     * Non-default mapper configuration, to use with {@link SourceGenerator#main}
+     */
+    public static class SortedMapper extends ObjectMapper
+    {
+        public SortedMapper() {
+            setSerializationInclusion(JsonSerialize.Inclusion.NON_NULL);
+            configure(SerializationConfig.Feature.SORT_PROPERTIES_ALPHABETICALLY, true);
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testSkipped() throws Exception
+    {
+        SourceGenerator gen = new SourceGenerator(new ObjectMapper(), "test.gen", null);
+        List<Class<?>> types = new ArrayList<Class<?>>();
+        types.add(WithCreator.class);
+        types.add(NonPublic.class);
+        types.add(Typed.class);
+        Map<String,String> result = gen.generate(types);
+
+        Map<Class<?>,String> skipped = gen.getSkipped();
+        assertEquals(3, skipped.size());
+        assertEquals("not a public class", skipped.get(NonPublic.class));
+        String msg = skipped.get(WithCreator.class);
+        assertTrue(msg, msg.startsWith("deserializer:"));
+        assertTrue(msg.contains("deserializer: uses creators"));
+        msg = skipped.get(Typed.class);
+        assertTrue(msg.contains("serializer: uses polymorphic type handling"));
+        assertTrue(msg.contains("deserializer: uses polymorphic type handling"));
+
+        // serializer for creator-based type, plus module
+        assertEquals(2, result.size());
+        assertTrue(result.containsKey("test.gen.TestSourceGenerator_WithCreator_JsonSerializer"));
+        String module = result.get("test.gen."+SourceGenerator.DEFAULT_MODULE_NAME);
+        assertNotNull(module);
+        assertTrue(module.contains("addSerializer("+WithCreator.class.getCanonicalName()+".class"));
+        assertFalse(module.contains("addDeserializer("));
+    }
+
+    public void testGenerateAndCompile() throws Exception
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) { // only JRE available; nothing to test
+            return;
+        }
+        ObjectMapper plain = new ObjectMapper();
+        SourceGenerator gen = new SourceGenerator(plain, "test.gen", "TestModule");
+        File dir = _tempDir();
+        List<File> files = gen.writeSources(Collections.<Class<?>>singletonList(Item.class), dir);
+        assertEquals(0, gen.getSkipped().size());
+        assertEquals(3, files.size());
+
+        Module module = _compileModule(compiler, dir, files, "test.gen.TestModule");
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(module);
+        assertEquals("TestModule", module.getModuleName());
+
+        Item item = new Item();
+        item.id = 3;
+        item.name = "abc";
+        item.stamp = 123456789012L;
+        item.active = true;
+        item.ratio = 0.25;
+        item.weight = 1.5f;
+        item.tags = Arrays.asList("a", "b");
+        item.counts = new LinkedHashMap<String,Integer>();
+        item.counts.put("x", 1);
+        item.child = new Item();
+        item.child.id = 4;
+
+        String expJson = plain.writeValueAsString(item);
+        String json = mapper.writeValueAsString(item);
+        assertEquals(expJson, json);
+        assertTrue(mapper.getSerializerFactory().createSerializer(mapper.copySerializationConfig(),
+                TypeFactory.defaultInstance().constructType(Item.class), null)
+                instanceof GeneratedBeanSerializer<?>);
+
+        Item result = mapper.readValue(json, Item.class);
+        assertEquals(expJson, plain.writeValueAsString(result));
+        assertEquals(Arrays.asList("a", "b"), result.tags);
+        assertEquals(4, result.child.id);
+
+        // ignorable and unknown properties
+        result = mapper.readValue("{\"legacy\":[1,2],\"id\":7,\"weight\":null}", Item.class);
+        assertEquals(7, result.id);
+        try {
+            mapper.readValue("{\"bogus\":1}", Item.class);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Unrecognized field \"bogus\"");
+        }
+        // exceptions should get property path
+        try {
+            mapper.readValue("{\"id\":\"abc\"}", Item.class);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            assertEquals(1, e.getPath().size());
+            assertEquals("id", e.getPath().get(0).getFieldName());
+        }
+    }
+
+    /**
+     * Generated (de)serializers must only be used with mappers configured
+     * same way as the mapper used for generation; regular bean (de)serializers
+     * are to be used with others.
+     */
+    public void testNonDefaultConfig() throws Exception
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            return;
+        }
+        File dir = _tempDir();
+        SourceGenerator.main(new String[] { "-d", dir.getPath(), "-p", "test.gen2", "-m", "SortedModule",
+                "-c", SortedMapper.class.getName(), Point.class.getName() });
+        File pkgDir = new File(dir, "test" + File.separator + "gen2");
+        List<File> files = Arrays.asList(pkgDir.listFiles());
+        assertEquals(3, files.size());
+        Module sortedModule = _compileModule(compiler, dir, files, "test.gen2.SortedModule");
+
+        dir = _tempDir();
+        files = new SourceGenerator(new ObjectMapper(), "test.gen3", "PlainModule")
+            .writeSources(Collections.<Class<?>>singletonList(Point.class), dir);
+        Module plainModule = _compileModule(compiler, dir, files, "test.gen3.PlainModule");
+
+        Point p = new Point();
+        p.x = 3;
+        Point p2 = new Point();
+        p2.name = "abc";
+        p2.label = "def";
+        final String input = "{\"label\":\"l\",\"name\":\"n\",\"x\":1}";
+
+        for (int i = 0; i < 5; ++i) {
+            ObjectMapper reflection = _configuredMapper(i);
+            for (Module module : new Module[] { sortedModule, plainModule }) {
+                ObjectMapper mapper = _configuredMapper(i);
+                mapper.registerModule(module);
+                String desc = "config #"+i+", module "+module.getModuleName();
+                assertEquals(desc, reflection.writeValueAsString(p), mapper.writeValueAsString(p));
+                assertEquals(desc, reflection.writeValueAsString(p2), mapper.writeValueAsString(p2));
+                assertEquals(desc, reflection.writeValueAsString(reflection.readValue(input, Point.class)),
+                        reflection.writeValueAsString(mapper.readValue(input, Point.class)));
+                // generated code only to be used with matching configuration
+                boolean matching = (i == 0 && module == plainModule) || (i == 1 && module == sortedModule);
+                JsonSerializer<?> ser = mapper.getSerializerFactory().createSerializer(mapper.copySerializationConfig(),
+                        mapper.constructType(Point.class), null);
+                assertEquals(desc, matching, ser instanceof GeneratedBeanSerializer<?>);
+                // (inclusion and ordering do not matter for deserialization)
+                JsonDeserializer<?> deser = mapper.getDeserializerProvider().findValueDeserializer(
+                        mapper.copyDeserializationConfig(), mapper.constructType(Point.class), null);
+                assertEquals(desc, (i <= 2), deser instanceof GeneratedBeanDeserializer<?>);
+            }
+        }
+        assertEquals("{\"x\":3}", new SortedMapper().writeValueAsString(p));
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private ObjectMapper _configuredMapper(int index)
+    {
+        ObjectMapper mapper;
+        switch (index) {
+        case 0:
+            return new ObjectMapper();
+        case 1:
+            return new SortedMapper();
+        case 2:
+            mapper = new ObjectMapper();
+            mapper.setSerializationInclusion(JsonSerialize.Inclusion.NON_NULL);
+            return mapper;
+        case 3:
+            mapper = new ObjectMapper();
+            mapper.setPropertyNamingStrategy(new PropertyNamingStrategy.PropertyNamingStrategyBase() {
+                @Override
+                public String translate(String name) { return name.toUpperCase(); }
+            });
+            mapper.configure(DeserializationConfig.Feature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+            return mapper;
+        default:
+            mapper = new ObjectMapper();
+            mapper.getSerializationConfig().addMixInAnnotations(Point.class, PointMixin.class);
+            mapper.getDeserializationConfig().addMixInAnnotations(Point.class, PointMixin.class);
+            return mapper;
+        }
+    }
+
+    private File _tempDir() throws Exception
+    {
+        File dir = File.createTempFile("jackson-codegen", "");
+        dir.delete();
+        dir.mkdirs();
+        return dir;
+    }
+
+    private Module _compileModule(JavaCompiler compiler, File dir, List<File> files, String moduleClass)
+        throws Exception
+    {
+        File classDir = new File(dir, "classes");
+        classDir.mkdirs();
+        List<String> args = new ArrayList<String>();
+        args.add("-d");
+        args.add(classDir.getPath());
+        args.add("-classpath");
+        args.add(System.getProperty("java.class.path"));
+        for (File f : files) {
+            args.add(f.getPath());
+        }
+        assertEquals(0, compiler.run(null, null, null, args.toArray(new String[args.size()])));
+        ClassLoader loader = new URLClassLoader(new URL[] { classDir.toURI().toURL() },
+                getClass().getClassLoader());
+        return (Module) loader.loadClass(moduleClass).newInstance();
+    }
+}
@@ -0,0 +1,316 @@
+package org.codehaus.jackson.map.convert;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.*;
+
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.annotate.JsonSerialize;
+import org.codehaus.jackson.map.annotate.JsonView;
+import org.codehaus.jackson.type.TypeReference;
+import org.codehaus.jackson.annotate.JsonIgnoreProperties;
+
+/**
+ * Tests for verifying that bean-to-bean and bean-to-Map conversions
+ * that are done without intermediate tokens (see
+ * {@link org.codehaus.jackson.map.deser.BeanConverter}) produce
+ * same results as regular conversions.
+ */
+public class TestDirectBeanConversions
+    extends org.codehaus.jackson.map.BaseMapTest
+{
+    // to let us see whether direct conversion was used
+    static class ConvertingMapper extends ObjectMapper
+    {
+        public int cachedPlanCount() {
+            return _beanConverter.cachedPlanCount();
+        }
+    }
+
+    static class Address {
+        public String street;
+        public int zip;
+
+        public Address() { }
+        public Address(String s, int z) { street = s; zip = z; }
+    }
+
+    static class Person {
+        public String name;
+        public Integer age;
+        public long id;
+        public double score;
+        public boolean active;
+        public Object extra;
+        public Address address;
+        public List<String> tags;
+
+        protected String nick;
+
+        public String getNick() { return nick; }
+        public void setNick(String n) { nick = n; }
+    }
+
+    static class PersonDTO {
+        public String name;
+        public int age;
+        public Long id;
+        public Double score;
+        public Boolean active;
+        public Object extra;
+        public Address address;
+        public List<String> tags;
+        public String nick;
+    }
+
+    // target with a narrower set of properties
+    @JsonIgnoreProperties(ignoreUnknown=true)
+    static class NameOnly {
+        public String name;
+    }
+
+    static class Upper extends org.codehaus.jackson.map.ser.std.SerializerBase<String> {
+        public Upper() { super(String.class); }
+        @Override
+        public void serialize(String value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+            jgen.writeString(value.toUpperCase());
+        }
+    }
+
+    static class CustomBean {
+        @JsonSerialize(using=Upper.class)
+        public String code = "abc";
+        public String plain = "def";
+    }
+
+    static class CustomTarget {
+        public String code, plain;
+    }
+
+    @JsonSerialize(include=JsonSerialize.Inclusion.NON_NULL)
+    static class NonNullBean {
+        public String a = "x";
+        public String b = null;
+    }
+
+    static class DefaultedTarget {
+        public String a = "defA";
+        public String b = "defB";
+    }
+
+    static class ViewA { }
+
+    static class ViewBean {
+        @JsonView(ViewA.class)
+        public String a = "a";
+        public String b = "b";
+    }
+
+    static class NumberTarget {
+        public String age;
+        public long score;
+    }
+
+    static class Numbers {
+        public int age = 3;
+        public int score = 15;
+    }
+
+    static class SelfRef {
+        public SelfRef self;
+    }
+
+    static class Parent {
+        public Child child;
+    }
+
+    static class Child {
+        public Parent parent;
+    }
+
+    /*
+    /**********************************************************
+    /* Test methods
+    /**********************************************************
+     */
+
+    public void testBeanToBean() throws Exception
+    {
+        ConvertingMapper mapper = new ConvertingMapper();
+        Person p = _person();
+        PersonDTO dto = mapper.convertValue(p, PersonDTO.class);
+        // one plan for Person, another for nested Address
+        assertEquals(2, mapper.cachedPlanCount());
+        assertEquals("Bob", dto.name);
+        assertEquals(28, dto.age);
+        assertEquals(Long.valueOf(123456789012L), dto.id);
+        assertEquals(Double.valueOf(0.5), dto.score);
+        assertEquals(Boolean.TRUE, dto.active);
+        assertEquals(Integer.valueOf(7), dto.extra);
+        assertNotNull(dto.address);
+        assertNotSame(p.address, dto.address);
+        assertEquals("Main St", dto.address.street);
+        assertEquals(12345, dto.address.zip);
+        assertEquals(Arrays.asList("a", "b"), dto.tags);
+        assertNotSame(p.tags, dto.tags);
+        assertEquals("bobby", dto.nick);
+
+        // and result must match that of regular conversion
+        assertEquals(_viaTokens(mapper, p, PersonDTO.class), mapper.writeValueAsString(dto));
+    }
+
+    public void testBeanToMap() throws Exception
+    {
+        ConvertingMapper mapper = new ConvertingMapper();
+        Person p = _person();
+        Map<String,Object> map = mapper.convertValue(p, new TypeReference<Map<String,Object>>() { });
+        assertEquals(2, mapper.cachedPlanCount());
+        assertEquals("Bob", map.get("name"));
+        assertEquals(Integer.valueOf(28), map.get("age"));
+        assertEquals(Long.valueOf(123456789012L), map.get("id"));
+        assertEquals(Double.valueOf(0.5), map.get("score"));
+        assertEquals(Boolean.TRUE, map.get("active"));
+        Map<?,?> address = (Map<?,?>) map.get("address");
+        assertEquals("Main St", address.get("street"));
+        assertEquals(Integer.valueOf(12345), address.get("zip"));
+        assertEquals(Arrays.asList("a", "b"), map.get("tags"));
+        // ordering must be retained as well
+        Map<?,?> viaTokens = mapper.readValue(mapper.writeValueAsString(p), Map.class);
+        assertEquals(new ArrayList<Object>(viaTokens.keySet()), new ArrayList<Object>(map.keySet()));
+        assertEquals(viaTokens, map);
+
+        // and ditto for untyped Maps
+        Map<?,?> raw = mapper.convertValue(p, Map.class);
+        assertEquals(viaTokens, raw);
+    }
+
+    public void testNullsAndDefaults() throws Exception
+    {
+        ConvertingMapper mapper = new ConvertingMapper();
+        Person p = new Person();
+        PersonDTO dto = mapper.convertValue(p, PersonDTO.class);
+        assertNull(dto.name);
+        assertEquals(0, dto.age);
+        assertNull(dto.address);
+
+        // suppressed nulls must not overwrite defaults
+        DefaultedTarget t = mapper.convertValue(new NonNullBean(), DefaultedTarget.class);
+        assertEquals("x", t.a);
+        assertEquals("defB", t.b);
+        Map<?,?> map = mapper.convertValue(new NonNullBean(), Map.class);
+        assertEquals(1, map.size());
+    }
+
+    public void testIgnoredAndUnknown() throws Exception
+    {
+        ConvertingMapper mapper = new ConvertingMapper();
+        NameOnly n = mapper.convertValue(_person(), NameOnly.class);
+        assertEquals("Bob", n.name);
+
+        // unknown properties must still be reported
+        try {
+            mapper.convertValue(_person(), Address.class);
+            fail("Expected exception");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Unrecognized field");
+        }
+        // unless configured not to
+        mapper.configure(DeserializationConfig.Feature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        Address a = mapper.convertValue(_person(), Address.class);
+        assertNull(a.street);
+    }
+
+    public void testCustomSerializer() throws Exception
+    {
+        ConvertingMapper mapper = new ConvertingMapper();
+        CustomTarget t = mapper.convertValue(new CustomBean(), CustomTarget.class);
+        assertEquals("ABC", t.code);
+        assertEquals("def", t.plain);
+    }
+
+    public void testCoercions() throws Exception
+    {
+        ConvertingMapper mapper = new ConvertingMapper();
+        NumberTarget t = mapper.convertValue(new Numbers(), NumberTarget.class);
+        assertEquals("3", t.age);
+        assertEquals(15L, t.score);
+
+        mapper.configure(DeserializationConfig.Feature.USE_BIG_DECIMAL_FOR_FLOATS, true);
+        Map<?,?> map = mapper.convertValue(_person(), Map.class);
+        assertEquals(new BigDecimal("0.5"), map.get("score"));
+    }
+
+    public void testViews() throws Exception
+    {
+        ConvertingMapper mapper = new ConvertingMapper();
+        mapper.configure(SerializationConfig.Feature.DEFAULT_VIEW_INCLUSION, false);
+        mapper.setSerializationConfig(mapper.getSerializationConfig().withView(ViewA.class));
+        Map<?,?> map = mapper.convertValue(new ViewBean(), Map.class);
+        assertEquals(1, map.size());
+        assertEquals("a", map.get("a"));
+        mapper.setSerializationConfig(mapper.getSerializationConfig().withView(null));
+        map = mapper.convertValue(new ViewBean(), Map.class);
+        assertEquals(2, map.size());
+    }
+
+    public void testSelfReference() throws Exception
+    {
+        ConvertingMapper mapper = new ConvertingMapper();
+        SelfRef ref = new SelfRef();
+        ref.self = ref;
+        try {
+            mapper.convertValue(ref, SelfRef.class);
+            fail("Expected exception");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Direct self-reference");
+        }
+    }
+
+    public void testIndirectCycle() throws Exception
+    {
+        ConvertingMapper mapper = new ConvertingMapper();
+        Parent p = new Parent();
+        p.child = new Child();
+        p.child.parent = p;
+        try {
+            mapper.convertValue(p, Parent.class);
+            fail("Expected exception");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Infinite recursion");
+        }
+        // and same for conversions into Maps
+        try {
+            mapper.convertValue(p, Map.class);
+            fail("Expected exception");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Infinite recursion");
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private Person _person()
+    {
+        Person p = new Person();
+        p.name = "Bob";
+        p.age = 28;
+        p.id = 123456789012L;
+        p.score = 0.5;
+        p.active = true;
+        p.extra = 7;
+        p.address = new Address("Main St", 12345);
+        p.tags = new ArrayList<String>(Arrays.asList("a", "b"));
+        p.nick = "bobby";
+        return p;
+    }
+
+    private String _viaTokens(ObjectMapper mapper, Object value, Class<?> type) throws Exception
+    {
+        return mapper.writeValueAsString(mapper.readValue(mapper.writeValueAsString(value), type));
+    }
+}
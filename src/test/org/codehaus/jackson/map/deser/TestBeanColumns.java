@@ -0,0 +1,203 @@
+package org.codehaus.jackson.map.deser;
+
+import java.util.*;
+
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.annotate.JsonIgnore;
+import org.codehaus.jackson.annotate.JsonProperty;
+import org.codehaus.jackson.map.annotate.JsonDeserialize;
+import org.codehaus.jackson.map.annotate.JsonSerialize;
+import org.codehaus.jackson.map.util.BeanColumns;
+import org.codehaus.jackson.type.TypeReference;
+
+/**
+ * Tests for verifying columnar binding of JSON Arrays of Objects,
+ * using {@link BeanColumns}.
+ */
+public class TestBeanColumns extends BaseMapTest
+{
+    static class Point {
+        public int x;
+        public double y;
+        public String label;
+        public long id;
+        public boolean visible;
+        public float weight;
+        public List<String> tags;
+    }
+
+    static class Negating extends JsonDeserializer<Integer> {
+        @Override
+        public Integer deserialize(org.codehaus.jackson.JsonParser jp, DeserializationContext ctxt)
+            throws java.io.IOException
+        {
+            return -jp.getIntValue();
+        }
+    }
+
+    static class CustomBean {
+        @JsonDeserialize(using=Negating.class)
+        public int value;
+    }
+
+    static class Doubling extends JsonSerializer<Integer> {
+        @Override
+        public void serialize(Integer value, org.codehaus.jackson.JsonGenerator jgen, SerializerProvider provider)
+            throws java.io.IOException
+        {
+            jgen.writeNumber(value.intValue() * 2);
+        }
+    }
+
+    // bean with property annotations that affect serialization
+    static class AnnotatedBean {
+        @JsonSerialize(using=Doubling.class)
+        public int value;
+
+        @JsonSerialize(include=JsonSerialize.Inclusion.NON_NULL)
+        public String name;
+
+        @JsonSerialize(include=JsonSerialize.Inclusion.NON_DEFAULT)
+        public boolean flag;
+
+        private String secret;
+
+        @JsonIgnore
+        public String getSecret() { return secret; }
+
+        @JsonProperty
+        public void setSecret(String s) { secret = s; }
+    }
+
+    static class CreatorBean {
+        @org.codehaus.jackson.annotate.JsonCreator
+        public CreatorBean(@org.codehaus.jackson.annotate.JsonProperty("x") int x) { }
+    }
+
+    final static String POINTS = "[{\"x\":1,\"y\":0.5,\"label\":\"a\",\"id\":12345678901,\"visible\":true,\"weight\":0.25,\"tags\":[\"t\"]},"
+        +"{\"y\":2,\"x\":-3,\"label\":null},"
+        +"{\"x\":\"7\",\"x\":8,\"y\":\"1.5\",\"visible\":false}]";
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testSimple() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        BeanColumns<Point> cols = mapper.readValue(POINTS, new TypeReference<BeanColumns<Point>>() { });
+        assertEquals(Point.class, cols.getBeanType());
+        assertEquals(3, cols.size());
+        assertTrue(cols.hasColumn("x"));
+        assertFalse(cols.hasColumn("z"));
+
+        int[] x = cols.getIntColumn("x");
+        assertEquals(1, x[0]);
+        assertEquals(-3, x[1]);
+        // last value wins
+        assertEquals(8, x[2]);
+        assertTrue(Arrays.equals(new double[] { 0.5, 2.0, 1.5 }, cols.getDoubleColumn("y")));
+        assertTrue(Arrays.equals(new long[] { 12345678901L, 0L, 0L }, cols.getLongColumn("id")));
+        assertTrue(Arrays.equals(new boolean[] { true, false, false }, cols.getBooleanColumn("visible")));
+        assertTrue(Arrays.equals(new float[] { 0.25f, 0.0f, 0.0f }, (float[]) cols.getColumn("weight")));
+        Object[] labels = cols.getObjectColumn("label");
+        assertEquals(String[].class, labels.getClass());
+        assertEquals("a", labels[0]);
+        assertNull(labels[1]);
+        assertNull(labels[2]);
+        assertEquals(Arrays.asList("t"), cols.getObjectColumn("tags")[0]);
+
+        try {
+            cols.getIntColumn("y");
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "is of type double");
+        }
+    }
+
+    public void testLarge() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        StringBuilder sb = new StringBuilder("[");
+        final int COUNT = 5000;
+        for (int i = 0; i < COUNT; ++i) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"x\":").append(i).append(",\"label\":\"p").append(i).append("\"}");
+        }
+        sb.append(']');
+        BeanColumns<Point> cols = mapper.readValue(sb.toString(), new TypeReference<BeanColumns<Point>>() { });
+        assertEquals(COUNT, cols.size());
+        int[] x = cols.getIntColumn("x");
+        assertEquals(COUNT, x.length);
+        assertEquals(COUNT-1, x[COUNT-1]);
+        assertEquals("p1234", cols.getObjectColumn("label")[1234]);
+    }
+
+    public void testSerialization() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        BeanColumns<Point> cols = mapper.readValue(POINTS, new TypeReference<BeanColumns<Point>>() { });
+        String json = mapper.writeValueAsString(cols);
+        // must produce same as regular binding
+        List<Point> points = mapper.readValue(POINTS, new TypeReference<List<Point>>() { });
+        assertEquals(mapper.readValue(mapper.writeValueAsString(points), List.class),
+                mapper.readValue(json, List.class));
+
+        BeanColumns<Point> manual = new BeanColumns<Point>(Point.class, new String[] { "x", "label" },
+                new Object[] { new int[] { 1, 2 }, new String[] { "a", null } });
+        assertEquals("[{\"x\":1,\"label\":\"a\"},{\"x\":2,\"label\":null}]", mapper.writeValueAsString(manual));
+    }
+
+    // property annotations must be used same way as when serializing beans
+    public void testSerializationWithAnnotations() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        final String JSON = "[{\"value\":1,\"name\":\"a\",\"flag\":true,\"secret\":\"x\"},{\"value\":2}]";
+        BeanColumns<AnnotatedBean> cols = mapper.readValue(JSON,
+                new TypeReference<BeanColumns<AnnotatedBean>>() { });
+        assertEquals("x", cols.getObjectColumn("secret")[0]);
+        List<AnnotatedBean> beans = mapper.readValue(JSON, new TypeReference<List<AnnotatedBean>>() { });
+        assertEquals(mapper.writeValueAsString(beans), mapper.writeValueAsString(cols));
+        assertEquals("[{\"value\":2,\"name\":\"a\",\"flag\":true},{\"value\":4}]",
+                mapper.writeValueAsString(cols));
+    }
+
+    public void testCustomDeserializer() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        BeanColumns<CustomBean> cols = mapper.readValue("[{\"value\":3}]",
+                new TypeReference<BeanColumns<CustomBean>>() { });
+        assertEquals(-3, cols.getIntColumn("value")[0]);
+    }
+
+    public void testErrors() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        try {
+            mapper.readValue("[{\"x\":1,\"foo\":2}]", new TypeReference<BeanColumns<Point>>() { });
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Unrecognized field \"foo\"");
+        }
+        try {
+            mapper.readValue("[{\"x\":\"abc\"}]", new TypeReference<BeanColumns<Point>>() { });
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "not a valid Integer");
+        }
+        try {
+            mapper.readValue("[1]", new TypeReference<BeanColumns<Point>>() { });
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Can not deserialize");
+        }
+        try {
+            mapper.readValue("[]", new TypeReference<BeanColumns<CreatorBean>>() { });
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "only types with default constructor");
+        }
+    }
+}
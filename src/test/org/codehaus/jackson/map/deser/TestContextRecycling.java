@@ -0,0 +1,125 @@
+package org.codehaus.jackson.map.deser;
+
+import java.io.IOException;
+import java.util.*;
+
+import org.codehaus.jackson.*;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.annotate.JsonDeserialize;
+
+/**
+ * Tests for verifying that recycling of {@link DeserializationContext}s
+ * between calls works, including for nested and failed calls.
+ */
+public class TestContextRecycling extends BaseMapTest
+{
+    /*
+    /**********************************************************
+    /* Helper types
+    /**********************************************************
+     */
+
+    final static List<DeserializationContext> contexts = new ArrayList<DeserializationContext>();
+
+    @JsonDeserialize(using=CapturingDeserializer.class)
+    static class Captured {
+        String value;
+        Captured nested;
+    }
+
+    static class CapturingDeserializer extends JsonDeserializer<Captured>
+    {
+        @Override
+        public Captured deserialize(JsonParser jp, DeserializationContext ctxt)
+            throws IOException, JsonProcessingException
+        {
+            contexts.add(ctxt);
+            Captured c = new Captured();
+            c.value = jp.getText();
+            // nested call using same mapper, from within deserialization:
+            if (c.value.startsWith("[")) {
+                ObjectMapper mapper = (ObjectMapper) jp.getCodec();
+                c.nested = mapper.readValue("\"inner\"", Captured.class);
+            }
+            // must still be usable after nested call
+            assertSame(jp, ctxt.getParser());
+            return c;
+        }
+    }
+
+    static class DateBean {
+        public Date date;
+        public int[] values;
+        public List<Object> untyped;
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testReuseForSequentialCalls() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        contexts.clear();
+        assertEquals("a", mapper.readValue("\"a\"", Captured.class).value);
+        assertEquals("b", mapper.readValue("\"b\"", Captured.class).value);
+        assertEquals(2, contexts.size());
+        assertSame(contexts.get(0), contexts.get(1));
+        // and no parser retained after call
+        assertNull(contexts.get(0).getParser());
+
+        // readers from same mapper share recycled contexts, if config is same
+        ObjectReader r = mapper.reader(Captured.class);
+        assertEquals("c", ((Captured) r.readValue("\"c\"")).value);
+        assertEquals("d", ((Captured) r.readValue("\"d\"")).value);
+        assertEquals(4, contexts.size());
+        assertSame(contexts.get(2), contexts.get(3));
+    }
+
+    public void testNestedCalls() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        contexts.clear();
+        Captured c = mapper.readValue("\"[x\"", Captured.class);
+        assertEquals("[x", c.value);
+        assertEquals("inner", c.nested.value);
+        assertEquals(2, contexts.size());
+        assertNotSame(contexts.get(0), contexts.get(1));
+        // and then regular calls continue to work
+        assertEquals("y", mapper.readValue("\"y\"", Captured.class).value);
+    }
+
+    public void testReuseAfterFailure() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        for (int i = 0; i < 3; ++i) {
+            try {
+                mapper.readValue("{\"date\":\"x\",\"values\":[1,2]}", DateBean.class);
+                fail("Should not pass");
+            } catch (JsonMappingException e) {
+                verifyException(e, "Can not construct instance of java.util.Date");
+            }
+            DateBean bean = mapper.readValue("{\"date\":\"1970-01-01T00:00:00.000+0000\","
+                    +"\"values\":[1,2,3],\"untyped\":[1,[2,3],\"x\"]}", DateBean.class);
+            assertEquals(0L, bean.date.getTime());
+            assertEquals(3, bean.values.length);
+            assertEquals(3, bean.untyped.size());
+            assertEquals(Arrays.asList(2, 3), bean.untyped.get(1));
+        }
+    }
+
+    // Contexts used by MappingIterator are retained by it; must not be reused
+    public void testWithMappingIterator() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        MappingIterator<int[]> it = mapper.reader(int[].class).readValues("[1,2] [3] [4,5,6]");
+        assertEquals(2, it.next().length);
+        int[] other = mapper.readValue("[7,8,9,10]", int[].class);
+        assertEquals(4, other.length);
+        assertEquals(1, it.next().length);
+        assertEquals(3, it.next().length);
+        assertFalse(it.hasNext());
+    }
+}
@@ -0,0 +1,123 @@
+package org.codehaus.jackson.map.deser;
+
+import java.util.*;
+
+import org.codehaus.jackson.annotate.*;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.type.TypeReference;
+
+/**
+ * Tests for verifying that buffering of property values for
+ * property-based Creators works, including recycling of
+ * buffers for nested and sequential values.
+ */
+public class TestCreatorBuffering extends BaseMapTest
+{
+    /*
+    /**********************************************************
+    /* Helper types
+    /**********************************************************
+     */
+
+    static class Point
+    {
+        final int x, y;
+        String label;
+
+        @JsonCreator
+        public Point(@JsonProperty("x") int x, @JsonProperty("y") int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        public void setLabel(String l) { label = l; }
+    }
+
+    static class Segment
+    {
+        final Point start, end;
+        String name;
+        Map<String,Object> extra = new LinkedHashMap<String,Object>();
+
+        @JsonCreator
+        public Segment(@JsonProperty("start") Point s, @JsonProperty("end") Point e,
+                @JsonProperty("weight") long w) {
+            start = s;
+            end = e;
+        }
+
+        public void setName(String n) { name = n; }
+
+        @JsonAnySetter
+        public void set(String key, Object value) { extra.put(key, value); }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testBufferedBeforeCreator() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        Point p = mapper.readValue("{\"label\":\"a\",\"x\":1,\"y\":2}", Point.class);
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+        assertEquals("a", p.label);
+        // missing creator property, default applies
+        p = mapper.readValue("{\"label\":\"b\",\"y\":3}", Point.class);
+        assertEquals(0, p.x);
+        assertEquals(3, p.y);
+        assertEquals("b", p.label);
+    }
+
+    public void testBufferedInDocumentOrder() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        Segment s = mapper.readValue("{\"name\":\"first\",\"b\":1,\"a\":2,\"c\":3,\"name\":\"second\","
+                +"\"start\":{\"x\":1,\"y\":2},\"end\":{\"x\":3,\"y\":4}}",
+                Segment.class);
+        assertEquals("second", s.name);
+        assertEquals(Arrays.asList("b", "a", "c"), new ArrayList<String>(s.extra.keySet()));
+        assertEquals(3, s.end.x);
+    }
+
+    // Buffers are recycled within a single read call: must work for nested
+    // and sequential values, with differing numbers of parameters
+    public void testRecycledBuffers() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 20; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"n").append(i).append("\":").append(i);
+            // vary ordering: sometimes buffer things before creator properties complete
+            if ((i & 1) == 0) {
+                sb.append(",\"end\":{\"label\":\"e\",\"y\":").append(i).append(",\"x\":1}");
+                sb.append(",\"name\":\"s").append(i).append('"');
+                sb.append(",\"start\":{\"x\":").append(i).append(",\"y\":2},\"weight\":3}");
+            } else {
+                sb.append(",\"start\":{\"x\":").append(i).append(",\"y\":2},\"weight\":3");
+                sb.append(",\"end\":{\"y\":").append(i).append(",\"x\":1,\"label\":\"e\"}");
+                sb.append(",\"name\":\"s").append(i).append("\"}");
+            }
+        }
+        sb.append(']');
+        List<Segment> result = mapper.readValue(sb.toString(), new TypeReference<List<Segment>>() { });
+        assertEquals(20, result.size());
+        for (int i = 0; i < 20; ++i) {
+            Segment s = result.get(i);
+            assertEquals("s"+i, s.name);
+            assertEquals(i, s.start.x);
+            assertEquals(2, s.start.y);
+            assertNull(s.start.label);
+            assertEquals(1, s.end.x);
+            assertEquals(i, s.end.y);
+            assertEquals("e", s.end.label);
+            assertEquals(Collections.singletonMap("n"+i, (Object) Integer.valueOf(i)), s.extra);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.text.SimpleDateFormat;
 import java.util.*;
 
 import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.util.StdDateFormat;
 
 public class TestDateDeserialization
     extends BaseMapTest
@@ -243,6 +244,30 @@ public class TestDateDeserialization
         assertEquals("PST", result.getID());
     }
     
+    // Dates in default format are parsed directly; others via full date format
+    public void testDateRoundTripsDefaultFormat() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(SerializationConfig.Feature.WRITE_DATES_AS_TIMESTAMPS, false);
+        long[] timestamps = new long[] { 0L, 1234567890123L, -1L, -62135769600000L, 253402300799999L };
+        for (long ts : timestamps) {
+            String json = mapper.writeValueAsString(new Date(ts));
+            assertEquals(quote(StdDateFormat.instance.format(new Date(ts))), json);
+            assertEquals(ts, mapper.readValue(json, Date.class).getTime());
+            // and with Map keys
+            Map<Date,Integer> map = Collections.singletonMap(new Date(ts), 1);
+            json = mapper.writeValueAsString(map);
+            assertEquals("{"+quote(StdDateFormat.instance.format(new Date(ts)))+":1}", json);
+        }
+        // lenient handling must remain for values not in strict format
+        assertEquals(0L, mapper.readValue(quote(" 1970-01-01T00:00:00.000+0000 "), Date.class).getTime());
+        assertEquals(0L, mapper.readValue(quote("1970-01-01T00:00:00.000+00:00"), Date.class).getTime());
+        // and custom formats need to be used as is
+        mapper.setDateFormat(new SimpleDateFormat("yyyy-MM-dd"));
+        assertEquals(quote(mapper.getSerializationConfig().getDateFormat().format(new Date(0L))),
+                mapper.writeValueAsString(new Date(0L)));
+    }
+
     /*
     /**********************************************************
     /* Helper methods
@@ -0,0 +1,121 @@
+package org.codehaus.jackson.map.deser;
+
+import java.util.*;
+
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.deser.impl.BeanPropertyMap;
+
+/**
+ * Unit tests for verifying that matching of properties in expected
+ * order (and adapting to actual order) works as expected.
+ */
+public class TestPropertyOrderMatching extends BaseMapTest
+{
+    static class Bean
+    {
+        public int a, b, c, d;
+        public String e;
+    }
+
+    private static List<String> names(SettableBeanProperty[] props)
+    {
+        ArrayList<String> result = new ArrayList<String>();
+        for (SettableBeanProperty prop : props) {
+            result.add(prop.getName());
+        }
+        return result;
+    }
+
+    private static BeanPropertyMap propertiesOf(ObjectMapper mapper) throws Exception
+    {
+        BeanDeserializer deser = (BeanDeserializer) mapper.getDeserializerProvider().findValueDeserializer(
+                mapper.getDeserializationConfig(), mapper.constructType(Bean.class), null);
+        // bit of a hack, but easiest way to get at the map
+        java.lang.reflect.Field f = BeanDeserializer.class.getDeclaredField("_beanProperties");
+        f.setAccessible(true);
+        return (BeanPropertyMap) f.get(deser);
+    }
+
+    private static void verify(Bean bean, int offset)
+    {
+        assertEquals(offset+1, bean.a);
+        assertEquals(offset+2, bean.b);
+        assertEquals(offset+3, bean.c);
+        assertEquals(offset+4, bean.d);
+        assertEquals("x"+offset, bean.e);
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testDeclaredOrder() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        for (int i = 0; i < 20; ++i) {
+            verify(mapper.readValue("{\"a\":"+(i+1)+",\"b\":"+(i+2)+",\"c\":"+(i+3)
+                    +",\"d\":"+(i+4)+",\"e\":\"x"+i+"\"}", Bean.class), i);
+        }
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), names(propertiesOf(mapper).getExpectedOrder()));
+    }
+
+    public void testAdaptingOrder() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        for (int i = 0; i < 100; ++i) {
+            verify(mapper.readValue("{\"e\":\"x"+i+"\",\"d\":"+(i+4)+",\"c\":"+(i+3)
+                    +",\"b\":"+(i+2)+",\"a\":"+(i+1)+"}", Bean.class), i);
+        }
+        assertEquals(Arrays.asList("e", "d", "c", "b", "a"), names(propertiesOf(mapper).getExpectedOrder()));
+    }
+
+    // Missing properties or unknown ones should not prevent matching
+    public void testMissingAndUnknown() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationConfig.Feature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        for (int i = 0; i < 50; ++i) {
+            Bean bean = mapper.readValue("{\"a\":1,\"x\":[1,2],\"c\":3,\"e\":\"x\",\"a\":5}", Bean.class);
+            assertEquals(5, bean.a);
+            assertEquals(0, bean.b);
+            assertEquals(3, bean.c);
+            assertEquals(0, bean.d);
+            assertEquals("x", bean.e);
+        }
+        // and when names are not interned
+        mapper = new ObjectMapper();
+        mapper.getJsonFactory().configure(JsonParser.Feature.INTERN_FIELD_NAMES, false);
+        for (int i = 0; i < 20; ++i) {
+            verify(mapper.readValue("{\"a\":"+(i+1)+",\"b\":"+(i+2)+",\"c\":"+(i+3)
+                    +",\"d\":"+(i+4)+",\"e\":\"x"+i+"\"}", Bean.class), i);
+        }
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), names(propertiesOf(mapper).getExpectedOrder()));
+    }
+
+    // Non-interned names must still match expected order, and adapt to actual order
+    public void testNonInternedNames() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.getJsonFactory().configure(JsonParser.Feature.INTERN_FIELD_NAMES, false);
+        for (int i = 0; i < 100; ++i) {
+            verify(mapper.readValue("{\"e\":\"x"+i+"\",\"d\":"+(i+4)+",\"c\":"+(i+3)
+                    +",\"b\":"+(i+2)+",\"a\":"+(i+1)+"}", Bean.class), i);
+        }
+        assertEquals(Arrays.asList("e", "d", "c", "b", "a"), names(propertiesOf(mapper).getExpectedOrder()));
+    }
+
+    public void testIndexAfter() throws Exception
+    {
+        BeanPropertyMap props = propertiesOf(new ObjectMapper());
+        SettableBeanProperty[] ordered = props.getExpectedOrder();
+        // found from hint, or by wrapping around
+        assertEquals(4, props.indexAfter(ordered, ordered[3], 3));
+        assertEquals(4, props.indexAfter(ordered, ordered[3], 1));
+        assertEquals(2, props.indexAfter(ordered, ordered[1], 3));
+        assertEquals(5, props.indexAfter(ordered, ordered[4], 5));
+        assertEquals(1, props.indexAfter(ordered, ordered[0], 5));
+    }
+}
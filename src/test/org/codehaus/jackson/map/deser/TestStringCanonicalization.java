@@ -0,0 +1,141 @@
+package org.codehaus.jackson.map.deser;
+
+import java.util.*;
+
+import org.codehaus.jackson.*;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.util.StringValueCanonicalizer;
+import org.codehaus.jackson.node.JsonNodeFactory;
+import org.codehaus.jackson.node.TextNode;
+
+/**
+ * Tests for verifying that
+ * {@link DeserializationConfig.Feature#CANONICALIZE_STRING_VALUES}
+ * works as expected.
+ */
+public class TestStringCanonicalization extends BaseMapTest
+{
+    static class Bean {
+        public String a, b;
+        public List<String> list;
+    }
+
+    final static String DOC = "[{\"code\":\"FI\",\"x\":\"FI\"},{\"code\":\"FI\",\"y\":[\"FI\",\"SE\"]}]";
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testDisabledByDefault() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        assertFalse(mapper.getDeserializationConfig().isEnabled(DeserializationConfig.Feature.CANONICALIZE_STRING_VALUES));
+        List<?> list = mapper.readValue(DOC, List.class);
+        Map<?,?> first = (Map<?,?>) list.get(0);
+        assertEquals("FI", first.get("x"));
+        assertNotSame(first.get("code"), first.get("x"));
+    }
+
+    public void testUntyped() throws Exception
+    {
+        ObjectMapper mapper = _mapper();
+        // from both char- and byte-based sources
+        _verifyUntyped(mapper.readValue(DOC, List.class));
+        _verifyUntyped(mapper.readValue(DOC.getBytes("UTF-8"), List.class));
+    }
+
+    public void testTree() throws Exception
+    {
+        ObjectMapper mapper = _mapper();
+        JsonNode root = mapper.readTree(DOC);
+        JsonNode fi = root.get(0).get("code");
+        assertEquals("FI", fi.getTextValue());
+        assertSame(fi, root.get(0).get("x"));
+        assertSame(fi, root.get(1).get("code"));
+        assertSame(fi, root.get(1).get("y").get(0));
+        assertEquals("SE", root.get(1).get("y").get(1).getTextValue());
+
+        // with custom node factory, only values are shared
+        mapper.setDeserializationConfig(mapper.getDeserializationConfig().withNodeFactory(new CustomFactory()));
+        root = mapper.readTree(DOC);
+        assertSame(root.get(0).get("code").getTextValue(), root.get(1).get("code").getTextValue());
+    }
+
+    public void testStrings() throws Exception
+    {
+        ObjectMapper mapper = _mapper();
+        Bean bean = mapper.readValue("{\"a\":\"abc\",\"b\":\"abc\",\"list\":[\"abc\",\"def\",null]}", Bean.class);
+        assertEquals("abc", bean.a);
+        assertSame(bean.a, bean.b);
+        assertSame(bean.a, bean.list.get(0));
+        assertEquals("def", bean.list.get(1));
+        assertNull(bean.list.get(2));
+    }
+
+    public void testLimits() throws Exception
+    {
+        ObjectMapper mapper = _mapper();
+        mapper.setDeserializationConfig(mapper.getDeserializationConfig().withStringCanonicalizerLimits(3, 16));
+        Bean bean = mapper.readValue("{\"a\":\"abcd\",\"b\":\"abcd\"}", Bean.class);
+        assertEquals("abcd", bean.a);
+        assertNotSame(bean.a, bean.b);
+        bean = mapper.readValue("{\"a\":\"abc\",\"b\":\"abc\"}", Bean.class);
+        assertSame(bean.a, bean.b);
+    }
+
+    public void testCanonicalizer() throws Exception
+    {
+        StringValueCanonicalizer canon = new StringValueCanonicalizer(8, 16);
+        String a = new String("abc");
+        assertSame(a, canon.canonicalize(a));
+        assertSame(a, canon.canonicalize(new String("abc")));
+        String longer = "abcdefghijkl";
+        assertSame(longer, canon.canonicalize(longer));
+        // many distinct values: must just replace older ones
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals("v"+i, canon.canonicalize("v"+i));
+        }
+        canon.clear();
+        String b = new String("abc");
+        assertSame(b, canon.canonicalize(b));
+
+        JsonParser jp = new JsonFactory().createJsonParser("[\"abc\",\"abc\"]");
+        assertToken(JsonToken.START_ARRAY, jp.nextToken());
+        assertToken(JsonToken.VALUE_STRING, jp.nextToken());
+        TextNode n = canon.textNode(jp);
+        assertSame(b, n.getTextValue());
+        assertToken(JsonToken.VALUE_STRING, jp.nextToken());
+        assertSame(n, canon.textNode(jp));
+        jp.close();
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    static class CustomFactory extends JsonNodeFactory { }
+
+    private ObjectMapper _mapper()
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationConfig.Feature.CANONICALIZE_STRING_VALUES, true);
+        return mapper;
+    }
+
+    private void _verifyUntyped(List<?> list)
+    {
+        Map<?,?> first = (Map<?,?>) list.get(0);
+        Map<?,?> second = (Map<?,?>) list.get(1);
+        Object fi = first.get("code");
+        assertEquals("FI", fi);
+        assertSame(fi, first.get("x"));
+        assertSame(fi, second.get("code"));
+        assertSame(fi, ((List<?>) second.get("y")).get(0));
+        // field names too
+        assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+    }
+}
@@ -0,0 +1,117 @@
+package org.codehaus.jackson.map.deser;
+
+import java.util.*;
+
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.util.CompactMap;
+import org.codehaus.jackson.map.util.UntypedContainerFactory;
+
+/**
+ * Tests for verifying that {@link UntypedContainerFactory} is used
+ * for binding "untyped" values, if configured.
+ */
+public class TestUntypedContainers extends BaseMapTest
+{
+    static class Bean {
+        public Object value;
+    }
+
+    final static String DOC = "{\"value\":{\"a\":[1,2,{\"x\":true}],\"b\":{},\"c\":[],\"a\":\"last\",\"d\":null}}";
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testDefault() throws Exception
+    {
+        Bean bean = new ObjectMapper().readValue(DOC, Bean.class);
+        assertEquals(LinkedHashMap.class, bean.value.getClass());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testCompact() throws Exception
+    {
+        ObjectMapper mapper = _mapper(UntypedContainerFactory.compact(false));
+        Bean bean = mapper.readValue(DOC, Bean.class);
+        Map<?,?> map = (Map<?,?>) bean.value;
+        assertEquals(CompactMap.class, map.getClass());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), new ArrayList<Object>(map.keySet()));
+        assertEquals("last", map.get("a"));
+        assertEquals(0, ((Map<?,?>) map.get("b")).size());
+        assertEquals(ArrayList.class, map.get("c").getClass());
+        assertTrue(map.containsKey("d"));
+        // must be modifiable
+        ((Map<String,Object>) map).put("e", "x");
+        ((List<Object>) map.get("c")).add(3);
+
+        // and must produce equal results
+        Map<String,Object> exp = (Map<String,Object>) new ObjectMapper().readValue(DOC, Bean.class).value;
+        exp.put("e", "x");
+        ((List<Object>) exp.get("c")).add(3);
+        assertEquals(exp, map);
+
+        List<?> list = mapper.readValue("[1,{\"a\":[2]}]", List.class);
+        Map<?,?> nested = (Map<?,?>) list.get(1);
+        assertEquals(CompactMap.class, nested.getClass());
+        assertEquals(Collections.singletonList(2), nested.get("a"));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testImmutable() throws Exception
+    {
+        ObjectMapper mapper = _mapper(UntypedContainerFactory.compact(true));
+        Bean bean = mapper.readValue("{\"value\":{\"a\":[1,2,{\"x\":true}]}}", Bean.class);
+        Map<?,?> map = (Map<?,?>) bean.value;
+        List<?> list = (List<?>) map.get("a");
+        assertEquals(3, list.size());
+        assertEquals(Boolean.TRUE, ((Map<?,?>) list.get(2)).get("x"));
+        try {
+            ((Map<String,Object>) map).put("e", "x");
+            fail("Should not pass");
+        } catch (UnsupportedOperationException e) { }
+        try {
+            ((List<Object>) list).add(3);
+            fail("Should not pass");
+        } catch (UnsupportedOperationException e) { }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testLargeObjects() throws Exception
+    {
+        ObjectMapper mapper = _mapper(UntypedContainerFactory.compact(2, true));
+        Object ob = mapper.readValue("{\"a\":{\"a\":1,\"b\":2},\"b\":{\"a\":1,\"b\":2,\"c\":3}}", Object.class);
+        Map<?,?> map = (Map<?,?>) ob;
+        assertEquals(CompactMap.class, map.get("a").getClass());
+        Map<?,?> large = (Map<?,?>) map.get("b");
+        assertFalse(large instanceof CompactMap);
+        assertEquals(3, large.size());
+        try {
+            ((Map<String,Object>) large).clear();
+            fail("Should not pass");
+        } catch (UnsupportedOperationException e) { }
+    }
+
+    public void testConvertValue() throws Exception
+    {
+        ObjectMapper mapper = _mapper(UntypedContainerFactory.compact(false));
+        Bean bean = new Bean();
+        bean.value = "x";
+        Object ob = mapper.convertValue(bean, Object.class);
+        assertEquals(CompactMap.class, ob.getClass());
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private ObjectMapper _mapper(UntypedContainerFactory f)
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setDeserializationConfig(mapper.getDeserializationConfig().withUntypedContainerFactory(f));
+        return mapper;
+    }
+}
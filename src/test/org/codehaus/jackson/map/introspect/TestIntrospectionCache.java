@@ -0,0 +1,108 @@
+package org.codehaus.jackson.map.introspect;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.codehaus.jackson.annotate.JsonProperty;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.type.JavaType;
+
+public class TestIntrospectionCache extends BaseMapTest
+{
+    /*
+    /**********************************************************
+    /* Helper types
+    /**********************************************************
+     */
+
+    static class Bean
+    {
+        public int value = 3;
+        public String name = "x";
+    }
+
+    static class Other
+    {
+        public int x = 1;
+    }
+
+    abstract static class BeanMixIn
+    {
+        @JsonProperty("renamed") public int value;
+    }
+
+    static class CountingInstrumentation extends MapperInstrumentation
+    {
+        public final AtomicInteger introspected = new AtomicInteger();
+
+        @Override
+        public void typeIntrospected(JavaType type, long nanos) {
+            introspected.incrementAndGet();
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testSharedBetweenMappers() throws Exception
+    {
+        IntrospectionCache cache = new IntrospectionCache();
+        CountingInstrumentation instr1 = new CountingInstrumentation();
+        ObjectMapper mapper1 = new ObjectMapper().setIntrospectionCache(cache);
+        mapper1.setSerializationConfig(mapper1.getSerializationConfig().withInstrumentation(instr1));
+        assertEquals("{\"value\":3,\"name\":\"x\"}", mapper1.writeValueAsString(new Bean()));
+        assertEquals(1, instr1.introspected.get());
+        int entries = cache.size();
+        assertTrue(entries > 0);
+
+        CountingInstrumentation instr2 = new CountingInstrumentation();
+        ObjectMapper mapper2 = new ObjectMapper().setIntrospectionCache(cache);
+        mapper2.setSerializationConfig(mapper2.getSerializationConfig().withInstrumentation(instr2));
+        assertEquals("{\"value\":3,\"name\":\"x\"}", mapper2.writeValueAsString(new Bean()));
+        assertEquals(0, instr2.introspected.get());
+        assertEquals(entries, cache.size());
+
+        // deserialization results are cached separately
+        Bean bean = mapper2.readValue("{\"value\":7}", Bean.class);
+        assertEquals(7, bean.value);
+        assertTrue(cache.size() > entries);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    public void testDifferingConfigs() throws Exception
+    {
+        IntrospectionCache cache = new IntrospectionCache();
+        ObjectMapper plain = new ObjectMapper().setIntrospectionCache(cache);
+        assertEquals("{\"value\":3,\"name\":\"x\"}", plain.writeValueAsString(new Bean()));
+
+        ObjectMapper mixed = new ObjectMapper().setIntrospectionCache(cache);
+        mixed.getSerializationConfig().addMixInAnnotations(Bean.class, BeanMixIn.class);
+        assertEquals("{\"name\":\"x\",\"renamed\":3}", mixed.writeValueAsString(new Bean()));
+
+        ObjectMapper sorted = new ObjectMapper().setIntrospectionCache(cache);
+        sorted.configure(SerializationConfig.Feature.SORT_PROPERTIES_ALPHABETICALLY, true);
+        assertEquals("{\"name\":\"x\",\"value\":3}", sorted.writeValueAsString(new Bean()));
+
+        ObjectMapper noFields = new ObjectMapper().setIntrospectionCache(cache);
+        noFields.configure(SerializationConfig.Feature.AUTO_DETECT_FIELDS, false);
+        noFields.configure(SerializationConfig.Feature.FAIL_ON_EMPTY_BEANS, false);
+        assertEquals("{}", noFields.writeValueAsString(new Bean()));
+
+        // and original configuration still works as before
+        assertEquals("{\"value\":3,\"name\":\"x\"}", plain.writeValueAsString(new Bean()));
+    }
+
+    public void testBounded() throws Exception
+    {
+        IntrospectionCache cache = new IntrospectionCache(2);
+        ObjectMapper mapper = new ObjectMapper().setIntrospectionCache(cache);
+        mapper.writeValueAsString(new Bean());
+        mapper.writeValueAsString(new Other());
+        mapper.readValue("{\"x\":2}", Other.class);
+        assertEquals(2, cache.size());
+    }
+}
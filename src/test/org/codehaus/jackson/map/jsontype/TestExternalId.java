@@ -8,6 +8,7 @@ import org.codehaus.jackson.annotate.JsonTypeInfo.As;
 import org.codehaus.jackson.annotate.JsonTypeInfo.Id;
 import org.codehaus.jackson.annotate.JsonTypeName;
 import org.codehaus.jackson.map.BaseMapTest;
+import org.codehaus.jackson.map.JsonMappingException;
 import org.codehaus.jackson.map.ObjectMapper;
 
 // Tests for [JACKSON-453]
@@ -183,6 +184,41 @@ public class TestExternalId extends BaseMapTest
         assertNotNull(result.value);
         assertEquals(7, ((ValueBean)result.value).value);
         assertEquals(7, result.foo);
+
+        // type id before value (value bound directly), value before type id (buffered);
+        // and properties after Creator property
+        result = mapper.readValue("{\"extType\":\"vbean\",\"value\":{\"value\":3},\"foo\":4}",
+                ExternalBeanWithCreator.class);
+        assertEquals(3, ((ValueBean)result.value).value);
+        assertEquals(4, result.foo);
+        result = mapper.readValue("{\"value\":{\"value\":5},\"foo\":1,\"extType\":\"vbean\"}",
+                ExternalBeanWithCreator.class);
+        assertEquals(5, ((ValueBean)result.value).value);
+        assertEquals(1, result.foo);
+        result = mapper.readValue("{\"foo\":2,\"extType\":\"vbean\",\"value\":{\"value\":6}}",
+                ExternalBeanWithCreator.class);
+        assertEquals(6, ((ValueBean)result.value).value);
+        assertEquals(2, result.foo);
+    }
+
+    public void testTypeIdOrdering() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerSubtypes(ValueBean.class);
+        ExternalBean3 result = mapper.readValue("{\"extType1\":\"vbean\",\"value1\":{\"value\":1},"
+                +"\"value2\":{\"value\":2},\"foo\":9,\"extType2\":\"vbean\","
+                +"\"extType3\":\"vbean\",\"value3\":null}", ExternalBean3.class);
+        assertEquals(1, ((ValueBean)result.value1).value);
+        assertEquals(2, ((ValueBean)result.value2).value);
+        assertNull(result.value3);
+        assertEquals(9, result.foo);
+
+        try {
+            mapper.readValue("{\"extType1\":\"vbean\"}", ExternalBean3.class);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Missing property 'value1'");
+        }
     }
     
     // If trying to use with Class, should just become "PROPERTY" instead:
@@ -0,0 +1,148 @@
+package org.codehaus.jackson.map.jsontype;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.codehaus.jackson.annotate.JsonSubTypes;
+import org.codehaus.jackson.annotate.JsonTypeInfo;
+import org.codehaus.jackson.annotate.JsonTypeName;
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.annotate.JsonTypeIdResolver;
+import org.codehaus.jackson.map.jsontype.impl.ClassNameIdResolver;
+import org.codehaus.jackson.map.jsontype.impl.StdSubtypeResolver;
+import org.codehaus.jackson.map.jsontype.impl.TypeNameIdResolver;
+import org.codehaus.jackson.map.type.TypeFactory;
+
+/**
+ * Tests for verifying that caching of type ids (and type id to
+ * deserializer mappings) works as expected.
+ */
+public class TestTypeIdCaching extends BaseMapTest
+{
+    @JsonTypeInfo(use=JsonTypeInfo.Id.NAME, include=JsonTypeInfo.As.PROPERTY, property="@type")
+    @JsonSubTypes({ @JsonSubTypes.Type(Circle.class), @JsonSubTypes.Type(Square.class) })
+    static abstract class Shape { }
+
+    @JsonTypeName("circle")
+    static class Circle extends Shape {
+        public int radius;
+
+        public Circle() { }
+        public Circle(int r) { radius = r; }
+    }
+
+    @JsonTypeName("square")
+    static class Square extends Shape {
+        public int side;
+
+        public Square() { }
+        public Square(int s) { side = s; }
+    }
+
+    static class Shapes {
+        public List<Shape> shapes;
+    }
+
+    enum Color { RED, GREEN; }
+
+    // Custom resolver with ids that depend on value, not just its class
+    static class ValueIdResolver extends ClassNameIdResolver
+    {
+        public ValueIdResolver() {
+            super(TypeFactory.defaultInstance().constructType(Object.class), TypeFactory.defaultInstance());
+        }
+
+        @Override
+        public String idFromValue(Object value) {
+            return "id"+((Item) value).value;
+        }
+
+        @Override
+        public JsonTypeInfo.Id getMechanism() { return JsonTypeInfo.Id.CUSTOM; }
+    }
+
+    @JsonTypeInfo(use=JsonTypeInfo.Id.CUSTOM, include=JsonTypeInfo.As.WRAPPER_ARRAY)
+    @JsonTypeIdResolver(ValueIdResolver.class)
+    static class Item {
+        public int value;
+
+        public Item(int v) { value = v; }
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testTypeNameIds() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        TypeNameIdResolver res = TypeNameIdResolver.construct(mapper.getSerializationConfig(),
+                TypeFactory.defaultInstance().constructType(Shape.class),
+                new StdSubtypeResolver().collectAndResolveSubtypes(mapper.getSerializationConfig()
+                        .introspectClassAnnotations(Shape.class).getClassInfo(),
+                        mapper.getSerializationConfig(), mapper.getSerializationConfig().getAnnotationIntrospector()),
+                true, false);
+        Circle c = new Circle(1);
+        assertEquals("circle", res.idFromValue(c));
+        assertSame(res.serializedIdFromValue(c), res.serializedIdFromValue(new Circle(2)));
+        assertEquals("square", res.serializedIdFromValue(new Square(1)).getValue());
+    }
+
+    public void testClassNameIds() throws Exception
+    {
+        ClassNameIdResolver res = new ClassNameIdResolver(TypeFactory.defaultInstance().constructType(Object.class),
+                TypeFactory.defaultInstance());
+        assertSame(res.serializedIdFromValue(new Circle(1)), res.serializedIdFromValue(new Circle(2)));
+        assertEquals(Circle.class.getName(), res.serializedIdFromValue(new Circle(3)).getValue());
+        // EnumSet ids depend on contents, can not be cached
+        String id = res.serializedIdFromValue(EnumSet.of(Color.RED)).getValue();
+        assertTrue(id.contains(Color.class.getName()));
+        assertNotSame(res.serializedIdFromValue(EnumSet.of(Color.RED)),
+                res.serializedIdFromValue(EnumSet.of(Color.RED)));
+    }
+
+    // custom sub-classes of standard resolvers must not use cached ids
+    public void testOverriddenIdFromValue() throws Exception
+    {
+        ValueIdResolver res = new ValueIdResolver();
+        assertEquals("id2", res.serializedIdFromValue(new Item(2)).getValue());
+        assertEquals("id3", res.serializedIdFromValue(new Item(3)).getValue());
+
+        ObjectMapper mapper = new ObjectMapper();
+        assertEquals("[[\"id1\",{\"value\":1}],[\"id2\",{\"value\":2}]]",
+                mapper.writeValueAsString(new Item[] { new Item(1), new Item(2) }));
+    }
+
+    public void testConcurrentRoundTrip() throws Exception
+    {
+        final ObjectMapper mapper = new ObjectMapper();
+        ExecutorService exec = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 40; ++i) {
+                final int index = i;
+                results.add(exec.submit(new Callable<String>() {
+                    public String call() throws Exception {
+                        Shapes s = new Shapes();
+                        s.shapes = new ArrayList<Shape>();
+                        s.shapes.add(new Circle(index));
+                        s.shapes.add(new Square(index));
+                        String json = mapper.writeValueAsString(s);
+                        Shapes result = mapper.readValue(json, Shapes.class);
+                        assertEquals(index, ((Circle) result.shapes.get(0)).radius);
+                        assertEquals(index, ((Square) result.shapes.get(1)).side);
+                        return json;
+                    }
+                }));
+            }
+            for (int i = 0; i < results.size(); ++i) {
+                assertEquals("{\"shapes\":[{\"@type\":\"circle\",\"radius\":"+i
+                        +"},{\"@type\":\"square\",\"side\":"+i+"}]}", results.get(i).get());
+            }
+        } finally {
+            exec.shutdown();
+        }
+    }
+}
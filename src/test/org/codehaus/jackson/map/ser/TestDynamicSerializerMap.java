@@ -0,0 +1,94 @@
+package org.codehaus.jackson.map.ser;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.ser.impl.PropertySerializerMap;
+import org.codehaus.jackson.map.ser.std.ToStringSerializer;
+import org.codehaus.jackson.map.util.StdMapperInstrumentation;
+
+/**
+ * Unit tests for {@link PropertySerializerMap}, used for serializing
+ * values of dynamically typed properties.
+ */
+public class TestDynamicSerializerMap extends BaseMapTest
+{
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    /**
+     * Helper method for getting large numbers of distinct classes:
+     * multi-dimensional array types
+     */
+    private static List<Class<?>> arrayTypes(int count)
+    {
+        List<Class<?>> result = new ArrayList<Class<?>>(count);
+        Class<?>[] bases = new Class<?>[] { String.class, Integer.class, Boolean.class, Long.class };
+        for (Class<?> base : bases) {
+            Class<?> cls = base;
+            for (int i = 0; i < 200 && result.size() < count; ++i) {
+                cls = Array.newInstance(cls, 0).getClass();
+                result.add(cls);
+            }
+        }
+        return result;
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    @SuppressWarnings("unchecked")
+    public void testGrowth() throws Exception
+    {
+        List<Class<?>> types = arrayTypes(600);
+        List<JsonSerializer<Object>> sers = new ArrayList<JsonSerializer<Object>>();
+        PropertySerializerMap map = PropertySerializerMap.emptyMap();
+        for (int i = 0; i < types.size(); ++i) {
+            JsonSerializer<Object> ser = (JsonSerializer<Object>)(JsonSerializer<?>) new ToStringSerializer();
+            sers.add(ser);
+            PropertySerializerMap newMap = map.newWith(types.get(i), ser);
+            // should grow up to 512 entries, and then stop
+            if (i < 512) {
+                assertNotSame(map, newMap);
+            } else {
+                assertSame(map, newMap);
+            }
+            map = newMap;
+            // earlier instances must be unaffected
+            if (i == 20) {
+                assertNull(map.serializerFor(types.get(21)));
+            }
+        }
+        for (int i = 0; i < types.size(); ++i) {
+            if (i < 512) {
+                assertSame(sers.get(i), map.serializerFor(types.get(i)));
+            } else {
+                assertNull(map.serializerFor(types.get(i)));
+            }
+        }
+        assertNull(map.serializerFor(String.class));
+    }
+
+    public void testFallbacksReported() throws Exception
+    {
+        StdMapperInstrumentation instr = new StdMapperInstrumentation();
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setSerializationConfig(mapper.getSerializationConfig().withInstrumentation(instr));
+        List<Object> values = new ArrayList<Object>();
+        for (Class<?> cls : arrayTypes(515)) {
+            values.add(Array.newInstance(cls.getComponentType(), 0));
+        }
+        String json = mapper.writeValueAsString(values);
+        assertTrue(json.startsWith("[[],[],"));
+        assertEquals(3, instr.getDynamicSerializerFallbacks());
+        instr.reset();
+        assertEquals(0, instr.getDynamicSerializerFallbacks());
+    }
+}
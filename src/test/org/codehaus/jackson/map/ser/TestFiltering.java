@@ -1,7 +1,11 @@
 package org.codehaus.jackson.map.ser;
 
+import java.util.*;
+
+import org.codehaus.jackson.JsonGenerator;
 import org.codehaus.jackson.map.*;
 import org.codehaus.jackson.map.annotate.JsonFilter;
+import org.codehaus.jackson.map.annotate.JsonView;
 import org.codehaus.jackson.map.ser.impl.*;
 
 /**
@@ -23,6 +27,50 @@ public class TestFiltering extends BaseMapTest
         public String a = "a";
         public String b = "b";
     }
+
+    static class ViewX { }
+
+    @JsonFilter("RootFilter")
+    static class ViewBean {
+        public String a = "a";
+        @JsonView(ViewX.class)
+        public String b = "b";
+        public String c = "c";
+    }
+
+    // Dynamic filter: decision based on value, needs to be called every time
+    static class NonEmptyFilter implements BeanPropertyFilter
+    {
+        public int calls;
+
+        //@Override
+        public void serializeAsField(Object bean, JsonGenerator jgen, SerializerProvider prov,
+                BeanPropertyWriter writer) throws Exception
+        {
+            ++calls;
+            Object value = writer.get(bean);
+            if (value != null && !"".equals(value)) {
+                writer.serializeAsField(bean, jgen, prov);
+            }
+        }
+    }
+
+    // Sub-class of a standard filter, which also filters out empty Strings
+    static class NonEmptyExceptFilter extends SimpleBeanPropertyFilter.SerializeExceptFilter
+    {
+        public NonEmptyExceptFilter(String... names) {
+            super(new HashSet<String>(Arrays.asList(names)));
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator jgen, SerializerProvider prov,
+                BeanPropertyWriter writer) throws Exception
+        {
+            if (!"".equals(writer.get(bean))) {
+                super.serializeAsField(bean, jgen, prov, writer);
+            }
+        }
+    }
     
     /*
     /**********************************************************
@@ -77,4 +125,55 @@ public class TestFiltering extends BaseMapTest
         FilterProvider prov = new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.filterOutAllExcept("b"));
         assertEquals("{\"b\":\"b\"}", mapper.writer(prov).writeValueAsString(new Bean()));
     }
+
+    // [1.9.14]: subsets for static filters are cached; must be keyed properly
+    public void testSwitchingStaticFilters() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        FilterProvider provA = new SimpleFilterProvider().addFilter("RootFilter",
+                SimpleBeanPropertyFilter.filterOutAllExcept("a", "b"));
+        FilterProvider provC = new SimpleFilterProvider().addFilter("RootFilter",
+                SimpleBeanPropertyFilter.serializeAllExcept("a"));
+        for (int i = 0; i < 3; ++i) {
+            assertEquals("{\"a\":\"a\",\"b\":\"b\"}", mapper.writer(provA).writeValueAsString(new ViewBean()));
+            assertEquals("{\"b\":\"b\",\"c\":\"c\"}", mapper.writer(provC).writeValueAsString(new ViewBean()));
+            // and with views, both ones that include and exclude properties
+            assertEquals("{\"a\":\"a\",\"b\":\"b\"}", mapper.writer(provA).withView(ViewX.class)
+                    .writeValueAsString(new ViewBean()));
+            assertEquals("{\"a\":\"a\"}", mapper.writer(provA).withView(String.class)
+                    .writeValueAsString(new ViewBean()));
+            assertEquals("{\"c\":\"c\"}", mapper.writer(provC).withView(String.class)
+                    .writeValueAsString(new ViewBean()));
+        }
+        // as well as with lots of distinct filter instances
+        for (int i = 0; i < 40; ++i) {
+            String name = ((i & 1) == 0) ? "a" : "c";
+            FilterProvider prov = new SimpleFilterProvider().addFilter("RootFilter",
+                    SimpleBeanPropertyFilter.filterOutAllExcept(name));
+            assertEquals("{\""+name+"\":\""+name+"\"}", mapper.writer(prov).writeValueAsString(new ViewBean()));
+        }
+    }
+
+    public void testDynamicFilter() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        NonEmptyFilter filter = new NonEmptyFilter();
+        FilterProvider prov = new SimpleFilterProvider().addFilter("RootFilter", filter);
+        Bean bean = new Bean();
+        assertEquals("{\"a\":\"a\",\"b\":\"b\"}", mapper.writer(prov).writeValueAsString(bean));
+        bean.a = "";
+        assertEquals("{\"b\":\"b\"}", mapper.writer(prov).writeValueAsString(bean));
+        assertEquals(4, filter.calls);
+    }
+
+    // overrides of serializeAsField() by sub-classes of standard filters must be called
+    public void testSubClassedStaticFilter() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        FilterProvider prov = new SimpleFilterProvider().addFilter("RootFilter",
+                new NonEmptyExceptFilter("c"));
+        ViewBean bean = new ViewBean();
+        bean.a = "";
+        assertEquals("{\"b\":\"b\"}", mapper.writer(prov).writeValueAsString(bean));
+    }
 }
@@ -0,0 +1,104 @@
+package org.codehaus.jackson.map.ser;
+
+import java.util.*;
+
+import org.codehaus.jackson.map.*;
+import org.codehaus.jackson.map.annotate.JsonView;
+
+/**
+ * Unit tests for verifying that per-view property arrays that
+ * bean serializers cache work correctly when switching between
+ * multiple views.
+ */
+public class TestViewCaching extends BaseMapTest
+{
+    /*
+    /**********************************************************
+    /* Helper types
+    /**********************************************************
+     */
+
+    static class ViewA { }
+    static class ViewAA extends ViewA { }
+    static class ViewB { }
+
+    static class Bean
+    {
+        public int always = 1;
+
+        @JsonView(ViewA.class)
+        public int a = 2;
+
+        @JsonView(ViewAA.class)
+        public int aa = 3;
+
+        @JsonView({ ViewAA.class, ViewB.class })
+        public int aaOrB = 4;
+    }
+
+    static class Wrapper
+    {
+        public List<Bean> beans = Arrays.asList(new Bean(), new Bean());
+    }
+
+    /*
+    /**********************************************************
+    /* Unit tests
+    /**********************************************************
+     */
+
+    public void testSwitchingViews() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        // do multiple rounds, to verify cached state is used correctly
+        for (int i = 0; i < 3; ++i) {
+            assertEquals("{\"always\":1,\"a\":2,\"aa\":3,\"aaOrB\":4}", mapper.writeValueAsString(new Bean()));
+            assertEquals("{\"always\":1,\"a\":2}",
+                    mapper.writerWithView(ViewA.class).writeValueAsString(new Bean()));
+            assertEquals("{\"always\":1,\"a\":2,\"aa\":3,\"aaOrB\":4}",
+                    mapper.writerWithView(ViewAA.class).writeValueAsString(new Bean()));
+            assertEquals("{\"always\":1,\"aaOrB\":4}",
+                    mapper.writerWithView(ViewB.class).writeValueAsString(new Bean()));
+            assertEquals("{\"always\":1}",
+                    mapper.writerWithView(String.class).writeValueAsString(new Bean()));
+        }
+    }
+
+    public void testDefaultExclusion() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(SerializationConfig.Feature.DEFAULT_VIEW_INCLUSION, false);
+        for (int i = 0; i < 2; ++i) {
+            assertEquals("{\"a\":2}", mapper.writerWithView(ViewA.class).writeValueAsString(new Bean()));
+            assertEquals("{\"aaOrB\":4}", mapper.writerWithView(ViewB.class).writeValueAsString(new Bean()));
+            assertEquals("{}", mapper.writerWithView(Object.class).writeValueAsString(new Bean()));
+            // no view, everything included
+            assertEquals("{\"always\":1,\"a\":2,\"aa\":3,\"aaOrB\":4}", mapper.writeValueAsString(new Bean()));
+        }
+    }
+
+    // Number of cached views is bounded; need to work beyond that too
+    public void testManyViews() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        Class<?>[] views = new Class<?>[] { String.class, Integer.class, Long.class, Short.class,
+                Byte.class, Double.class, Float.class, Boolean.class, Character.class,
+                Object.class, Number.class, List.class, Map.class, Set.class, Date.class,
+                Calendar.class, Collection.class, Iterable.class, ViewB.class, ViewAA.class
+        };
+        for (int round = 0; round < 2; ++round) {
+            for (Class<?> view : views) {
+                String json = mapper.writerWithView(view).writeValueAsString(new Wrapper());
+                String exp;
+                if (view == ViewB.class) {
+                    exp = "{\"always\":1,\"aaOrB\":4}";
+                } else if (view == ViewAA.class) {
+                    exp = "{\"always\":1,\"a\":2,\"aa\":3,\"aaOrB\":4}";
+                } else {
+                    exp = "{\"always\":1}";
+                }
+                assertEquals("{\"beans\":["+exp+","+exp+"]}", json);
+            }
+        }
+    }
+}
@@ -145,6 +145,37 @@ public class TestUnwrapping extends BaseMapTest
         assertNotNull(loc);
         assertEquals(1, loc.x);
         assertEquals(2, loc.y);
+
+        // and properties after Creator properties should work the same
+        bean = m.readValue("{\"name\":\"Tatu\",\"y\":4,\"x\":3}", UnwrappingWithCreator.class);
+        assertEquals("Tatu", bean.name);
+        assertEquals(3, bean.location.x);
+        assertEquals(4, bean.location.y);
+    }
+
+    // Unknown properties are ignored, and unwrapped values constructed even if
+    // they had no properties in input
+    public void testUnwrappedWithUnknown() throws Exception
+    {
+        ObjectMapper m = new ObjectMapper();
+        TwoUnwrappedProperties bean = m.readValue("{\"x\":1,\"bogus\":[1,{\"a\":2}],\"y\":2}",
+                TwoUnwrappedProperties.class);
+        assertEquals(1, bean.location.x);
+        assertEquals(2, bean.location.y);
+        assertNotNull(bean.name);
+        assertNull(bean.name.first);
+        assertNull(bean.name.last);
+    }
+
+    public void testUnwrappedWithProblem() throws Exception
+    {
+        ObjectMapper m = new ObjectMapper();
+        try {
+            m.readValue("{\"name\":\"Bob\",\"x\":\"abc\"}", Unwrapping.class);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            assertEquals(1, e.getPath().size());
+            assertEquals("x", e.getPath().get(0).getFieldName());
+        }
     }
-    
 }
@@ -56,4 +56,51 @@ public class ISO8601UtilsTest extends BaseMapTest
         assertEquals(date, d);
     }
 
+    public void testFormatStdMatchesStdDateFormat() {
+        StdDateFormat df = new StdDateFormat();
+        Random rnd = new Random(123);
+        char[] buffer = new char[ISO8601Utils.STD_FORMAT_LENGTH];
+        long[] fixed = new long[] { 0L, -1L, 1L, 951782400000L, 951868799999L,
+                -12219292800000L, 253402300799999L };
+        for (int i = 0; i < 2000; ++i) {
+            long ts = (i < fixed.length) ? fixed[i] : (rnd.nextLong() % 253402300799999L);
+            int end = ISO8601Utils.formatStd(ts, buffer, 0);
+            if (ts < -12212553600000L) { // before 1583, not handled
+                assertEquals(-1, end);
+                continue;
+            }
+            assertEquals(ISO8601Utils.STD_FORMAT_LENGTH, end);
+            assertEquals(df.format(new Date(ts)), new String(buffer, 0, end));
+        }
+        // nor after year 9999
+        assertEquals(-1, ISO8601Utils.formatStd(253402300800000L, buffer, 0));
+    }
+
+    public void testParseStd() throws Exception {
+        StdDateFormat df = new StdDateFormat();
+        String[] valid = new String[] {
+                "2007-08-13", "2000-02-29", "2007-08-13T19:51:23.789Z", "2007-08-13T19:51:23Z",
+                "2007-08-13T19:51:23.789+0000", "2007-08-13T21:51:23.789+02:00", "2007-08-13T21:51:23+0200",
+                "2007-08-13T21:51:23.789+02", "2007-08-13T15:21:23.789-04:30", "2007-08-13T19:51:23.789",
+                "2007-08-13T19:51:23", "1583-01-01T00:00:00.000+0000", "9999-12-31T23:59:59.999Z"
+        };
+        for (String str : valid) {
+            long ts = ISO8601Utils.parseStd(str.toCharArray(), 0, str.length());
+            assertEquals(str, df.parse(str).getTime(), ts);
+            // also with offset
+            char[] buffer = ("  "+str+"x").toCharArray();
+            assertEquals(ts, ISO8601Utils.parseStd(buffer, 2, str.length()));
+        }
+        // and ones that must be left to the full date format
+        String[] invalid = new String[] {
+                "", "1234567890", "2007-8-13", "2007-02-30", "1999-02-29", "2007-13-01", "1500-01-01",
+                " 2007-08-13", "2007-08-13T19:51", "2007-08-13T24:00:00Z", "2007-08-13T19:51:60Z",
+                "2007-08-13T19:51:23.78Z", "2007-08-13T19:51:23.7891Z", "2007-08-13T19:51:23.789+2",
+                "2007-08-13T19:51:23.789+02:0", "2007-08-13T19:51:23.789Zx", "2007-08-13T19:51:23.789 ",
+                "Mon, 13 Aug 2007 19:51:23 GMT"
+        };
+        for (String str : invalid) {
+            assertEquals(str, ISO8601Utils.NO_TIMESTAMP, ISO8601Utils.parseStd(str.toCharArray(), 0, str.length()));
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package org.codehaus.jackson.map.util;
+
+import java.util.*;
+
+import org.codehaus.jackson.map.BaseMapTest;
+
+public class TestCompactMap
+    extends BaseMapTest
+{
+    public void testBasics()
+    {
+        CompactMap map = new CompactMap(new Object[] { "a", 1, "b", 2, "c", 3 }, false);
+        assertEquals(3, map.size());
+        assertEquals(Integer.valueOf(2), map.get("b"));
+        assertNull(map.get("x"));
+        assertTrue(map.containsKey("c"));
+        assertTrue(map.containsValue(3));
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<String>(map.keySet()));
+
+        // must be equal to other Maps with same contents
+        LinkedHashMap<String,Object> exp = new LinkedHashMap<String,Object>();
+        exp.put("a", 1);
+        exp.put("b", 2);
+        exp.put("c", 3);
+        assertEquals(exp, map);
+        assertEquals(map, exp);
+        assertEquals(exp.hashCode(), map.hashCode());
+        assertEquals(exp.toString(), map.toString());
+    }
+
+    public void testModifications()
+    {
+        CompactMap map = new CompactMap();
+        assertTrue(map.isEmpty());
+        for (int i = 0; i < 20; ++i) {
+            assertNull(map.put("key"+i, i));
+        }
+        assertEquals(20, map.size());
+        assertEquals(Integer.valueOf(7), map.put("key7", "x"));
+        assertEquals("x", map.get("key7"));
+        assertEquals(Integer.valueOf(0), map.remove("key0"));
+        assertNull(map.remove("key0"));
+        assertEquals(19, map.size());
+        assertEquals("key1", map.keySet().iterator().next());
+
+        // removal via iterator
+        Iterator<Map.Entry<String,Object>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String,Object> entry = it.next();
+            if (!"key3".equals(entry.getKey())) {
+                it.remove();
+            } else {
+                entry.setValue("three");
+            }
+        }
+        assertEquals(1, map.size());
+        assertEquals("three", map.get("key3"));
+        map.clear();
+        assertEquals(0, map.size());
+    }
+
+    public void testDuplicates()
+    {
+        CompactMap map = new CompactMap(new Object[] { "a", 1, "b", 2, "a", 3, "c", 4 }, false);
+        assertEquals(3, map.size());
+        assertEquals(Integer.valueOf(3), map.get("a"));
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<String>(map.keySet()));
+        assertEquals(Arrays.<Object>asList(3, 2, 4), new ArrayList<Object>(map.values()));
+        map.put("d", 5);
+        assertEquals(4, map.size());
+    }
+
+    public void testImmutable()
+    {
+        CompactMap map = new CompactMap(new Object[] { "a", 1 }, true);
+        try {
+            map.put("b", 2);
+            fail("Should not pass");
+        } catch (UnsupportedOperationException e) { }
+        try {
+            map.remove("a");
+            fail("Should not pass");
+        } catch (UnsupportedOperationException e) { }
+        try {
+            map.entrySet().iterator().next().setValue(3);
+            fail("Should not pass");
+        } catch (UnsupportedOperationException e) { }
+        assertEquals(Integer.valueOf(1), map.get("a"));
+    }
+}
@@ -0,0 +1,188 @@
+package org.codehaus.jackson.node;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import org.codehaus.jackson.*;
+import org.codehaus.jackson.map.*;
+
+/**
+ * Tests for verifying that array nodes with primitive-array backed
+ * contents (constructed for arrays of numbers) work similar to
+ * regular array nodes.
+ */
+public class TestNumericArrayNodes
+    extends BaseMapTest
+{
+    public void testIntArray() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        ArrayNode n = (ArrayNode) mapper.readTree("[1,2,-3]");
+        assertEquals(3, n.size());
+        assertTrue(n.get(0).isInt());
+        assertEquals(-3, n.get(2).getIntValue());
+        assertNull(n.get(3));
+        int sum = 0;
+        for (JsonNode elem : n) {
+            sum += elem.getIntValue();
+        }
+        assertEquals(0, sum);
+        assertEquals("[1,2,-3]", mapper.writeValueAsString(n));
+        assertEquals("[1,2,-3]", n.toString());
+
+        ArrayNode exp = mapper.createArrayNode();
+        exp.add(1);
+        exp.add(2);
+        exp.add(-3);
+        assertEquals(exp, n);
+        assertEquals(n, exp);
+        assertEquals(exp.hashCode(), n.hashCode());
+        assertEquals(JsonNodeFactory.instance.arrayNode(new int[] { 1, 2, -3 }), n);
+        assertEquals(Arrays.asList(1, 2, -3), mapper.readValue(n, List.class));
+    }
+
+    public void testLongArray() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        ArrayNode n = (ArrayNode) mapper.readTree("[12345678901, -12345678902]");
+        assertEquals(2, n.size());
+        assertTrue(n.get(0).isLong());
+        assertEquals(-12345678902L, n.get(1).getLongValue());
+        assertEquals("[12345678901,-12345678902]", mapper.writeValueAsString(n));
+    }
+
+    public void testDoubleArray() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        ArrayNode n = (ArrayNode) mapper.readTree("[0.25, -1.5, 1e3]");
+        assertEquals(3, n.size());
+        assertTrue(n.get(1).isDouble());
+        assertEquals(1000.0, n.get(2).getDoubleValue());
+        assertEquals("[0.25,-1.5,1000.0]", mapper.writeValueAsString(n));
+
+        mapper.configure(DeserializationConfig.Feature.USE_BIG_DECIMAL_FOR_FLOATS, true);
+        n = (ArrayNode) mapper.readTree("[0.25, -1.5]");
+        assertTrue(n.get(0).isBigDecimal());
+        assertEquals(new BigDecimal("-1.5"), n.get(1).getDecimalValue());
+    }
+
+    public void testLongerArray() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 10000; ++i) {
+            if (i > 0) sb.append(',');
+            sb.append(i);
+        }
+        sb.append(']');
+        ArrayNode n = (ArrayNode) mapper.readTree(sb.toString());
+        assertEquals(10000, n.size());
+        assertEquals(9999, n.get(9999).getIntValue());
+        assertEquals(sb.toString(), mapper.writeValueAsString(n));
+    }
+
+    public void testMixedContents() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        // ints followed by long
+        ArrayNode n = (ArrayNode) mapper.readTree("[1,2,12345678901,3]");
+        assertEquals(4, n.size());
+        assertTrue(n.get(1).isInt());
+        assertTrue(n.get(2).isLong());
+        assertTrue(n.get(3).isInt());
+        // ints followed by other values
+        n = (ArrayNode) mapper.readTree("[1,\"x\",[2,3],{\"a\":4},0.5,null]");
+        assertEquals(6, n.size());
+        assertEquals(1, n.get(0).getIntValue());
+        assertEquals("x", n.get(1).getTextValue());
+        assertEquals("[2,3]", n.get(2).toString());
+        assertEquals(4, n.get(3).get("a").getIntValue());
+        assertTrue(n.get(4).isDouble());
+        assertTrue(n.get(5).isNull());
+        // doubles followed by ints
+        n = (ArrayNode) mapper.readTree("[0.5,1]");
+        assertTrue(n.get(0).isDouble());
+        assertTrue(n.get(1).isInt());
+        // and big integers
+        n = (ArrayNode) mapper.readTree("[123456789012345678901234567890,1]");
+        assertTrue(n.get(0).isBigInteger());
+        assertTrue(n.get(1).isInt());
+    }
+
+    public void testModifications() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        ArrayNode n = (ArrayNode) mapper.readTree("[1,2,3]");
+        n.add("x");
+        assertEquals("[1,2,3,\"x\"]", n.toString());
+
+        n = (ArrayNode) mapper.readTree("[1,2,3]");
+        n.set(1, TextNode.valueOf("y"));
+        assertEquals("[1,\"y\",3]", n.toString());
+
+        n = (ArrayNode) mapper.readTree("[1,2,3]");
+        assertEquals(IntNode.valueOf(1), n.remove(0));
+        n.insert(0, 7);
+        assertEquals("[7,2,3]", n.toString());
+
+        n = (ArrayNode) mapper.readTree("[1,2,3]");
+        n.addAll((ArrayNode) mapper.readTree("[4,5]"));
+        assertEquals(5, n.size());
+        assertEquals("[1,2,3,4,5]", n.toString());
+
+        n = (ArrayNode) mapper.readTree("[1,2,3]");
+        n.removeAll();
+        assertEquals(0, n.size());
+        n.add(4);
+        assertEquals("[4]", n.toString());
+    }
+
+    public void testIteratorRemove() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        ArrayNode n = (ArrayNode) mapper.readTree("[1,2,3]");
+        Iterator<JsonNode> it = n.getElements();
+        assertEquals(1, it.next().getIntValue());
+        it.remove();
+        assertEquals("[2,3]", n.toString());
+        assertEquals(2, it.next().getIntValue());
+        assertEquals(3, it.next().getIntValue());
+        it.remove();
+        assertFalse(it.hasNext());
+        assertEquals("[2]", n.toString());
+        try {
+            it.remove();
+            fail("Should not pass");
+        } catch (IllegalStateException e) { }
+
+        // element nodes are constructed on access, but equal
+        n = (ArrayNode) mapper.readTree("[0.5, 0.25]");
+        assertEquals(n.get(1), n.get(1));
+        assertEquals(n.get(0), n.getElements().next());
+    }
+
+    public void testTraversal() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode n = mapper.readTree("{\"a\":[1,2],\"b\":[0.5]}");
+        JsonParser jp = n.traverse();
+        assertToken(JsonToken.START_OBJECT, jp.nextToken());
+        assertToken(JsonToken.FIELD_NAME, jp.nextToken());
+        assertToken(JsonToken.START_ARRAY, jp.nextToken());
+        assertToken(JsonToken.VALUE_NUMBER_INT, jp.nextToken());
+        assertEquals(1, jp.getIntValue());
+        assertToken(JsonToken.VALUE_NUMBER_INT, jp.nextToken());
+        assertToken(JsonToken.END_ARRAY, jp.nextToken());
+        assertToken(JsonToken.FIELD_NAME, jp.nextToken());
+        assertToken(JsonToken.START_ARRAY, jp.nextToken());
+        assertToken(JsonToken.VALUE_NUMBER_FLOAT, jp.nextToken());
+        assertEquals(0.5, jp.getDoubleValue());
+        assertToken(JsonToken.END_ARRAY, jp.nextToken());
+        assertToken(JsonToken.END_OBJECT, jp.nextToken());
+        jp.close();
+
+        int[] ints = mapper.readValue(n.get("a"), int[].class);
+        assertEquals(2, ints.length);
+        assertEquals(2, ints[1]);
+    }
+}
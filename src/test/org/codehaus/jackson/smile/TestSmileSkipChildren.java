@@ -0,0 +1,152 @@
+package org.codehaus.jackson.smile;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.codehaus.jackson.*;
+
+/**
+ * Unit tests for verifying that {@link SmileParser#skipChildren} works
+ * as expected, including keeping track of shared names and String
+ * values within skipped content.
+ */
+public class TestSmileSkipChildren
+    extends SmileTestBase
+{
+    public void testSkipWithDefaults() throws IOException
+    {
+        _testSkip(false, false);
+    }
+
+    public void testSkipNoSharing() throws IOException
+    {
+        _testSkip(true, false);
+    }
+
+    public void testSkipWithSharedValues() throws IOException
+    {
+        _testSkip(false, true);
+    }
+
+    public void testSkipWithRawBinary() throws IOException
+    {
+        SmileFactory f = new SmileFactory();
+        f.configure(SmileGenerator.Feature.ENCODE_BINARY_AS_7BIT, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator jg = f.createJsonGenerator(out);
+        jg.writeStartArray();
+        jg.writeStartArray();
+        jg.writeBinary(new byte[] { (byte) 0xF9, (byte) 0xFB, 1, 2, 3 });
+        jg.writeEndArray();
+        jg.writeNumber(7);
+        jg.writeEndArray();
+        jg.close();
+
+        JsonParser jp = f.createJsonParser(out.toByteArray());
+        assertToken(JsonToken.START_ARRAY, jp.nextToken());
+        assertToken(JsonToken.START_ARRAY, jp.nextToken());
+        jp.skipChildren();
+        assertToken(JsonToken.END_ARRAY, jp.getCurrentToken());
+        assertToken(JsonToken.VALUE_NUMBER_INT, jp.nextToken());
+        assertEquals(7, jp.getIntValue());
+        assertToken(JsonToken.END_ARRAY, jp.nextToken());
+        assertNull(jp.nextToken());
+        jp.close();
+    }
+
+    public void testUnexpectedEOF() throws IOException
+    {
+        byte[] doc = _smileDoc("[ [ 1, 2, \"abc\" ] ]");
+        // cut off last two END_ARRAY markers
+        byte[] partial = new byte[doc.length - 2];
+        System.arraycopy(doc, 0, partial, 0, partial.length);
+        JsonParser jp = _smileParser(partial);
+        assertToken(JsonToken.START_ARRAY, jp.nextToken());
+        assertToken(JsonToken.START_ARRAY, jp.nextToken());
+        try {
+            jp.skipChildren();
+            fail("Expected an exception for unexpected EOF");
+        } catch (JsonParseException e) {
+            verifyException(e, "Unexpected end-of-input");
+        }
+        jp.close();
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private void _testSkip(boolean noSharedNames, boolean sharedValues) throws IOException
+    {
+        SmileFactory f = new SmileFactory();
+        f.configure(SmileGenerator.Feature.CHECK_SHARED_NAMES, !noSharedNames);
+        f.configure(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES, sharedValues);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; ++i) {
+            sb.append("abc\u00E9");
+        }
+        final String LONG = sb.toString();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator jg = f.createJsonGenerator(out);
+        jg.writeStartObject();
+        jg.writeFieldName("skipped");
+        jg.writeStartObject();
+        jg.writeStringField("name", "value");
+        jg.writeStringField("unicode\u00E9", "value\u00E9");
+        jg.writeStringField(LONG, LONG);
+        jg.writeFieldName("values");
+        jg.writeStartArray();
+        jg.writeNumber(3);
+        jg.writeNumber(-123456);
+        jg.writeNumber(Long.MAX_VALUE);
+        jg.writeNumber(BigInteger.TEN.pow(40));
+        jg.writeNumber(0.25f);
+        jg.writeNumber(-1.5);
+        jg.writeNumber(new BigDecimal("12345.678901234567890"));
+        jg.writeBoolean(true);
+        jg.writeNull();
+        jg.writeString("");
+        jg.writeString("value");
+        jg.writeBinary(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 });
+        jg.writeStartObject();
+        jg.writeEndObject();
+        jg.writeStartArray();
+        jg.writeEndArray();
+        jg.writeEndArray();
+        jg.writeEndObject();
+        // and then names, values that may refer back to skipped ones
+        jg.writeStringField("name", "value");
+        jg.writeStringField("unicode\u00E9", "value\u00E9");
+        jg.writeStringField("other", "value");
+        jg.writeEndObject();
+        jg.close();
+
+        JsonParser jp = f.createJsonParser(out.toByteArray());
+        assertToken(JsonToken.START_OBJECT, jp.nextToken());
+        assertToken(JsonToken.FIELD_NAME, jp.nextToken());
+        assertToken(JsonToken.START_OBJECT, jp.nextToken());
+        jp.skipChildren();
+        assertToken(JsonToken.END_OBJECT, jp.getCurrentToken());
+        assertEquals("skipped", jp.getCurrentName());
+
+        assertToken(JsonToken.FIELD_NAME, jp.nextToken());
+        assertEquals("name", jp.getCurrentName());
+        assertToken(JsonToken.VALUE_STRING, jp.nextToken());
+        assertEquals("value", jp.getText());
+        assertToken(JsonToken.FIELD_NAME, jp.nextToken());
+        assertEquals("unicode\u00E9", jp.getCurrentName());
+        assertToken(JsonToken.VALUE_STRING, jp.nextToken());
+        assertEquals("value\u00E9", jp.getText());
+        assertToken(JsonToken.FIELD_NAME, jp.nextToken());
+        assertEquals("other", jp.getCurrentName());
+        assertToken(JsonToken.VALUE_STRING, jp.nextToken());
+        assertEquals("value", jp.getText());
+        assertToken(JsonToken.END_OBJECT, jp.nextToken());
+        assertNull(jp.nextToken());
+        jp.close();
+    }
+}
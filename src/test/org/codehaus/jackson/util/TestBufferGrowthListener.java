@@ -0,0 +1,68 @@
+package org.codehaus.jackson.util;
+
+public class TestBufferGrowthListener
+    extends main.BaseTest
+{
+    static class CountingListener extends BufferGrowthListener
+    {
+        int textGrowths, byteGrowths;
+        int lastTextSize, lastByteSize;
+
+        @Override
+        public void textBufferGrown(int previousSize, int newSize) {
+            ++textGrowths;
+            assertTrue(newSize > previousSize);
+            lastTextSize = newSize;
+        }
+
+        @Override
+        public void byteArrayBuilderGrown(int previousSize, int newSize) {
+            ++byteGrowths;
+            assertTrue(newSize > previousSize);
+            lastByteSize = newSize;
+        }
+    }
+
+    public void testSmallBuffersNotReported()
+    {
+        CountingListener l = new CountingListener();
+        BufferGrowthListener.setInstance(l);
+        try {
+            TextBuffer tb = new TextBuffer(new BufferRecycler());
+            for (int i = 0; i < 1000; ++i) {
+                tb.append("abc", 0, 3);
+            }
+            ByteArrayBuilder bb = new ByteArrayBuilder();
+            for (int i = 0; i < 3000; ++i) {
+                bb.append(i);
+            }
+            assertEquals(0, l.textGrowths);
+            assertEquals(0, l.byteGrowths);
+        } finally {
+            BufferGrowthListener.setInstance(null);
+        }
+    }
+
+    public void testLargeBuffersReported()
+    {
+        CountingListener l = new CountingListener();
+        BufferGrowthListener.setInstance(l);
+        try {
+            final int LEN = 4 * BufferGrowthListener.LARGE_BUFFER_THRESHOLD;
+            TextBuffer tb = new TextBuffer(new BufferRecycler());
+            for (int i = 0; i < LEN; i += 3) {
+                tb.append("abc", 0, 3);
+            }
+            ByteArrayBuilder bb = new ByteArrayBuilder();
+            for (int i = 0; i < LEN; ++i) {
+                bb.append(i);
+            }
+            assertTrue(l.textGrowths > 0);
+            assertTrue(l.lastTextSize >= BufferGrowthListener.LARGE_BUFFER_THRESHOLD);
+            assertTrue(l.byteGrowths > 0);
+            assertTrue(l.lastByteSize >= BufferGrowthListener.LARGE_BUFFER_THRESHOLD);
+        } finally {
+            BufferGrowthListener.setInstance(null);
+        }
+    }
+}